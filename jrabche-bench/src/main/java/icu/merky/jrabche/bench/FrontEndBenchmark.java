@@ -0,0 +1,91 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.bench;
+
+import icu.merky.jrabche.fe.Preprocessor;
+import icu.merky.jrabche.fe.parser.SylangLexer;
+import icu.merky.jrabche.fe.parser.SylangParser;
+import icu.merky.jrabche.llvmir.structures.IRModule;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lexing, parsing and {@code SylangVisitorImpl}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrontEndBenchmark {
+    @Param({"10", "100", "1000"})
+    public String program;
+
+    String source;
+    SylangParser.CompUnitContext tree;
+
+    @Setup
+    public void setup() {
+        source = Programs.load(program);
+        tree = Pipeline.parse(source);
+    }
+
+    @Benchmark
+    public int lex() {
+        var tokens = new CommonTokenStream(Preprocessor.rewrite(new SylangLexer(CharStreams.fromString(source))));
+        tokens.fill();
+        return tokens.size();
+    }
+
+    /**
+     * {@code TwoStageParser} against a plain LL parser. Only {@link #lexAndParse} runs once per mode.
+     */
+    @State(Scope.Thread)
+    public static class Parser {
+        @Param({"sll-ll", "ll"})
+        public String mode;
+    }
+
+    @Benchmark
+    public SylangParser.CompUnitContext lexAndParse(Parser parser) {
+        return parser.mode.equals("ll") ? Pipeline.parseLL(source) : Pipeline.parse(source);
+    }
+
+    @Benchmark
+    public IRModule irGeneration() {
+        return Pipeline.genIR(tree);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.bench;
+
+import icu.merky.jrabche.fe.Preprocessor;
+import icu.merky.jrabche.fe.TwoStageParser;
+import icu.merky.jrabche.fe.parser.SylangLexer;
+import icu.merky.jrabche.fe.parser.SylangParser;
+import icu.merky.jrabche.fe.visitor.SylangVisitorImpl;
+import icu.merky.jrabche.llvmir.IRBuilderImpl;
+import icu.merky.jrabche.llvmir.IRWriter;
+import icu.merky.jrabche.llvmir.structures.IRModule;
+import icu.merky.jrabche.logger.JrabcheLogger;
+import icu.merky.jrabche.opt.llvmir.OptExecutor;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The steps of {@code Compiler -emit-llvm}, one by one.
+ */
+public class Pipeline {
+    static {
+        // debug logging would dominate every measurement.
+        JrabcheLogger.JL.setLevel(JrabcheLogger.LoggerLevel.W);
+    }
+
+    public static SylangParser.CompUnitContext parse(String source) {
+        return TwoStageParser.parseCompUnit(source);
+    }
+
+    /**
+     * Parse like a plain generated parser does, in LL mode only.
+     */
+    public static SylangParser.CompUnitContext parseLL(String source) {
+        var lexer = new SylangLexer(CharStreams.fromString(source));
+        return new SylangParser(new CommonTokenStream(Preprocessor.rewrite(lexer))).compUnit();
+    }
+
+    public static IRModule genIR(SylangParser.CompUnitContext tree) {
+        var builder = new IRBuilderImpl();
+        new SylangVisitorImpl(builder).visit(tree);
+        return builder.getModule();
+    }
+
+    public static IRModule genIR(String source) {
+        return genIR(parse(source));
+    }
+
+    public static void optimize(IRModule M) {
+        new OptExecutor(M).run();
+    }
+
+    /**
+     * Print {@code M} into a channel that drops the bytes.
+     *
+     * @return the number of bytes printed
+     */
+    public static long print(IRModule M) {
+        var sink = new NullChannel();
+        try (var w = new IRWriter(sink)) {
+            w.module(M);
+        }
+        return sink.bytes;
+    }
+
+    static class NullChannel implements WritableByteChannel {
+        long bytes;
+
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            src.position(src.limit());
+            bytes += n;
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
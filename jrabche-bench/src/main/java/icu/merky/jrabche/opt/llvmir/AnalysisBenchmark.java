@@ -0,0 +1,96 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir;
+
+import icu.merky.jrabche.bench.Pipeline;
+import icu.merky.jrabche.bench.Programs;
+import icu.merky.jrabche.llvmir.structures.IRFunction;
+import icu.merky.jrabche.llvmir.structures.IRModule;
+import icu.merky.jrabche.llvmir.structures.impl.IRFunctionImpl;
+import icu.merky.jrabche.opt.llvmir.algorithms.BlockNodeBuilder;
+import icu.merky.jrabche.opt.llvmir.algorithms.DominatorTree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code BlockNodeBuilder} analyses and the dominator tree, for every function of the IR as
+ * generated (allocas not promoted yet, as Mem2Reg sees it). Analyses do not change the IR, so
+ * one module serves all invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalysisBenchmark {
+    @Param({"10", "100", "1000"})
+    public String program;
+
+    IRModule M;
+
+    @Setup
+    public void setup() {
+        M = Pipeline.genIR(Programs.load(program));
+        for (IRFunction F : M.getFunctions().values()) {
+            IRFunctionImpl.BuildBBGraph(F);
+        }
+    }
+
+    @Benchmark
+    public void dominators(Blackhole bh) {
+        for (IRFunction F : M.getFunctions().values()) {
+            var bnb = new BlockNodeBuilder(F);
+            bnb.build();
+            bh.consume(bnb);
+        }
+    }
+
+    @Benchmark
+    public void liveness(Blackhole bh) {
+        for (IRFunction F : M.getFunctions().values()) {
+            var bnb = new BlockNodeBuilder(F);
+            bnb.build();
+            bnb.buildLiveInOut();
+            bh.consume(bnb);
+        }
+    }
+
+    @Benchmark
+    public void dominatorTree(Blackhole bh) {
+        for (IRFunction F : M.getFunctions().values()) {
+            bh.consume(new DominatorTree(F.entryBB()));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir;
+
+import icu.merky.jrabche.bench.Pipeline;
+import icu.merky.jrabche.bench.Programs;
+import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
+import icu.merky.jrabche.llvmir.structures.IRFunction;
+import icu.merky.jrabche.llvmir.structures.IRModule;
+import icu.merky.jrabche.opt.llvmir.analysis.AnalysisManager;
+import icu.merky.jrabche.opt.llvmir.analysis.AnalysisUser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One run of a single pass over every function of a module, on the IR that the pass sees in
+ * {@link OptExecutor}: passes before Mem2Reg get the IR as generated, Mem2Reg gets it after
+ * them, SSA passes after Mem2Reg. The snapshot is rebuilt before every invocation, outside of
+ * the measurement. It is in this package to reach the registry and the executor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 30)
+@Fork(1)
+public class PassBenchmark {
+    @Param({"10", "100", "1000"})
+    public String program;
+
+    @Param({"IROptCSE", "IROptRLSE", "Mem2Reg", "IROptDCE", "IROptCF"})
+    public String pass;
+
+    String source;
+    PassInfo info;
+    // passes that run before this one.
+    List<List<PassInfo>> before = new ArrayList<>();
+    IRModule M;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        source = Programs.load(program);
+        List<List<PassInfo>> stages = List.of(OptRegistry.NO_SSA, List.of(OptExecutor.MEM2REG), OptRegistry.SSA);
+        for (var stage : stages) {
+            for (var p : stage) {
+                if (p.passClass().getSimpleName().equals(pass)) {
+                    info = p;
+                    return;
+                }
+            }
+            before.add(stage);
+        }
+        throw new IllegalArgumentException("No enabled pass " + pass);
+    }
+
+    @Setup(Level.Invocation)
+    public void snapshot() {
+        M = Pipeline.genIR(source);
+        var executor = new OptExecutor(M);
+        for (var stage : before) {
+            if (stage.contains(OptExecutor.MEM2REG)) {
+                // runs once, like in OptExecutor.
+                runOnce(OptExecutor.MEM2REG, M);
+            } else {
+                executor.runToFixpoint(new PassWorklist(M, stage));
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean run() {
+        return runOnce(info, M);
+    }
+
+    private static boolean runOnce(PassInfo info, IRModule M) {
+        var AM = new AnalysisManager();
+        boolean changed = false;
+        switch (info.on()) {
+            case Module -> changed = go(info.onModule().apply(M), AM);
+            case Function -> {
+                for (IRFunction F : M.getFunctions().values()) {
+                    changed |= go(info.onFunction().apply(F), AM);
+                }
+            }
+            case BasicBlock -> {
+                for (IRFunction F : M.getFunctions().values()) {
+                    for (IRBasicBlock B : new ArrayList<>(F.getBlocks())) {
+                        changed |= go(info.onBasicBlock().apply(B), AM);
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static boolean go(IRPass pass, AnalysisManager AM) {
+        if (pass instanceof AnalysisUser user) {
+            user.setAnalysisManager(AM);
+        }
+        return pass.go();
+    }
+}
@@ -29,22 +29,50 @@
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
-import icu.merky.jrabche.fe.Preprocessor;
-import icu.merky.jrabche.fe.parser.SylangLexer;
-import icu.merky.jrabche.fe.parser.SylangParser;
+import icu.merky.jrabche.fe.TwoStageParser;
 import icu.merky.jrabche.fe.visitor.SylangVisitorImpl;
 import icu.merky.jrabche.llvmir.IRBuilder;
 import icu.merky.jrabche.llvmir.IRBuilderImpl;
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.structures.impl.IRModuleImpl;
 import icu.merky.jrabche.logger.JrabcheLogger;
 import icu.merky.jrabche.opt.llvmir.OptExecutor;
-import org.antlr.v4.runtime.*;
-import org.antlr.v4.runtime.misc.Utils;
+import icu.merky.jrabche.support.CompileCache;
+import icu.merky.jrabche.support.IncrementalModule;
+import icu.merky.jrabche.support.Statistic;
+import icu.merky.jrabche.support.TimeReport;
+import org.antlr.v4.runtime.Token;
 
-import java.io.File;
-import java.io.IOException;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static icu.merky.jrabche.RuntimeConfig.CFG_COMPACT_MIN_INSTS;
 
 public class Compiler {
 
@@ -56,6 +84,27 @@ public class Compiler {
         public boolean verbose;
         public File outputFile;
         public File inputFile;
+        // several inputs make a batch build, see split()
+        public List<File> inputFiles = new ArrayList<>();
+        // --server / --connect
+        public String serverAddress;
+        public String connectAddress;
+        public boolean shutdownServer;
+        public int optThreads = 1;
+        // -j, clang processes running at the same time
+        public int jobs = Runtime.getRuntime().availableProcessors();
+        // -ftime-report, -stats, -report-json
+        public boolean timeReport;
+        public boolean stats;
+        public File reportJson;
+        // --cache-dir, --cache-size (MB); like -j they belong to the process, not to a request
+        public File cacheDir;
+        public long cacheSize = 512;
+        // --incremental, reuse unchanged functions through the cache
+        public boolean incremental;
+        // --log-file, --debug-only
+        public File logFile;
+        public List<JrabcheLogger.Category> debugOnly = new ArrayList<>();
 
 
         public Args() {
@@ -109,6 +158,103 @@ public class Compiler {
             this.enableOX = enableOX;
         }
 
+        public int getOptThreads() {
+            return optThreads;
+        }
+
+        public void setOptThreads(int optThreads) {
+            this.optThreads = optThreads;
+        }
+
+        public int getJobs() {
+            return jobs;
+        }
+
+        public void setJobs(int jobs) {
+            this.jobs = jobs;
+        }
+
+        public String getServerAddress() {
+            return serverAddress;
+        }
+
+        public void setServerAddress(String serverAddress) {
+            this.serverAddress = serverAddress;
+        }
+
+        public String getConnectAddress() {
+            return connectAddress;
+        }
+
+        public void setConnectAddress(String connectAddress) {
+            this.connectAddress = connectAddress;
+        }
+
+        /**
+         * -ftime-report, -stats or -report-json. The counters behind them are process-global, so
+         * a compile server cannot tell the work of one client from another's.
+         */
+        public boolean hasReport() {
+            return timeReport || stats || reportJson != null;
+        }
+
+        /**
+         * Turn the (validated) arguments back into a command line, with absolute paths,
+         * so that a compile server running in another directory sees the same request.
+         * The reports are left out, a server refuses them.
+         */
+        public List<String> toArgv() {
+            List<String> argv = new ArrayList<>();
+            argv.add(enableO1 ? "-O1" : "-O0");
+            if (enableOX) argv.add("-Ox");
+            argv.add(emitLLVM ? "-emit-llvm" : "-S");
+            if (verbose) argv.add("-d");
+            if (incremental) argv.add("--incremental");
+            if (logFile != null) {
+                argv.add("--log-file");
+                argv.add(logFile.getAbsolutePath());
+            }
+            if (!debugOnly.isEmpty()) {
+                argv.add("--debug-only");
+                argv.add(debugOnly.stream().map(String::valueOf).collect(Collectors.joining(",")));
+            }
+            argv.add("--opt-threads");
+            argv.add(String.valueOf(optThreads));
+            if (outputFile != null) {
+                argv.add("-o");
+                argv.add(outputFile.getAbsolutePath());
+            }
+            for (File input : inputFiles) {
+                argv.add(input.getAbsolutePath());
+            }
+            return argv;
+        }
+
+        /**
+         * One validated copy of these arguments per input file, each with its default output file.
+         */
+        public List<Args> split() {
+            List<Args> list = new ArrayList<>();
+            for (File input : inputFiles) {
+                Args a = new Args();
+                a.emitLLVM = emitLLVM;
+                a.emitASM = emitASM;
+                a.enableO1 = enableO1;
+                a.enableOX = enableOX;
+                a.verbose = verbose;
+                a.optThreads = optThreads;
+                a.jobs = jobs;
+                a.incremental = incremental;
+                a.logFile = logFile;
+                a.debugOnly = debugOnly;
+                a.inputFiles.add(input);
+                a.outputFile = inputFiles.size() == 1 ? outputFile : null;
+                a.isValid();
+                list.add(a);
+            }
+            return list;
+        }
+
         public void isValid() {
             if (emitASM && emitLLVM) {
                 throw new RuntimeException("Sorry, I have trouble with emitting assembly " +
@@ -118,6 +264,13 @@ public class Compiler {
                 // hadn't specified the emitting method. Default emit asm.
                 this.emitASM = true;
             }
+            if (inputFiles.size() > 1) {
+                if (outputFile != null) {
+                    throw new RuntimeException("Cannot use -o with more than one input file.");
+                }
+                return;
+            }
+            inputFile = inputFiles.isEmpty() ? null : inputFiles.get(0);
             if (inputFile == null || !inputFile.isFile()) {
                 throw new RuntimeException("Uhh, the input file you've given to me is invalid. " +
                         "Are you sure it is ACTUALLY a normal file?");
@@ -135,12 +288,24 @@ public class Compiler {
     static class ArgParser {
         Args args;
 
+        /**
+         * Thrown for -h, -v and an empty command line instead of exiting, so that a compile
+         * server parsing a request keeps running. The message is the text to print.
+         */
+        static class ExitRequest extends RuntimeException {
+            final int status;
+
+            ExitRequest(int status, String text) {
+                super(text);
+                this.status = status;
+            }
+        }
+
         ArgParser(String[] args) {
             Args a = new Args();
             var iter = Arrays.stream(args).iterator();
             if (!iter.hasNext()) {
-                usage();
-                System.exit(1);
+                throw new ExitRequest(1, usage());
             }
             while (iter.hasNext()) {
                 String arg = iter.next();
@@ -178,43 +343,128 @@ public class Compiler {
                         break;
                     case "-h":
                     case "--help":
-                        usage();
-                        System.exit(0);
-                        break;
+                        throw new ExitRequest(0, usage());
                     case "-v":
                     case "--version":
-                        version();
-                        System.exit(0);
+                        throw new ExitRequest(0, version());
+                    case "--opt-threads":
+                        if (!iter.hasNext()) {
+                            throw new RuntimeException("Invalid thread count.");
+                        }
+                        try {
+                            a.setOptThreads(Integer.parseInt(iter.next()));
+                        } catch (NumberFormatException e) {
+                            throw new RuntimeException("Invalid thread count.");
+                        }
+                        if (a.getOptThreads() < 1) {
+                            throw new RuntimeException("Invalid thread count.");
+                        }
+                        break;
+                    case "-j":
+                    case "--jobs":
+                        if (!iter.hasNext()) {
+                            throw new RuntimeException("Invalid job count.");
+                        }
+                        try {
+                            a.setJobs(Integer.parseInt(iter.next()));
+                        } catch (NumberFormatException e) {
+                            throw new RuntimeException("Invalid job count.");
+                        }
+                        if (a.getJobs() < 1) {
+                            throw new RuntimeException("Invalid job count.");
+                        }
+                        break;
+                    case "-ftime-report":
+                        a.timeReport = true;
+                        break;
+                    case "-stats":
+                        a.stats = true;
+                        break;
+                    case "-report-json":
+                        if (!iter.hasNext()) {
+                            throw new RuntimeException("Invalid report filename.");
+                        }
+                        a.reportJson = new File(iter.next());
+                        break;
+                    case "--cache-dir":
+                        if (!iter.hasNext()) {
+                            throw new RuntimeException("Invalid cache directory.");
+                        }
+                        a.cacheDir = new File(iter.next());
+                        break;
+                    case "--cache-size":
+                        if (!iter.hasNext()) {
+                            throw new RuntimeException("Invalid cache size.");
+                        }
+                        try {
+                            a.cacheSize = Long.parseLong(iter.next());
+                        } catch (NumberFormatException e) {
+                            throw new RuntimeException("Invalid cache size.");
+                        }
+                        if (a.cacheSize < 1) {
+                            throw new RuntimeException("Invalid cache size.");
+                        }
+                        break;
+                    case "--incremental":
+                        a.incremental = true;
+                        break;
+                    case "--log-file":
+                        if (!iter.hasNext()) {
+                            throw new RuntimeException("Invalid log filename.");
+                        }
+                        a.logFile = new File(iter.next());
+                        break;
+                    case "--debug-only":
+                        if (!iter.hasNext()) {
+                            throw new RuntimeException("Invalid log categories.");
+                        }
+                        for (String c : iter.next().split(",")) {
+                            a.debugOnly.add(JrabcheLogger.Category.parse(c));
+                        }
+                        break;
+                    case "--server":
+                        if (!iter.hasNext()) {
+                            throw new RuntimeException("Invalid server address.");
+                        }
+                        a.setServerAddress(iter.next());
+                        break;
+                    case "--connect":
+                        if (!iter.hasNext()) {
+                            throw new RuntimeException("Invalid server address.");
+                        }
+                        a.setConnectAddress(iter.next());
+                        break;
+                    case "--shutdown":
+                        a.shutdownServer = true;
                         break;
                     default:
-                        a.inputFile = new File(arg);
+                        a.inputFiles.add(new File(arg));
                         break;
                 }
             }
             this.args = a;
         }
 
-        private void version() {
-            System.out.println("""
+        static String version() {
+            return """
                     Jrabche Compiler v0.1.0\
 
                     (c) 2023-2024 Gaomengkai\
 
                     Licensed under BSD 3-Clause License\
 
-                    Github: github.com/gaomengkai/Jrabche""");
+                    Github: github.com/gaomengkai/Jrabche""";
         }
 
         public Args getArgs() {
             return args;
         }
 
-        void usage() {
-            version();
-            System.out.println("""
+        static String usage() {
+            return version() + "\n" + """
                                         
                                         
-                    Usage: java -jar Compiler.jar [-S|-emit-llvm] [input.sy] [-o output] [options]\
+                    Usage: java -jar Compiler.jar [-S|-emit-llvm] [input.sy...] [-o output] [options]\
 
                      while options are:\
                     -O0: Disable optimization
@@ -223,120 +473,629 @@ public class Compiler {
                     -O3: Enable even more optimization
                     -Ofast: Enable all optimization
                     -d, --debug, --verbose: Enable debug mode
+                    --debug-only [c,...]: Debug output of these categories only, out of
+                                          driver, fe, opt, mem2reg, rlse, cse, cf, dce, blocks
+                    --log-file [file]: Append the debug output to file instead of stdout
                     -h, --help: Show this help message
                     -v, --version: Show version information
-                    -o [output]: Specify output file""");
+                    -o [output]: Specify output file
+                    --opt-threads [n]: Optimize up to n functions in parallel (default 1)
+                    -j, --jobs [n]: Run up to n clang processes at once (default: number of CPUs)
+                     Several input files are compiled one after another, each into
+                     input.sy.s (or .ll); their clang processes run in parallel.
+                    -ftime-report: Print time and memory spent in each phase and pass
+                    -stats: Print the statistics counters of the passes
+                    -report-json [file]: Write the time report and the statistics as JSON
+                    --cache-dir [dir]: Reuse outputs of identical compilations stored in dir
+                                       (also taken from $JRABCHE_CACHE_DIR)
+                    --cache-size [n]: Keep at most n MB in the cache directory (default 512)
+                     A compile server also keeps recent outputs in memory.
+                    --incremental: Only generate and optimize the functions changed since they
+                                   were last compiled into the cache (needs a cache)
+                    --server [addr]: Run as a compile server listening on addr
+                    --connect [addr]: Send this compilation to the server at addr
+                                      (also taken from $JRABCHE_SERVER)
+                    --shutdown: With --connect, stop the server
+                     The reports (-ftime-report, -stats, -report-json) need a compilation of
+                     its own, they are refused with --connect.
+                     addr is a path to a Unix domain socket, only its owner may connect, or a
+                     TCP port or host:port on the loopback interface, open to every local user.""";
         }
     }
 
-    static class JrabcheCompiler {
+    /**
+     * Runs clang on IR piped into its stdin, with the assembly going from its stdout straight
+     * into the output file, so nothing is written to a shared temp file. At most {@code jobs}
+     * modules are handed to clang at once; {@link #submit} blocks until a slot is free.
+     */
+    static class Backend {
+        private final Semaphore slots;
+        private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "jrabche-clang");
+            t.setDaemon(true);
+            return t;
+        });
 
-        // TEMP FILE RESOLUTION
-        private File tmpFile;
+        Backend(int jobs) {
+            this.slots = new Semaphore(jobs);
+        }
 
-        private File getTmpFile() {
-            if (tmpFile != null) {
-                return tmpFile;
+        /**
+         * @param err  receives the messages of clang
+         * @param done run after clang succeeded, may be null
+         */
+        Future<?> submit(Consumer<IRWriter> module, Args args, PrintStream err, Runnable done) {
+            slots.acquireUninterruptibly();
+            try {
+                return executor.submit(() -> {
+                    try {
+                        clang(module, args, err);
+                    } finally {
+                        slots.release();
+                    }
+                    if (done != null) {
+                        done.run();
+                    }
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                slots.release();
+                throw e;
             }
-            File temp = new File(System.getProperty("java.io.tmpdir"));
-            File tempDir = new File(temp, "testll");
-            boolean mkdirsed = tempDir.mkdirs();
-            tmpFile = new File(tempDir, "J_tmp03.tmp.ll");
-            return tmpFile;
         }
 
-        private void resetTmpFile() {
-            if (tmpFile != null && tmpFile.isFile()) {
-                // del tmp file
-                boolean deleted = tmpFile.delete();
-            }
+        /**
+         * The output of {@code clang --version}, run once per process.
+         */
+        static String clangVersion() {
+            return ClangVersion.TEXT;
         }
 
-        // COMPILER
-        Args compilerArgs;
+        private static final class ClangVersion {
+            static final String TEXT = run();
 
-        String genIR(String source) {
-            // --verbose
-            if (compilerArgs.isVerbose()) {
-                JrabcheLogger.JL.setLevel(JrabcheLogger.LoggerLevel.D);
-            } else {
-                JrabcheLogger.JL.setLevel(JrabcheLogger.LoggerLevel.W);
-            }
-            source = Preprocessor.preprocess(source);
-            CharStream input = CharStreams.fromString(source);
-            Lexer lexer = new SylangLexer(input);
-            TokenStream tokens = new CommonTokenStream(lexer);
-            SylangParser parser = new SylangParser(tokens);
-            IRBuilder builder = new IRBuilderImpl();
-            var visitor = new SylangVisitorImpl(builder);
-            visitor.visit(parser.compUnit());
-            IRModuleImpl module = (IRModuleImpl) builder.getModule();
-            // -O1
-            if (compilerArgs.isEnableO1()) {
-                new OptExecutor(module).run();
+            private static String run() {
+                try {
+                    var p = new ProcessBuilder("clang", "--version").redirectErrorStream(true).start();
+                    String text = new String(p.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                    return p.waitFor() == 0 ? text : "unknown";
+                } catch (IOException e) {
+                    // no clang, -S fails before anything is stored.
+                    return "unknown";
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return "unknown";
+                }
             }
-            return module.toString();
         }
 
-        void genASM(String ir) throws IOException {
-            // to tmp file.
-            Utils.writeFile(getTmpFile().getAbsolutePath(), ir);
-            // use clang or clang.exe to generate asm file.
-            // clang -S ll/$file -o s/$file.s --target=riscv64 -fPIC -mabi=lp64f -fno-addrsig
+        static List<String> clangCommand(Args args) {
+            // clang -S -x ir - -o - --target=riscv64 -fPIC -mabi=lp64f -fno-addrsig
             // -Ox
             ArrayList<String> cmds = new ArrayList<>();
             cmds.add("clang");
-            if (compilerArgs.isEnableOX()) {
+            if (args.isEnableOX()) {
                 cmds.add("-O2");
             }
             cmds.add("-S");
-            cmds.add(getTmpFile().getAbsolutePath());
+            cmds.add("-x");
+            cmds.add("ir");
+            cmds.add("-");
             cmds.add("-o");
-            cmds.add(compilerArgs.outputFile.getAbsolutePath());
+            cmds.add("-");
             cmds.add("--target=riscv64");
             cmds.add("-fPIC");
             cmds.add("-mabi=lp64f");
             cmds.add("-fno-addrsig");
             cmds.add("-w");
-            ProcessBuilder pb = new ProcessBuilder(cmds);
-            pb.inheritIO();
+            return cmds;
+        }
+
+        private void clang(Consumer<IRWriter> module, Args args, PrintStream err) throws IOException, InterruptedException {
+            ProcessBuilder pb = new ProcessBuilder(clangCommand(args));
+            pb.redirectOutput(args.outputFile);
+            pb.redirectError(ProcessBuilder.Redirect.PIPE);
+            long wall0 = System.nanoTime();
             var clangProcess = pb.start();
+            // read while writing, clang may block on a full stderr pipe before it reads all its input.
+            Future<byte[]> messages = executor.submit(() -> clangProcess.getErrorStream().readAllBytes());
+            IOException writeError = null;
+            try (var t = TimeReport.start("Back end", "Printing IR (to clang)");
+                 var stdin = clangProcess.getOutputStream();
+                 var w = new IRWriter(Channels.newChannel(stdin))) {
+                module.accept(w);
+            } catch (IOException | UncheckedIOException e) {
+                // clang quit early; its exit code says more than the broken pipe.
+                writeError = e instanceof UncheckedIOException u ? u.getCause() : (IOException) e;
+            }
+            int exitCode;
+            if (TimeReport.isEnabled()) {
+                // the JVM reaps clang as soon as it exits, its CPU time is gone then: sample it until it does.
+                Duration cpu = Duration.ZERO;
+                while (!clangProcess.waitFor(2, TimeUnit.MILLISECONDS)) {
+                    cpu = clangProcess.toHandle().info().totalCpuDuration().orElse(cpu);
+                }
+                exitCode = clangProcess.exitValue();
+                TimeReport.add("Back end", "clang", System.nanoTime() - wall0, cpu.toNanos());
+            } else {
+                exitCode = clangProcess.waitFor();
+            }
             try {
-                clangProcess.waitFor();
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+                err.write(messages.get());
+                err.flush();
+            } catch (ExecutionException e) {
+                throw new IOException("Cannot read the messages of clang", e.getCause());
+            }
+            if (exitCode != 0) {
+                throw new RuntimeException("clang failed on " + args.inputFile + " with exit code " + exitCode);
+            }
+            if (writeError != null) {
+                throw writeError;
+            }
+        }
+
+        /**
+         * Wait for all of {@code futures}, then throw the first failure, if any.
+         */
+        static void await(List<Future<?>> futures) throws IOException {
+            Throwable failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) failure = e.getCause();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
             }
+            if (failure instanceof IOException e) throw e;
+            if (failure instanceof RuntimeException e) throw e;
+            if (failure instanceof Error e) throw e;
+            if (failure != null) throw new RuntimeException(failure);
         }
+    }
 
-        public JrabcheCompiler(Args compilerArgs) {
+    static class JrabcheCompiler {
+        static final int LOG_BUFFER = 1 << 20;
+        // COMPILER
+        Args compilerArgs;
+        Backend backend;
+        // null when caching is off
+        CompileCache cache;
+        // --incremental, set by genIR
+        IncrementalModule incremental;
+
+        IRModuleImpl genIR(Path source) throws IOException {
+            IRBuilder builder = new IRBuilderImpl();
+            var visitor = new SylangVisitorImpl(builder);
+            List<Token> tokens = compilerArgs.incremental ? new ArrayList<>() : null;
+            var tree = tokens == null ? TwoStageParser.parseCompUnit(source) : TwoStageParser.parseCompUnit(source, tokens);
+            // --incremental
+            if (tokens != null) {
+                incremental = new IncrementalModule(cache, builder, tree, tokens, compilerArgs.isEnableO1() ? "-O1" : "-O0");
+                visitor.setBodyFilter(incremental);
+            }
+            try (var t = TimeReport.start("Front end", "IR generation")) {
+                visitor.visit(tree);
+            }
+            IRModuleImpl module = (IRModuleImpl) builder.getModule();
+            // -O1
+            if (compilerArgs.isEnableO1()) {
+                new OptExecutor(module, compilerArgs.getOptThreads()).run();
+            }
+            // -S prints much later, once clang has a slot; don't keep large functions as objects until then.
+            module.compact(CFG_COMPACT_MIN_INSTS);
+            if (incremental != null) {
+                incremental.store(module);
+            }
+            return module;
+        }
+
+        public JrabcheCompiler(Args compilerArgs, Backend backend, CompileCache cache) {
             this.compilerArgs = compilerArgs;
+            this.backend = backend;
+            this.cache = cache;
         }
 
-        public void compile() throws IOException {
-            char[] inputChars = Utils.readFile(compilerArgs.inputFile.getAbsolutePath());
-            String inputStr = new String(inputChars);
-            String ir = genIR(inputStr);
+        /**
+         * The options the output depends on, for the cache key. -S outputs also depend on clang.
+         */
+        static String cacheOptions(Args a) {
+            String opt = a.isEnableO1() ? "-O1" : "-O0";
+            if (a.isEmitLLVM()) {
+                return opt + " -emit-llvm";
+            }
+            // a newer clang may emit different assembly for the same command line.
+            return opt + " -S " + String.join(" ", Backend.clangCommand(a)) + "\0" + Backend.clangVersion();
+        }
+
+        /**
+         * Run the front end and the optimizer. -emit-llvm is written before returning, -S is
+         * handed to the backend. A cache hit skips all of them.
+         *
+         * @return done when the output file is complete
+         */
+        public Future<?> compile() throws IOException {
+            Path output = compilerArgs.outputFile.toPath();
+            String key = null;
+            if (cache != null) {
+                try (var t = TimeReport.start("Front end", "Cache lookup")) {
+                    key = CompileCache.key(compilerArgs.inputFile.toPath(), cacheOptions(compilerArgs));
+                    if (cache.get(key, output)) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                }
+            }
+            IRModuleImpl module = genIR(compilerArgs.inputFile.toPath());
+            IncrementalModule inc = incremental;
+            Consumer<IRWriter> print = inc == null ? w -> w.module(module) : w -> inc.write(w, module);
 
             // -emit-llvm
             if (compilerArgs.isEmitLLVM()) {
-                Utils.writeFile(compilerArgs.outputFile.getAbsolutePath(), ir);
-                return;
+                try (var t = TimeReport.start("Back end", "Printing IR")) {
+                    IRWriter.write(output, print);
+                }
+                if (key != null) {
+                    cache.put(key, output);
+                }
+                return CompletableFuture.completedFuture(null);
             }
 
             // -S
-            if (compilerArgs.isEmitASM()) {
-                genASM(ir);
+            String k = key;
+            var err = JrabcheLogger.session().err();
+            return backend.submit(print, compilerArgs, err, k == null ? null : () -> cache.put(k, output, err));
+        }
+
+        /**
+         * Compile every input of {@code a}. Front ends run one at a time, since the error position
+         * of CompileException and the report counters are process-global; clang runs in the
+         * background meanwhile. Each compilation logs to its own session. A report covers the
+         * whole process, so the compile server refuses them, see {@link Args#hasReport()}.
+         *
+         * @param out receives the log, unless it goes to --log-file
+         * @param err receives the diagnostics: syntax errors, clang's messages and the reports
+         */
+        static void compileAll(Args a, Backend backend, CompileCache cache, PrintStream out, PrintStream err) throws IOException {
+            boolean report = a.hasReport();
+            List<Future<?>> outputs = new ArrayList<>();
+            try {
+                for (Args one : a.split()) {
+                    synchronized (JrabcheCompiler.class) {
+                        TimeReport.setEnabled(a.timeReport || a.reportJson != null);
+                        if (report && outputs.isEmpty()) {
+                            // counters are process-global, a report covers one command line.
+                            TimeReport.reset();
+                            Statistic.resetAll();
+                        }
+                        try (var log = openLog(one, out, err)) {
+                            outputs.add(new JrabcheCompiler(one, backend, cache).compile());
+                        }
+                    }
+                }
+            } finally {
+                Backend.await(outputs);
+                if (report) {
+                    report(a, err);
+                }
+            }
+        }
+
+        /**
+         * The log session of one compilation: its output is written in large chunks, so that
+         * compilations running at the same time in a server don't interleave line by line.
+         */
+        static JrabcheLogger.Session openLog(Args a, PrintStream out, PrintStream err) {
+            Consumer<String> sink = out::print;
+            if (a.logFile != null) {
+                Path path = a.logFile.toPath();
+                sink = text -> {
+                    try {
+                        Files.writeString(path, text, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                    } catch (IOException e) {
+                        err.println("Failed to write log " + path + ": " + e.getMessage());
+                    }
+                };
+            }
+            var log = JrabcheLogger.open(sink, err, LOG_BUFFER);
+            // --verbose, --debug-only
+            if (a.isVerbose()) {
+                log.setLevel(JrabcheLogger.LoggerLevel.D);
+            }
+            for (var c : a.debugOnly) {
+                log.setLevel(c, JrabcheLogger.LoggerLevel.D);
+            }
+            return log;
+        }
+
+        private static void report(Args a, PrintStream err) throws IOException {
+            if (a.timeReport) {
+                TimeReport.print(err);
+            }
+            if (a.stats) {
+                Statistic.print(err);
+            }
+            if (a.reportJson != null) {
+                Files.writeString(a.reportJson.toPath(), TimeReport.toJson());
+            }
+        }
+    }
+
+
+    /**
+     * Parse a server address. A string containing '/' is a Unix domain socket path,
+     * "host:port" is a TCP address, and a bare number is a port on the loopback interface.
+     * A server writes files wherever its clients ask and has no authentication, so a TCP
+     * address must be a loopback one.
+     */
+    static SocketAddress parseAddress(String address) {
+        if (address.contains("/") || address.endsWith(".sock")) {
+            return UnixDomainSocketAddress.of(address);
+        }
+        int colon = address.lastIndexOf(':');
+        InetSocketAddress inet;
+        try {
+            if (colon < 0) {
+                inet = new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(address));
+            } else {
+                inet = new InetSocketAddress(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1)));
+            }
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid server address: " + address);
+        }
+        if (inet.isUnresolved() || !inet.getAddress().isLoopbackAddress()) {
+            throw new RuntimeException("Not a loopback address: " + address + ", the compile server is local only.");
+        }
+        return inet;
+    }
+
+    /**
+     * Wire format, both directions over one connection per compilation:
+     * <pre>
+     * request:  int MAGIC, int argc, argc * UTF argv
+     * response: int status, int n, n bytes stdout, int m, m bytes stderr
+     * </pre>
+     * The server writes the output file itself, exactly like the command line does. What the
+     * compilation printed (log, syntax errors, clang's messages, the error that stopped it) is
+     * captured per request and sent back as UTF-8, for the client to print as its own.
+     */
+    static class CompileServer {
+        static final int MAGIC = 0x4a524142; // "JRAB"
+        // a larger argc is not a request of ours.
+        static final int MAX_ARGC = 1 << 16;
+        static final String SHUTDOWN = "--shutdown";
+        static final String NO_REPORT = "-ftime-report, -stats and -report-json cannot be used with a compile server.";
+
+        private final SocketAddress address;
+        private final Backend backend;
+        private final CompileCache cache;
+        private final ExecutorService workers = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "jrabche-server-worker");
+            t.setDaemon(true);
+            return t;
+        });
+        private volatile boolean running = true;
+        private ServerSocketChannel server;
+
+        CompileServer(SocketAddress address, int jobs, CompileCache cache) {
+            this.address = address;
+            this.backend = new Backend(jobs);
+            this.cache = cache;
+        }
+
+        void serve() throws IOException {
+            if (address instanceof UnixDomainSocketAddress unix) {
+                // a stale socket file from a previous server blocks bind().
+                Files.deleteIfExists(unix.getPath());
+                server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            } else {
+                server = ServerSocketChannel.open();
+            }
+            try (ServerSocketChannel channel = server) {
+                channel.bind(address);
+                if (address instanceof UnixDomainSocketAddress unix) {
+                    restrictToOwner(unix.getPath());
+                }
+                System.err.println("Jrabche compile server listening on " + address);
+                while (running) {
+                    SocketChannel client = channel.accept();
+                    workers.execute(() -> handle(client));
+                }
+            } catch (IOException e) {
+                if (running) throw e;
+            } finally {
+                workers.shutdown();
+                if (address instanceof UnixDomainSocketAddress unix) {
+                    Files.deleteIfExists(unix.getPath());
+                }
+            }
+        }
+
+        /**
+         * Only the user running the server may connect to its socket, where the file system allows.
+         */
+        private static void restrictToOwner(Path socket) throws IOException {
+            try {
+                Files.setPosixFilePermissions(socket, PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException e) {
+                // not a POSIX file system
+            }
+        }
+
+        private void handle(SocketChannel client) {
+            try (client) {
+                var in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(client)));
+                var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(client)));
+                if (in.readInt() != MAGIC) {
+                    return;
+                }
+                int argc = in.readInt();
+                if (argc < 0 || argc > MAX_ARGC) {
+                    return;
+                }
+                String[] argv = new String[argc];
+                for (int i = 0; i < argv.length; i++) {
+                    argv[i] = in.readUTF();
+                }
+                if (argv.length == 1 && SHUTDOWN.equals(argv[0])) {
+                    respond(out, 0, new byte[0], new byte[0]);
+                    // wakes up accept() in serve(), which then cleans up.
+                    running = false;
+                    server.close();
+                    return;
+                }
+                var stdout = new ByteArrayOutputStream();
+                var stderr = new ByteArrayOutputStream();
+                int status = 0;
+                try (var o = new PrintStream(stdout, true, StandardCharsets.UTF_8);
+                     var e = new PrintStream(stderr, true, StandardCharsets.UTF_8)) {
+                    try {
+                        compile(argv, o, e);
+                    } catch (ArgParser.ExitRequest x) {
+                        // -h, -v or nothing at all: only the command line prints and exits.
+                        status = 1;
+                        e.println("Not a compilation request: " + String.join(" ", argv));
+                    } catch (Throwable x) {
+                        status = 1;
+                        e.println(x);
+                    }
+                }
+                respond(out, status, stdout.toByteArray(), stderr.toByteArray());
+            } catch (IOException | RuntimeException e) {
+                // the client went away or sent garbage, nothing to report to.
             }
         }
+
+        private void compile(String[] argv, PrintStream out, PrintStream err) throws IOException {
+            var a = new ArgParser(argv).getArgs();
+            a.isValid();
+            if (a.hasReport()) {
+                throw new RuntimeException(NO_REPORT);
+            }
+            if (a.incremental && cache == null) {
+                throw new RuntimeException(NO_CACHE);
+            }
+            // front ends are serialized, clang runs of different clients are not.
+            // Everything warm (parser DFA cache, pass registry, JIT) is kept between them.
+            JrabcheCompiler.compileAll(a, backend, cache, out, err);
+        }
+
+        private static void respond(DataOutputStream out, int status, byte[] stdout, byte[] stderr) throws IOException {
+            out.writeInt(status);
+            writeBytes(out, stdout);
+            writeBytes(out, stderr);
+            out.flush();
+        }
+
+        static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        static byte[] readBytes(DataInputStream in) throws IOException {
+            int n = in.readInt();
+            if (n < 0) throw new IOException("Invalid length " + n);
+            return in.readNBytes(n);
+        }
     }
 
+    static class CompileClient {
+        private final SocketAddress address;
+
+        CompileClient(SocketAddress address) {
+            this.address = address;
+        }
+
+        int send(List<String> argv) throws IOException {
+            var family = address instanceof UnixDomainSocketAddress
+                    ? StandardProtocolFamily.UNIX
+                    : ((InetSocketAddress) address).getAddress() instanceof java.net.Inet6Address
+                    ? StandardProtocolFamily.INET6 : StandardProtocolFamily.INET;
+            try (SocketChannel channel = SocketChannel.open(family)) {
+                channel.connect(address);
+                var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+                var in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+                out.writeInt(CompileServer.MAGIC);
+                out.writeInt(argv.size());
+                for (String arg : argv) {
+                    out.writeUTF(arg);
+                }
+                out.flush();
+                int status = in.readInt();
+                byte[] stdout = CompileServer.readBytes(in);
+                byte[] stderr = CompileServer.readBytes(in);
+                System.out.write(stdout);
+                System.out.flush();
+                System.err.write(stderr);
+                System.err.flush();
+                return status;
+            }
+        }
+    }
+
+    static final String NO_CACHE = "--incremental needs a cache, see --cache-dir.";
+
+    /**
+     * The cache of --cache-dir or $JRABCHE_CACHE_DIR. A server always keeps a memory tier, a
+     * single compilation has no use for one without a directory. There is no cache when the
+     * compiler build cannot be identified.
+     */
+    static CompileCache openCache(Args a, boolean server) {
+        File dir = a.cacheDir;
+        if (dir == null) {
+            String env = System.getenv("JRABCHE_CACHE_DIR");
+            if (env != null && !env.isEmpty()) {
+                dir = new File(env);
+            }
+        }
+        if (dir == null && !server) {
+            return null;
+        }
+        if (!CompileCache.isAvailable()) {
+            System.err.println("Cannot identify the compiler build, caching is disabled.");
+            return null;
+        }
+        return new CompileCache(dir == null ? null : dir.toPath(), a.cacheSize << 20, 64L << 20);
+    }
 
     public static void main(String[] args) throws IOException {
-        var parser = new ArgParser(args);
+        ArgParser parser;
+        try {
+            parser = new ArgParser(args);
+        } catch (ArgParser.ExitRequest e) {
+            System.out.println(e.getMessage());
+            System.exit(e.status);
+            return;
+        }
         // arg parser
         var a = parser.getArgs();
+        // --server
+        if (a.getServerAddress() != null) {
+            new CompileServer(parseAddress(a.getServerAddress()), a.getJobs(), openCache(a, true)).serve();
+            return;
+        }
+        // --connect, or $JRABCHE_SERVER
+        String connect = a.getConnectAddress();
+        if (connect == null) {
+            connect = System.getenv("JRABCHE_SERVER");
+        }
+        if (connect != null && !connect.isEmpty()) {
+            var client = new CompileClient(parseAddress(connect));
+            if (a.shutdownServer) {
+                System.exit(client.send(List.of(CompileServer.SHUTDOWN)));
+            }
+            a.isValid();
+            if (a.hasReport()) {
+                throw new RuntimeException(CompileServer.NO_REPORT);
+            }
+            System.exit(client.send(a.toArgv()));
+        }
         a.isValid();
-        var compiler = new JrabcheCompiler(a);
-        compiler.compile();
+        var cache = openCache(a, false);
+        if (a.incremental && cache == null) {
+            throw new RuntimeException(NO_CACHE);
+        }
+        JrabcheCompiler.compileAll(a, new Backend(a.getJobs()), cache, System.out, System.err);
     }
 }
\ No newline at end of file
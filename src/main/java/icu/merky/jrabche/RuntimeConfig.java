@@ -33,4 +33,6 @@ package icu.merky.jrabche;
 
 public class RuntimeConfig {
     public static final boolean CFG_ENABLE_OUTPUT_RENAME = false;
+    // functions of at least this many instructions are kept packed from optimization to printing.
+    public static final int CFG_COMPACT_MIN_INSTS = 10000;
 }
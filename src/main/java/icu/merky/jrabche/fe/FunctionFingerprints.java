@@ -0,0 +1,162 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.fe;
+
+import icu.merky.jrabche.fe.parser.SylangParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * A SHA-256 per function definition of a unit, over everything its optimized IR depends on:
+ * <ul>
+ *     <li>the tokens of the definition itself,</li>
+ *     <li>the global declarations it names, and those these name in turn,</li>
+ *     <li>the signatures of the functions it calls, and the global declarations these name.</li>
+ * </ul>
+ * Names are collected without scoping, a local shadowing a global adds the global too.
+ * Function bodies are generated and optimized one by one (no inlining, no interprocedural
+ * pass), and their value names are local, so equal fingerprints mean equal IR.
+ * <p>
+ * Token ranges are read from the token list of the parser, walking the (deep) expression
+ * subtrees would cost as much as parsing.
+ */
+public class FunctionFingerprints {
+    private final List<Token> tokens;
+    private final Map<String, SylangParser.DeclContext> globals = new HashMap<>();
+    private final Map<String, SylangParser.FuncDefContext> functions = new LinkedHashMap<>();
+    // declarations and signatures are shared by many functions, read each of them once.
+    private final Map<ParserRuleContext, byte[]> digests = new HashMap<>();
+    private final Map<ParserRuleContext, List<String>> names = new HashMap<>();
+
+    private FunctionFingerprints(SylangParser.CompUnitContext unit, List<Token> tokens) {
+        this.tokens = tokens;
+        for (var item : unit.compUnitItem()) {
+            if (item.funcDef() != null) {
+                functions.put(item.funcDef().Ident().getText(), item.funcDef());
+            } else if (item.decl().constDecl() != null) {
+                item.decl().constDecl().constDef().forEach(d -> globals.put(d.Ident().getText(), item.decl()));
+            } else {
+                item.decl().varDecl().varDef().forEach(d -> globals.put(d.Ident().getText(), item.decl()));
+            }
+        }
+    }
+
+    /**
+     * @param tokens the tokens of the unit, see {@link TwoStageParser#parseCompUnit(java.nio.file.Path, List)}
+     * @param salt   everything else the IR depends on, e.g. the compiler and the options.
+     * @return function name to fingerprint, in source order
+     */
+    public static Map<String, String> of(SylangParser.CompUnitContext unit, List<Token> tokens, String salt) {
+        var ff = new FunctionFingerprints(unit, tokens);
+        Map<String, String> result = new LinkedHashMap<>();
+        ff.functions.forEach((name, def) -> result.put(name, ff.fingerprint(def, salt)));
+        return result;
+    }
+
+    private String fingerprint(SylangParser.FuncDefContext def, String salt) {
+        MessageDigest md = sha256();
+        md.update(salt.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+        update(md, def.getStart(), def.getStop());
+        // dependencies in the order they are found, which only depends on the hashed tokens.
+        Set<ParserRuleContext> deps = new LinkedHashSet<>();
+        Deque<List<String>> work = new ArrayDeque<>();
+        Set<String> seen = new HashSet<>();
+        // array parameters name constants too, e.g. int a[][N].
+        work.add(identifiers(def));
+        while (!work.isEmpty()) {
+            for (String name : work.poll()) {
+                if (!seen.add(name)) {
+                    continue;
+                }
+                var decl = globals.get(name);
+                if (decl != null && deps.add(decl)) {
+                    work.add(names.computeIfAbsent(decl, this::identifiers));
+                }
+                var callee = functions.get(name);
+                if (callee != null && callee != def && deps.add(callee) && callee.funcFParams() != null) {
+                    work.add(names.computeIfAbsent(callee.funcFParams(), this::identifiers));
+                }
+            }
+        }
+        for (ParserRuleContext dep : deps) {
+            md.update(digests.computeIfAbsent(dep, this::digest));
+        }
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    /**
+     * The digest of a declaration, or of the signature of a function definition.
+     */
+    private byte[] digest(ParserRuleContext dep) {
+        MessageDigest md = sha256();
+        if (dep instanceof SylangParser.FuncDefContext callee) {
+            update(md, callee.getStart(), callee.Rparen().getSymbol());
+        } else {
+            update(md, dep.getStart(), dep.getStop());
+        }
+        return md.digest();
+    }
+
+    private List<String> identifiers(ParserRuleContext tree) {
+        List<String> result = new ArrayList<>();
+        for (int i = tree.getStart().getTokenIndex(); i <= tree.getStop().getTokenIndex(); i++) {
+            Token t = tokens.get(i);
+            if (t.getType() == SylangParser.Ident) result.add(t.getText());
+        }
+        return result;
+    }
+
+    private void update(MessageDigest md, Token start, Token stop) {
+        for (int i = start.getTokenIndex(); i <= stop.getTokenIndex(); i++) {
+            Token t = tokens.get(i);
+            int type = t.getType();
+            md.update((byte) (type >> 8));
+            md.update((byte) type);
+            md.update(t.getText().getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
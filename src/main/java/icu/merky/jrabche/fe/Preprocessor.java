@@ -31,7 +31,104 @@
 
 package icu.merky.jrabche.fe;
 
+import icu.merky.jrabche.fe.parser.SylangLexer;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+
 public class Preprocessor {
+    /**
+     * The same rewriting as {@link #preprocess(String)}, done on the tokens of {@code lexer} while
+     * the parser pulls them, so the source needs no extra copy. {@code starttime()} becomes
+     * {@code _sysy_starttime(LINENO)}, with the same 0-based LINENO.
+     */
+    public static TokenSource rewrite(TokenSource lexer) {
+        return new TimeCallRewriter(lexer);
+    }
+
+    private static class TimeCallRewriter implements TokenSource {
+        private final TokenSource source;
+        // tokens already taken from source, not yet returned.
+        private final List<Token> ahead = new ArrayList<>(3);
+
+        TimeCallRewriter(TokenSource source) {
+            this.source = source;
+        }
+
+        private Token peek(int i) {
+            while (ahead.size() <= i) {
+                ahead.add(source.nextToken());
+            }
+            return ahead.get(i);
+        }
+
+        private static boolean adjacent(Token t, Token next, int type) {
+            return next.getType() == type && next.getStartIndex() == t.getStopIndex() + 1;
+        }
+
+        @Override
+        public Token nextToken() {
+            Token t = peek(0);
+            ahead.remove(0);
+            if (t.getType() != SylangLexer.Ident) {
+                return t;
+            }
+            String text = t.getText();
+            if (!text.equals("starttime") && !text.equals("stoptime")) {
+                return t;
+            }
+            // starttime() with nothing in between, like the text replacement.
+            Token l = peek(0), r = peek(1);
+            if (!adjacent(t, l, SylangLexer.Lparen) || !adjacent(l, r, SylangLexer.Rparen)) {
+                return t;
+            }
+            int lineNo = t.getLine() - 1;
+            CommonToken name = new CommonToken(t);
+            name.setText("_sysy_" + text);
+            // "0" is an octal constant in this grammar.
+            CommonToken arg = new CommonToken(new Pair<>(source, source.getInputStream()),
+                    lineNo == 0 ? SylangLexer.OctIntConst : SylangLexer.DecIntConst,
+                    Token.DEFAULT_CHANNEL, r.getStartIndex(), r.getStartIndex() - 1);
+            arg.setText(String.valueOf(lineNo));
+            arg.setLine(r.getLine());
+            arg.setCharPositionInLine(r.getCharPositionInLine());
+            ahead.add(1, arg);
+            return name;
+        }
+
+        @Override
+        public int getLine() {
+            return source.getLine();
+        }
+
+        @Override
+        public int getCharPositionInLine() {
+            return source.getCharPositionInLine();
+        }
+
+        @Override
+        public CharStream getInputStream() {
+            return source.getInputStream();
+        }
+
+        @Override
+        public String getSourceName() {
+            return source.getSourceName();
+        }
+
+        @Override
+        public void setTokenFactory(TokenFactory<?> factory) {
+            source.setTokenFactory(factory);
+        }
+
+        @Override
+        public TokenFactory<?> getTokenFactory() {
+            return source.getTokenFactory();
+        }
+    }
+
     public static String preprocess(String source) {
         // find all starttime() and stoptime()
         // replace them with _sysy_starttime(LINENO) and _sysy_stoptime(LINENO)
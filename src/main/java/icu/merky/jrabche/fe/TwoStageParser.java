@@ -0,0 +1,151 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.fe;
+
+import icu.merky.jrabche.fe.parser.SylangLexer;
+import icu.merky.jrabche.fe.parser.SylangParser;
+import icu.merky.jrabche.logger.JrabcheLogger;
+import icu.merky.jrabche.support.Statistic;
+import icu.merky.jrabche.support.TimeReport;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Parse in SLL mode first, which is much cheaper and enough for nearly every input, and parse
+ * again in full LL mode, with the usual error reporting and recovery, only if SLL fails.
+ * <p>
+ * The DFA and the prediction context cache of the generated lexer and parser are static, so
+ * they are shared by all compilations of this process and stay warm between them (e.g. in the
+ * compile server). ANTLR guards them itself, parsers on different threads may share them.
+ */
+public class TwoStageParser {
+    private static final Statistic NumParses = Statistic.of("parser", "parses", "Sources parsed");
+    private static final Statistic NumFallbacks = Statistic.of("parser", "ll-fallbacks", "Sources parsed again in LL mode");
+
+    /**
+     * Parse a source file, memory-mapped, with {@code starttime()}/{@code stoptime()} rewritten
+     * on the fly.
+     */
+    public static SylangParser.CompUnitContext parseCompUnit(Path file) throws IOException {
+        return parse(MappedCharStream.map(file), SylangParser::compUnit);
+    }
+
+    /**
+     * Like {@link #parseCompUnit(Path)}, and add the tokens of the unit to {@code tokens}, at
+     * their {@link Token#getTokenIndex()}.
+     */
+    public static SylangParser.CompUnitContext parseCompUnit(Path file, List<Token> tokens) throws IOException {
+        return parse(MappedCharStream.map(file), SylangParser::compUnit, tokens);
+    }
+
+    public static SylangParser.CompUnitContext parseCompUnit(String source) {
+        return parse(CharStreams.fromString(source), SylangParser::compUnit);
+    }
+
+    public static <T extends ParserRuleContext> T parse(CharStream input, Function<SylangParser, T> rule) {
+        return parse(input, rule, null);
+    }
+
+    private static <T extends ParserRuleContext> T parse(CharStream input, Function<SylangParser, T> rule, List<Token> sink) {
+        NumParses.inc();
+        // errors go to the compilation's stream, like ConsoleErrorListener does to System.err.
+        var errors = new PrintingErrorListener(JrabcheLogger.session().err());
+        var lexer = new SylangLexer(input);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errors);
+        CommonTokenStream tokens = new CommonTokenStream(Preprocessor.rewrite(lexer));
+        if (TimeReport.isEnabled()) {
+            // the parser would lex on demand, lex everything first to time it alone.
+            try (var t = TimeReport.start("Front end", "Lexing")) {
+                tokens.fill();
+            }
+        }
+        SylangParser parser = new SylangParser(tokens);
+        // stage 1: SLL, give up at the first error without reporting it.
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        try (var t = TimeReport.start("Front end", "Parsing (SLL)")) {
+            T tree = rule.apply(parser);
+            if (sink != null) sink.addAll(tokens.getTokens());
+            return tree;
+        } catch (ParseCancellationException e) {
+            NumFallbacks.inc();
+        }
+        // stage 2: LL, from the start, as a plain parser would do.
+        tokens.seek(0);
+        parser.reset();
+        parser.addErrorListener(errors);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        try (var t = TimeReport.start("Front end", "Parsing (LL)")) {
+            T tree = rule.apply(parser);
+            if (sink != null) sink.addAll(tokens.getTokens());
+            return tree;
+        }
+    }
+
+    private static class PrintingErrorListener extends BaseErrorListener {
+        private final PrintStream err;
+
+        PrintingErrorListener(PrintStream err) {
+            this.err = err;
+        }
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                                String msg, RecognitionException e) {
+            err.println("line " + line + ":" + charPositionInLine + " " + msg);
+        }
+    }
+
+    /**
+     * @return how many parses were started, for statistics.
+     */
+    public static long getParseCount() {
+        return NumParses.get();
+    }
+
+    /**
+     * @return how many parses needed the LL stage.
+     */
+    public static long getFallbackCount() {
+        return NumFallbacks.get();
+    }
+}
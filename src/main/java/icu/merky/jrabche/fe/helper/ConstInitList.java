@@ -48,7 +48,7 @@ public class ConstInitList extends IRVal {
     public List<Integer> indices;
 
     public ConstInitList(IRBasicType atomType) {
-        super(new InvalidType());
+        super(InvalidType.get());
         containedType = atomType;
         witch = new ArrayList<>();
         indices = new ArrayList<>();
@@ -0,0 +1,409 @@
+// Generated from Sylang.g4 by ANTLR 4.13.1
+package icu.merky.jrabche.fe.parser;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class SylangLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.13.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		DecIntConst=1, OctIntConst=2, HexIntConst=3, DecFloatConst=4, HexFloatConst=5, 
+		StringConst=6, Int=7, Float=8, Void=9, Const=10, If=11, Else=12, While=13, 
+		Break=14, Continue=15, Return=16, For=17, Assign=18, Add=19, Sub=20, Mul=21, 
+		Div=22, Mod=23, DuoAdd=24, DuoSub=25, Eq=26, Neq=27, Lt=28, Gt=29, Leq=30, 
+		Geq=31, Not=32, And=33, Or=34, Comma=35, Semicolon=36, Lparen=37, Rparen=38, 
+		Lbracket=39, Rbracket=40, Lbrace=41, Rbrace=42, Ident=43, Whitespace=44, 
+		LineComment=45, BlockComment=46;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"HexPrefix", "OctPrefix", "NonzeroDigit", "Digit", "HexDigit", "OctDegit", 
+			"DecIntConst", "OctIntConst", "HexIntConst", "Dot", "Sign", "Exponent", 
+			"HexExponent", "DecFloatFrac", "HexFloatFrac", "DecFloatExp", "BinFloatExp", 
+			"DecFloatConst", "HexFloatConst", "Escaped", "StringConst", "Int", "Float", 
+			"Void", "Const", "If", "Else", "While", "Break", "Continue", "Return", 
+			"For", "Assign", "Add", "Sub", "Mul", "Div", "Mod", "DuoAdd", "DuoSub", 
+			"Eq", "Neq", "Lt", "Gt", "Leq", "Geq", "Not", "And", "Or", "Comma", "Semicolon", 
+			"Lparen", "Rparen", "Lbracket", "Rbracket", "Lbrace", "Rbrace", "Ident", 
+			"Whitespace", "LineComment", "BlockComment"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, null, null, null, null, null, null, "'int'", "'float'", "'void'", 
+			"'const'", "'if'", "'else'", "'while'", "'break'", "'continue'", "'return'", 
+			"'for'", "'='", "'+'", "'-'", "'*'", "'/'", "'%'", "'++'", "'--'", "'=='", 
+			"'!='", "'<'", "'>'", "'<='", "'>='", "'!'", "'&&'", "'||'", "','", "';'", 
+			"'('", "')'", "'['", "']'", "'{'", "'}'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "DecIntConst", "OctIntConst", "HexIntConst", "DecFloatConst", "HexFloatConst", 
+			"StringConst", "Int", "Float", "Void", "Const", "If", "Else", "While", 
+			"Break", "Continue", "Return", "For", "Assign", "Add", "Sub", "Mul", 
+			"Div", "Mod", "DuoAdd", "DuoSub", "Eq", "Neq", "Lt", "Gt", "Leq", "Geq", 
+			"Not", "And", "Or", "Comma", "Semicolon", "Lparen", "Rparen", "Lbracket", 
+			"Rbracket", "Lbrace", "Rbrace", "Ident", "Whitespace", "LineComment", 
+			"BlockComment"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public SylangLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Sylang.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\u0004\u0000.\u01a9\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
+		"\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004"+
+		"\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007"+
+		"\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b"+
+		"\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e\u0002"+
+		"\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0002"+
+		"\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014\u0002"+
+		"\u0015\u0007\u0015\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017\u0002"+
+		"\u0018\u0007\u0018\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a\u0002"+
+		"\u001b\u0007\u001b\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002"+
+		"\u001e\u0007\u001e\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007"+
+		"!\u0002\"\u0007\"\u0002#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007"+
+		"&\u0002\'\u0007\'\u0002(\u0007(\u0002)\u0007)\u0002*\u0007*\u0002+\u0007"+
+		"+\u0002,\u0007,\u0002-\u0007-\u0002.\u0007.\u0002/\u0007/\u00020\u0007"+
+		"0\u00021\u00071\u00022\u00072\u00023\u00073\u00024\u00074\u00025\u0007"+
+		"5\u00026\u00076\u00027\u00077\u00028\u00078\u00029\u00079\u0002:\u0007"+
+		":\u0002;\u0007;\u0002<\u0007<\u0001\u0000\u0001\u0000\u0001\u0000\u0001"+
+		"\u0000\u0003\u0000\u0080\b\u0000\u0001\u0001\u0001\u0001\u0001\u0002\u0001"+
+		"\u0002\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0005\u0001"+
+		"\u0005\u0001\u0006\u0001\u0006\u0005\u0006\u008e\b\u0006\n\u0006\f\u0006"+
+		"\u0091\t\u0006\u0001\u0007\u0001\u0007\u0005\u0007\u0095\b\u0007\n\u0007"+
+		"\f\u0007\u0098\t\u0007\u0001\b\u0001\b\u0004\b\u009c\b\b\u000b\b\f\b\u009d"+
+		"\u0001\t\u0001\t\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001\f\u0001"+
+		"\f\u0001\r\u0005\r\u00a9\b\r\n\r\f\r\u00ac\t\r\u0001\r\u0001\r\u0004\r"+
+		"\u00b0\b\r\u000b\r\f\r\u00b1\u0001\r\u0004\r\u00b5\b\r\u000b\r\f\r\u00b6"+
+		"\u0001\r\u0001\r\u0003\r\u00bb\b\r\u0001\u000e\u0005\u000e\u00be\b\u000e"+
+		"\n\u000e\f\u000e\u00c1\t\u000e\u0001\u000e\u0001\u000e\u0004\u000e\u00c5"+
+		"\b\u000e\u000b\u000e\f\u000e\u00c6\u0001\u000e\u0004\u000e\u00ca\b\u000e"+
+		"\u000b\u000e\f\u000e\u00cb\u0001\u000e\u0001\u000e\u0003\u000e\u00d0\b"+
+		"\u000e\u0001\u000f\u0001\u000f\u0003\u000f\u00d4\b\u000f\u0001\u000f\u0004"+
+		"\u000f\u00d7\b\u000f\u000b\u000f\f\u000f\u00d8\u0001\u0010\u0001\u0010"+
+		"\u0003\u0010\u00dd\b\u0010\u0001\u0010\u0004\u0010\u00e0\b\u0010\u000b"+
+		"\u0010\f\u0010\u00e1\u0001\u0011\u0001\u0011\u0003\u0011\u00e6\b\u0011"+
+		"\u0001\u0011\u0004\u0011\u00e9\b\u0011\u000b\u0011\f\u0011\u00ea\u0001"+
+		"\u0011\u0001\u0011\u0003\u0011\u00ef\b\u0011\u0001\u0012\u0001\u0012\u0001"+
+		"\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0004\u0012\u00f7\b\u0012\u000b"+
+		"\u0012\f\u0012\u00f8\u0001\u0012\u0001\u0012\u0003\u0012\u00fd\b\u0012"+
+		"\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014"+
+		"\u0005\u0014\u0105\b\u0014\n\u0014\f\u0014\u0108\t\u0014\u0001\u0014\u0001"+
+		"\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0018\u0001\u0018\u0001"+
+		"\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0019\u0001\u0019\u0001"+
+		"\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
+		"\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b\u0001"+
+		"\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c\u0001"+
+		"\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001"+
+		"\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0001"+
+		"\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f\u0001"+
+		"\u001f\u0001\u001f\u0001 \u0001 \u0001!\u0001!\u0001\"\u0001\"\u0001#"+
+		"\u0001#\u0001$\u0001$\u0001%\u0001%\u0001&\u0001&\u0001&\u0001\'\u0001"+
+		"\'\u0001\'\u0001(\u0001(\u0001(\u0001)\u0001)\u0001)\u0001*\u0001*\u0001"+
+		"+\u0001+\u0001,\u0001,\u0001,\u0001-\u0001-\u0001-\u0001.\u0001.\u0001"+
+		"/\u0001/\u0001/\u00010\u00010\u00010\u00011\u00011\u00012\u00012\u0001"+
+		"3\u00013\u00014\u00014\u00015\u00015\u00016\u00016\u00017\u00017\u0001"+
+		"8\u00018\u00019\u00019\u00059\u0185\b9\n9\f9\u0188\t9\u0001:\u0004:\u018b"+
+		"\b:\u000b:\f:\u018c\u0001:\u0001:\u0001;\u0001;\u0001;\u0001;\u0005;\u0195"+
+		"\b;\n;\f;\u0198\t;\u0001;\u0001;\u0001<\u0001<\u0001<\u0001<\u0005<\u01a0"+
+		"\b<\n<\f<\u01a3\t<\u0001<\u0001<\u0001<\u0001<\u0001<\u0001\u01a1\u0000"+
+		"=\u0001\u0000\u0003\u0000\u0005\u0000\u0007\u0000\t\u0000\u000b\u0000"+
+		"\r\u0001\u000f\u0002\u0011\u0003\u0013\u0000\u0015\u0000\u0017\u0000\u0019"+
+		"\u0000\u001b\u0000\u001d\u0000\u001f\u0000!\u0000#\u0004%\u0005\'\u0000"+
+		")\u0006+\u0007-\b/\t1\n3\u000b5\f7\r9\u000e;\u000f=\u0010?\u0011A\u0012"+
+		"C\u0013E\u0014G\u0015I\u0016K\u0017M\u0018O\u0019Q\u001aS\u001bU\u001c"+
+		"W\u001dY\u001e[\u001f] _!a\"c#e$g%i&k\'m(o)q*s+u,w-y.\u0001\u0000\r\u0001"+
+		"\u000019\u0001\u000009\u0003\u000009AFaf\u0001\u000007\u0002\u0000++-"+
+		"-\u0002\u0000EEee\u0002\u0000PPpp\n\u0000\"\"\'\'??\\\\abffnnrrttvv\u0005"+
+		"\u0000\n\n\r\r\"\"\'\'\\\\\u0003\u0000AZ__az\u0004\u000009AZ__az\u0003"+
+		"\u0000\t\n\r\r  \u0002\u0000\n\n\r\r\u01b4\u0000\r\u0001\u0000\u0000\u0000"+
+		"\u0000\u000f\u0001\u0000\u0000\u0000\u0000\u0011\u0001\u0000\u0000\u0000"+
+		"\u0000#\u0001\u0000\u0000\u0000\u0000%\u0001\u0000\u0000\u0000\u0000)"+
+		"\u0001\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000"+
+		"\u0000\u0000\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000"+
+		"\u00003\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007"+
+		"\u0001\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0000;\u0001\u0000"+
+		"\u0000\u0000\u0000=\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000\u0000"+
+		"\u0000A\u0001\u0000\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000E"+
+		"\u0001\u0000\u0000\u0000\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001\u0000"+
+		"\u0000\u0000\u0000K\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000\u0000"+
+		"\u0000O\u0001\u0000\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000S"+
+		"\u0001\u0000\u0000\u0000\u0000U\u0001\u0000\u0000\u0000\u0000W\u0001\u0000"+
+		"\u0000\u0000\u0000Y\u0001\u0000\u0000\u0000\u0000[\u0001\u0000\u0000\u0000"+
+		"\u0000]\u0001\u0000\u0000\u0000\u0000_\u0001\u0000\u0000\u0000\u0000a"+
+		"\u0001\u0000\u0000\u0000\u0000c\u0001\u0000\u0000\u0000\u0000e\u0001\u0000"+
+		"\u0000\u0000\u0000g\u0001\u0000\u0000\u0000\u0000i\u0001\u0000\u0000\u0000"+
+		"\u0000k\u0001\u0000\u0000\u0000\u0000m\u0001\u0000\u0000\u0000\u0000o"+
+		"\u0001\u0000\u0000\u0000\u0000q\u0001\u0000\u0000\u0000\u0000s\u0001\u0000"+
+		"\u0000\u0000\u0000u\u0001\u0000\u0000\u0000\u0000w\u0001\u0000\u0000\u0000"+
+		"\u0000y\u0001\u0000\u0000\u0000\u0001\u007f\u0001\u0000\u0000\u0000\u0003"+
+		"\u0081\u0001\u0000\u0000\u0000\u0005\u0083\u0001\u0000\u0000\u0000\u0007"+
+		"\u0085\u0001\u0000\u0000\u0000\t\u0087\u0001\u0000\u0000\u0000\u000b\u0089"+
+		"\u0001\u0000\u0000\u0000\r\u008b\u0001\u0000\u0000\u0000\u000f\u0092\u0001"+
+		"\u0000\u0000\u0000\u0011\u0099\u0001\u0000\u0000\u0000\u0013\u009f\u0001"+
+		"\u0000\u0000\u0000\u0015\u00a1\u0001\u0000\u0000\u0000\u0017\u00a3\u0001"+
+		"\u0000\u0000\u0000\u0019\u00a5\u0001\u0000\u0000\u0000\u001b\u00ba\u0001"+
+		"\u0000\u0000\u0000\u001d\u00cf\u0001\u0000\u0000\u0000\u001f\u00d1\u0001"+
+		"\u0000\u0000\u0000!\u00da\u0001\u0000\u0000\u0000#\u00ee\u0001\u0000\u0000"+
+		"\u0000%\u00fc\u0001\u0000\u0000\u0000\'\u00fe\u0001\u0000\u0000\u0000"+
+		")\u0101\u0001\u0000\u0000\u0000+\u010b\u0001\u0000\u0000\u0000-\u010f"+
+		"\u0001\u0000\u0000\u0000/\u0115\u0001\u0000\u0000\u00001\u011a\u0001\u0000"+
+		"\u0000\u00003\u0120\u0001\u0000\u0000\u00005\u0123\u0001\u0000\u0000\u0000"+
+		"7\u0128\u0001\u0000\u0000\u00009\u012e\u0001\u0000\u0000\u0000;\u0134"+
+		"\u0001\u0000\u0000\u0000=\u013d\u0001\u0000\u0000\u0000?\u0144\u0001\u0000"+
+		"\u0000\u0000A\u0148\u0001\u0000\u0000\u0000C\u014a\u0001\u0000\u0000\u0000"+
+		"E\u014c\u0001\u0000\u0000\u0000G\u014e\u0001\u0000\u0000\u0000I\u0150"+
+		"\u0001\u0000\u0000\u0000K\u0152\u0001\u0000\u0000\u0000M\u0154\u0001\u0000"+
+		"\u0000\u0000O\u0157\u0001\u0000\u0000\u0000Q\u015a\u0001\u0000\u0000\u0000"+
+		"S\u015d\u0001\u0000\u0000\u0000U\u0160\u0001\u0000\u0000\u0000W\u0162"+
+		"\u0001\u0000\u0000\u0000Y\u0164\u0001\u0000\u0000\u0000[\u0167\u0001\u0000"+
+		"\u0000\u0000]\u016a\u0001\u0000\u0000\u0000_\u016c\u0001\u0000\u0000\u0000"+
+		"a\u016f\u0001\u0000\u0000\u0000c\u0172\u0001\u0000\u0000\u0000e\u0174"+
+		"\u0001\u0000\u0000\u0000g\u0176\u0001\u0000\u0000\u0000i\u0178\u0001\u0000"+
+		"\u0000\u0000k\u017a\u0001\u0000\u0000\u0000m\u017c\u0001\u0000\u0000\u0000"+
+		"o\u017e\u0001\u0000\u0000\u0000q\u0180\u0001\u0000\u0000\u0000s\u0182"+
+		"\u0001\u0000\u0000\u0000u\u018a\u0001\u0000\u0000\u0000w\u0190\u0001\u0000"+
+		"\u0000\u0000y\u019b\u0001\u0000\u0000\u0000{|\u00050\u0000\u0000|\u0080"+
+		"\u0005x\u0000\u0000}~\u00050\u0000\u0000~\u0080\u0005X\u0000\u0000\u007f"+
+		"{\u0001\u0000\u0000\u0000\u007f}\u0001\u0000\u0000\u0000\u0080\u0002\u0001"+
+		"\u0000\u0000\u0000\u0081\u0082\u00050\u0000\u0000\u0082\u0004\u0001\u0000"+
+		"\u0000\u0000\u0083\u0084\u0007\u0000\u0000\u0000\u0084\u0006\u0001\u0000"+
+		"\u0000\u0000\u0085\u0086\u0007\u0001\u0000\u0000\u0086\b\u0001\u0000\u0000"+
+		"\u0000\u0087\u0088\u0007\u0002\u0000\u0000\u0088\n\u0001\u0000\u0000\u0000"+
+		"\u0089\u008a\u0007\u0003\u0000\u0000\u008a\f\u0001\u0000\u0000\u0000\u008b"+
+		"\u008f\u0003\u0005\u0002\u0000\u008c\u008e\u0003\u0007\u0003\u0000\u008d"+
+		"\u008c\u0001\u0000\u0000\u0000\u008e\u0091\u0001\u0000\u0000\u0000\u008f"+
+		"\u008d\u0001\u0000\u0000\u0000\u008f\u0090\u0001\u0000\u0000\u0000\u0090"+
+		"\u000e\u0001\u0000\u0000\u0000\u0091\u008f\u0001\u0000\u0000\u0000\u0092"+
+		"\u0096\u0003\u0003\u0001\u0000\u0093\u0095\u0003\u000b\u0005\u0000\u0094"+
+		"\u0093\u0001\u0000\u0000\u0000\u0095\u0098\u0001\u0000\u0000\u0000\u0096"+
+		"\u0094\u0001\u0000\u0000\u0000\u0096\u0097\u0001\u0000\u0000\u0000\u0097"+
+		"\u0010\u0001\u0000\u0000\u0000\u0098\u0096\u0001\u0000\u0000\u0000\u0099"+
+		"\u009b\u0003\u0001\u0000\u0000\u009a\u009c\u0003\t\u0004\u0000\u009b\u009a"+
+		"\u0001\u0000\u0000\u0000\u009c\u009d\u0001\u0000\u0000\u0000\u009d\u009b"+
+		"\u0001\u0000\u0000\u0000\u009d\u009e\u0001\u0000\u0000\u0000\u009e\u0012"+
+		"\u0001\u0000\u0000\u0000\u009f\u00a0\u0005.\u0000\u0000\u00a0\u0014\u0001"+
+		"\u0000\u0000\u0000\u00a1\u00a2\u0007\u0004\u0000\u0000\u00a2\u0016\u0001"+
+		"\u0000\u0000\u0000\u00a3\u00a4\u0007\u0005\u0000\u0000\u00a4\u0018\u0001"+
+		"\u0000\u0000\u0000\u00a5\u00a6\u0007\u0006\u0000\u0000\u00a6\u001a\u0001"+
+		"\u0000\u0000\u0000\u00a7\u00a9\u0003\u0007\u0003\u0000\u00a8\u00a7\u0001"+
+		"\u0000\u0000\u0000\u00a9\u00ac\u0001\u0000\u0000\u0000\u00aa\u00a8\u0001"+
+		"\u0000\u0000\u0000\u00aa\u00ab\u0001\u0000\u0000\u0000\u00ab\u00ad\u0001"+
+		"\u0000\u0000\u0000\u00ac\u00aa\u0001\u0000\u0000\u0000\u00ad\u00af\u0003"+
+		"\u0013\t\u0000\u00ae\u00b0\u0003\u0007\u0003\u0000\u00af\u00ae\u0001\u0000"+
+		"\u0000\u0000\u00b0\u00b1\u0001\u0000\u0000\u0000\u00b1\u00af\u0001\u0000"+
+		"\u0000\u0000\u00b1\u00b2\u0001\u0000\u0000\u0000\u00b2\u00bb\u0001\u0000"+
+		"\u0000\u0000\u00b3\u00b5\u0003\u0007\u0003\u0000\u00b4\u00b3\u0001\u0000"+
+		"\u0000\u0000\u00b5\u00b6\u0001\u0000\u0000\u0000\u00b6\u00b4\u0001\u0000"+
+		"\u0000\u0000\u00b6\u00b7\u0001\u0000\u0000\u0000\u00b7\u00b8\u0001\u0000"+
+		"\u0000\u0000\u00b8\u00b9\u0003\u0013\t\u0000\u00b9\u00bb\u0001\u0000\u0000"+
+		"\u0000\u00ba\u00aa\u0001\u0000\u0000\u0000\u00ba\u00b4\u0001\u0000\u0000"+
+		"\u0000\u00bb\u001c\u0001\u0000\u0000\u0000\u00bc\u00be\u0003\t\u0004\u0000"+
+		"\u00bd\u00bc\u0001\u0000\u0000\u0000\u00be\u00c1\u0001\u0000\u0000\u0000"+
+		"\u00bf\u00bd\u0001\u0000\u0000\u0000\u00bf\u00c0\u0001\u0000\u0000\u0000"+
+		"\u00c0\u00c2\u0001\u0000\u0000\u0000\u00c1\u00bf\u0001\u0000\u0000\u0000"+
+		"\u00c2\u00c4\u0003\u0013\t\u0000\u00c3\u00c5\u0003\t\u0004\u0000\u00c4"+
+		"\u00c3\u0001\u0000\u0000\u0000\u00c5\u00c6\u0001\u0000\u0000\u0000\u00c6"+
+		"\u00c4\u0001\u0000\u0000\u0000\u00c6\u00c7\u0001\u0000\u0000\u0000\u00c7"+
+		"\u00d0\u0001\u0000\u0000\u0000\u00c8\u00ca\u0003\t\u0004\u0000\u00c9\u00c8"+
+		"\u0001\u0000\u0000\u0000\u00ca\u00cb\u0001\u0000\u0000\u0000\u00cb\u00c9"+
+		"\u0001\u0000\u0000\u0000\u00cb\u00cc\u0001\u0000\u0000\u0000\u00cc\u00cd"+
+		"\u0001\u0000\u0000\u0000\u00cd\u00ce\u0003\u0013\t\u0000\u00ce\u00d0\u0001"+
+		"\u0000\u0000\u0000\u00cf\u00bf\u0001\u0000\u0000\u0000\u00cf\u00c9\u0001"+
+		"\u0000\u0000\u0000\u00d0\u001e\u0001\u0000\u0000\u0000\u00d1\u00d3\u0003"+
+		"\u0017\u000b\u0000\u00d2\u00d4\u0003\u0015\n\u0000\u00d3\u00d2\u0001\u0000"+
+		"\u0000\u0000\u00d3\u00d4\u0001\u0000\u0000\u0000\u00d4\u00d6\u0001\u0000"+
+		"\u0000\u0000\u00d5\u00d7\u0003\u0007\u0003\u0000\u00d6\u00d5\u0001\u0000"+
+		"\u0000\u0000\u00d7\u00d8\u0001\u0000\u0000\u0000\u00d8\u00d6\u0001\u0000"+
+		"\u0000\u0000\u00d8\u00d9\u0001\u0000\u0000\u0000\u00d9 \u0001\u0000\u0000"+
+		"\u0000\u00da\u00dc\u0003\u0019\f\u0000\u00db\u00dd\u0003\u0015\n\u0000"+
+		"\u00dc\u00db\u0001\u0000\u0000\u0000\u00dc\u00dd\u0001\u0000\u0000\u0000"+
+		"\u00dd\u00df\u0001\u0000\u0000\u0000\u00de\u00e0\u0003\u0007\u0003\u0000"+
+		"\u00df\u00de\u0001\u0000\u0000\u0000\u00e0\u00e1\u0001\u0000\u0000\u0000"+
+		"\u00e1\u00df\u0001\u0000\u0000\u0000\u00e1\u00e2\u0001\u0000\u0000\u0000"+
+		"\u00e2\"\u0001\u0000\u0000\u0000\u00e3\u00e5\u0003\u001b\r\u0000\u00e4"+
+		"\u00e6\u0003\u001f\u000f\u0000\u00e5\u00e4\u0001\u0000\u0000\u0000\u00e5"+
+		"\u00e6\u0001\u0000\u0000\u0000\u00e6\u00ef\u0001\u0000\u0000\u0000\u00e7"+
+		"\u00e9\u0003\u0007\u0003\u0000\u00e8\u00e7\u0001\u0000\u0000\u0000\u00e9"+
+		"\u00ea\u0001\u0000\u0000\u0000\u00ea\u00e8\u0001\u0000\u0000\u0000\u00ea"+
+		"\u00eb\u0001\u0000\u0000\u0000\u00eb\u00ec\u0001\u0000\u0000\u0000\u00ec"+
+		"\u00ed\u0003\u001f\u000f\u0000\u00ed\u00ef\u0001\u0000\u0000\u0000\u00ee"+
+		"\u00e3\u0001\u0000\u0000\u0000\u00ee\u00e8\u0001\u0000\u0000\u0000\u00ef"+
+		"$\u0001\u0000\u0000\u0000\u00f0\u00f1\u0003\u0001\u0000\u0000\u00f1\u00f2"+
+		"\u0003\u001d\u000e\u0000\u00f2\u00f3\u0003!\u0010\u0000\u00f3\u00fd\u0001"+
+		"\u0000\u0000\u0000\u00f4\u00f6\u0003\u0001\u0000\u0000\u00f5\u00f7\u0003"+
+		"\t\u0004\u0000\u00f6\u00f5\u0001\u0000\u0000\u0000\u00f7\u00f8\u0001\u0000"+
+		"\u0000\u0000\u00f8\u00f6\u0001\u0000\u0000\u0000\u00f8\u00f9\u0001\u0000"+
+		"\u0000\u0000\u00f9\u00fa\u0001\u0000\u0000\u0000\u00fa\u00fb\u0003!\u0010"+
+		"\u0000\u00fb\u00fd\u0001\u0000\u0000\u0000\u00fc\u00f0\u0001\u0000\u0000"+
+		"\u0000\u00fc\u00f4\u0001\u0000\u0000\u0000\u00fd&\u0001\u0000\u0000\u0000"+
+		"\u00fe\u00ff\u0005\\\u0000\u0000\u00ff\u0100\u0007\u0007\u0000\u0000\u0100"+
+		"(\u0001\u0000\u0000\u0000\u0101\u0106\u0005\"\u0000\u0000\u0102\u0105"+
+		"\b\b\u0000\u0000\u0103\u0105\u0003\'\u0013\u0000\u0104\u0102\u0001\u0000"+
+		"\u0000\u0000\u0104\u0103\u0001\u0000\u0000\u0000\u0105\u0108\u0001\u0000"+
+		"\u0000\u0000\u0106\u0104\u0001\u0000\u0000\u0000\u0106\u0107\u0001\u0000"+
+		"\u0000\u0000\u0107\u0109\u0001\u0000\u0000\u0000\u0108\u0106\u0001\u0000"+
+		"\u0000\u0000\u0109\u010a\u0005\"\u0000\u0000\u010a*\u0001\u0000\u0000"+
+		"\u0000\u010b\u010c\u0005i\u0000\u0000\u010c\u010d\u0005n\u0000\u0000\u010d"+
+		"\u010e\u0005t\u0000\u0000\u010e,\u0001\u0000\u0000\u0000\u010f\u0110\u0005"+
+		"f\u0000\u0000\u0110\u0111\u0005l\u0000\u0000\u0111\u0112\u0005o\u0000"+
+		"\u0000\u0112\u0113\u0005a\u0000\u0000\u0113\u0114\u0005t\u0000\u0000\u0114"+
+		".\u0001\u0000\u0000\u0000\u0115\u0116\u0005v\u0000\u0000\u0116\u0117\u0005"+
+		"o\u0000\u0000\u0117\u0118\u0005i\u0000\u0000\u0118\u0119\u0005d\u0000"+
+		"\u0000\u01190\u0001\u0000\u0000\u0000\u011a\u011b\u0005c\u0000\u0000\u011b"+
+		"\u011c\u0005o\u0000\u0000\u011c\u011d\u0005n\u0000\u0000\u011d\u011e\u0005"+
+		"s\u0000\u0000\u011e\u011f\u0005t\u0000\u0000\u011f2\u0001\u0000\u0000"+
+		"\u0000\u0120\u0121\u0005i\u0000\u0000\u0121\u0122\u0005f\u0000\u0000\u0122"+
+		"4\u0001\u0000\u0000\u0000\u0123\u0124\u0005e\u0000\u0000\u0124\u0125\u0005"+
+		"l\u0000\u0000\u0125\u0126\u0005s\u0000\u0000\u0126\u0127\u0005e\u0000"+
+		"\u0000\u01276\u0001\u0000\u0000\u0000\u0128\u0129\u0005w\u0000\u0000\u0129"+
+		"\u012a\u0005h\u0000\u0000\u012a\u012b\u0005i\u0000\u0000\u012b\u012c\u0005"+
+		"l\u0000\u0000\u012c\u012d\u0005e\u0000\u0000\u012d8\u0001\u0000\u0000"+
+		"\u0000\u012e\u012f\u0005b\u0000\u0000\u012f\u0130\u0005r\u0000\u0000\u0130"+
+		"\u0131\u0005e\u0000\u0000\u0131\u0132\u0005a\u0000\u0000\u0132\u0133\u0005"+
+		"k\u0000\u0000\u0133:\u0001\u0000\u0000\u0000\u0134\u0135\u0005c\u0000"+
+		"\u0000\u0135\u0136\u0005o\u0000\u0000\u0136\u0137\u0005n\u0000\u0000\u0137"+
+		"\u0138\u0005t\u0000\u0000\u0138\u0139\u0005i\u0000\u0000\u0139\u013a\u0005"+
+		"n\u0000\u0000\u013a\u013b\u0005u\u0000\u0000\u013b\u013c\u0005e\u0000"+
+		"\u0000\u013c<\u0001\u0000\u0000\u0000\u013d\u013e\u0005r\u0000\u0000\u013e"+
+		"\u013f\u0005e\u0000\u0000\u013f\u0140\u0005t\u0000\u0000\u0140\u0141\u0005"+
+		"u\u0000\u0000\u0141\u0142\u0005r\u0000\u0000\u0142\u0143\u0005n\u0000"+
+		"\u0000\u0143>\u0001\u0000\u0000\u0000\u0144\u0145\u0005f\u0000\u0000\u0145"+
+		"\u0146\u0005o\u0000\u0000\u0146\u0147\u0005r\u0000\u0000\u0147@\u0001"+
+		"\u0000\u0000\u0000\u0148\u0149\u0005=\u0000\u0000\u0149B\u0001\u0000\u0000"+
+		"\u0000\u014a\u014b\u0005+\u0000\u0000\u014bD\u0001\u0000\u0000\u0000\u014c"+
+		"\u014d\u0005-\u0000\u0000\u014dF\u0001\u0000\u0000\u0000\u014e\u014f\u0005"+
+		"*\u0000\u0000\u014fH\u0001\u0000\u0000\u0000\u0150\u0151\u0005/\u0000"+
+		"\u0000\u0151J\u0001\u0000\u0000\u0000\u0152\u0153\u0005%\u0000\u0000\u0153"+
+		"L\u0001\u0000\u0000\u0000\u0154\u0155\u0005+\u0000\u0000\u0155\u0156\u0005"+
+		"+\u0000\u0000\u0156N\u0001\u0000\u0000\u0000\u0157\u0158\u0005-\u0000"+
+		"\u0000\u0158\u0159\u0005-\u0000\u0000\u0159P\u0001\u0000\u0000\u0000\u015a"+
+		"\u015b\u0005=\u0000\u0000\u015b\u015c\u0005=\u0000\u0000\u015cR\u0001"+
+		"\u0000\u0000\u0000\u015d\u015e\u0005!\u0000\u0000\u015e\u015f\u0005=\u0000"+
+		"\u0000\u015fT\u0001\u0000\u0000\u0000\u0160\u0161\u0005<\u0000\u0000\u0161"+
+		"V\u0001\u0000\u0000\u0000\u0162\u0163\u0005>\u0000\u0000\u0163X\u0001"+
+		"\u0000\u0000\u0000\u0164\u0165\u0005<\u0000\u0000\u0165\u0166\u0005=\u0000"+
+		"\u0000\u0166Z\u0001\u0000\u0000\u0000\u0167\u0168\u0005>\u0000\u0000\u0168"+
+		"\u0169\u0005=\u0000\u0000\u0169\\\u0001\u0000\u0000\u0000\u016a\u016b"+
+		"\u0005!\u0000\u0000\u016b^\u0001\u0000\u0000\u0000\u016c\u016d\u0005&"+
+		"\u0000\u0000\u016d\u016e\u0005&\u0000\u0000\u016e`\u0001\u0000\u0000\u0000"+
+		"\u016f\u0170\u0005|\u0000\u0000\u0170\u0171\u0005|\u0000\u0000\u0171b"+
+		"\u0001\u0000\u0000\u0000\u0172\u0173\u0005,\u0000\u0000\u0173d\u0001\u0000"+
+		"\u0000\u0000\u0174\u0175\u0005;\u0000\u0000\u0175f\u0001\u0000\u0000\u0000"+
+		"\u0176\u0177\u0005(\u0000\u0000\u0177h\u0001\u0000\u0000\u0000\u0178\u0179"+
+		"\u0005)\u0000\u0000\u0179j\u0001\u0000\u0000\u0000\u017a\u017b\u0005["+
+		"\u0000\u0000\u017bl\u0001\u0000\u0000\u0000\u017c\u017d\u0005]\u0000\u0000"+
+		"\u017dn\u0001\u0000\u0000\u0000\u017e\u017f\u0005{\u0000\u0000\u017fp"+
+		"\u0001\u0000\u0000\u0000\u0180\u0181\u0005}\u0000\u0000\u0181r\u0001\u0000"+
+		"\u0000\u0000\u0182\u0186\u0007\t\u0000\u0000\u0183\u0185\u0007\n\u0000"+
+		"\u0000\u0184\u0183\u0001\u0000\u0000\u0000\u0185\u0188\u0001\u0000\u0000"+
+		"\u0000\u0186\u0184\u0001\u0000\u0000\u0000\u0186\u0187\u0001\u0000\u0000"+
+		"\u0000\u0187t\u0001\u0000\u0000\u0000\u0188\u0186\u0001\u0000\u0000\u0000"+
+		"\u0189\u018b\u0007\u000b\u0000\u0000\u018a\u0189\u0001\u0000\u0000\u0000"+
+		"\u018b\u018c\u0001\u0000\u0000\u0000\u018c\u018a\u0001\u0000\u0000\u0000"+
+		"\u018c\u018d\u0001\u0000\u0000\u0000\u018d\u018e\u0001\u0000\u0000\u0000"+
+		"\u018e\u018f\u0006:\u0000\u0000\u018fv\u0001\u0000\u0000\u0000\u0190\u0191"+
+		"\u0005/\u0000\u0000\u0191\u0192\u0005/\u0000\u0000\u0192\u0196\u0001\u0000"+
+		"\u0000\u0000\u0193\u0195\b\f\u0000\u0000\u0194\u0193\u0001\u0000\u0000"+
+		"\u0000\u0195\u0198\u0001\u0000\u0000\u0000\u0196\u0194\u0001\u0000\u0000"+
+		"\u0000\u0196\u0197\u0001\u0000\u0000\u0000\u0197\u0199\u0001\u0000\u0000"+
+		"\u0000\u0198\u0196\u0001\u0000\u0000\u0000\u0199\u019a\u0006;\u0000\u0000"+
+		"\u019ax\u0001\u0000\u0000\u0000\u019b\u019c\u0005/\u0000\u0000\u019c\u019d"+
+		"\u0005*\u0000\u0000\u019d\u01a1\u0001\u0000\u0000\u0000\u019e\u01a0\t"+
+		"\u0000\u0000\u0000\u019f\u019e\u0001\u0000\u0000\u0000\u01a0\u01a3\u0001"+
+		"\u0000\u0000\u0000\u01a1\u01a2\u0001\u0000\u0000\u0000\u01a1\u019f\u0001"+
+		"\u0000\u0000\u0000\u01a2\u01a4\u0001\u0000\u0000\u0000\u01a3\u01a1\u0001"+
+		"\u0000\u0000\u0000\u01a4\u01a5\u0005*\u0000\u0000\u01a5\u01a6\u0005/\u0000"+
+		"\u0000\u01a6\u01a7\u0001\u0000\u0000\u0000\u01a7\u01a8\u0006<\u0000\u0000"+
+		"\u01a8z\u0001\u0000\u0000\u0000\u001c\u0000\u007f\u008f\u0096\u009d\u00aa"+
+		"\u00b1\u00b6\u00ba\u00bf\u00c6\u00cb\u00cf\u00d3\u00d8\u00dc\u00e1\u00e5"+
+		"\u00ea\u00ee\u00f8\u00fc\u0104\u0106\u0186\u018c\u0196\u01a1\u0001\u0006"+
+		"\u0000\u0000";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,3685 @@
+// Generated from Sylang.g4 by ANTLR 4.13.1
+package icu.merky.jrabche.fe.parser;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue"})
+public class SylangParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.13.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		DecIntConst=1, OctIntConst=2, HexIntConst=3, DecFloatConst=4, HexFloatConst=5, 
+		StringConst=6, Int=7, Float=8, Void=9, Const=10, If=11, Else=12, While=13, 
+		Break=14, Continue=15, Return=16, For=17, Assign=18, Add=19, Sub=20, Mul=21, 
+		Div=22, Mod=23, DuoAdd=24, DuoSub=25, Eq=26, Neq=27, Lt=28, Gt=29, Leq=30, 
+		Geq=31, Not=32, And=33, Or=34, Comma=35, Semicolon=36, Lparen=37, Rparen=38, 
+		Lbracket=39, Rbracket=40, Lbrace=41, Rbrace=42, Ident=43, Whitespace=44, 
+		LineComment=45, BlockComment=46;
+	public static final int
+		RULE_compUnit = 0, RULE_compUnitItem = 1, RULE_decl = 2, RULE_constDecl = 3, 
+		RULE_bType = 4, RULE_constDef = 5, RULE_varDecl = 6, RULE_varDef = 7, 
+		RULE_initVal = 8, RULE_funcDef = 9, RULE_funcType = 10, RULE_funcFParams = 11, 
+		RULE_funcFParam = 12, RULE_block = 13, RULE_blockItem = 14, RULE_forInitClause = 15, 
+		RULE_forIterationExpr = 16, RULE_assignExp = 17, RULE_stmt = 18, RULE_exp = 19, 
+		RULE_cond = 20, RULE_lVal = 21, RULE_primaryExp = 22, RULE_intConst = 23, 
+		RULE_floatConst = 24, RULE_number = 25, RULE_postfixExp = 26, RULE_unaryExp = 27, 
+		RULE_stringConst = 28, RULE_funcRParam = 29, RULE_funcRParams = 30, RULE_mulExp = 31, 
+		RULE_addExp = 32, RULE_relExp = 33, RULE_eqExp = 34, RULE_lAndExp = 35, 
+		RULE_lOrExp = 36;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"compUnit", "compUnitItem", "decl", "constDecl", "bType", "constDef", 
+			"varDecl", "varDef", "initVal", "funcDef", "funcType", "funcFParams", 
+			"funcFParam", "block", "blockItem", "forInitClause", "forIterationExpr", 
+			"assignExp", "stmt", "exp", "cond", "lVal", "primaryExp", "intConst", 
+			"floatConst", "number", "postfixExp", "unaryExp", "stringConst", "funcRParam", 
+			"funcRParams", "mulExp", "addExp", "relExp", "eqExp", "lAndExp", "lOrExp"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, null, null, null, null, null, null, "'int'", "'float'", "'void'", 
+			"'const'", "'if'", "'else'", "'while'", "'break'", "'continue'", "'return'", 
+			"'for'", "'='", "'+'", "'-'", "'*'", "'/'", "'%'", "'++'", "'--'", "'=='", 
+			"'!='", "'<'", "'>'", "'<='", "'>='", "'!'", "'&&'", "'||'", "','", "';'", 
+			"'('", "')'", "'['", "']'", "'{'", "'}'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "DecIntConst", "OctIntConst", "HexIntConst", "DecFloatConst", "HexFloatConst", 
+			"StringConst", "Int", "Float", "Void", "Const", "If", "Else", "While", 
+			"Break", "Continue", "Return", "For", "Assign", "Add", "Sub", "Mul", 
+			"Div", "Mod", "DuoAdd", "DuoSub", "Eq", "Neq", "Lt", "Gt", "Leq", "Geq", 
+			"Not", "And", "Or", "Comma", "Semicolon", "Lparen", "Rparen", "Lbracket", 
+			"Rbracket", "Lbrace", "Rbrace", "Ident", "Whitespace", "LineComment", 
+			"BlockComment"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Sylang.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public SylangParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class CompUnitContext extends ParserRuleContext {
+		public TerminalNode EOF() { return getToken(SylangParser.EOF, 0); }
+		public List<CompUnitItemContext> compUnitItem() {
+			return getRuleContexts(CompUnitItemContext.class);
+		}
+		public CompUnitItemContext compUnitItem(int i) {
+			return getRuleContext(CompUnitItemContext.class,i);
+		}
+		public CompUnitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_compUnit; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitCompUnit(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CompUnitContext compUnit() throws RecognitionException {
+		CompUnitContext _localctx = new CompUnitContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_compUnit);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(77);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1920L) != 0)) {
+				{
+				{
+				setState(74);
+				compUnitItem();
+				}
+				}
+				setState(79);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(80);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class CompUnitItemContext extends ParserRuleContext {
+		public DeclContext decl() {
+			return getRuleContext(DeclContext.class,0);
+		}
+		public FuncDefContext funcDef() {
+			return getRuleContext(FuncDefContext.class,0);
+		}
+		public CompUnitItemContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_compUnitItem; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitCompUnitItem(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CompUnitItemContext compUnitItem() throws RecognitionException {
+		CompUnitItemContext _localctx = new CompUnitItemContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_compUnitItem);
+		try {
+			setState(84);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(82);
+				decl();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(83);
+				funcDef();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class DeclContext extends ParserRuleContext {
+		public TerminalNode Semicolon() { return getToken(SylangParser.Semicolon, 0); }
+		public ConstDeclContext constDecl() {
+			return getRuleContext(ConstDeclContext.class,0);
+		}
+		public VarDeclContext varDecl() {
+			return getRuleContext(VarDeclContext.class,0);
+		}
+		public DeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_decl; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitDecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DeclContext decl() throws RecognitionException {
+		DeclContext _localctx = new DeclContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_decl);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(88);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case Const:
+				{
+				setState(86);
+				constDecl();
+				}
+				break;
+			case Int:
+			case Float:
+				{
+				setState(87);
+				varDecl();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(90);
+			match(Semicolon);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ConstDeclContext extends ParserRuleContext {
+		public TerminalNode Const() { return getToken(SylangParser.Const, 0); }
+		public BTypeContext bType() {
+			return getRuleContext(BTypeContext.class,0);
+		}
+		public List<ConstDefContext> constDef() {
+			return getRuleContexts(ConstDefContext.class);
+		}
+		public ConstDefContext constDef(int i) {
+			return getRuleContext(ConstDefContext.class,i);
+		}
+		public List<TerminalNode> Comma() { return getTokens(SylangParser.Comma); }
+		public TerminalNode Comma(int i) {
+			return getToken(SylangParser.Comma, i);
+		}
+		public ConstDeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constDecl; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitConstDecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstDeclContext constDecl() throws RecognitionException {
+		ConstDeclContext _localctx = new ConstDeclContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_constDecl);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(92);
+			match(Const);
+			setState(93);
+			bType();
+			setState(94);
+			constDef();
+			setState(99);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==Comma) {
+				{
+				{
+				setState(95);
+				match(Comma);
+				setState(96);
+				constDef();
+				}
+				}
+				setState(101);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class BTypeContext extends ParserRuleContext {
+		public BTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bType; }
+	 
+		public BTypeContext() { }
+		public void copyFrom(BTypeContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class FloatContext extends BTypeContext {
+		public TerminalNode Float() { return getToken(SylangParser.Float, 0); }
+		public FloatContext(BTypeContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitFloat(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class IntContext extends BTypeContext {
+		public TerminalNode Int() { return getToken(SylangParser.Int, 0); }
+		public IntContext(BTypeContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitInt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BTypeContext bType() throws RecognitionException {
+		BTypeContext _localctx = new BTypeContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_bType);
+		try {
+			setState(104);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case Int:
+				_localctx = new IntContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(102);
+				match(Int);
+				}
+				break;
+			case Float:
+				_localctx = new FloatContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(103);
+				match(Float);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ConstDefContext extends ParserRuleContext {
+		public TerminalNode Ident() { return getToken(SylangParser.Ident, 0); }
+		public TerminalNode Assign() { return getToken(SylangParser.Assign, 0); }
+		public InitValContext initVal() {
+			return getRuleContext(InitValContext.class,0);
+		}
+		public List<TerminalNode> Lbracket() { return getTokens(SylangParser.Lbracket); }
+		public TerminalNode Lbracket(int i) {
+			return getToken(SylangParser.Lbracket, i);
+		}
+		public List<ExpContext> exp() {
+			return getRuleContexts(ExpContext.class);
+		}
+		public ExpContext exp(int i) {
+			return getRuleContext(ExpContext.class,i);
+		}
+		public List<TerminalNode> Rbracket() { return getTokens(SylangParser.Rbracket); }
+		public TerminalNode Rbracket(int i) {
+			return getToken(SylangParser.Rbracket, i);
+		}
+		public ConstDefContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_constDef; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitConstDef(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ConstDefContext constDef() throws RecognitionException {
+		ConstDefContext _localctx = new ConstDefContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_constDef);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(106);
+			match(Ident);
+			setState(113);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==Lbracket) {
+				{
+				{
+				setState(107);
+				match(Lbracket);
+				setState(108);
+				exp();
+				setState(109);
+				match(Rbracket);
+				}
+				}
+				setState(115);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(116);
+			match(Assign);
+			setState(117);
+			initVal();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class VarDeclContext extends ParserRuleContext {
+		public BTypeContext bType() {
+			return getRuleContext(BTypeContext.class,0);
+		}
+		public List<VarDefContext> varDef() {
+			return getRuleContexts(VarDefContext.class);
+		}
+		public VarDefContext varDef(int i) {
+			return getRuleContext(VarDefContext.class,i);
+		}
+		public List<TerminalNode> Comma() { return getTokens(SylangParser.Comma); }
+		public TerminalNode Comma(int i) {
+			return getToken(SylangParser.Comma, i);
+		}
+		public VarDeclContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_varDecl; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitVarDecl(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VarDeclContext varDecl() throws RecognitionException {
+		VarDeclContext _localctx = new VarDeclContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_varDecl);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(119);
+			bType();
+			setState(120);
+			varDef();
+			setState(125);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==Comma) {
+				{
+				{
+				setState(121);
+				match(Comma);
+				setState(122);
+				varDef();
+				}
+				}
+				setState(127);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class VarDefContext extends ParserRuleContext {
+		public TerminalNode Ident() { return getToken(SylangParser.Ident, 0); }
+		public List<TerminalNode> Lbracket() { return getTokens(SylangParser.Lbracket); }
+		public TerminalNode Lbracket(int i) {
+			return getToken(SylangParser.Lbracket, i);
+		}
+		public List<ExpContext> exp() {
+			return getRuleContexts(ExpContext.class);
+		}
+		public ExpContext exp(int i) {
+			return getRuleContext(ExpContext.class,i);
+		}
+		public List<TerminalNode> Rbracket() { return getTokens(SylangParser.Rbracket); }
+		public TerminalNode Rbracket(int i) {
+			return getToken(SylangParser.Rbracket, i);
+		}
+		public TerminalNode Assign() { return getToken(SylangParser.Assign, 0); }
+		public InitValContext initVal() {
+			return getRuleContext(InitValContext.class,0);
+		}
+		public VarDefContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_varDef; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitVarDef(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final VarDefContext varDef() throws RecognitionException {
+		VarDefContext _localctx = new VarDefContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_varDef);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(128);
+			match(Ident);
+			setState(135);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==Lbracket) {
+				{
+				{
+				setState(129);
+				match(Lbracket);
+				setState(130);
+				exp();
+				setState(131);
+				match(Rbracket);
+				}
+				}
+				setState(137);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(140);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==Assign) {
+				{
+				setState(138);
+				match(Assign);
+				setState(139);
+				initVal();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class InitValContext extends ParserRuleContext {
+		public InitValContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_initVal; }
+	 
+		public InitValContext() { }
+		public void copyFrom(InitValContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class InitListContext extends InitValContext {
+		public TerminalNode Lbrace() { return getToken(SylangParser.Lbrace, 0); }
+		public TerminalNode Rbrace() { return getToken(SylangParser.Rbrace, 0); }
+		public List<InitValContext> initVal() {
+			return getRuleContexts(InitValContext.class);
+		}
+		public InitValContext initVal(int i) {
+			return getRuleContext(InitValContext.class,i);
+		}
+		public List<TerminalNode> Comma() { return getTokens(SylangParser.Comma); }
+		public TerminalNode Comma(int i) {
+			return getToken(SylangParser.Comma, i);
+		}
+		public InitListContext(InitValContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitInitList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class InitExpContext extends InitValContext {
+		public ExpContext exp() {
+			return getRuleContext(ExpContext.class,0);
+		}
+		public InitExpContext(InitValContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitInitExp(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final InitValContext initVal() throws RecognitionException {
+		InitValContext _localctx = new InitValContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_initVal);
+		int _la;
+		try {
+			setState(155);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case DecIntConst:
+			case OctIntConst:
+			case HexIntConst:
+			case DecFloatConst:
+			case HexFloatConst:
+			case Add:
+			case Sub:
+			case DuoAdd:
+			case DuoSub:
+			case Not:
+			case Lparen:
+			case Ident:
+				_localctx = new InitExpContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(142);
+				exp();
+				}
+				break;
+			case Lbrace:
+				_localctx = new InitListContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(143);
+				match(Lbrace);
+				setState(152);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 11136902103102L) != 0)) {
+					{
+					setState(144);
+					initVal();
+					setState(149);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==Comma) {
+						{
+						{
+						setState(145);
+						match(Comma);
+						setState(146);
+						initVal();
+						}
+						}
+						setState(151);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+				}
+
+				setState(154);
+				match(Rbrace);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class FuncDefContext extends ParserRuleContext {
+		public FuncTypeContext funcType() {
+			return getRuleContext(FuncTypeContext.class,0);
+		}
+		public TerminalNode Ident() { return getToken(SylangParser.Ident, 0); }
+		public TerminalNode Lparen() { return getToken(SylangParser.Lparen, 0); }
+		public TerminalNode Rparen() { return getToken(SylangParser.Rparen, 0); }
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public FuncFParamsContext funcFParams() {
+			return getRuleContext(FuncFParamsContext.class,0);
+		}
+		public FuncDefContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_funcDef; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitFuncDef(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FuncDefContext funcDef() throws RecognitionException {
+		FuncDefContext _localctx = new FuncDefContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_funcDef);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(157);
+			funcType();
+			setState(158);
+			match(Ident);
+			setState(159);
+			match(Lparen);
+			setState(161);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==Int || _la==Float) {
+				{
+				setState(160);
+				funcFParams();
+				}
+			}
+
+			setState(163);
+			match(Rparen);
+			setState(164);
+			block();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class FuncTypeContext extends ParserRuleContext {
+		public BTypeContext bType() {
+			return getRuleContext(BTypeContext.class,0);
+		}
+		public TerminalNode Void() { return getToken(SylangParser.Void, 0); }
+		public FuncTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_funcType; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitFuncType(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FuncTypeContext funcType() throws RecognitionException {
+		FuncTypeContext _localctx = new FuncTypeContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_funcType);
+		try {
+			setState(168);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case Int:
+			case Float:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(166);
+				bType();
+				}
+				break;
+			case Void:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(167);
+				match(Void);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class FuncFParamsContext extends ParserRuleContext {
+		public List<FuncFParamContext> funcFParam() {
+			return getRuleContexts(FuncFParamContext.class);
+		}
+		public FuncFParamContext funcFParam(int i) {
+			return getRuleContext(FuncFParamContext.class,i);
+		}
+		public List<TerminalNode> Comma() { return getTokens(SylangParser.Comma); }
+		public TerminalNode Comma(int i) {
+			return getToken(SylangParser.Comma, i);
+		}
+		public FuncFParamsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_funcFParams; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitFuncFParams(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FuncFParamsContext funcFParams() throws RecognitionException {
+		FuncFParamsContext _localctx = new FuncFParamsContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_funcFParams);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(170);
+			funcFParam();
+			setState(175);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==Comma) {
+				{
+				{
+				setState(171);
+				match(Comma);
+				setState(172);
+				funcFParam();
+				}
+				}
+				setState(177);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class FuncFParamContext extends ParserRuleContext {
+		public FuncFParamContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_funcFParam; }
+	 
+		public FuncFParamContext() { }
+		public void copyFrom(FuncFParamContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ScalarParamContext extends FuncFParamContext {
+		public BTypeContext bType() {
+			return getRuleContext(BTypeContext.class,0);
+		}
+		public TerminalNode Ident() { return getToken(SylangParser.Ident, 0); }
+		public ScalarParamContext(FuncFParamContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitScalarParam(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ArrayParamContext extends FuncFParamContext {
+		public BTypeContext bType() {
+			return getRuleContext(BTypeContext.class,0);
+		}
+		public TerminalNode Ident() { return getToken(SylangParser.Ident, 0); }
+		public List<TerminalNode> Lbracket() { return getTokens(SylangParser.Lbracket); }
+		public TerminalNode Lbracket(int i) {
+			return getToken(SylangParser.Lbracket, i);
+		}
+		public List<TerminalNode> Rbracket() { return getTokens(SylangParser.Rbracket); }
+		public TerminalNode Rbracket(int i) {
+			return getToken(SylangParser.Rbracket, i);
+		}
+		public List<ExpContext> exp() {
+			return getRuleContexts(ExpContext.class);
+		}
+		public ExpContext exp(int i) {
+			return getRuleContext(ExpContext.class,i);
+		}
+		public ArrayParamContext(FuncFParamContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitArrayParam(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FuncFParamContext funcFParam() throws RecognitionException {
+		FuncFParamContext _localctx = new FuncFParamContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_funcFParam);
+		int _la;
+		try {
+			setState(194);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
+			case 1:
+				_localctx = new ScalarParamContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(178);
+				bType();
+				setState(179);
+				match(Ident);
+				}
+				break;
+			case 2:
+				_localctx = new ArrayParamContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(181);
+				bType();
+				setState(182);
+				match(Ident);
+				setState(183);
+				match(Lbracket);
+				setState(184);
+				match(Rbracket);
+				setState(191);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==Lbracket) {
+					{
+					{
+					setState(185);
+					match(Lbracket);
+					setState(186);
+					exp();
+					setState(187);
+					match(Rbracket);
+					}
+					}
+					setState(193);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class BlockContext extends ParserRuleContext {
+		public TerminalNode Lbrace() { return getToken(SylangParser.Lbrace, 0); }
+		public TerminalNode Rbrace() { return getToken(SylangParser.Rbrace, 0); }
+		public List<BlockItemContext> blockItem() {
+			return getRuleContexts(BlockItemContext.class);
+		}
+		public BlockItemContext blockItem(int i) {
+			return getRuleContext(BlockItemContext.class,i);
+		}
+		public BlockContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_block; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitBlock(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BlockContext block() throws RecognitionException {
+		BlockContext _localctx = new BlockContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_block);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(196);
+			match(Lbrace);
+			setState(200);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 11205621837246L) != 0)) {
+				{
+				{
+				setState(197);
+				blockItem();
+				}
+				}
+				setState(202);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(203);
+			match(Rbrace);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class BlockItemContext extends ParserRuleContext {
+		public DeclContext decl() {
+			return getRuleContext(DeclContext.class,0);
+		}
+		public StmtContext stmt() {
+			return getRuleContext(StmtContext.class,0);
+		}
+		public BlockItemContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_blockItem; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitBlockItem(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BlockItemContext blockItem() throws RecognitionException {
+		BlockItemContext _localctx = new BlockItemContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_blockItem);
+		try {
+			setState(207);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case Int:
+			case Float:
+			case Const:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(205);
+				decl();
+				}
+				break;
+			case DecIntConst:
+			case OctIntConst:
+			case HexIntConst:
+			case DecFloatConst:
+			case HexFloatConst:
+			case If:
+			case While:
+			case Break:
+			case Continue:
+			case Return:
+			case For:
+			case Add:
+			case Sub:
+			case DuoAdd:
+			case DuoSub:
+			case Not:
+			case Semicolon:
+			case Lparen:
+			case Lbrace:
+			case Ident:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(206);
+				stmt();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ForInitClauseContext extends ParserRuleContext {
+		public ExpContext exp() {
+			return getRuleContext(ExpContext.class,0);
+		}
+		public VarDeclContext varDecl() {
+			return getRuleContext(VarDeclContext.class,0);
+		}
+		public AssignExpContext assignExp() {
+			return getRuleContext(AssignExpContext.class,0);
+		}
+		public ForInitClauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_forInitClause; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitForInitClause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ForInitClauseContext forInitClause() throws RecognitionException {
+		ForInitClauseContext _localctx = new ForInitClauseContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_forInitClause);
+		try {
+			setState(212);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,19,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(209);
+				exp();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(210);
+				varDecl();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(211);
+				assignExp();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ForIterationExprContext extends ParserRuleContext {
+		public AssignExpContext assignExp() {
+			return getRuleContext(AssignExpContext.class,0);
+		}
+		public ExpContext exp() {
+			return getRuleContext(ExpContext.class,0);
+		}
+		public ForIterationExprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_forIterationExpr; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitForIterationExpr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ForIterationExprContext forIterationExpr() throws RecognitionException {
+		ForIterationExprContext _localctx = new ForIterationExprContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_forIterationExpr);
+		try {
+			setState(216);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(214);
+				assignExp();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(215);
+				exp();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class AssignExpContext extends ParserRuleContext {
+		public LValContext lVal() {
+			return getRuleContext(LValContext.class,0);
+		}
+		public TerminalNode Assign() { return getToken(SylangParser.Assign, 0); }
+		public ExpContext exp() {
+			return getRuleContext(ExpContext.class,0);
+		}
+		public AssignExpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_assignExp; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitAssignExp(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AssignExpContext assignExp() throws RecognitionException {
+		AssignExpContext _localctx = new AssignExpContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_assignExp);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(218);
+			lVal();
+			setState(219);
+			match(Assign);
+			setState(220);
+			exp();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StmtContext extends ParserRuleContext {
+		public StmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_stmt; }
+	 
+		public StmtContext() { }
+		public void copyFrom(StmtContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExprStmtContext extends StmtContext {
+		public TerminalNode Semicolon() { return getToken(SylangParser.Semicolon, 0); }
+		public ExpContext exp() {
+			return getRuleContext(ExpContext.class,0);
+		}
+		public ExprStmtContext(StmtContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitExprStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class BlockStmtContext extends StmtContext {
+		public BlockContext block() {
+			return getRuleContext(BlockContext.class,0);
+		}
+		public BlockStmtContext(StmtContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitBlockStmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class BreakContext extends StmtContext {
+		public TerminalNode Break() { return getToken(SylangParser.Break, 0); }
+		public TerminalNode Semicolon() { return getToken(SylangParser.Semicolon, 0); }
+		public BreakContext(StmtContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitBreak(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ContinueContext extends StmtContext {
+		public TerminalNode Continue() { return getToken(SylangParser.Continue, 0); }
+		public TerminalNode Semicolon() { return getToken(SylangParser.Semicolon, 0); }
+		public ContinueContext(StmtContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitContinue(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ForContext extends StmtContext {
+		public TerminalNode For() { return getToken(SylangParser.For, 0); }
+		public TerminalNode Lparen() { return getToken(SylangParser.Lparen, 0); }
+		public List<TerminalNode> Semicolon() { return getTokens(SylangParser.Semicolon); }
+		public TerminalNode Semicolon(int i) {
+			return getToken(SylangParser.Semicolon, i);
+		}
+		public TerminalNode Rparen() { return getToken(SylangParser.Rparen, 0); }
+		public StmtContext stmt() {
+			return getRuleContext(StmtContext.class,0);
+		}
+		public ForInitClauseContext forInitClause() {
+			return getRuleContext(ForInitClauseContext.class,0);
+		}
+		public CondContext cond() {
+			return getRuleContext(CondContext.class,0);
+		}
+		public ForIterationExprContext forIterationExpr() {
+			return getRuleContext(ForIterationExprContext.class,0);
+		}
+		public ForContext(StmtContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitFor(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class WhileContext extends StmtContext {
+		public TerminalNode While() { return getToken(SylangParser.While, 0); }
+		public TerminalNode Lparen() { return getToken(SylangParser.Lparen, 0); }
+		public CondContext cond() {
+			return getRuleContext(CondContext.class,0);
+		}
+		public TerminalNode Rparen() { return getToken(SylangParser.Rparen, 0); }
+		public StmtContext stmt() {
+			return getRuleContext(StmtContext.class,0);
+		}
+		public WhileContext(StmtContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitWhile(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class IfElseContext extends StmtContext {
+		public TerminalNode If() { return getToken(SylangParser.If, 0); }
+		public TerminalNode Lparen() { return getToken(SylangParser.Lparen, 0); }
+		public CondContext cond() {
+			return getRuleContext(CondContext.class,0);
+		}
+		public TerminalNode Rparen() { return getToken(SylangParser.Rparen, 0); }
+		public List<StmtContext> stmt() {
+			return getRuleContexts(StmtContext.class);
+		}
+		public StmtContext stmt(int i) {
+			return getRuleContext(StmtContext.class,i);
+		}
+		public TerminalNode Else() { return getToken(SylangParser.Else, 0); }
+		public IfElseContext(StmtContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitIfElse(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ReturnContext extends StmtContext {
+		public TerminalNode Return() { return getToken(SylangParser.Return, 0); }
+		public TerminalNode Semicolon() { return getToken(SylangParser.Semicolon, 0); }
+		public ExpContext exp() {
+			return getRuleContext(ExpContext.class,0);
+		}
+		public ReturnContext(StmtContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitReturn(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class AssignContext extends StmtContext {
+		public AssignExpContext assignExp() {
+			return getRuleContext(AssignExpContext.class,0);
+		}
+		public TerminalNode Semicolon() { return getToken(SylangParser.Semicolon, 0); }
+		public AssignContext(StmtContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitAssign(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StmtContext stmt() throws RecognitionException {
+		StmtContext _localctx = new StmtContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_stmt);
+		int _la;
+		try {
+			setState(269);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,27,_ctx) ) {
+			case 1:
+				_localctx = new AssignContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(222);
+				assignExp();
+				setState(223);
+				match(Semicolon);
+				}
+				break;
+			case 2:
+				_localctx = new ExprStmtContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(226);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 8937878847550L) != 0)) {
+					{
+					setState(225);
+					exp();
+					}
+				}
+
+				setState(228);
+				match(Semicolon);
+				}
+				break;
+			case 3:
+				_localctx = new BlockStmtContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(229);
+				block();
+				}
+				break;
+			case 4:
+				_localctx = new IfElseContext(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(230);
+				match(If);
+				setState(231);
+				match(Lparen);
+				setState(232);
+				cond();
+				setState(233);
+				match(Rparen);
+				setState(234);
+				stmt();
+				setState(237);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
+				case 1:
+					{
+					setState(235);
+					match(Else);
+					setState(236);
+					stmt();
+					}
+					break;
+				}
+				}
+				break;
+			case 5:
+				_localctx = new WhileContext(_localctx);
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(239);
+				match(While);
+				setState(240);
+				match(Lparen);
+				setState(241);
+				cond();
+				setState(242);
+				match(Rparen);
+				setState(243);
+				stmt();
+				}
+				break;
+			case 6:
+				_localctx = new ForContext(_localctx);
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(245);
+				match(For);
+				setState(246);
+				match(Lparen);
+				setState(248);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 8937878847934L) != 0)) {
+					{
+					setState(247);
+					forInitClause();
+					}
+				}
+
+				setState(250);
+				match(Semicolon);
+				setState(252);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 8937878847550L) != 0)) {
+					{
+					setState(251);
+					cond();
+					}
+				}
+
+				setState(254);
+				match(Semicolon);
+				setState(256);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 8937878847550L) != 0)) {
+					{
+					setState(255);
+					forIterationExpr();
+					}
+				}
+
+				setState(258);
+				match(Rparen);
+				setState(259);
+				stmt();
+				}
+				break;
+			case 7:
+				_localctx = new BreakContext(_localctx);
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(260);
+				match(Break);
+				setState(261);
+				match(Semicolon);
+				}
+				break;
+			case 8:
+				_localctx = new ContinueContext(_localctx);
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(262);
+				match(Continue);
+				setState(263);
+				match(Semicolon);
+				}
+				break;
+			case 9:
+				_localctx = new ReturnContext(_localctx);
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(264);
+				match(Return);
+				setState(266);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 8937878847550L) != 0)) {
+					{
+					setState(265);
+					exp();
+					}
+				}
+
+				setState(268);
+				match(Semicolon);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpContext extends ParserRuleContext {
+		public AddExpContext addExp() {
+			return getRuleContext(AddExpContext.class,0);
+		}
+		public ExpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_exp; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitExp(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ExpContext exp() throws RecognitionException {
+		ExpContext _localctx = new ExpContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_exp);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(271);
+			addExp(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class CondContext extends ParserRuleContext {
+		public LOrExpContext lOrExp() {
+			return getRuleContext(LOrExpContext.class,0);
+		}
+		public CondContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_cond; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitCond(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final CondContext cond() throws RecognitionException {
+		CondContext _localctx = new CondContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_cond);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(273);
+			lOrExp(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class LValContext extends ParserRuleContext {
+		public TerminalNode Ident() { return getToken(SylangParser.Ident, 0); }
+		public List<TerminalNode> Lbracket() { return getTokens(SylangParser.Lbracket); }
+		public TerminalNode Lbracket(int i) {
+			return getToken(SylangParser.Lbracket, i);
+		}
+		public List<ExpContext> exp() {
+			return getRuleContexts(ExpContext.class);
+		}
+		public ExpContext exp(int i) {
+			return getRuleContext(ExpContext.class,i);
+		}
+		public List<TerminalNode> Rbracket() { return getTokens(SylangParser.Rbracket); }
+		public TerminalNode Rbracket(int i) {
+			return getToken(SylangParser.Rbracket, i);
+		}
+		public LValContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_lVal; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitLVal(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LValContext lVal() throws RecognitionException {
+		LValContext _localctx = new LValContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_lVal);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(275);
+			match(Ident);
+			setState(282);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,28,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(276);
+					match(Lbracket);
+					setState(277);
+					exp();
+					setState(278);
+					match(Rbracket);
+					}
+					} 
+				}
+				setState(284);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,28,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class PrimaryExpContext extends ParserRuleContext {
+		public PrimaryExpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_primaryExp; }
+	 
+		public PrimaryExpContext() { }
+		public void copyFrom(PrimaryExpContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class PrimaryExp_numberContext extends PrimaryExpContext {
+		public NumberContext number() {
+			return getRuleContext(NumberContext.class,0);
+		}
+		public PrimaryExp_numberContext(PrimaryExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitPrimaryExp_number(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class LValExprContext extends PrimaryExpContext {
+		public LValContext lVal() {
+			return getRuleContext(LValContext.class,0);
+		}
+		public LValExprContext(PrimaryExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitLValExpr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class PrimaryExp_expContext extends PrimaryExpContext {
+		public TerminalNode Lparen() { return getToken(SylangParser.Lparen, 0); }
+		public ExpContext exp() {
+			return getRuleContext(ExpContext.class,0);
+		}
+		public TerminalNode Rparen() { return getToken(SylangParser.Rparen, 0); }
+		public PrimaryExp_expContext(PrimaryExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitPrimaryExp_exp(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PrimaryExpContext primaryExp() throws RecognitionException {
+		PrimaryExpContext _localctx = new PrimaryExpContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_primaryExp);
+		try {
+			setState(291);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case Lparen:
+				_localctx = new PrimaryExp_expContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(285);
+				match(Lparen);
+				setState(286);
+				exp();
+				setState(287);
+				match(Rparen);
+				}
+				break;
+			case Ident:
+				_localctx = new LValExprContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(289);
+				lVal();
+				}
+				break;
+			case DecIntConst:
+			case OctIntConst:
+			case HexIntConst:
+			case DecFloatConst:
+			case HexFloatConst:
+				_localctx = new PrimaryExp_numberContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(290);
+				number();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class IntConstContext extends ParserRuleContext {
+		public IntConstContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_intConst; }
+	 
+		public IntConstContext() { }
+		public void copyFrom(IntConstContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class HexIntConstContext extends IntConstContext {
+		public TerminalNode HexIntConst() { return getToken(SylangParser.HexIntConst, 0); }
+		public HexIntConstContext(IntConstContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitHexIntConst(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class DecIntConstContext extends IntConstContext {
+		public TerminalNode DecIntConst() { return getToken(SylangParser.DecIntConst, 0); }
+		public DecIntConstContext(IntConstContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitDecIntConst(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class OctIntConstContext extends IntConstContext {
+		public TerminalNode OctIntConst() { return getToken(SylangParser.OctIntConst, 0); }
+		public OctIntConstContext(IntConstContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitOctIntConst(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final IntConstContext intConst() throws RecognitionException {
+		IntConstContext _localctx = new IntConstContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_intConst);
+		try {
+			setState(296);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case DecIntConst:
+				_localctx = new DecIntConstContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(293);
+				match(DecIntConst);
+				}
+				break;
+			case OctIntConst:
+				_localctx = new OctIntConstContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(294);
+				match(OctIntConst);
+				}
+				break;
+			case HexIntConst:
+				_localctx = new HexIntConstContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(295);
+				match(HexIntConst);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class FloatConstContext extends ParserRuleContext {
+		public FloatConstContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_floatConst; }
+	 
+		public FloatConstContext() { }
+		public void copyFrom(FloatConstContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class DecFloatConstContext extends FloatConstContext {
+		public TerminalNode DecFloatConst() { return getToken(SylangParser.DecFloatConst, 0); }
+		public DecFloatConstContext(FloatConstContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitDecFloatConst(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class HexFloatConstContext extends FloatConstContext {
+		public TerminalNode HexFloatConst() { return getToken(SylangParser.HexFloatConst, 0); }
+		public HexFloatConstContext(FloatConstContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitHexFloatConst(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FloatConstContext floatConst() throws RecognitionException {
+		FloatConstContext _localctx = new FloatConstContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_floatConst);
+		try {
+			setState(300);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case DecFloatConst:
+				_localctx = new DecFloatConstContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(298);
+				match(DecFloatConst);
+				}
+				break;
+			case HexFloatConst:
+				_localctx = new HexFloatConstContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(299);
+				match(HexFloatConst);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class NumberContext extends ParserRuleContext {
+		public IntConstContext intConst() {
+			return getRuleContext(IntConstContext.class,0);
+		}
+		public FloatConstContext floatConst() {
+			return getRuleContext(FloatConstContext.class,0);
+		}
+		public NumberContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_number; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitNumber(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final NumberContext number() throws RecognitionException {
+		NumberContext _localctx = new NumberContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_number);
+		try {
+			setState(304);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case DecIntConst:
+			case OctIntConst:
+			case HexIntConst:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(302);
+				intConst();
+				}
+				break;
+			case DecFloatConst:
+			case HexFloatConst:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(303);
+				floatConst();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class PostfixExpContext extends ParserRuleContext {
+		public PostfixExpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_postfixExp; }
+	 
+		public PostfixExpContext() { }
+		public void copyFrom(PostfixExpContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class PostfixExp_primaryContext extends PostfixExpContext {
+		public PrimaryExpContext primaryExp() {
+			return getRuleContext(PrimaryExpContext.class,0);
+		}
+		public PostfixExp_primaryContext(PostfixExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitPostfixExp_primary(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class DuoPostfixContext extends PostfixExpContext {
+		public PrimaryExpContext primaryExp() {
+			return getRuleContext(PrimaryExpContext.class,0);
+		}
+		public TerminalNode DuoAdd() { return getToken(SylangParser.DuoAdd, 0); }
+		public TerminalNode DuoSub() { return getToken(SylangParser.DuoSub, 0); }
+		public DuoPostfixContext(PostfixExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitDuoPostfix(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final PostfixExpContext postfixExp() throws RecognitionException {
+		PostfixExpContext _localctx = new PostfixExpContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_postfixExp);
+		int _la;
+		try {
+			setState(310);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
+			case 1:
+				_localctx = new PostfixExp_primaryContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(306);
+				primaryExp();
+				}
+				break;
+			case 2:
+				_localctx = new DuoPostfixContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(307);
+				primaryExp();
+				setState(308);
+				_la = _input.LA(1);
+				if ( !(_la==DuoAdd || _la==DuoSub) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class UnaryExpContext extends ParserRuleContext {
+		public UnaryExpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unaryExp; }
+	 
+		public UnaryExpContext() { }
+		public void copyFrom(UnaryExpContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class CallContext extends UnaryExpContext {
+		public TerminalNode Ident() { return getToken(SylangParser.Ident, 0); }
+		public TerminalNode Lparen() { return getToken(SylangParser.Lparen, 0); }
+		public TerminalNode Rparen() { return getToken(SylangParser.Rparen, 0); }
+		public FuncRParamsContext funcRParams() {
+			return getRuleContext(FuncRParamsContext.class,0);
+		}
+		public CallContext(UnaryExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitCall(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class DuoPrefixContext extends UnaryExpContext {
+		public PostfixExpContext postfixExp() {
+			return getRuleContext(PostfixExpContext.class,0);
+		}
+		public TerminalNode DuoAdd() { return getToken(SylangParser.DuoAdd, 0); }
+		public TerminalNode DuoSub() { return getToken(SylangParser.DuoSub, 0); }
+		public DuoPrefixContext(UnaryExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitDuoPrefix(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class Unary_Context extends UnaryExpContext {
+		public UnaryExpContext unaryExp() {
+			return getRuleContext(UnaryExpContext.class,0);
+		}
+		public TerminalNode Add() { return getToken(SylangParser.Add, 0); }
+		public TerminalNode Sub() { return getToken(SylangParser.Sub, 0); }
+		public TerminalNode Not() { return getToken(SylangParser.Not, 0); }
+		public Unary_Context(UnaryExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitUnary_(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class UnaryExp_postfixContext extends UnaryExpContext {
+		public PostfixExpContext postfixExp() {
+			return getRuleContext(PostfixExpContext.class,0);
+		}
+		public UnaryExp_postfixContext(UnaryExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitUnaryExp_postfix(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final UnaryExpContext unaryExp() throws RecognitionException {
+		UnaryExpContext _localctx = new UnaryExpContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_unaryExp);
+		int _la;
+		try {
+			setState(323);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
+			case 1:
+				_localctx = new UnaryExp_postfixContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(312);
+				postfixExp();
+				}
+				break;
+			case 2:
+				_localctx = new DuoPrefixContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(313);
+				_la = _input.LA(1);
+				if ( !(_la==DuoAdd || _la==DuoSub) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(314);
+				postfixExp();
+				}
+				break;
+			case 3:
+				_localctx = new CallContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(315);
+				match(Ident);
+				setState(316);
+				match(Lparen);
+				setState(318);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 8937878847614L) != 0)) {
+					{
+					setState(317);
+					funcRParams();
+					}
+				}
+
+				setState(320);
+				match(Rparen);
+				}
+				break;
+			case 4:
+				_localctx = new Unary_Context(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(321);
+				_la = _input.LA(1);
+				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 4296540160L) != 0)) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(322);
+				unaryExp();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StringConstContext extends ParserRuleContext {
+		public TerminalNode StringConst() { return getToken(SylangParser.StringConst, 0); }
+		public StringConstContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_stringConst; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitStringConst(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final StringConstContext stringConst() throws RecognitionException {
+		StringConstContext _localctx = new StringConstContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_stringConst);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(325);
+			match(StringConst);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class FuncRParamContext extends ParserRuleContext {
+		public ExpContext exp() {
+			return getRuleContext(ExpContext.class,0);
+		}
+		public StringConstContext stringConst() {
+			return getRuleContext(StringConstContext.class,0);
+		}
+		public FuncRParamContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_funcRParam; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitFuncRParam(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FuncRParamContext funcRParam() throws RecognitionException {
+		FuncRParamContext _localctx = new FuncRParamContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_funcRParam);
+		try {
+			setState(329);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case DecIntConst:
+			case OctIntConst:
+			case HexIntConst:
+			case DecFloatConst:
+			case HexFloatConst:
+			case Add:
+			case Sub:
+			case DuoAdd:
+			case DuoSub:
+			case Not:
+			case Lparen:
+			case Ident:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(327);
+				exp();
+				}
+				break;
+			case StringConst:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(328);
+				stringConst();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class FuncRParamsContext extends ParserRuleContext {
+		public List<FuncRParamContext> funcRParam() {
+			return getRuleContexts(FuncRParamContext.class);
+		}
+		public FuncRParamContext funcRParam(int i) {
+			return getRuleContext(FuncRParamContext.class,i);
+		}
+		public List<TerminalNode> Comma() { return getTokens(SylangParser.Comma); }
+		public TerminalNode Comma(int i) {
+			return getToken(SylangParser.Comma, i);
+		}
+		public FuncRParamsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_funcRParams; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitFuncRParams(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final FuncRParamsContext funcRParams() throws RecognitionException {
+		FuncRParamsContext _localctx = new FuncRParamsContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_funcRParams);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(331);
+			funcRParam();
+			setState(336);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==Comma) {
+				{
+				{
+				setState(332);
+				match(Comma);
+				setState(333);
+				funcRParam();
+				}
+				}
+				setState(338);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class MulExpContext extends ParserRuleContext {
+		public MulExpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_mulExp; }
+	 
+		public MulExpContext() { }
+		public void copyFrom(MulExpContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class MulExp_unaryContext extends MulExpContext {
+		public UnaryExpContext unaryExp() {
+			return getRuleContext(UnaryExpContext.class,0);
+		}
+		public MulExp_unaryContext(MulExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitMulExp_unary(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class Mul_Context extends MulExpContext {
+		public MulExpContext mulExp() {
+			return getRuleContext(MulExpContext.class,0);
+		}
+		public TerminalNode Mul() { return getToken(SylangParser.Mul, 0); }
+		public UnaryExpContext unaryExp() {
+			return getRuleContext(UnaryExpContext.class,0);
+		}
+		public TerminalNode Div() { return getToken(SylangParser.Div, 0); }
+		public TerminalNode Mod() { return getToken(SylangParser.Mod, 0); }
+		public Mul_Context(MulExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitMul_(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final MulExpContext mulExp() throws RecognitionException {
+		return mulExp(0);
+	}
+
+	private MulExpContext mulExp(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		MulExpContext _localctx = new MulExpContext(_ctx, _parentState);
+		MulExpContext _prevctx = _localctx;
+		int _startState = 62;
+		enterRecursionRule(_localctx, 62, RULE_mulExp, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			_localctx = new MulExp_unaryContext(_localctx);
+			_ctx = _localctx;
+			_prevctx = _localctx;
+
+			setState(340);
+			unaryExp();
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(353);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,39,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(351);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,38,_ctx) ) {
+					case 1:
+						{
+						_localctx = new Mul_Context(new MulExpContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_mulExp);
+						setState(342);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(343);
+						match(Mul);
+						setState(344);
+						unaryExp();
+						}
+						break;
+					case 2:
+						{
+						_localctx = new Mul_Context(new MulExpContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_mulExp);
+						setState(345);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(346);
+						match(Div);
+						setState(347);
+						unaryExp();
+						}
+						break;
+					case 3:
+						{
+						_localctx = new Mul_Context(new MulExpContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_mulExp);
+						setState(348);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(349);
+						match(Mod);
+						setState(350);
+						unaryExp();
+						}
+						break;
+					}
+					} 
+				}
+				setState(355);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,39,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class AddExpContext extends ParserRuleContext {
+		public AddExpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_addExp; }
+	 
+		public AddExpContext() { }
+		public void copyFrom(AddExpContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class Add_Context extends AddExpContext {
+		public AddExpContext addExp() {
+			return getRuleContext(AddExpContext.class,0);
+		}
+		public TerminalNode Add() { return getToken(SylangParser.Add, 0); }
+		public MulExpContext mulExp() {
+			return getRuleContext(MulExpContext.class,0);
+		}
+		public TerminalNode Sub() { return getToken(SylangParser.Sub, 0); }
+		public Add_Context(AddExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitAdd_(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class AddExp_mulContext extends AddExpContext {
+		public MulExpContext mulExp() {
+			return getRuleContext(MulExpContext.class,0);
+		}
+		public AddExp_mulContext(AddExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitAddExp_mul(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AddExpContext addExp() throws RecognitionException {
+		return addExp(0);
+	}
+
+	private AddExpContext addExp(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		AddExpContext _localctx = new AddExpContext(_ctx, _parentState);
+		AddExpContext _prevctx = _localctx;
+		int _startState = 64;
+		enterRecursionRule(_localctx, 64, RULE_addExp, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			_localctx = new AddExp_mulContext(_localctx);
+			_ctx = _localctx;
+			_prevctx = _localctx;
+
+			setState(357);
+			mulExp(0);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(367);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(365);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
+					case 1:
+						{
+						_localctx = new Add_Context(new AddExpContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_addExp);
+						setState(359);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(360);
+						match(Add);
+						setState(361);
+						mulExp(0);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new Add_Context(new AddExpContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_addExp);
+						setState(362);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(363);
+						match(Sub);
+						setState(364);
+						mulExp(0);
+						}
+						break;
+					}
+					} 
+				}
+				setState(369);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class RelExpContext extends ParserRuleContext {
+		public RelExpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_relExp; }
+	 
+		public RelExpContext() { }
+		public void copyFrom(RelExpContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class RelExp_Context extends RelExpContext {
+		public RelExpContext relExp() {
+			return getRuleContext(RelExpContext.class,0);
+		}
+		public TerminalNode Lt() { return getToken(SylangParser.Lt, 0); }
+		public AddExpContext addExp() {
+			return getRuleContext(AddExpContext.class,0);
+		}
+		public TerminalNode Gt() { return getToken(SylangParser.Gt, 0); }
+		public TerminalNode Leq() { return getToken(SylangParser.Leq, 0); }
+		public TerminalNode Geq() { return getToken(SylangParser.Geq, 0); }
+		public RelExp_Context(RelExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitRelExp_(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class RelExp_addContext extends RelExpContext {
+		public AddExpContext addExp() {
+			return getRuleContext(AddExpContext.class,0);
+		}
+		public RelExp_addContext(RelExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitRelExp_add(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final RelExpContext relExp() throws RecognitionException {
+		return relExp(0);
+	}
+
+	private RelExpContext relExp(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		RelExpContext _localctx = new RelExpContext(_ctx, _parentState);
+		RelExpContext _prevctx = _localctx;
+		int _startState = 66;
+		enterRecursionRule(_localctx, 66, RULE_relExp, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			_localctx = new RelExp_addContext(_localctx);
+			_ctx = _localctx;
+			_prevctx = _localctx;
+
+			setState(371);
+			addExp(0);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(387);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(385);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
+					case 1:
+						{
+						_localctx = new RelExp_Context(new RelExpContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_relExp);
+						setState(373);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(374);
+						match(Lt);
+						setState(375);
+						addExp(0);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new RelExp_Context(new RelExpContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_relExp);
+						setState(376);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(377);
+						match(Gt);
+						setState(378);
+						addExp(0);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new RelExp_Context(new RelExpContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_relExp);
+						setState(379);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(380);
+						match(Leq);
+						setState(381);
+						addExp(0);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new RelExp_Context(new RelExpContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_relExp);
+						setState(382);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(383);
+						match(Geq);
+						setState(384);
+						addExp(0);
+						}
+						break;
+					}
+					} 
+				}
+				setState(389);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class EqExpContext extends ParserRuleContext {
+		public EqExpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_eqExp; }
+	 
+		public EqExpContext() { }
+		public void copyFrom(EqExpContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class EqExp_relContext extends EqExpContext {
+		public RelExpContext relExp() {
+			return getRuleContext(RelExpContext.class,0);
+		}
+		public EqExp_relContext(EqExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitEqExp_rel(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class NeqContext extends EqExpContext {
+		public EqExpContext eqExp() {
+			return getRuleContext(EqExpContext.class,0);
+		}
+		public TerminalNode Neq() { return getToken(SylangParser.Neq, 0); }
+		public RelExpContext relExp() {
+			return getRuleContext(RelExpContext.class,0);
+		}
+		public NeqContext(EqExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitNeq(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class EqContext extends EqExpContext {
+		public EqExpContext eqExp() {
+			return getRuleContext(EqExpContext.class,0);
+		}
+		public TerminalNode Eq() { return getToken(SylangParser.Eq, 0); }
+		public RelExpContext relExp() {
+			return getRuleContext(RelExpContext.class,0);
+		}
+		public EqContext(EqExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitEq(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final EqExpContext eqExp() throws RecognitionException {
+		return eqExp(0);
+	}
+
+	private EqExpContext eqExp(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		EqExpContext _localctx = new EqExpContext(_ctx, _parentState);
+		EqExpContext _prevctx = _localctx;
+		int _startState = 68;
+		enterRecursionRule(_localctx, 68, RULE_eqExp, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			_localctx = new EqExp_relContext(_localctx);
+			_ctx = _localctx;
+			_prevctx = _localctx;
+
+			setState(391);
+			relExp(0);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(401);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,45,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(399);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
+					case 1:
+						{
+						_localctx = new EqContext(new EqExpContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_eqExp);
+						setState(393);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(394);
+						match(Eq);
+						setState(395);
+						relExp(0);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new NeqContext(new EqExpContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_eqExp);
+						setState(396);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(397);
+						match(Neq);
+						setState(398);
+						relExp(0);
+						}
+						break;
+					}
+					} 
+				}
+				setState(403);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,45,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class LAndExpContext extends ParserRuleContext {
+		public LAndExpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_lAndExp; }
+	 
+		public LAndExpContext() { }
+		public void copyFrom(LAndExpContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class LAndExp_eqContext extends LAndExpContext {
+		public EqExpContext eqExp() {
+			return getRuleContext(EqExpContext.class,0);
+		}
+		public LAndExp_eqContext(LAndExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitLAndExp_eq(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class AndContext extends LAndExpContext {
+		public LAndExpContext lAndExp() {
+			return getRuleContext(LAndExpContext.class,0);
+		}
+		public TerminalNode And() { return getToken(SylangParser.And, 0); }
+		public EqExpContext eqExp() {
+			return getRuleContext(EqExpContext.class,0);
+		}
+		public AndContext(LAndExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitAnd(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LAndExpContext lAndExp() throws RecognitionException {
+		return lAndExp(0);
+	}
+
+	private LAndExpContext lAndExp(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		LAndExpContext _localctx = new LAndExpContext(_ctx, _parentState);
+		LAndExpContext _prevctx = _localctx;
+		int _startState = 70;
+		enterRecursionRule(_localctx, 70, RULE_lAndExp, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			_localctx = new LAndExp_eqContext(_localctx);
+			_ctx = _localctx;
+			_prevctx = _localctx;
+
+			setState(405);
+			eqExp(0);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(412);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,46,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new AndContext(new LAndExpContext(_parentctx, _parentState));
+					pushNewRecursionContext(_localctx, _startState, RULE_lAndExp);
+					setState(407);
+					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+					setState(408);
+					match(And);
+					setState(409);
+					eqExp(0);
+					}
+					} 
+				}
+				setState(414);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,46,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class LOrExpContext extends ParserRuleContext {
+		public LOrExpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_lOrExp; }
+	 
+		public LOrExpContext() { }
+		public void copyFrom(LOrExpContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class OrContext extends LOrExpContext {
+		public LOrExpContext lOrExp() {
+			return getRuleContext(LOrExpContext.class,0);
+		}
+		public TerminalNode Or() { return getToken(SylangParser.Or, 0); }
+		public LAndExpContext lAndExp() {
+			return getRuleContext(LAndExpContext.class,0);
+		}
+		public OrContext(LOrExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitOr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class LOrExp_lAndContext extends LOrExpContext {
+		public LAndExpContext lAndExp() {
+			return getRuleContext(LAndExpContext.class,0);
+		}
+		public LOrExp_lAndContext(LOrExpContext ctx) { copyFrom(ctx); }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SylangVisitor ) return ((SylangVisitor<? extends T>)visitor).visitLOrExp_lAnd(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final LOrExpContext lOrExp() throws RecognitionException {
+		return lOrExp(0);
+	}
+
+	private LOrExpContext lOrExp(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		LOrExpContext _localctx = new LOrExpContext(_ctx, _parentState);
+		LOrExpContext _prevctx = _localctx;
+		int _startState = 72;
+		enterRecursionRule(_localctx, 72, RULE_lOrExp, _p);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			_localctx = new LOrExp_lAndContext(_localctx);
+			_ctx = _localctx;
+			_prevctx = _localctx;
+
+			setState(416);
+			lAndExp(0);
+			}
+			_ctx.stop = _input.LT(-1);
+			setState(423);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,47,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					{
+					_localctx = new OrContext(new LOrExpContext(_parentctx, _parentState));
+					pushNewRecursionContext(_localctx, _startState, RULE_lOrExp);
+					setState(418);
+					if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+					setState(419);
+					match(Or);
+					setState(420);
+					lAndExp(0);
+					}
+					} 
+				}
+				setState(425);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,47,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			unrollRecursionContexts(_parentctx);
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 31:
+			return mulExp_sempred((MulExpContext)_localctx, predIndex);
+		case 32:
+			return addExp_sempred((AddExpContext)_localctx, predIndex);
+		case 33:
+			return relExp_sempred((RelExpContext)_localctx, predIndex);
+		case 34:
+			return eqExp_sempred((EqExpContext)_localctx, predIndex);
+		case 35:
+			return lAndExp_sempred((LAndExpContext)_localctx, predIndex);
+		case 36:
+			return lOrExp_sempred((LOrExpContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean mulExp_sempred(MulExpContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 3);
+		case 1:
+			return precpred(_ctx, 2);
+		case 2:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean addExp_sempred(AddExpContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 3:
+			return precpred(_ctx, 2);
+		case 4:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean relExp_sempred(RelExpContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 5:
+			return precpred(_ctx, 4);
+		case 6:
+			return precpred(_ctx, 3);
+		case 7:
+			return precpred(_ctx, 2);
+		case 8:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean eqExp_sempred(EqExpContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 9:
+			return precpred(_ctx, 2);
+		case 10:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean lAndExp_sempred(LAndExpContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 11:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+	private boolean lOrExp_sempred(LOrExpContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 12:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\u0004\u0001.\u01ab\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
+		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
+		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
+		"\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e\u0002\u000f\u0007\u000f"+
+		"\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0002\u0012\u0007\u0012"+
+		"\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014\u0002\u0015\u0007\u0015"+
+		"\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017\u0002\u0018\u0007\u0018"+
+		"\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a\u0002\u001b\u0007\u001b"+
+		"\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002\u001e\u0007\u001e"+
+		"\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007!\u0002\"\u0007\"\u0002"+
+		"#\u0007#\u0002$\u0007$\u0001\u0000\u0005\u0000L\b\u0000\n\u0000\f\u0000"+
+		"O\t\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0003\u0001"+
+		"U\b\u0001\u0001\u0002\u0001\u0002\u0003\u0002Y\b\u0002\u0001\u0002\u0001"+
+		"\u0002\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0005"+
+		"\u0003b\b\u0003\n\u0003\f\u0003e\t\u0003\u0001\u0004\u0001\u0004\u0003"+
+		"\u0004i\b\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0005\u0005p\b\u0005\n\u0005\f\u0005s\t\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0005"+
+		"\u0006|\b\u0006\n\u0006\f\u0006\u007f\t\u0006\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\u0007\u0005\u0007\u0086\b\u0007\n\u0007"+
+		"\f\u0007\u0089\t\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u008d\b\u0007"+
+		"\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005\b\u0094\b\b\n\b\f\b\u0097"+
+		"\t\b\u0003\b\u0099\b\b\u0001\b\u0003\b\u009c\b\b\u0001\t\u0001\t\u0001"+
+		"\t\u0001\t\u0003\t\u00a2\b\t\u0001\t\u0001\t\u0001\t\u0001\n\u0001\n\u0003"+
+		"\n\u00a9\b\n\u0001\u000b\u0001\u000b\u0001\u000b\u0005\u000b\u00ae\b\u000b"+
+		"\n\u000b\f\u000b\u00b1\t\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f"+
+		"\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0005\f\u00be\b\f\n\f"+
+		"\f\f\u00c1\t\f\u0003\f\u00c3\b\f\u0001\r\u0001\r\u0005\r\u00c7\b\r\n\r"+
+		"\f\r\u00ca\t\r\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0003\u000e\u00d0"+
+		"\b\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0003\u000f\u00d5\b\u000f"+
+		"\u0001\u0010\u0001\u0010\u0003\u0010\u00d9\b\u0010\u0001\u0011\u0001\u0011"+
+		"\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012"+
+		"\u0003\u0012\u00e3\b\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0003\u0012"+
+		"\u00ee\b\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0003\u0012\u00f9\b\u0012"+
+		"\u0001\u0012\u0001\u0012\u0003\u0012\u00fd\b\u0012\u0001\u0012\u0001\u0012"+
+		"\u0003\u0012\u0101\b\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0003\u0012\u010b\b\u0012"+
+		"\u0001\u0012\u0003\u0012\u010e\b\u0012\u0001\u0013\u0001\u0013\u0001\u0014"+
+		"\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015"+
+		"\u0005\u0015\u0119\b\u0015\n\u0015\f\u0015\u011c\t\u0015\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u0124"+
+		"\b\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0003\u0017\u0129\b\u0017"+
+		"\u0001\u0018\u0001\u0018\u0003\u0018\u012d\b\u0018\u0001\u0019\u0001\u0019"+
+		"\u0003\u0019\u0131\b\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a"+
+		"\u0003\u001a\u0137\b\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b"+
+		"\u0001\u001b\u0001\u001b\u0003\u001b\u013f\b\u001b\u0001\u001b\u0001\u001b"+
+		"\u0001\u001b\u0003\u001b\u0144\b\u001b\u0001\u001c\u0001\u001c\u0001\u001d"+
+		"\u0001\u001d\u0003\u001d\u014a\b\u001d\u0001\u001e\u0001\u001e\u0001\u001e"+
+		"\u0005\u001e\u014f\b\u001e\n\u001e\f\u001e\u0152\t\u001e\u0001\u001f\u0001"+
+		"\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001"+
+		"\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0005\u001f\u0160"+
+		"\b\u001f\n\u001f\f\u001f\u0163\t\u001f\u0001 \u0001 \u0001 \u0001 \u0001"+
+		" \u0001 \u0001 \u0001 \u0001 \u0005 \u016e\b \n \f \u0171\t \u0001!\u0001"+
+		"!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001"+
+		"!\u0001!\u0001!\u0001!\u0005!\u0182\b!\n!\f!\u0185\t!\u0001\"\u0001\""+
+		"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0005\"\u0190"+
+		"\b\"\n\"\f\"\u0193\t\"\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0005"+
+		"#\u019b\b#\n#\f#\u019e\t#\u0001$\u0001$\u0001$\u0001$\u0001$\u0001$\u0005"+
+		"$\u01a6\b$\n$\f$\u01a9\t$\u0001$\u0000\u0006>@BDFH%\u0000\u0002\u0004"+
+		"\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \""+
+		"$&(*,.02468:<>@BDFH\u0000\u0002\u0001\u0000\u0018\u0019\u0002\u0000\u0013"+
+		"\u0014  \u01c4\u0000M\u0001\u0000\u0000\u0000\u0002T\u0001\u0000\u0000"+
+		"\u0000\u0004X\u0001\u0000\u0000\u0000\u0006\\\u0001\u0000\u0000\u0000"+
+		"\bh\u0001\u0000\u0000\u0000\nj\u0001\u0000\u0000\u0000\fw\u0001\u0000"+
+		"\u0000\u0000\u000e\u0080\u0001\u0000\u0000\u0000\u0010\u009b\u0001\u0000"+
+		"\u0000\u0000\u0012\u009d\u0001\u0000\u0000\u0000\u0014\u00a8\u0001\u0000"+
+		"\u0000\u0000\u0016\u00aa\u0001\u0000\u0000\u0000\u0018\u00c2\u0001\u0000"+
+		"\u0000\u0000\u001a\u00c4\u0001\u0000\u0000\u0000\u001c\u00cf\u0001\u0000"+
+		"\u0000\u0000\u001e\u00d4\u0001\u0000\u0000\u0000 \u00d8\u0001\u0000\u0000"+
+		"\u0000\"\u00da\u0001\u0000\u0000\u0000$\u010d\u0001\u0000\u0000\u0000"+
+		"&\u010f\u0001\u0000\u0000\u0000(\u0111\u0001\u0000\u0000\u0000*\u0113"+
+		"\u0001\u0000\u0000\u0000,\u0123\u0001\u0000\u0000\u0000.\u0128\u0001\u0000"+
+		"\u0000\u00000\u012c\u0001\u0000\u0000\u00002\u0130\u0001\u0000\u0000\u0000"+
+		"4\u0136\u0001\u0000\u0000\u00006\u0143\u0001\u0000\u0000\u00008\u0145"+
+		"\u0001\u0000\u0000\u0000:\u0149\u0001\u0000\u0000\u0000<\u014b\u0001\u0000"+
+		"\u0000\u0000>\u0153\u0001\u0000\u0000\u0000@\u0164\u0001\u0000\u0000\u0000"+
+		"B\u0172\u0001\u0000\u0000\u0000D\u0186\u0001\u0000\u0000\u0000F\u0194"+
+		"\u0001\u0000\u0000\u0000H\u019f\u0001\u0000\u0000\u0000JL\u0003\u0002"+
+		"\u0001\u0000KJ\u0001\u0000\u0000\u0000LO\u0001\u0000\u0000\u0000MK\u0001"+
+		"\u0000\u0000\u0000MN\u0001\u0000\u0000\u0000NP\u0001\u0000\u0000\u0000"+
+		"OM\u0001\u0000\u0000\u0000PQ\u0005\u0000\u0000\u0001Q\u0001\u0001\u0000"+
+		"\u0000\u0000RU\u0003\u0004\u0002\u0000SU\u0003\u0012\t\u0000TR\u0001\u0000"+
+		"\u0000\u0000TS\u0001\u0000\u0000\u0000U\u0003\u0001\u0000\u0000\u0000"+
+		"VY\u0003\u0006\u0003\u0000WY\u0003\f\u0006\u0000XV\u0001\u0000\u0000\u0000"+
+		"XW\u0001\u0000\u0000\u0000YZ\u0001\u0000\u0000\u0000Z[\u0005$\u0000\u0000"+
+		"[\u0005\u0001\u0000\u0000\u0000\\]\u0005\n\u0000\u0000]^\u0003\b\u0004"+
+		"\u0000^c\u0003\n\u0005\u0000_`\u0005#\u0000\u0000`b\u0003\n\u0005\u0000"+
+		"a_\u0001\u0000\u0000\u0000be\u0001\u0000\u0000\u0000ca\u0001\u0000\u0000"+
+		"\u0000cd\u0001\u0000\u0000\u0000d\u0007\u0001\u0000\u0000\u0000ec\u0001"+
+		"\u0000\u0000\u0000fi\u0005\u0007\u0000\u0000gi\u0005\b\u0000\u0000hf\u0001"+
+		"\u0000\u0000\u0000hg\u0001\u0000\u0000\u0000i\t\u0001\u0000\u0000\u0000"+
+		"jq\u0005+\u0000\u0000kl\u0005\'\u0000\u0000lm\u0003&\u0013\u0000mn\u0005"+
+		"(\u0000\u0000np\u0001\u0000\u0000\u0000ok\u0001\u0000\u0000\u0000ps\u0001"+
+		"\u0000\u0000\u0000qo\u0001\u0000\u0000\u0000qr\u0001\u0000\u0000\u0000"+
+		"rt\u0001\u0000\u0000\u0000sq\u0001\u0000\u0000\u0000tu\u0005\u0012\u0000"+
+		"\u0000uv\u0003\u0010\b\u0000v\u000b\u0001\u0000\u0000\u0000wx\u0003\b"+
+		"\u0004\u0000x}\u0003\u000e\u0007\u0000yz\u0005#\u0000\u0000z|\u0003\u000e"+
+		"\u0007\u0000{y\u0001\u0000\u0000\u0000|\u007f\u0001\u0000\u0000\u0000"+
+		"}{\u0001\u0000\u0000\u0000}~\u0001\u0000\u0000\u0000~\r\u0001\u0000\u0000"+
+		"\u0000\u007f}\u0001\u0000\u0000\u0000\u0080\u0087\u0005+\u0000\u0000\u0081"+
+		"\u0082\u0005\'\u0000\u0000\u0082\u0083\u0003&\u0013\u0000\u0083\u0084"+
+		"\u0005(\u0000\u0000\u0084\u0086\u0001\u0000\u0000\u0000\u0085\u0081\u0001"+
+		"\u0000\u0000\u0000\u0086\u0089\u0001\u0000\u0000\u0000\u0087\u0085\u0001"+
+		"\u0000\u0000\u0000\u0087\u0088\u0001\u0000\u0000\u0000\u0088\u008c\u0001"+
+		"\u0000\u0000\u0000\u0089\u0087\u0001\u0000\u0000\u0000\u008a\u008b\u0005"+
+		"\u0012\u0000\u0000\u008b\u008d\u0003\u0010\b\u0000\u008c\u008a\u0001\u0000"+
+		"\u0000\u0000\u008c\u008d\u0001\u0000\u0000\u0000\u008d\u000f\u0001\u0000"+
+		"\u0000\u0000\u008e\u009c\u0003&\u0013\u0000\u008f\u0098\u0005)\u0000\u0000"+
+		"\u0090\u0095\u0003\u0010\b\u0000\u0091\u0092\u0005#\u0000\u0000\u0092"+
+		"\u0094\u0003\u0010\b\u0000\u0093\u0091\u0001\u0000\u0000\u0000\u0094\u0097"+
+		"\u0001\u0000\u0000\u0000\u0095\u0093\u0001\u0000\u0000\u0000\u0095\u0096"+
+		"\u0001\u0000\u0000\u0000\u0096\u0099\u0001\u0000\u0000\u0000\u0097\u0095"+
+		"\u0001\u0000\u0000\u0000\u0098\u0090\u0001\u0000\u0000\u0000\u0098\u0099"+
+		"\u0001\u0000\u0000\u0000\u0099\u009a\u0001\u0000\u0000\u0000\u009a\u009c"+
+		"\u0005*\u0000\u0000\u009b\u008e\u0001\u0000\u0000\u0000\u009b\u008f\u0001"+
+		"\u0000\u0000\u0000\u009c\u0011\u0001\u0000\u0000\u0000\u009d\u009e\u0003"+
+		"\u0014\n\u0000\u009e\u009f\u0005+\u0000\u0000\u009f\u00a1\u0005%\u0000"+
+		"\u0000\u00a0\u00a2\u0003\u0016\u000b\u0000\u00a1\u00a0\u0001\u0000\u0000"+
+		"\u0000\u00a1\u00a2\u0001\u0000\u0000\u0000\u00a2\u00a3\u0001\u0000\u0000"+
+		"\u0000\u00a3\u00a4\u0005&\u0000\u0000\u00a4\u00a5\u0003\u001a\r\u0000"+
+		"\u00a5\u0013\u0001\u0000\u0000\u0000\u00a6\u00a9\u0003\b\u0004\u0000\u00a7"+
+		"\u00a9\u0005\t\u0000\u0000\u00a8\u00a6\u0001\u0000\u0000\u0000\u00a8\u00a7"+
+		"\u0001\u0000\u0000\u0000\u00a9\u0015\u0001\u0000\u0000\u0000\u00aa\u00af"+
+		"\u0003\u0018\f\u0000\u00ab\u00ac\u0005#\u0000\u0000\u00ac\u00ae\u0003"+
+		"\u0018\f\u0000\u00ad\u00ab\u0001\u0000\u0000\u0000\u00ae\u00b1\u0001\u0000"+
+		"\u0000\u0000\u00af\u00ad\u0001\u0000\u0000\u0000\u00af\u00b0\u0001\u0000"+
+		"\u0000\u0000\u00b0\u0017\u0001\u0000\u0000\u0000\u00b1\u00af\u0001\u0000"+
+		"\u0000\u0000\u00b2\u00b3\u0003\b\u0004\u0000\u00b3\u00b4\u0005+\u0000"+
+		"\u0000\u00b4\u00c3\u0001\u0000\u0000\u0000\u00b5\u00b6\u0003\b\u0004\u0000"+
+		"\u00b6\u00b7\u0005+\u0000\u0000\u00b7\u00b8\u0005\'\u0000\u0000\u00b8"+
+		"\u00bf\u0005(\u0000\u0000\u00b9\u00ba\u0005\'\u0000\u0000\u00ba\u00bb"+
+		"\u0003&\u0013\u0000\u00bb\u00bc\u0005(\u0000\u0000\u00bc\u00be\u0001\u0000"+
+		"\u0000\u0000\u00bd\u00b9\u0001\u0000\u0000\u0000\u00be\u00c1\u0001\u0000"+
+		"\u0000\u0000\u00bf\u00bd\u0001\u0000\u0000\u0000\u00bf\u00c0\u0001\u0000"+
+		"\u0000\u0000\u00c0\u00c3\u0001\u0000\u0000\u0000\u00c1\u00bf\u0001\u0000"+
+		"\u0000\u0000\u00c2\u00b2\u0001\u0000\u0000\u0000\u00c2\u00b5\u0001\u0000"+
+		"\u0000\u0000\u00c3\u0019\u0001\u0000\u0000\u0000\u00c4\u00c8\u0005)\u0000"+
+		"\u0000\u00c5\u00c7\u0003\u001c\u000e\u0000\u00c6\u00c5\u0001\u0000\u0000"+
+		"\u0000\u00c7\u00ca\u0001\u0000\u0000\u0000\u00c8\u00c6\u0001\u0000\u0000"+
+		"\u0000\u00c8\u00c9\u0001\u0000\u0000\u0000\u00c9\u00cb\u0001\u0000\u0000"+
+		"\u0000\u00ca\u00c8\u0001\u0000\u0000\u0000\u00cb\u00cc\u0005*\u0000\u0000"+
+		"\u00cc\u001b\u0001\u0000\u0000\u0000\u00cd\u00d0\u0003\u0004\u0002\u0000"+
+		"\u00ce\u00d0\u0003$\u0012\u0000\u00cf\u00cd\u0001\u0000\u0000\u0000\u00cf"+
+		"\u00ce\u0001\u0000\u0000\u0000\u00d0\u001d\u0001\u0000\u0000\u0000\u00d1"+
+		"\u00d5\u0003&\u0013\u0000\u00d2\u00d5\u0003\f\u0006\u0000\u00d3\u00d5"+
+		"\u0003\"\u0011\u0000\u00d4\u00d1\u0001\u0000\u0000\u0000\u00d4\u00d2\u0001"+
+		"\u0000\u0000\u0000\u00d4\u00d3\u0001\u0000\u0000\u0000\u00d5\u001f\u0001"+
+		"\u0000\u0000\u0000\u00d6\u00d9\u0003\"\u0011\u0000\u00d7\u00d9\u0003&"+
+		"\u0013\u0000\u00d8\u00d6\u0001\u0000\u0000\u0000\u00d8\u00d7\u0001\u0000"+
+		"\u0000\u0000\u00d9!\u0001\u0000\u0000\u0000\u00da\u00db\u0003*\u0015\u0000"+
+		"\u00db\u00dc\u0005\u0012\u0000\u0000\u00dc\u00dd\u0003&\u0013\u0000\u00dd"+
+		"#\u0001\u0000\u0000\u0000\u00de\u00df\u0003\"\u0011\u0000\u00df\u00e0"+
+		"\u0005$\u0000\u0000\u00e0\u010e\u0001\u0000\u0000\u0000\u00e1\u00e3\u0003"+
+		"&\u0013\u0000\u00e2\u00e1\u0001\u0000\u0000\u0000\u00e2\u00e3\u0001\u0000"+
+		"\u0000\u0000\u00e3\u00e4\u0001\u0000\u0000\u0000\u00e4\u010e\u0005$\u0000"+
+		"\u0000\u00e5\u010e\u0003\u001a\r\u0000\u00e6\u00e7\u0005\u000b\u0000\u0000"+
+		"\u00e7\u00e8\u0005%\u0000\u0000\u00e8\u00e9\u0003(\u0014\u0000\u00e9\u00ea"+
+		"\u0005&\u0000\u0000\u00ea\u00ed\u0003$\u0012\u0000\u00eb\u00ec\u0005\f"+
+		"\u0000\u0000\u00ec\u00ee\u0003$\u0012\u0000\u00ed\u00eb\u0001\u0000\u0000"+
+		"\u0000\u00ed\u00ee\u0001\u0000\u0000\u0000\u00ee\u010e\u0001\u0000\u0000"+
+		"\u0000\u00ef\u00f0\u0005\r\u0000\u0000\u00f0\u00f1\u0005%\u0000\u0000"+
+		"\u00f1\u00f2\u0003(\u0014\u0000\u00f2\u00f3\u0005&\u0000\u0000\u00f3\u00f4"+
+		"\u0003$\u0012\u0000\u00f4\u010e\u0001\u0000\u0000\u0000\u00f5\u00f6\u0005"+
+		"\u0011\u0000\u0000\u00f6\u00f8\u0005%\u0000\u0000\u00f7\u00f9\u0003\u001e"+
+		"\u000f\u0000\u00f8\u00f7\u0001\u0000\u0000\u0000\u00f8\u00f9\u0001\u0000"+
+		"\u0000\u0000\u00f9\u00fa\u0001\u0000\u0000\u0000\u00fa\u00fc\u0005$\u0000"+
+		"\u0000\u00fb\u00fd\u0003(\u0014\u0000\u00fc\u00fb\u0001\u0000\u0000\u0000"+
+		"\u00fc\u00fd\u0001\u0000\u0000\u0000\u00fd\u00fe\u0001\u0000\u0000\u0000"+
+		"\u00fe\u0100\u0005$\u0000\u0000\u00ff\u0101\u0003 \u0010\u0000\u0100\u00ff"+
+		"\u0001\u0000\u0000\u0000\u0100\u0101\u0001\u0000\u0000\u0000\u0101\u0102"+
+		"\u0001\u0000\u0000\u0000\u0102\u0103\u0005&\u0000\u0000\u0103\u010e\u0003"+
+		"$\u0012\u0000\u0104\u0105\u0005\u000e\u0000\u0000\u0105\u010e\u0005$\u0000"+
+		"\u0000\u0106\u0107\u0005\u000f\u0000\u0000\u0107\u010e\u0005$\u0000\u0000"+
+		"\u0108\u010a\u0005\u0010\u0000\u0000\u0109\u010b\u0003&\u0013\u0000\u010a"+
+		"\u0109\u0001\u0000\u0000\u0000\u010a\u010b\u0001\u0000\u0000\u0000\u010b"+
+		"\u010c\u0001\u0000\u0000\u0000\u010c\u010e\u0005$\u0000\u0000\u010d\u00de"+
+		"\u0001\u0000\u0000\u0000\u010d\u00e2\u0001\u0000\u0000\u0000\u010d\u00e5"+
+		"\u0001\u0000\u0000\u0000\u010d\u00e6\u0001\u0000\u0000\u0000\u010d\u00ef"+
+		"\u0001\u0000\u0000\u0000\u010d\u00f5\u0001\u0000\u0000\u0000\u010d\u0104"+
+		"\u0001\u0000\u0000\u0000\u010d\u0106\u0001\u0000\u0000\u0000\u010d\u0108"+
+		"\u0001\u0000\u0000\u0000\u010e%\u0001\u0000\u0000\u0000\u010f\u0110\u0003"+
+		"@ \u0000\u0110\'\u0001\u0000\u0000\u0000\u0111\u0112\u0003H$\u0000\u0112"+
+		")\u0001\u0000\u0000\u0000\u0113\u011a\u0005+\u0000\u0000\u0114\u0115\u0005"+
+		"\'\u0000\u0000\u0115\u0116\u0003&\u0013\u0000\u0116\u0117\u0005(\u0000"+
+		"\u0000\u0117\u0119\u0001\u0000\u0000\u0000\u0118\u0114\u0001\u0000\u0000"+
+		"\u0000\u0119\u011c\u0001\u0000\u0000\u0000\u011a\u0118\u0001\u0000\u0000"+
+		"\u0000\u011a\u011b\u0001\u0000\u0000\u0000\u011b+\u0001\u0000\u0000\u0000"+
+		"\u011c\u011a\u0001\u0000\u0000\u0000\u011d\u011e\u0005%\u0000\u0000\u011e"+
+		"\u011f\u0003&\u0013\u0000\u011f\u0120\u0005&\u0000\u0000\u0120\u0124\u0001"+
+		"\u0000\u0000\u0000\u0121\u0124\u0003*\u0015\u0000\u0122\u0124\u00032\u0019"+
+		"\u0000\u0123\u011d\u0001\u0000\u0000\u0000\u0123\u0121\u0001\u0000\u0000"+
+		"\u0000\u0123\u0122\u0001\u0000\u0000\u0000\u0124-\u0001\u0000\u0000\u0000"+
+		"\u0125\u0129\u0005\u0001\u0000\u0000\u0126\u0129\u0005\u0002\u0000\u0000"+
+		"\u0127\u0129\u0005\u0003\u0000\u0000\u0128\u0125\u0001\u0000\u0000\u0000"+
+		"\u0128\u0126\u0001\u0000\u0000\u0000\u0128\u0127\u0001\u0000\u0000\u0000"+
+		"\u0129/\u0001\u0000\u0000\u0000\u012a\u012d\u0005\u0004\u0000\u0000\u012b"+
+		"\u012d\u0005\u0005\u0000\u0000\u012c\u012a\u0001\u0000\u0000\u0000\u012c"+
+		"\u012b\u0001\u0000\u0000\u0000\u012d1\u0001\u0000\u0000\u0000\u012e\u0131"+
+		"\u0003.\u0017\u0000\u012f\u0131\u00030\u0018\u0000\u0130\u012e\u0001\u0000"+
+		"\u0000\u0000\u0130\u012f\u0001\u0000\u0000\u0000\u01313\u0001\u0000\u0000"+
+		"\u0000\u0132\u0137\u0003,\u0016\u0000\u0133\u0134\u0003,\u0016\u0000\u0134"+
+		"\u0135\u0007\u0000\u0000\u0000\u0135\u0137\u0001\u0000\u0000\u0000\u0136"+
+		"\u0132\u0001\u0000\u0000\u0000\u0136\u0133\u0001\u0000\u0000\u0000\u0137"+
+		"5\u0001\u0000\u0000\u0000\u0138\u0144\u00034\u001a\u0000\u0139\u013a\u0007"+
+		"\u0000\u0000\u0000\u013a\u0144\u00034\u001a\u0000\u013b\u013c\u0005+\u0000"+
+		"\u0000\u013c\u013e\u0005%\u0000\u0000\u013d\u013f\u0003<\u001e\u0000\u013e"+
+		"\u013d\u0001\u0000\u0000\u0000\u013e\u013f\u0001\u0000\u0000\u0000\u013f"+
+		"\u0140\u0001\u0000\u0000\u0000\u0140\u0144\u0005&\u0000\u0000\u0141\u0142"+
+		"\u0007\u0001\u0000\u0000\u0142\u0144\u00036\u001b\u0000\u0143\u0138\u0001"+
+		"\u0000\u0000\u0000\u0143\u0139\u0001\u0000\u0000\u0000\u0143\u013b\u0001"+
+		"\u0000\u0000\u0000\u0143\u0141\u0001\u0000\u0000\u0000\u01447\u0001\u0000"+
+		"\u0000\u0000\u0145\u0146\u0005\u0006\u0000\u0000\u01469\u0001\u0000\u0000"+
+		"\u0000\u0147\u014a\u0003&\u0013\u0000\u0148\u014a\u00038\u001c\u0000\u0149"+
+		"\u0147\u0001\u0000\u0000\u0000\u0149\u0148\u0001\u0000\u0000\u0000\u014a"+
+		";\u0001\u0000\u0000\u0000\u014b\u0150\u0003:\u001d\u0000\u014c\u014d\u0005"+
+		"#\u0000\u0000\u014d\u014f\u0003:\u001d\u0000\u014e\u014c\u0001\u0000\u0000"+
+		"\u0000\u014f\u0152\u0001\u0000\u0000\u0000\u0150\u014e\u0001\u0000\u0000"+
+		"\u0000\u0150\u0151\u0001\u0000\u0000\u0000\u0151=\u0001\u0000\u0000\u0000"+
+		"\u0152\u0150\u0001\u0000\u0000\u0000\u0153\u0154\u0006\u001f\uffff\uffff"+
+		"\u0000\u0154\u0155\u00036\u001b\u0000\u0155\u0161\u0001\u0000\u0000\u0000"+
+		"\u0156\u0157\n\u0003\u0000\u0000\u0157\u0158\u0005\u0015\u0000\u0000\u0158"+
+		"\u0160\u00036\u001b\u0000\u0159\u015a\n\u0002\u0000\u0000\u015a\u015b"+
+		"\u0005\u0016\u0000\u0000\u015b\u0160\u00036\u001b\u0000\u015c\u015d\n"+
+		"\u0001\u0000\u0000\u015d\u015e\u0005\u0017\u0000\u0000\u015e\u0160\u0003"+
+		"6\u001b\u0000\u015f\u0156\u0001\u0000\u0000\u0000\u015f\u0159\u0001\u0000"+
+		"\u0000\u0000\u015f\u015c\u0001\u0000\u0000\u0000\u0160\u0163\u0001\u0000"+
+		"\u0000\u0000\u0161\u015f\u0001\u0000\u0000\u0000\u0161\u0162\u0001\u0000"+
+		"\u0000\u0000\u0162?\u0001\u0000\u0000\u0000\u0163\u0161\u0001\u0000\u0000"+
+		"\u0000\u0164\u0165\u0006 \uffff\uffff\u0000\u0165\u0166\u0003>\u001f\u0000"+
+		"\u0166\u016f\u0001\u0000\u0000\u0000\u0167\u0168\n\u0002\u0000\u0000\u0168"+
+		"\u0169\u0005\u0013\u0000\u0000\u0169\u016e\u0003>\u001f\u0000\u016a\u016b"+
+		"\n\u0001\u0000\u0000\u016b\u016c\u0005\u0014\u0000\u0000\u016c\u016e\u0003"+
+		">\u001f\u0000\u016d\u0167\u0001\u0000\u0000\u0000\u016d\u016a\u0001\u0000"+
+		"\u0000\u0000\u016e\u0171\u0001\u0000\u0000\u0000\u016f\u016d\u0001\u0000"+
+		"\u0000\u0000\u016f\u0170\u0001\u0000\u0000\u0000\u0170A\u0001\u0000\u0000"+
+		"\u0000\u0171\u016f\u0001\u0000\u0000\u0000\u0172\u0173\u0006!\uffff\uffff"+
+		"\u0000\u0173\u0174\u0003@ \u0000\u0174\u0183\u0001\u0000\u0000\u0000\u0175"+
+		"\u0176\n\u0004\u0000\u0000\u0176\u0177\u0005\u001c\u0000\u0000\u0177\u0182"+
+		"\u0003@ \u0000\u0178\u0179\n\u0003\u0000\u0000\u0179\u017a\u0005\u001d"+
+		"\u0000\u0000\u017a\u0182\u0003@ \u0000\u017b\u017c\n\u0002\u0000\u0000"+
+		"\u017c\u017d\u0005\u001e\u0000\u0000\u017d\u0182\u0003@ \u0000\u017e\u017f"+
+		"\n\u0001\u0000\u0000\u017f\u0180\u0005\u001f\u0000\u0000\u0180\u0182\u0003"+
+		"@ \u0000\u0181\u0175\u0001\u0000\u0000\u0000\u0181\u0178\u0001\u0000\u0000"+
+		"\u0000\u0181\u017b\u0001\u0000\u0000\u0000\u0181\u017e\u0001\u0000\u0000"+
+		"\u0000\u0182\u0185\u0001\u0000\u0000\u0000\u0183\u0181\u0001\u0000\u0000"+
+		"\u0000\u0183\u0184\u0001\u0000\u0000\u0000\u0184C\u0001\u0000\u0000\u0000"+
+		"\u0185\u0183\u0001\u0000\u0000\u0000\u0186\u0187\u0006\"\uffff\uffff\u0000"+
+		"\u0187\u0188\u0003B!\u0000\u0188\u0191\u0001\u0000\u0000\u0000\u0189\u018a"+
+		"\n\u0002\u0000\u0000\u018a\u018b\u0005\u001a\u0000\u0000\u018b\u0190\u0003"+
+		"B!\u0000\u018c\u018d\n\u0001\u0000\u0000\u018d\u018e\u0005\u001b\u0000"+
+		"\u0000\u018e\u0190\u0003B!\u0000\u018f\u0189\u0001\u0000\u0000\u0000\u018f"+
+		"\u018c\u0001\u0000\u0000\u0000\u0190\u0193\u0001\u0000\u0000\u0000\u0191"+
+		"\u018f\u0001\u0000\u0000\u0000\u0191\u0192\u0001\u0000\u0000\u0000\u0192"+
+		"E\u0001\u0000\u0000\u0000\u0193\u0191\u0001\u0000\u0000\u0000\u0194\u0195"+
+		"\u0006#\uffff\uffff\u0000\u0195\u0196\u0003D\"\u0000\u0196\u019c\u0001"+
+		"\u0000\u0000\u0000\u0197\u0198\n\u0001\u0000\u0000\u0198\u0199\u0005!"+
+		"\u0000\u0000\u0199\u019b\u0003D\"\u0000\u019a\u0197\u0001\u0000\u0000"+
+		"\u0000\u019b\u019e\u0001\u0000\u0000\u0000\u019c\u019a\u0001\u0000\u0000"+
+		"\u0000\u019c\u019d\u0001\u0000\u0000\u0000\u019dG\u0001\u0000\u0000\u0000"+
+		"\u019e\u019c\u0001\u0000\u0000\u0000\u019f\u01a0\u0006$\uffff\uffff\u0000"+
+		"\u01a0\u01a1\u0003F#\u0000\u01a1\u01a7\u0001\u0000\u0000\u0000\u01a2\u01a3"+
+		"\n\u0001\u0000\u0000\u01a3\u01a4\u0005\"\u0000\u0000\u01a4\u01a6\u0003"+
+		"F#\u0000\u01a5\u01a2\u0001\u0000\u0000\u0000\u01a6\u01a9\u0001\u0000\u0000"+
+		"\u0000\u01a7\u01a5\u0001\u0000\u0000\u0000\u01a7\u01a8\u0001\u0000\u0000"+
+		"\u0000\u01a8I\u0001\u0000\u0000\u0000\u01a9\u01a7\u0001\u0000\u0000\u0000"+
+		"0MTXchq}\u0087\u008c\u0095\u0098\u009b\u00a1\u00a8\u00af\u00bf\u00c2\u00c8"+
+		"\u00cf\u00d4\u00d8\u00e2\u00ed\u00f8\u00fc\u0100\u010a\u010d\u011a\u0123"+
+		"\u0128\u012c\u0130\u0136\u013e\u0143\u0149\u0150\u015f\u0161\u016d\u016f"+
+		"\u0181\u0183\u018f\u0191\u019c\u01a7";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
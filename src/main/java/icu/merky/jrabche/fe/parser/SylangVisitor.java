@@ -0,0 +1,439 @@
+// Generated from Sylang.g4 by ANTLR 4.13.1
+package icu.merky.jrabche.fe.parser;
+import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+
+/**
+ * This interface defines a complete generic visitor for a parse tree produced
+ * by {@link SylangParser}.
+ *
+ * @param <T> The return type of the visit operation. Use {@link Void} for
+ * operations with no return type.
+ */
+public interface SylangVisitor<T> extends ParseTreeVisitor<T> {
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#compUnit}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCompUnit(SylangParser.CompUnitContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#compUnitItem}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCompUnitItem(SylangParser.CompUnitItemContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#decl}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDecl(SylangParser.DeclContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#constDecl}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitConstDecl(SylangParser.ConstDeclContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code int}
+	 * labeled alternative in {@link SylangParser#bType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitInt(SylangParser.IntContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code float}
+	 * labeled alternative in {@link SylangParser#bType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFloat(SylangParser.FloatContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#constDef}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitConstDef(SylangParser.ConstDefContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#varDecl}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitVarDecl(SylangParser.VarDeclContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#varDef}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitVarDef(SylangParser.VarDefContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code initExp}
+	 * labeled alternative in {@link SylangParser#initVal}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitInitExp(SylangParser.InitExpContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code initList}
+	 * labeled alternative in {@link SylangParser#initVal}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitInitList(SylangParser.InitListContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#funcDef}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFuncDef(SylangParser.FuncDefContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#funcType}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFuncType(SylangParser.FuncTypeContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#funcFParams}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFuncFParams(SylangParser.FuncFParamsContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code scalarParam}
+	 * labeled alternative in {@link SylangParser#funcFParam}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitScalarParam(SylangParser.ScalarParamContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code arrayParam}
+	 * labeled alternative in {@link SylangParser#funcFParam}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitArrayParam(SylangParser.ArrayParamContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#block}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBlock(SylangParser.BlockContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#blockItem}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBlockItem(SylangParser.BlockItemContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#forInitClause}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitForInitClause(SylangParser.ForInitClauseContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#forIterationExpr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitForIterationExpr(SylangParser.ForIterationExprContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#assignExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAssignExp(SylangParser.AssignExpContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code assign}
+	 * labeled alternative in {@link SylangParser#stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAssign(SylangParser.AssignContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code exprStmt}
+	 * labeled alternative in {@link SylangParser#stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExprStmt(SylangParser.ExprStmtContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code blockStmt}
+	 * labeled alternative in {@link SylangParser#stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBlockStmt(SylangParser.BlockStmtContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code ifElse}
+	 * labeled alternative in {@link SylangParser#stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIfElse(SylangParser.IfElseContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code while}
+	 * labeled alternative in {@link SylangParser#stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWhile(SylangParser.WhileContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code for}
+	 * labeled alternative in {@link SylangParser#stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFor(SylangParser.ForContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code break}
+	 * labeled alternative in {@link SylangParser#stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBreak(SylangParser.BreakContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code continue}
+	 * labeled alternative in {@link SylangParser#stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitContinue(SylangParser.ContinueContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code return}
+	 * labeled alternative in {@link SylangParser#stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitReturn(SylangParser.ReturnContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#exp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExp(SylangParser.ExpContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#cond}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCond(SylangParser.CondContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#lVal}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLVal(SylangParser.LValContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code primaryExp_exp}
+	 * labeled alternative in {@link SylangParser#primaryExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPrimaryExp_exp(SylangParser.PrimaryExp_expContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code lValExpr}
+	 * labeled alternative in {@link SylangParser#primaryExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLValExpr(SylangParser.LValExprContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code primaryExp_number}
+	 * labeled alternative in {@link SylangParser#primaryExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPrimaryExp_number(SylangParser.PrimaryExp_numberContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code decIntConst}
+	 * labeled alternative in {@link SylangParser#intConst}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDecIntConst(SylangParser.DecIntConstContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code octIntConst}
+	 * labeled alternative in {@link SylangParser#intConst}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitOctIntConst(SylangParser.OctIntConstContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code hexIntConst}
+	 * labeled alternative in {@link SylangParser#intConst}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitHexIntConst(SylangParser.HexIntConstContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code decFloatConst}
+	 * labeled alternative in {@link SylangParser#floatConst}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDecFloatConst(SylangParser.DecFloatConstContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code hexFloatConst}
+	 * labeled alternative in {@link SylangParser#floatConst}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitHexFloatConst(SylangParser.HexFloatConstContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#number}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNumber(SylangParser.NumberContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code postfixExp_primary}
+	 * labeled alternative in {@link SylangParser#postfixExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitPostfixExp_primary(SylangParser.PostfixExp_primaryContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code duoPostfix}
+	 * labeled alternative in {@link SylangParser#postfixExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDuoPostfix(SylangParser.DuoPostfixContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code unaryExp_postfix}
+	 * labeled alternative in {@link SylangParser#unaryExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUnaryExp_postfix(SylangParser.UnaryExp_postfixContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code duoPrefix}
+	 * labeled alternative in {@link SylangParser#unaryExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDuoPrefix(SylangParser.DuoPrefixContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code call}
+	 * labeled alternative in {@link SylangParser#unaryExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCall(SylangParser.CallContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code unary_}
+	 * labeled alternative in {@link SylangParser#unaryExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUnary_(SylangParser.Unary_Context ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#stringConst}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitStringConst(SylangParser.StringConstContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#funcRParam}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFuncRParam(SylangParser.FuncRParamContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SylangParser#funcRParams}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitFuncRParams(SylangParser.FuncRParamsContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code mulExp_unary}
+	 * labeled alternative in {@link SylangParser#mulExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMulExp_unary(SylangParser.MulExp_unaryContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code mul_}
+	 * labeled alternative in {@link SylangParser#mulExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMul_(SylangParser.Mul_Context ctx);
+	/**
+	 * Visit a parse tree produced by the {@code add_}
+	 * labeled alternative in {@link SylangParser#addExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAdd_(SylangParser.Add_Context ctx);
+	/**
+	 * Visit a parse tree produced by the {@code addExp_mul}
+	 * labeled alternative in {@link SylangParser#addExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAddExp_mul(SylangParser.AddExp_mulContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code relExp_}
+	 * labeled alternative in {@link SylangParser#relExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRelExp_(SylangParser.RelExp_Context ctx);
+	/**
+	 * Visit a parse tree produced by the {@code relExp_add}
+	 * labeled alternative in {@link SylangParser#relExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitRelExp_add(SylangParser.RelExp_addContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code eqExp_rel}
+	 * labeled alternative in {@link SylangParser#eqExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitEqExp_rel(SylangParser.EqExp_relContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code neq}
+	 * labeled alternative in {@link SylangParser#eqExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitNeq(SylangParser.NeqContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code eq}
+	 * labeled alternative in {@link SylangParser#eqExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitEq(SylangParser.EqContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code lAndExp_eq}
+	 * labeled alternative in {@link SylangParser#lAndExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLAndExp_eq(SylangParser.LAndExp_eqContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code and}
+	 * labeled alternative in {@link SylangParser#lAndExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAnd(SylangParser.AndContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code or}
+	 * labeled alternative in {@link SylangParser#lOrExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitOr(SylangParser.OrContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code lOrExp_lAnd}
+	 * labeled alternative in {@link SylangParser#lOrExp}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLOrExp_lAnd(SylangParser.LOrExp_lAndContext ctx);
+}
\ No newline at end of file
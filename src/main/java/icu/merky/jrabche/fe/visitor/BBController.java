@@ -38,12 +38,23 @@ import java.util.Vector;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class BBController {
-    public static AtomicInteger ifCount = new AtomicInteger(0);
-    public static AtomicInteger whileCount = new AtomicInteger(0);
-    public static AtomicInteger orCount = new AtomicInteger(0);
-    public static AtomicInteger andCount = new AtomicInteger(0);
+    // block name suffixes, counted per function.
+    public AtomicInteger ifCount = new AtomicInteger(0);
+    public AtomicInteger whileCount = new AtomicInteger(0);
+    public AtomicInteger orCount = new AtomicInteger(0);
+    public AtomicInteger andCount = new AtomicInteger(0);
     List<BBLayer> layers = new Vector<>();
 
+    /**
+     * Start the suffixes again, block names are local to a function.
+     */
+    public void resetCounts() {
+        ifCount.set(0);
+        whileCount.set(0);
+        orCount.set(0);
+        andCount.set(0);
+    }
+
     public void pushIf(IRBasicBlock trueBB, IRBasicBlock falseBB, IRBasicBlock afterBB, int curLayerNum) {
         layers.add(new BBLayer(null, trueBB, falseBB, afterBB, curLayerNum, BBLayer.BBLayerType.IF));
     }
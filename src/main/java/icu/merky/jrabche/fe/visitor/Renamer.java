@@ -31,18 +31,26 @@
 
 package icu.merky.jrabche.fe.visitor;
 
-import icu.merky.jrabche.llvmir.StaticVariableCounter;
+import icu.merky.jrabche.llvmir.VariableCounter;
 
 public class Renamer {
+    private final VariableCounter counter;
 
-    public String getNextLocalConstName(String originalName) {
-        return "const." + originalName + "." + StaticVariableCounter.getAndIncrement();
+    public Renamer(VariableCounter counter) {
+        this.counter = counter;
+    }
+
+    /**
+     * Local consts become globals, the function name keeps them apart from those of other functions.
+     */
+    public String getNextLocalConstName(String functionName, String originalName) {
+        return "const." + functionName + "." + originalName + "." + counter.getAndIncrement();
     }
 
     public String getNextLocalRepeatName(String originalName) {
         if (originalName.startsWith("%")) {
-            return originalName + "." + StaticVariableCounter.getAndIncrement();
+            return originalName + "." + counter.getAndIncrement();
         }
-        return "v." + originalName + "." + StaticVariableCounter.getAndIncrement();
+        return "v." + originalName + "." + counter.getAndIncrement();
     }
 }
@@ -59,10 +59,25 @@ import static icu.merky.jrabche.fe.helper.FEVisitorHelper.*;
 public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements SylangVisitor<Void> {
     public final VisitorContext C;
 
+    /**
+     * Decides whether the body of a function definition is generated. A function whose body is
+     * skipped is only declared to the rest of the unit, e.g. because its IR was kept from an
+     * earlier compilation.
+     */
+    public interface BodyFilter {
+        boolean visitBody(SylangParser.FuncDefContext ctx);
+    }
+
+    private BodyFilter bodyFilter = ctx -> true;
+
     public SylangVisitorImpl(IRBuilder builder) {
         this.C = new VisitorContext(builder);
     }
 
+    public void setBodyFilter(BodyFilter bodyFilter) {
+        this.bodyFilter = bodyFilter;
+    }
+
     /**
      * Visit a parse tree produced by {@link SylangParser#compUnit}.
      *
@@ -222,7 +237,7 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
             // local var, may not be all const.
         else {
             String renamed = name;
-            if (C.lc.cur.valSymbolTable.get(name) != null) {
+            if (C.lc.queryCurrent(name) != null) {
                 throw new CompileException("redefinition of variable `" + name + "`", ctx.Ident());
             }
             if (C.query(name) != null) {
@@ -239,7 +254,6 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
                         C.addAndUpdate(new IRInstStore(C.lastVal, alloca));
                         C.pushVar(name, alloca);
                     } catch (Exception e) {
-                        e.printStackTrace();
                         throw new RuntimeException(e);
                     }
                 } else {
@@ -258,7 +272,6 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
                         CAddMemZero(C, arrayType.getSizeBytes(), alloca);
                         ctx.initVal().accept(this);
                     } catch (Exception e) {
-                        e.printStackTrace();
                         throw new RuntimeException(e);
                     }
                 } else {
@@ -293,9 +306,8 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
     }
 
     private void CAddMemZero(VisitorContext C, int sizeInBytes, IRVal ptr) {
-        var zero8 = IRValConstInt.ZeroInt();
-        zero8.setType(new IntType(8));
-        C.addAndUpdate(new IRInstBitCast(ptr, new PointerType(new IntType())));
+        var zero8 = IRValConstInt.fromInt(IntType.get(8), 0);
+        C.addAndUpdate(new IRInstBitCast(ptr, PointerType.MakePointer(IntType.get())));
         C.addAndUpdate(new IRInstCall("llvm.memset.p0.i32",
                 C.queryFunctionType("llvm.memset.p0.i32"),
                 List.of(
@@ -430,13 +442,19 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
                 fpTypes.add(C.lastFPType);
             });
         }
-        var funcType = new FunctionType(funcRetType, fpTypes.stream().collect(
+        var funcType = FunctionType.get(funcRetType, fpTypes.stream().collect(
                 ArrayList<IRType>::new,
                 (list, fpType) -> list.add(fpType.type()),
                 ArrayList::addAll
         ));
-        C.builder.addFunction(new IRFunctionImpl(name, funcType));
         C.gFuncSymTbl.put(name, funcType);
+        if (!bodyFilter.visitBody(ctx)) {
+            return null;
+        }
+        // names are local to the function, so its IR does not depend on the functions before it.
+        C.builder.getCounter().set(0);
+        C.bbc.resetCounts();
+        C.builder.addFunction(new IRFunctionImpl(name, funcType, C.builder.getCounter()));
         C.lc.dive();
         C.inAtarashiiFunction = true;
 
@@ -831,7 +849,7 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
         // prepare
         C.needLoad.dive(true);
         IRBasicBlock trueBB, falseBB, afterBB;
-        int ifElseCount = BBController.ifCount.getAndIncrement();
+        int ifElseCount = C.bbc.ifCount.getAndIncrement();
         trueBB = C.builder.curFunc().addBlock();
         trueBB.setName("if.then." + ifElseCount);
         afterBB = C.builder.curFunc().addBlock();
@@ -909,7 +927,7 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
         IRBasicBlock condBB, bodyBB, afterBB;
         // 1. prepare
         C.needLoad.dive(true);
-        int forCount = BBController.whileCount.getAndIncrement();
+        int forCount = C.bbc.whileCount.getAndIncrement();
         condBB = C.builder.curFunc().addBlock();
         condBB.setName("for.cond." + forCount);
         bodyBB = C.builder.curFunc().addBlock();
@@ -977,7 +995,7 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
     public Void visitWhile(SylangParser.WhileContext ctx) {
         C.needLoad.dive(true);
         IRBasicBlock condBB, bodyBB, afterBB;
-        int whileCount = BBController.whileCount.getAndIncrement();
+        int whileCount = C.bbc.whileCount.getAndIncrement();
         condBB = C.builder.curFunc().addBlock();
         condBB.setName("while.cond." + whileCount);
         bodyBB = C.builder.curFunc().addBlock();
@@ -1228,7 +1246,7 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
     @Override
     public Void visitAnd(SylangParser.AndContext ctx) {
         C.needLoad.dive(true);
-        int andCount = BBController.andCount.getAndIncrement();
+        int andCount = C.bbc.andCount.getAndIncrement();
         IRBasicBlock trueBB = C.builder.curFunc().addBlock();
         trueBB.setName("and.next." + andCount);
         C.bbc.pushAnd(trueBB);
@@ -1261,7 +1279,7 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
     @Override
     public Void visitOr(SylangParser.OrContext ctx) {
         C.needLoad.dive(true);
-        int orCount = BBController.orCount.getAndIncrement();
+        int orCount = C.bbc.orCount.getAndIncrement();
         IRBasicBlock falseBB = C.builder.curFunc().addBlock();
         falseBB.setName("or.next." + orCount);
         C.bbc.pushOr(falseBB);
@@ -1449,7 +1467,7 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
     @Finished
     public Void visitDecIntConst(SylangParser.DecIntConstContext ctx) {
         int num = Integer.parseInt(ctx.DecIntConst().getText());
-        C.lastVal = new IRValConstInt(num);
+        C.lastVal = IRValConstInt.fromInt(num);
         return null;
     }
 
@@ -1464,7 +1482,7 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
     @Finished
     public Void visitOctIntConst(SylangParser.OctIntConstContext ctx) {
         int num = Integer.parseInt(ctx.OctIntConst().getText(), 8);
-        C.lastVal = new IRValConstInt(num);
+        C.lastVal = IRValConstInt.fromInt(num);
         return null;
     }
 
@@ -1480,7 +1498,7 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
     public Void visitHexIntConst(SylangParser.HexIntConstContext ctx) {
         String withoutPrefix = ctx.HexIntConst().getText().substring(2);
         int num = Integer.parseInt(withoutPrefix, 16);
-        C.lastVal = new IRValConstInt(num);
+        C.lastVal = IRValConstInt.fromInt(num);
         return null;
     }
 
@@ -1495,7 +1513,7 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
     @Finished
     public Void visitDecFloatConst(SylangParser.DecFloatConstContext ctx) {
         float num = Float.parseFloat(ctx.DecFloatConst().getText());
-        C.lastVal = new IRValConstFloat(num);
+        C.lastVal = IRValConstFloat.fromFloat(num);
         return null;
     }
 
@@ -1511,7 +1529,7 @@ public class SylangVisitorImpl extends AbstractParseTreeVisitor<Void> implements
     public Void visitHexFloatConst(SylangParser.HexFloatConstContext ctx) {
         // stored like 0xe.bp2.
         float num = Float.parseFloat(ctx.getText());
-        C.lastVal = new IRValConstFloat(num);
+        C.lastVal = IRValConstFloat.fromFloat(num);
         return null;
     }
 
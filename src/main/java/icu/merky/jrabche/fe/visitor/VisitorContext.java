@@ -59,53 +59,54 @@ public class VisitorContext {
     public boolean inCond = false;
     public IC ic = new IC();
     boolean inAtarashiiFunction = false;
-    Renamer renamer = new Renamer();
+    Renamer renamer;
     Set<String> functionUsedSymbols = new HashSet<>();
 
     public VisitorContext(IRBuilder builder) {
         this.builder = builder;
+        this.renamer = new Renamer(builder.getCounter());
         this.initBuiltinFunctions();
     }
 
     private void initBuiltinFunctions() {
         // void @llvm.memset.p0.i32(i32* %v1, i8 0, i32 12, i1 false)
-        var memsetType = new FunctionType(new VoidType(), List.of(MakePointer(new IntType(32)), new IntType(8), new IntType(32), new IntType(1)));
+        var memsetType = FunctionType.get(VoidType.get(), List.of(MakePointer(IntType.get(32)), IntType.get(8), IntType.get(32), IntType.get(1)));
         gFuncSymTbl.put("llvm.memset.p0.i32", memsetType);
         // i32 @getint()
-        var getintType = new FunctionType(new IntType(32), List.of());
+        var getintType = FunctionType.get(IntType.get(32), List.of());
         gFuncSymTbl.put("getint", getintType);
         // i32 @getfloat()
-        var getfloatType = new FunctionType(new FloatType(), List.of());
+        var getfloatType = FunctionType.get(FloatType.get(), List.of());
         gFuncSymTbl.put("getfloat", getfloatType);
         // void @putint(i32)
-        var putintType = new FunctionType(new VoidType(), List.of(new IntType(32)));
+        var putintType = FunctionType.get(VoidType.get(), List.of(IntType.get(32)));
         gFuncSymTbl.put("putint", putintType);
         // void @putfloat(float)
-        var putfloatType = new FunctionType(new VoidType(), List.of(new FloatType()));
+        var putfloatType = FunctionType.get(VoidType.get(), List.of(FloatType.get()));
         gFuncSymTbl.put("putfloat", putfloatType);
         // i32 @getarray(i32*)
-        var getarrayType = new FunctionType(new IntType(32), List.of(new PointerType(new IntType(32))));
+        var getarrayType = FunctionType.get(IntType.get(32), List.of(MakePointer(IntType.get(32))));
         gFuncSymTbl.put("getarray", getarrayType);
         // i32 @getfarray(float*)
-        var getfarrayType = new FunctionType(new IntType(32), List.of(new PointerType(new FloatType())));
+        var getfarrayType = FunctionType.get(IntType.get(32), List.of(MakePointer(FloatType.get())));
         gFuncSymTbl.put("getfarray", getfarrayType);
         // i32 @getch()
-        var getchType = new FunctionType(new IntType(32), List.of());
+        var getchType = FunctionType.get(IntType.get(32), List.of());
         gFuncSymTbl.put("getch", getchType);
         // void @putch(i32)
-        var putchType = new FunctionType(new VoidType(), List.of(new IntType(32)));
+        var putchType = FunctionType.get(VoidType.get(), List.of(IntType.get(32)));
         gFuncSymTbl.put("putch", putchType);
         // void @putarray(i32, i32*)
-        var putarrayType = new FunctionType(new VoidType(), List.of(new IntType(32), new PointerType(new IntType(32))));
+        var putarrayType = FunctionType.get(VoidType.get(), List.of(IntType.get(32), MakePointer(IntType.get(32))));
         gFuncSymTbl.put("putarray", putarrayType);
         // void @putfarray(i32, float*)
-        var putfarrayType = new FunctionType(new VoidType(), List.of(new IntType(32), new PointerType(new FloatType())));
+        var putfarrayType = FunctionType.get(VoidType.get(), List.of(IntType.get(32), MakePointer(FloatType.get())));
         gFuncSymTbl.put("putfarray", putfarrayType);
         // void @_sysy_starttime(i32)
-        var _sysy_starttimeType = new FunctionType(new VoidType(), List.of(new IntType(32)));
+        var _sysy_starttimeType = FunctionType.get(VoidType.get(), List.of(IntType.get(32)));
         gFuncSymTbl.put("_sysy_starttime", _sysy_starttimeType);
         // void @_sysy_stoptime(i32)
-        var _sysy_stoptimeType = new FunctionType(new VoidType(), List.of(new IntType(32)));
+        var _sysy_stoptimeType = FunctionType.get(VoidType.get(), List.of(IntType.get(32)));
         gFuncSymTbl.put("_sysy_stoptime", _sysy_stoptimeType);
 
         gFuncSymTbl.forEach(builder::addFuncDeclaration);
@@ -146,7 +147,7 @@ public class VisitorContext {
     public void pushConst(String name, IRValConst initVal) {
         IRVal val = initVal;
         // a const should be pushed to global symbol table
-        var renamed = lc.inGlobal() ? name : renamer.getNextLocalConstName(name);
+        var renamed = lc.inGlobal() ? name : renamer.getNextLocalConstName(builder.curFunc().getName(), name);
         val = new IRValGlobal(initVal); // const must be in global.
         val.setConst(true);
         val.setName("@" + renamed);
@@ -180,28 +181,49 @@ public class VisitorContext {
         pushVar(name, val);
     }
 
-    static class Layer {
-        public Map<String, IRVal> valSymbolTable = new HashMap<>();
-    }
-
+    /**
+     * Scopes of names. Every name maps to its innermost binding, which links to the binding it
+     * shadows, and every local scope lists the names it bound, to restore them on
+     * {@link #ascend()}. Lookups, definitions and leaving a scope are O(1) per name, whatever
+     * the depth of the blocks.
+     */
     static class LayerCtrl {
-        public Layer cur;
-        // layer0 is global
-        List<Layer> layers = new ArrayList<>();
+        private static final class Binding {
+            IRVal val;
+            final int layer;
+            final Binding shadowed;
+
+            Binding(IRVal val, int layer, Binding shadowed) {
+                this.val = val;
+                this.layer = layer;
+                this.shadowed = shadowed;
+            }
+        }
+
+        // layer 0
+        private final Map<String, IRVal> globals = new HashMap<>();
+        // layers 1.., innermost binding of each name
+        private final Map<String, Binding> locals = new HashMap<>();
+        // names bound in each layer; layer0 is global and never left
+        private final List<List<String>> layers = new ArrayList<>();
 
         public LayerCtrl() {
-            layers.add(new Layer());
-            cur = layers.get(0);
+            layers.add(null);
         }
 
         public void dive() {
-            cur = new Layer();
-            layers.add(cur);
+            layers.add(new ArrayList<>());
         }
 
         public void ascend() {
-            layers.remove(layers.size() - 1);
-            cur = layers.get(layers.size() - 1);
+            for (String name : layers.remove(layers.size() - 1)) {
+                var shadowed = locals.get(name).shadowed;
+                if (shadowed == null) {
+                    locals.remove(name);
+                } else {
+                    locals.put(name, shadowed);
+                }
+            }
         }
 
         public int getLayerCount() {
@@ -217,17 +239,37 @@ public class VisitorContext {
         }
 
         public void push(String name, IRVal val) {
-            cur.valSymbolTable.put(name, val);
+            if (inGlobal()) {
+                globals.put(name, val);
+                return;
+            }
+            int layer = getLayerIndex();
+            var top = locals.get(name);
+            if (top != null && top.layer == layer) {
+                top.val = val;
+                return;
+            }
+            locals.put(name, new Binding(val, layer, top));
+            layers.get(layer).add(name);
         }
 
         public IRVal query(String name) {
-            for (int i = layers.size() - 1; i >= 0; i--) {
-                var layer = layers.get(i);
-                if (layer.valSymbolTable.containsKey(name)) {
-                    return layer.valSymbolTable.get(name);
-                }
+            var top = locals.get(name);
+            return top != null ? top.val : globals.get(name);
+        }
+
+        /**
+         * Only query the innermost layer
+         *
+         * @param name name of the variable
+         * @return null if not defined in this layer
+         */
+        public IRVal queryCurrent(String name) {
+            if (inGlobal()) {
+                return globals.get(name);
             }
-            return null;
+            var top = locals.get(name);
+            return top != null && top.layer == getLayerIndex() ? top.val : null;
         }
 
         /**
@@ -238,19 +280,13 @@ public class VisitorContext {
          */
         public IRVal queryLocal(String name) {
             // only local
-            for (int i = layers.size() - 1; i > 0; i--) {
-                var layer = layers.get(i);
-                if (layer.valSymbolTable.containsKey(name)) {
-                    return layer.valSymbolTable.get(name);
-                }
-            }
-            return null;
+            var top = locals.get(name);
+            return top != null ? top.val : null;
         }
 
         public IRVal queryGlobal(String name) {
             // only global
-            var layer = layers.get(0);
-            return layer.valSymbolTable.getOrDefault(name, null);
+            return globals.get(name);
         }
     }
 
@@ -26,4 +26,9 @@ public interface IRBuilder {
     IRBasicBlock curBB();
 
     IRModule getModule();
+
+    /**
+     * @return the counter used for value names while this module is being built.
+     */
+    VariableCounter getCounter();
 }
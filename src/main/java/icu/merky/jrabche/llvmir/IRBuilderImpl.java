@@ -45,10 +45,12 @@ import java.util.Map;
 public class IRBuilderImpl implements IRBuilder {
 
 
-    Map<String, IRVal> globals = new HashMap<>();
+    // source order, so that the output does not depend on hashing.
+    Map<String, IRVal> globals = new LinkedHashMap<>();
     Map<String, IRFunction> functions = new LinkedHashMap<>();
     Map<String, FunctionType> functionDeclarations = new HashMap<>();
     IRFunction curFunc;
+    VariableCounter counter = new VariableCounter();
 
     @Override
     public Map<String, FunctionType> getFunctionDeclarations() {
@@ -99,4 +101,9 @@ public class IRBuilderImpl implements IRBuilder {
     public Map<String, IRFunction> getFunctions() {
         return functions;
     }
+
+    @Override
+    public VariableCounter getCounter() {
+        return counter;
+    }
 }
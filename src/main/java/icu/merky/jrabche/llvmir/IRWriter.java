@@ -0,0 +1,352 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.llvmir;
+
+import icu.merky.jrabche.llvmir.inst.IRInst;
+import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
+import icu.merky.jrabche.llvmir.structures.IRFunction;
+import icu.merky.jrabche.llvmir.structures.IRModule;
+import icu.merky.jrabche.llvmir.types.*;
+import icu.merky.jrabche.llvmir.values.*;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Prints LLVM IR text straight into an {@link Appendable} or a {@link WritableByteChannel}.
+ * <p>
+ * Instructions print themselves through {@link IRInst#print(IRWriter)}; names, numbers and types
+ * are appended piece by piece, so no String is built per instruction. For a channel the text goes
+ * through one reusable char buffer and one reusable byte buffer.
+ * <p>
+ * IO errors are thrown as {@link UncheckedIOException}.
+ */
+public class IRWriter implements Appendable, Flushable, Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Appendable out;
+    private final WritableByteChannel channel;
+    private final CharBuffer chars;
+    private final ByteBuffer bytes;
+    private final CharsetEncoder encoder;
+
+    public IRWriter(Appendable out) {
+        this.out = out;
+        this.channel = null;
+        this.chars = null;
+        this.bytes = null;
+        this.encoder = null;
+    }
+
+    public IRWriter(WritableByteChannel channel) {
+        this.out = null;
+        this.channel = channel;
+        this.chars = CharBuffer.allocate(BUFFER_SIZE);
+        this.bytes = ByteBuffer.allocate(BUFFER_SIZE * 2);
+        this.encoder = StandardCharsets.UTF_8.newEncoder();
+    }
+
+    /**
+     * Write {@code M} to the file at {@code path}, replacing it.
+     */
+    public static void write(IRModule M, Path path) {
+        write(path, w -> w.module(M));
+    }
+
+    /**
+     * Write what {@code body} prints to the file at {@code path}, replacing it.
+     */
+    public static void write(Path path, Consumer<IRWriter> body) {
+        try (var fc = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING);
+             var w = new IRWriter(fc)) {
+            body.accept(w);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the text of {@code inst}, for debugging and logs.
+     */
+    public static String toString(IRInst inst) {
+        StringBuilder sb = new StringBuilder();
+        inst.print(new IRWriter(sb));
+        return sb.toString();
+    }
+
+    // ---- characters ----
+
+    @Override
+    public IRWriter append(CharSequence csq) {
+        if (csq == null) csq = "null";
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public IRWriter append(CharSequence csq, int start, int end) {
+        if (csq == null) csq = "null";
+        try {
+            if (out != null) {
+                out.append(csq, start, end);
+                return this;
+            }
+            while (start < end) {
+                if (!chars.hasRemaining()) drain();
+                int n = Math.min(end - start, chars.remaining());
+                if (csq instanceof String s) {
+                    int pos = chars.position();
+                    s.getChars(start, start + n, chars.array(), pos);
+                    chars.position(pos + n);
+                } else {
+                    chars.put(CharBuffer.wrap(csq, start, start + n));
+                }
+                start += n;
+            }
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public IRWriter append(char c) {
+        try {
+            if (out != null) {
+                out.append(c);
+                return this;
+            }
+            if (!chars.hasRemaining()) drain();
+            chars.put(c);
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Append a decimal number without going through a String.
+     */
+    public IRWriter append(long v) {
+        if (v == Long.MIN_VALUE) return append("-9223372036854775808");
+        if (v < 0) {
+            append('-');
+            v = -v;
+        }
+        long div = 1;
+        while (v / div >= 10) div *= 10;
+        for (; div > 0; div /= 10) {
+            append((char) ('0' + (v / div) % 10));
+        }
+        return this;
+    }
+
+    /**
+     * Append an unsigned hexadecimal number, lower case, no leading zeros.
+     */
+    public IRWriter appendHex(long v) {
+        int shift = v == 0 ? 0 : (63 - Long.numberOfLeadingZeros(v)) / 4 * 4;
+        for (; shift >= 0; shift -= 4) {
+            append(Character.forDigit((int) ((v >>> shift) & 0xf), 16));
+        }
+        return this;
+    }
+
+    private void drain() throws IOException {
+        chars.flip();
+        while (true) {
+            CoderResult r = encoder.encode(chars, bytes, false);
+            writeBytes();
+            if (r.isUnderflow()) break;
+        }
+        chars.compact();
+    }
+
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) channel.write(bytes);
+        bytes.clear();
+    }
+
+    @Override
+    public void flush() {
+        if (channel == null) return;
+        try {
+            drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (channel == null) return;
+        try {
+            chars.flip();
+            while (true) {
+                CoderResult r = encoder.encode(chars, bytes, true);
+                writeBytes();
+                if (r.isUnderflow()) break;
+            }
+            while (true) {
+                CoderResult r = encoder.flush(bytes);
+                writeBytes();
+                if (r.isUnderflow()) break;
+            }
+            chars.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ---- IR ----
+
+    public IRWriter type(IRType ty) {
+        if (ty instanceof IntType it) {
+            return append('i').append(it.getBitWidth());
+        } else if (ty instanceof PointerType pt) {
+            return type(pt.getElementType()).append('*');
+        } else if (ty instanceof ArrayType at) {
+            return append('[').append(at.getSize()).append(" x ").type(at.getElementType()).append(']');
+        }
+        // float, void, label ... are constant strings.
+        return append(ty.toString());
+    }
+
+    /**
+     * Append {@code v} as an operand, e.g. {@code %v1}, {@code 42} or {@code @g}.
+     */
+    public IRWriter value(IRVal v) {
+        if (v instanceof IRInst || v instanceof IRValFP || v instanceof IRValGlobal) {
+            return append(v.getName());
+        } else if (v instanceof IRValConstInt ci) {
+            return append(ci.getValue());
+        } else if (v instanceof IRValConstFloat cf) {
+            return append("0x").appendHex(Double.doubleToLongBits(cf.getValue()));
+        }
+        return append(v.asValue());
+    }
+
+    /**
+     * Append the type and the value of {@code v}, e.g. {@code i32 %v1}.
+     */
+    public IRWriter typedValue(IRVal v) {
+        return type(v.getType()).append(' ').value(v);
+    }
+
+    public IRWriter inst(IRInst inst) {
+        inst.print(this);
+        return this;
+    }
+
+    public IRWriter block(IRBasicBlock bb) {
+        append(bb.getName()).append(":\n");
+        for (IRInst inst : bb.getInsts()) {
+            append('\t').inst(inst).append('\n');
+        }
+        return this;
+    }
+
+    public IRWriter function(IRFunction F) {
+        append("define ").type(F.getFunctionType().getRetType()).append(" @").append(F.getName()).append('(');
+        boolean first = true;
+        for (IRValFP fp : F.getFp().values()) {
+            if (!first) append(", ");
+            first = false;
+            type(fp.getType()).append(' ').append(fp.getName());
+        }
+        append(") {\n");
+        for (IRBasicBlock bb : F.getBlocks()) {
+            block(bb);
+        }
+        return append("}\n");
+    }
+
+    /**
+     * Globals and functions, without the declarations.
+     */
+    public IRWriter moduleBody(IRModule M) {
+        for (Map.Entry<String, IRVal> entry : M.getGlobals().entrySet()) {
+            global(entry.getKey(), entry.getValue());
+        }
+        for (IRFunction F : M.allFunctions()) {
+            function(F);
+        }
+        return this;
+    }
+
+    public IRWriter global(String name, IRVal val) {
+        // @dd = [constant] global [2 x [3 x i32]] zeroinitializer
+        if (val instanceof IRValGlobal vg) {
+            append(vg.getName()).append(" = ").append(vg.isConst() ? "constant " : "global ");
+            IRVal element = vg.getElement();
+            return type(element.getType()).append(' ').value(element).append('\n');
+        }
+        return append('@').append(name).append(" = global ").typedValue(val).append('\n');
+    }
+
+    public IRWriter module(IRModule M) {
+        return declarations(M).moduleBody(M);
+    }
+
+    /**
+     * The declarations of the library functions, and an empty line.
+     */
+    public IRWriter declarations(IRModule M) {
+        // declare i32 @getarray(i32*)
+        for (Map.Entry<String, FunctionType> entry : M.getFunctionDeclarations().entrySet()) {
+            FunctionType fType = entry.getValue();
+            append("declare ").type(fType.getRetType()).append(" @").append(entry.getKey()).append('(');
+            List<IRType> params = fType.getParamsType();
+            for (int i = 0; i < params.size(); i++) {
+                if (i != 0) append(", ");
+                type(params.get(i));
+            }
+            append(")\n");
+        }
+        return append('\n');
+    }
+}
@@ -31,18 +31,24 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
 import icu.merky.jrabche.llvmir.types.IRType;
 import icu.merky.jrabche.llvmir.values.IRVal;
 import icu.merky.jrabche.llvmir.values.ValueRepresentable;
+import icu.merky.jrabche.support.IntrusiveList;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
-public abstract class IRInst extends IRVal implements Cloneable, DUR, ValueRepresentable {
+public abstract class IRInst extends IRVal implements Cloneable, DUR, ValueRepresentable, IntrusiveList.Node<IRInst> {
     protected InstID instID;
-    Set<IRInst> usedBy = new HashSet<>();
-    private boolean deleted = false;
+    private ArrayList<Use> operands = new ArrayList<>(2);
+    // head of the list of slots that hold this instruction, see Use.
+    Use firstUse;
+    // position in the instruction list of the parent block.
+    private IntrusiveList.Link<IRInst> link = new IntrusiveList.Link<>();
     private IRBasicBlock parent;
 
     public IRInst(String name, InstID instID, IRType valType) {
@@ -66,33 +72,170 @@ public abstract class IRInst extends IRVal implements Cloneable, DUR, ValueRepre
         this.parent = parent;
     }
 
+    @Override
+    public IntrusiveList.Link<IRInst> link() {
+        return link;
+    }
+
+    /**
+     * @return the previous instruction in the parent block, or null.
+     */
+    public IRInst getPrevInst() {
+        return link.getPrev();
+    }
+
+    /**
+     * @return the next instruction in the parent block, or null.
+     */
+    public IRInst getNextInst() {
+        return link.getNext();
+    }
+
+    /**
+     * Move this instruction right before {@code pos}.
+     */
+    public void insertBefore(IRInst pos) {
+        pos.getParent().getInsts().insertBefore(pos, this);
+    }
+
+    /**
+     * Move this instruction right after {@code pos}.
+     */
+    public void insertAfter(IRInst pos) {
+        pos.getParent().getInsts().insertAfter(pos, this);
+    }
+
+    /**
+     * Unlink this instruction from its block, keeping its operands.
+     */
+    public void removeFromParent() {
+        if (parent != null) parent.getInsts().remove(this);
+    }
+
+    /**
+     * Unlink this instruction from its block and drop its operands. Iterators over the block stay
+     * valid, so passes may erase the instruction they are looking at.
+     */
+    public void eraseFromParent() {
+        removeFromParent();
+        dropAllReferences();
+    }
+
+    /**
+     * @return the instructions that use this instruction, a snapshot in use list order.
+     */
     @Override
     public Set<IRInst> getUsedBy() {
-        return usedBy;
+        Set<IRInst> users = new LinkedHashSet<>();
+        for (Use use = firstUse; use != null; use = use.next) {
+            users.add(use.getUser());
+        }
+        return users;
+    }
+
+    /**
+     * @return the first slot holding this instruction, follow {@link Use#getNext()} for the others.
+     */
+    public Use getFirstUse() {
+        return firstUse;
+    }
+
+    public boolean hasUses() {
+        return firstUse != null;
+    }
+
+    /**
+     * @return the values this instruction uses, a snapshot without duplicates, in operand order.
+     */
+    @Override
+    public Set<IRVal> getUses() {
+        Set<IRVal> uses = new LinkedHashSet<>();
+        for (Use use : operands) {
+            uses.add(use.get());
+        }
+        return uses;
     }
 
-    public boolean isDeleted() {
-        return deleted;
+    public int getNumOperands() {
+        return operands.size();
     }
 
-    public void setDeleted(boolean deleted) {
-        this.deleted = deleted;
+    public IRVal getOperand(int i) {
+        return operands.get(i).get();
     }
 
-    public void setDeleted() {
-        this.deleted = true;
+    public Use getOperandUse(int i) {
+        return operands.get(i);
+    }
+
+    public void setOperand(int i, IRVal val) {
+        operands.get(i).set(val);
+    }
+
+    protected final void addOperand(IRVal val) {
+        Use use = new Use(this, operands.size());
+        operands.add(use);
+        use.set(val);
+    }
+
+    protected final void removeOperand(int i) {
+        operands.remove(i).set(null);
+        for (int j = i; j < operands.size(); j++) {
+            operands.get(j).index = j;
+        }
+    }
+
+    /**
+     * Replace every operand that is {@code oldVal} (the same object) with {@code newVal}.
+     *
+     * @return whether an operand was replaced
+     */
+    @Override
+    public boolean replace(IRVal oldVal, IRVal newVal) {
+        boolean replaced = false;
+        for (int i = 0; i < getNumOperands(); i++) {
+            if (getOperand(i) == oldVal) {
+                setOperand(i, newVal);
+                replaced = true;
+            }
+        }
+        return replaced;
+    }
+
+    /**
+     * Take this instruction out of the use lists of its operands. Call it when the instruction is
+     * removed for good; the operands read as null afterwards.
+     */
+    public void dropAllReferences() {
+        for (Use use : operands) {
+            use.set(null);
+        }
     }
 
     @Override
     public IRInst clone() {
         var clone = (IRInst) super.clone();
-        clone.deleted = false;
         clone.instID = instID;
+        clone.link = new IntrusiveList.Link<>();
+        clone.parent = null;
+        // the clone uses the same values, but nothing uses the clone yet.
+        clone.firstUse = null;
+        clone.operands = new ArrayList<>(operands.size());
+        for (Use use : operands) {
+            clone.addOperand(use.get());
+        }
         return clone;
     }
 
+    /**
+     * Print the text of this instruction, without indent and line break.
+     */
+    public abstract void print(IRWriter w);
+
     @Override
-    public abstract String toString();
+    public String toString() {
+        return IRWriter.toString(this);
+    }
 
     public boolean isAllocaInst() {
         return instID == InstID.AllocaInst;
@@ -167,10 +310,6 @@ public abstract class IRInst extends IRVal implements Cloneable, DUR, ValueRepre
         return type;
     }
 
-    // public abstract IRVal getOperand(int i);
-    // public abstract void setOperand(int i, IRVal val);
-    // public abstract int getNumOperands();
-
     @Override
     public void setName(String name) {
         super.setName(name.startsWith("%") ? name : "%" + name);
@@ -31,11 +31,9 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.types.IRType;
 import icu.merky.jrabche.llvmir.types.PointerType;
-import icu.merky.jrabche.llvmir.values.IRVal;
-
-import java.util.Set;
 
 import static icu.merky.jrabche.llvmir.types.PointerType.MakePointer;
 
@@ -56,37 +54,12 @@ public class IRInstAlloca extends IRInst {
     }
 
     @Override
-    public String toString() {
-        return getName() + " = alloca " + ((PointerType) type).getElementType();
-    }
-
-    // @Override
-    public IRVal getOperand(int i) {
-        throw new UnsupportedOperationException();
-    }
-
-    // @Override
-    public void setOperand(int i, IRVal val) {
-        throw new UnsupportedOperationException();
-    }
-
-    // @Override
-    public int getNumOperands() {
-        return 0;
-    }
-
-    @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        return false;
+    public void print(IRWriter w) {
+        w.append(getName()).append(" = alloca ").type(((PointerType) type).getElementType());
     }
 
     @Override
     public String asValue() {
         return name;
     }
-
-    @Override
-    public Set<IRVal> getUses() {
-        return Set.of();
-    }
 }
@@ -31,57 +31,23 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.types.IRType;
 import icu.merky.jrabche.llvmir.values.IRVal;
 
-import java.util.Set;
-
 public class IRInstBitCast extends IRInst {
-    private IRVal val;
-
     public IRInstBitCast(IRVal val, IRType toType) {
         super(InstID.BitCastInst, toType);
-        this.val = val;
-    }
-
-    @Override
-    public String toString() {
-        return String.format("%s = bitcast %s %s to %s", name, val.getType(), val.asValue(), getType());
-    }
-
-    // @Override
-    public IRVal getOperand(int i) {
-        if (i != 0) throw new IndexOutOfBoundsException();
-        return val;
-    }
-
-    // @Override
-    public void setOperand(int i, IRVal val) {
-        if (i != 0) throw new IndexOutOfBoundsException();
-        this.val = val;
-    }
-
-    // @Override
-    public int getNumOperands() {
-        return 1;
+        addOperand(val);
     }
 
     @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        if (val == oldVal) {
-            val = newVal;
-            return true;
-        }
-        return false;
+    public void print(IRWriter w) {
+        w.append(name).append(" = bitcast ").typedValue(getOperand(0)).append(" to ").type(getType());
     }
 
     @Override
     public String asValue() {
         return name;
     }
-
-    @Override
-    public Set<IRVal> getUses() {
-        return Set.of(val);
-    }
 }
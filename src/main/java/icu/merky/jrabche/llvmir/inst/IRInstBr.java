@@ -31,6 +31,7 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
 import icu.merky.jrabche.llvmir.types.VoidType;
 import icu.merky.jrabche.llvmir.values.IRVal;
@@ -39,12 +40,11 @@ import icu.merky.jrabche.llvmir.values.IRValConstBool;
 import java.util.Set;
 
 public class IRInstBr extends IRInst implements BlockReplaceable {
+    // the blocks are not operands, only the condition is (if there is one).
     IRBasicBlock trueBB, falseBB;
-    IRVal cond;
 
     public IRInstBr(IRVal cond, IRBasicBlock trueBB, IRBasicBlock falseBB) {
-        super(InstID.BrInst, new VoidType());
-        this.cond = cond;
+        super(InstID.BrInst, VoidType.get());
         if (cond instanceof IRValConstBool boolVal) {
             if (boolVal.getValue() != 0) {
                 this.trueBB = trueBB;
@@ -52,45 +52,43 @@ public class IRInstBr extends IRInst implements BlockReplaceable {
                 this.trueBB = falseBB;
             }
             this.falseBB = null;
-            this.cond = null;
         } else {
+            addOperand(cond);
             this.trueBB = trueBB;
             this.falseBB = falseBB;
         }
     }
 
     public IRInstBr(IRBasicBlock trueBB) {
-        super(InstID.BrInst, new VoidType());
+        super(InstID.BrInst, VoidType.get());
         this.trueBB = trueBB;
         this.falseBB = null;
-        this.cond = null;
     }
 
     @Override
-    public String toString() {
+    public void print(IRWriter w) {
+        IRVal cond = getCond();
         if (cond == null) {
             // br label %L1
-            return "br label %" + trueBB.getName();
+            w.append("br label %").append(trueBB.getName());
+            return;
         }
         // br i1 %v8, label %L1, label %L2
-        return "br i1 " + cond.asValue() + ", label %" + trueBB.getName() + ", label %" + falseBB.getName();
+        w.append("br i1 ").value(cond).append(", label %").append(trueBB.getName())
+                .append(", label %").append(falseBB.getName());
     }
 
     @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        if (cond == oldVal) {
-            cond = newVal;
-            // fast path to deal with CONST NEW VAL
-            if (cond instanceof IRValConstBool boolConst) {
-                if (boolConst.getValue() == 0) { // br false
-                    trueBB = falseBB;
-                }
-                falseBB = null;
-                cond = null;
+    public void setOperand(int i, IRVal val) {
+        super.setOperand(i, val);
+        // fast path to deal with CONST NEW VAL
+        if (val instanceof IRValConstBool boolConst) {
+            if (boolConst.getValue() == 0) { // br false
+                trueBB = falseBB;
             }
-            return true;
+            falseBB = null;
+            removeOperand(0);
         }
-        return false;
     }
 
     @Override
@@ -105,7 +103,7 @@ public class IRInstBr extends IRInst implements BlockReplaceable {
             ret = true;
         }
         if (trueBB == falseBB) {
-            cond = null;
+            if (getNumOperands() != 0) removeOperand(0);
             falseBB = null;
         }
         return ret;
@@ -113,7 +111,7 @@ public class IRInstBr extends IRInst implements BlockReplaceable {
 
     @Override
     public Set<IRBasicBlock> getReplaceableBlocks() {
-        if (null == cond) {
+        if (null == getCond()) {
             return Set.of(trueBB);
         }
         return Set.of(trueBB, falseBB);
@@ -127,17 +125,15 @@ public class IRInstBr extends IRInst implements BlockReplaceable {
         return falseBB;
     }
 
+    /**
+     * @return the condition, null for an unconditional branch.
+     */
     public IRVal getCond() {
-        return cond;
+        return getNumOperands() == 0 ? null : getOperand(0);
     }
 
     @Override
     public String asValue() {
         return null;
     }
-
-    @Override
-    public Set<IRVal> getUses() {
-        return cond == null ? Set.of() : Set.of(cond);
-    }
 }
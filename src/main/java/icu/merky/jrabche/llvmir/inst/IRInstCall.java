@@ -31,15 +31,13 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.types.FunctionType;
 import icu.merky.jrabche.llvmir.values.IRVal;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 public class IRInstCall extends IRInst {
-    List<IRVal> args;
     String funcName;
 
     /**
@@ -50,43 +48,30 @@ public class IRInstCall extends IRInst {
      */
     public IRInstCall(String funcName, FunctionType functionType, List<IRVal> args) {
         super(InstID.CallInst, functionType.getRetType());
-        this.args = args;
         this.funcName = funcName;
         // check args type
         if (args.size() != functionType.getParamsType().size())
             throw new RuntimeException("Argument number mismatch.");
         for (int i = 0; i < args.size(); i++) {
-            if (!args.get(i).getType().equals(functionType.getParamsType().get(i)))
+            if (args.get(i).getType() != functionType.getParamsType().get(i))
                 throw new RuntimeException("Argument type mismatch.");
         }
+        for (IRVal arg : args) {
+            addOperand(arg);
+        }
     }
 
     @Override
-    public String toString() {
-        StringBuilder sb = new StringBuilder();
+    public void print(IRWriter w) {
         if (name != null) {
-            sb.append(name).append(" = ");
-        }
-        sb.append("call ").append(type.toString()).append(" @").append(funcName).append("(");
-        for (int i = 0; i < args.size(); i++) {
-            sb.append(args.get(i).getType().toString()).append(" ").append(args.get(i).asValue());
-            if (i != args.size() - 1) {
-                sb.append(", ");
-            }
+            w.append(name).append(" = ");
         }
-        sb.append(")");
-        return sb.toString();
-    }
-
-    @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        for (int i = 0; i < args.size(); i++) {
-            if (args.get(i).equals(oldVal)) {
-                args.set(i, newVal);
-                return true;
-            }
+        w.append("call ").type(type).append(" @").append(funcName).append('(');
+        for (int i = 0; i < getNumOperands(); i++) {
+            if (i != 0) w.append(", ");
+            w.typedValue(getOperand(i));
         }
-        return false;
+        w.append(')');
     }
 
     @Override
@@ -94,8 +79,7 @@ public class IRInstCall extends IRInst {
         return name;
     }
 
-    @Override
-    public Set<IRVal> getUses() {
-        return new HashSet<>(args);
+    public String getFuncName() {
+        return funcName;
     }
 }
@@ -31,17 +31,19 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.types.FloatType;
 import icu.merky.jrabche.llvmir.types.IRType;
 import icu.merky.jrabche.llvmir.types.IntType;
 import icu.merky.jrabche.llvmir.values.IRVal;
 
-import java.util.Set;
+import java.util.Arrays;
 
 public class IRInstFcmp extends IRInst {
+    private static final String[] OP_NAMES = Arrays.stream(FcmpOp.values())
+            .map(op -> op.toString().toLowerCase()).toArray(String[]::new);
 
     private FcmpOp op;
-    private IRVal lhs, rhs;
     private IRType opType;
 
     /**
@@ -52,51 +54,37 @@ public class IRInstFcmp extends IRInst {
      * @param rhs The second operand
      */
     public IRInstFcmp(FcmpOp op, IRVal lhs, IRVal rhs) {
-        super(null, InstID.FCmpInst, new IntType(1));
+        super(null, InstID.FCmpInst, IntType.get(1));
         this.op = op;
-        this.lhs = lhs;
-        this.rhs = rhs;
-        this.opType = new FloatType();
+        addOperand(lhs);
+        addOperand(rhs);
+        this.opType = FloatType.get();
     }
 
     @Override
-    public String toString() {
-        return name + " = fcmp " + op.toString().toLowerCase() + " " + opType.toString() + " " + lhs.asValue() + ", " + rhs.asValue();
+    public void print(IRWriter w) {
+        w.append(name).append(" = fcmp ").append(OP_NAMES[op.ordinal()]).append(' ').type(opType).append(' ')
+                .value(getLhs()).append(", ").value(getRhs());
     }
 
     @Override
     public IRInstFcmp clone() {
         IRInstFcmp clone = (IRInstFcmp) super.clone();
         clone.op = op;
-        clone.lhs = lhs;
-        clone.rhs = rhs;
-        clone.opType = opType.clone();
+        clone.opType = opType;
         return clone;
     }
 
-    @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        if (lhs == oldVal) {
-            lhs = newVal;
-            return true;
-        }
-        if (rhs == oldVal) {
-            rhs = newVal;
-            return true;
-        }
-        return false;
-    }
-
     public FcmpOp getOp() {
         return op;
     }
 
     public IRVal getLhs() {
-        return lhs;
+        return getOperand(0);
     }
 
     public IRVal getRhs() {
-        return rhs;
+        return getOperand(1);
     }
 
     public IRType getOpType() {
@@ -108,10 +96,5 @@ public class IRInstFcmp extends IRInst {
         return name;
     }
 
-    @Override
-    public Set<IRVal> getUses() {
-        return Set.of(lhs, rhs);
-    }
-
     public enum FcmpOp {FALSE, OEQ, OGE, OGT, OLE, OLT, TRUE, UEQ, UGE, UGT, ULE, ULT, UNE, UNO}
 }
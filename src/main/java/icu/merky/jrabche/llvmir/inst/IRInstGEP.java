@@ -31,27 +31,26 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.types.ArrayType;
 import icu.merky.jrabche.llvmir.types.InvalidType;
 import icu.merky.jrabche.llvmir.types.PointerType;
 import icu.merky.jrabche.llvmir.values.IRVal;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import static icu.merky.jrabche.llvmir.types.PointerType.MakePointer;
 
 public class IRInstGEP extends IRInst {
     // GetElementPtrInst
-    private IRVal ptr;
-    private final List<IRVal> indices;
     private final PointerType pointerType;
 
     public IRInstGEP(IRVal ptr, List<IRVal> indices) {
-        super(InstID.GetElementPtrInst, new InvalidType());
-        this.ptr = ptr;
-        this.indices = indices;
+        super(InstID.GetElementPtrInst, InvalidType.get());
+        addOperand(ptr);
+        for (IRVal index : indices) {
+            addOperand(index);
+        }
         assert ptr.getType() instanceof PointerType;
         this.pointerType = (PointerType) ptr.getType();
         this.calculateType();
@@ -67,11 +66,11 @@ public class IRInstGEP extends IRInst {
         //%5 = getelementptr [3 x i32], [3 x i32]* %4, i64 0, i64 1
         // in this case, %3 is [3 x i32]*, %4 is also [3 x i32]*, %5 is i32*
         PointerType lastType = pointerType;
-        if (indices.size() == 1) {
+        if (getNumIndices() == 1) {
             this.type = lastType;
             return;
         }
-        for (int i = 1; i < indices.size(); i++) {
+        for (int i = 1; i < getNumIndices(); i++) {
             assert lastType != null;
             lastType = MakePointer(
                     ((ArrayType)
@@ -81,39 +80,15 @@ public class IRInstGEP extends IRInst {
     }
 
     @Override
-    public String toString() {
-        StringBuilder sb = new StringBuilder();
+    public void print(IRWriter w) {
         if (name != null) {
-            sb.append(name).append(" = ");
+            w.append(name).append(" = ");
         }
-        sb.append("getelementptr ")
-                .append(pointerType.getElementType().toString())
-                .append(", ")
-                .append(pointerType.toString())
-                .append(" ")
-                .append(ptr.asValue());
-        for (IRVal index : indices) {
-            sb.append(", ")
-                    .append(index.getType().toString())
-                    .append(" ")
-                    .append(index.asValue());
+        w.append("getelementptr ").type(pointerType.getElementType()).append(", ")
+                .type(pointerType).append(' ').value(getPtr());
+        for (int i = 0; i < getNumIndices(); i++) {
+            w.append(", ").typedValue(getIndex(i));
         }
-        return sb.toString();
-    }
-
-    @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        if (ptr.equals(oldVal)) {
-            ptr = newVal;
-            return true;
-        }
-        for (int i = 0; i < indices.size(); i++) {
-            if (indices.get(i).equals(oldVal)) {
-                indices.set(i, newVal);
-                return true;
-            }
-        }
-        return false;
     }
 
     @Override
@@ -121,10 +96,15 @@ public class IRInstGEP extends IRInst {
         return name;
     }
 
-    @Override
-    public Set<IRVal> getUses() {
-        var res = new HashSet<>(indices);
-        res.add(ptr);
-        return res;
+    public IRVal getPtr() {
+        return getOperand(0);
+    }
+
+    public int getNumIndices() {
+        return getNumOperands() - 1;
+    }
+
+    public IRVal getIndex(int i) {
+        return getOperand(i + 1);
     }
 }
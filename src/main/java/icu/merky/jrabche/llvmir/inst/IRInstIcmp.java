@@ -31,15 +31,13 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.types.IRType;
 import icu.merky.jrabche.llvmir.types.IntType;
 import icu.merky.jrabche.llvmir.values.IRVal;
 
-import java.util.Set;
-
 public class IRInstIcmp extends IRInst {
     private IcmpOp op;
-    private IRVal lhs, rhs;
     private IRType opType;
 
     /**
@@ -50,49 +48,26 @@ public class IRInstIcmp extends IRInst {
      * @param rhs right operand
      */
     public IRInstIcmp(IcmpOp op, IRVal lhs, IRVal rhs) {
-        super(null, InstID.ICmpInst, new IntType(1));
+        super(null, InstID.ICmpInst, IntType.get(1));
         this.op = op;
-        this.lhs = lhs;
-        this.rhs = rhs;
-        this.opType = new IntType(32);
+        addOperand(lhs);
+        addOperand(rhs);
+        this.opType = IntType.get(32);
     }
 
     @Override
     public IRInstIcmp clone() {
         IRInstIcmp clone = (IRInstIcmp) super.clone();
         clone.op = op;
-        // do not clone value
-        clone.lhs = lhs;
-        clone.rhs = rhs;
         clone.opType = opType;
         return clone;
     }
 
     @Override
-    public String toString() {
+    public void print(IRWriter w) {
         //     %v13 = icmp sge i32 %v11, %v12
-        return name +
-                " = icmp " +
-                op.toString().toLowerCase() +
-                " " +
-                opType.toString() +
-                " " +
-                lhs.asValue() +
-                ", " + rhs.asValue();
-    }
-
-    @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        boolean replaced = false;
-        if (lhs == oldVal) {
-            lhs = newVal;
-            replaced = true;
-        }
-        if (rhs == oldVal) {
-            rhs = newVal;
-            replaced = true;
-        }
-        return replaced;
+        w.append(name).append(" = icmp ").append(op.toString()).append(' ').type(opType).append(' ')
+                .value(getLhs()).append(", ").value(getRhs());
     }
 
     public IcmpOp getOp() {
@@ -100,11 +75,11 @@ public class IRInstIcmp extends IRInst {
     }
 
     public IRVal getLhs() {
-        return lhs;
+        return getOperand(0);
     }
 
     public IRVal getRhs() {
-        return rhs;
+        return getOperand(1);
     }
 
     @Override
@@ -112,12 +87,6 @@ public class IRInstIcmp extends IRInst {
         return name;
     }
 
-    @Override
-    public Set<IRVal> getUses() {
-        if (lhs.equals(rhs)) return Set.of(lhs);
-        return Set.of(lhs, rhs);
-    }
-
     public enum IcmpOp {
         EQ, NE, SGT, SGE, SLT, SLE, UGE, UGT, ULE, ULT;
 
@@ -31,43 +31,30 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.types.PointerType;
 import icu.merky.jrabche.llvmir.values.IRVal;
 
-import java.util.Set;
-
 public class IRInstLoad extends IRInst {
     public IRVal getFrom() {
-        return ptr;
+        return getOperand(0);
     }
 
     //     %v21 = load i32, i32* %v20
-    private IRVal ptr;
-
     public IRInstLoad(IRVal ptr) {
         super(null, InstID.LoadInst, PointerType.DePointer(ptr.getType()));
-        this.ptr = ptr;
+        addOperand(ptr);
     }
 
     @Override
     public IRInstLoad clone() {
         IRInstLoad clone = (IRInstLoad) super.clone();
-        clone.ptr = ptr;
         return clone;
     }
 
     @Override
-    public String toString() {
-        return name + " = load " + type.toString() + ", " + ptr.getType().toString() + " " + ptr.asValue();
-    }
-
-    @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        if (ptr == oldVal) {
-            ptr = newVal;
-            return true;
-        }
-        return false;
+    public void print(IRWriter w) {
+        w.append(name).append(" = load ").type(type).append(", ").typedValue(getFrom());
     }
 
     @Override
@@ -75,8 +62,4 @@ public class IRInstLoad extends IRInst {
         return name;
     }
 
-    @Override
-    public Set<IRVal> getUses() {
-        return Set.of(ptr);
-    }
 }
@@ -31,49 +31,36 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.support.IRCompileTimeCalc;
 import icu.merky.jrabche.llvmir.values.IRVal;
 
-import java.util.Set;
+import java.util.Arrays;
 
 // Add, Sub, Mul, Div, Rem, Shl, Shr, And, Or, Xor
 public class IRInstMath extends IRInst {
+    private static final String[] OP_NAMES = Arrays.stream(MathOP.values())
+            .map(op -> op.toString().toLowerCase()).toArray(String[]::new);
+
     MathOP mathOP;
-    IRVal lhs, rhs;
 
     public IRInstMath(MathOP mathOP, IRVal v1, IRVal v2) {
         super(null, InstID.MathInst, IRCompileTimeCalc.ResolveType(v1.getType(), v2.getType()).toIRType());
         this.mathOP = mathOP;
-        this.lhs = v1;
-        this.rhs = v2;
+        addOperand(v1);
+        addOperand(v2);
     }
 
     @Override
-    public String toString() {
+    public void print(IRWriter w) {
         // %v18 = add i32 %v16, %v17
-        StringBuilder sb = new StringBuilder();
-        sb.append(name).append(" = ");
+        w.append(name).append(" = ");
         if (this.type.isFloat())
-            sb.append("f");
+            w.append('f');
         else if (this.mathOP == MathOP.Rem || this.mathOP == MathOP.Div)
-            sb.append("s");
-        sb.append(mathOP.toString().toLowerCase()).append(" ");
-        sb.append(type.toString()).append(" ");
-        sb.append(lhs.asValue()).append(", ").append(rhs.asValue());
-        return sb.toString();
-    }
-
-    @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        if (lhs.equals(oldVal)) {
-            lhs = newVal;
-            return true;
-        }
-        if (rhs.equals(oldVal)) {
-            rhs = newVal;
-            return true;
-        }
-        return false;
+            w.append('s');
+        w.append(OP_NAMES[mathOP.ordinal()]).append(' ').type(type).append(' ')
+                .value(getLhs()).append(", ").value(getRhs());
     }
 
     @Override
@@ -81,14 +68,6 @@ public class IRInstMath extends IRInst {
         return name;
     }
 
-    @Override
-    public Set<IRVal> getUses() {
-        if (lhs.equals(rhs)) {
-            return Set.of(lhs);
-        }
-        return Set.of(lhs, rhs);
-    }
-
     public enum MathOP {
         Invalid, Add, Sub, Mul, Div, Rem, Shl, Shr, And, Or, Xor
     }
@@ -98,10 +77,10 @@ public class IRInstMath extends IRInst {
     }
 
     public IRVal getLhs() {
-        return lhs;
+        return getOperand(0);
     }
 
     public IRVal getRhs() {
-        return rhs;
+        return getOperand(1);
     }
 }
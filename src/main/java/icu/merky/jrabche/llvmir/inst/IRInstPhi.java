@@ -31,77 +31,161 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
 import icu.merky.jrabche.llvmir.types.IRType;
 import icu.merky.jrabche.llvmir.values.IRVal;
 import org.antlr.v4.runtime.misc.Pair;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
+/**
+ * Incoming values are operands, with the block of operand i at {@code blocks.get(i)}. Entries
+ * are kept in the order of the predecessors of the parent, see {@link #orderBy}; passes that
+ * add entries restore it. {@link #getBlockIndex} is O(1).
+ */
 public class IRInstPhi extends IRInst implements BlockReplaceable {
-    // List<Pair<IRVal, IRBasicBlock>> incoming;
+    // entries up to which getBlockIndex scans the blocks instead of building a map.
+    private static final int SCAN_LIMIT = 8;
 
-    Map<IRBasicBlock, IRVal> incoming;
+    List<IRBasicBlock> blocks = new ArrayList<>();
+    // block -> entry, built on first use once there are many entries, null when stale.
+    private Map<IRBasicBlock, Integer> index;
 
     public IRInstPhi(IRType valType) {
         super(InstID.PhiInst, valType);
-        incoming = new HashMap<>();
     }
 
+    /**
+     * Add {@code val} coming from {@code block}, or replace the value coming from {@code block}.
+     */
     public void addIncoming(IRVal val, IRBasicBlock block) {
-        incoming.put(block, val);
+        int i = getBlockIndex(block);
+        if (i >= 0) {
+            setOperand(i, val);
+        } else {
+            blocks.add(block);
+            addOperand(val);
+            if (index != null) index.put(block, blocks.size() - 1);
+        }
     }
 
     public boolean removeIncoming(IRBasicBlock block) {
-        return incoming.remove(block) != null;
+        int i = getBlockIndex(block);
+        if (i < 0) return false;
+        removeIncomingValue(i);
+        return true;
     }
 
-    public void addIncoming(Pair<IRVal, IRBasicBlock> pair) {
-        incoming.put(pair.b, pair.a);
+    /**
+     * Remove entry {@code i}, the later entries move down by one.
+     */
+    public void removeIncomingValue(int i) {
+        blocks.remove(i);
+        removeOperand(i);
+        index = null;
     }
 
+    /**
+     * Remove the entries whose index is not set in {@code keep}, keeping the order of the others.
+     */
+    public void retainIncoming(BitSet keep) {
+        for (int i = blocks.size() - 1; i >= 0; i--) {
+            if (!keep.get(i)) {
+                blocks.remove(i);
+                removeOperand(i);
+            }
+        }
+        index = null;
+    }
 
-    public Map<IRBasicBlock, IRVal> getIncoming() {
-        return incoming;
+    public int getNumIncoming() {
+        return blocks.size();
     }
 
+    public IRVal getIncomingValue(int i) {
+        return getOperand(i);
+    }
 
-    @Override
-    public String toString() {
-        // %v1 = PHI i32 [ 0, %entry ], [ %v2, %if.then ]
-        StringBuilder sb = new StringBuilder();
-        if (name != null) sb.append(name).append(" = ");
-        sb.append("phi ").append(type.toString()).append(" ");
-        int i = 0;
-        for (var entry : incoming.entrySet()) {
-            sb.append("[ ").append(entry.getValue().asValue()).append(", ").append("%").append(entry.getKey().getName()).append(" ]");
-            if (i != incoming.size() - 1) {
-                sb.append(", ");
+    public void setIncomingValue(int i, IRVal val) {
+        setOperand(i, val);
+    }
+
+    /**
+     * @return index of the entry for {@code block}, or -1.
+     */
+    public int getBlockIndex(IRBasicBlock block) {
+        if (blocks.size() <= SCAN_LIMIT) {
+            return blocks.indexOf(block);
+        }
+        if (index == null) {
+            index = new HashMap<>(blocks.size() * 2);
+            for (int i = 0; i < blocks.size(); i++) index.put(blocks.get(i), i);
+        }
+        return index.getOrDefault(block, -1);
+    }
+
+    /**
+     * Put the entries in the order of {@code preds}, usually {@code getParent().getPre()}.
+     * Entries of blocks that are not in {@code preds} keep their order at the end.
+     */
+    public void orderBy(List<IRBasicBlock> preds) {
+        int k = 0;
+        for (IRBasicBlock pred : preds) {
+            int j = getBlockIndex(pred);
+            if (j < k) continue; // not incoming, or a repeated pred
+            if (j != k) {
+                IRBasicBlock other = blocks.get(k);
+                IRVal val = getOperand(j);
+                blocks.set(j, other);
+                setOperand(j, getOperand(k));
+                blocks.set(k, pred);
+                setOperand(k, val);
+                if (index != null) {
+                    index.put(other, j);
+                    index.put(pred, k);
+                }
             }
-            i++;
+            k++;
         }
-        sb.delete(sb.length(), sb.length());
-        return sb.toString();
+    }
+
+    public void addIncoming(Pair<IRVal, IRBasicBlock> pair) {
+        addIncoming(pair.a, pair.b);
+    }
+
+    /**
+     * @return block -> value, a snapshot in entry order.
+     */
+    public Map<IRBasicBlock, IRVal> getIncoming() {
+        Map<IRBasicBlock, IRVal> incoming = new LinkedHashMap<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            incoming.put(blocks.get(i), getOperand(i));
+        }
+        return incoming;
+    }
+
+    public IRBasicBlock getIncomingBlock(int i) {
+        return blocks.get(i);
     }
 
     @Override
-    public Set<IRVal> getUses() {
-        return new HashSet<>(incoming.values());
+    public IRInstPhi clone() {
+        IRInstPhi clone = (IRInstPhi) super.clone();
+        clone.blocks = new ArrayList<>(blocks);
+        clone.index = null;
+        return clone;
     }
 
     @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        boolean changed = false;
-        for (var entry : incoming.entrySet()) {
-            if (entry.getValue() == oldVal) {
-                incoming.put(entry.getKey(), newVal);
-                changed = true;
-            }
+    public void print(IRWriter w) {
+        // %v1 = PHI i32 [ 0, %entry ], [ %v2, %if.then ]
+        if (name != null) w.append(name).append(" = ");
+        w.append("phi ").type(type).append(' ');
+        for (int i = 0; i < blocks.size(); i++) {
+            if (i != 0) w.append(", ");
+            w.append("[ ").value(getOperand(i)).append(", %").append(blocks.get(i).getName()).append(" ]");
         }
-        return changed;
     }
 
     @Override
@@ -111,17 +195,25 @@ public class IRInstPhi extends IRInst implements BlockReplaceable {
 
     @Override
     public boolean replaceBlock(IRBasicBlock oldBlock, IRBasicBlock newBlock) {
-        if (incoming.containsKey(oldBlock)) {
-            IRVal val = incoming.get(oldBlock);
-            incoming.remove(oldBlock);
-            incoming.put(newBlock, val);
-            return true;
+        int i = getBlockIndex(oldBlock);
+        if (i < 0) return false;
+        int j = getBlockIndex(newBlock);
+        if (j >= 0) {
+            // already incoming from newBlock: the value from oldBlock wins.
+            setOperand(j, getOperand(i));
+            removeIncomingValue(i);
+        } else {
+            blocks.set(i, newBlock);
+            if (index != null) {
+                index.remove(oldBlock);
+                index.put(newBlock, i);
+            }
         }
-        return false;
+        return true;
     }
 
     @Override
     public Set<IRBasicBlock> getReplaceableBlocks() {
-        return new HashSet<>(incoming.keySet());
+        return new HashSet<>(blocks);
     }
 }
@@ -31,42 +31,30 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.types.IRBasicType;
 import icu.merky.jrabche.llvmir.values.IRVal;
 
-import java.util.Set;
-
 public class IRInstReturn extends IRInst {
-    IRVal opVal;
-
     public IRInstReturn(IRBasicType ty, IRVal opVal) {
         super(null, InstID.ReturnInst, ty.toIRType());
-        this.opVal = opVal;
+        if (opVal != null) addOperand(opVal);
     }
 
     @Override
     public IRInstReturn clone() {
         IRInstReturn clone = (IRInstReturn) super.clone();
-        clone.opVal = opVal;
         return clone;
     }
 
     @Override
-    public String toString() {
+    public void print(IRWriter w) {
+        IRVal opVal = getRetVal();
         if (opVal == null) {
-            return "ret void";
+            w.append("ret void");
         } else {
-            return "ret " + opVal.getType().toString() + " " + opVal.asValue();
-        }
-    }
-
-    @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        if (opVal == oldVal) {
-            opVal = newVal;
-            return true;
+            w.append("ret ").typedValue(opVal);
         }
-        return false;
     }
 
     @Override
@@ -74,9 +62,10 @@ public class IRInstReturn extends IRInst {
         return name;
     }
 
-    @Override
-    public Set<IRVal> getUses() {
-        return opVal == null ? Set.of() : Set.of(opVal);
+    /**
+     * @return the returned value, null for {@code ret void}.
+     */
+    public IRVal getRetVal() {
+        return getNumOperands() == 0 ? null : getOperand(0);
     }
 }
-
@@ -31,53 +31,35 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.types.InvalidType;
 import icu.merky.jrabche.llvmir.values.IRVal;
 
-import java.util.Set;
-
 import static icu.merky.jrabche.llvmir.types.PointerType.MakePointer;
 
 public class IRInstStore extends IRInst {
     // store [123 x i32]* %arg_0, [123 x i32]** %v0
-    IRVal from;
-
 
     public IRVal getTo() {
-        return to;
+        return getOperand(1);
     }
 
-    IRVal to;
-
     public IRInstStore(IRVal from, IRVal to) {
-        super(InstID.StoreInst, new InvalidType());
-        this.from = from;
-        this.to = to;
+        super(InstID.StoreInst, InvalidType.get());
+        addOperand(from);
+        addOperand(to);
         // check type.
-        if (!MakePointer(from.getType()).equals(to.getType())) throw new RuntimeException("Type mismatch.");
+        if (MakePointer(from.getType()) != to.getType()) throw new RuntimeException("Type mismatch.");
     }
 
     public IRVal getFrom() {
-        return from;
+        return getOperand(0);
     }
 
     @Override
-    public String toString() {
+    public void print(IRWriter w) {
         // store [123 x i32]* %arg_0, [123 x i32]** %v0
-        return "store " + from.getType() + " " + from.asValue() + ", " + to.getType() + " " + to.asValue();
-    }
-
-    @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        if (from == oldVal) {
-            from = newVal;
-            return true;
-        }
-        if (to == oldVal) {
-            to = newVal;
-            return true;
-        }
-        return false;
+        w.append("store ").typedValue(getFrom()).append(", ").typedValue(getTo());
     }
 
     @Override
@@ -85,8 +67,4 @@ public class IRInstStore extends IRInst {
         return null;
     }
 
-    @Override
-    public Set<IRVal> getUses() {
-        return Set.of(from, to);
-    }
 }
@@ -31,43 +31,31 @@
 
 package icu.merky.jrabche.llvmir.inst;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.types.FloatType;
 import icu.merky.jrabche.llvmir.types.IntType;
 import icu.merky.jrabche.llvmir.values.IRVal;
 
-import java.util.Set;
-
 public class IRInstUnary extends IRInst {
     UnaryOP unaryOP;
-    IRVal v1;
 
     public IRInstUnary(UnaryOP unaryOP, IRVal v1) {
-        super(null, InstID.UnaryInst, unaryOP == UnaryOP.SiToFp ? new FloatType() : new IntType());
+        super(null, InstID.UnaryInst, unaryOP == UnaryOP.SiToFp ? FloatType.get() : IntType.get());
         this.unaryOP = unaryOP;
-        this.v1 = v1;
+        addOperand(v1);
     }
 
     @Override
-    public String toString() {
+    public void print(IRWriter w) {
         // %Val = zext i1 %value to i32
-        return switch (unaryOP) {
-            case FpToSi ->
-                    name + " = fptosi " + v1.getType().toString() + " " + v1.asValue() + " to " + type.toString();
-            case SiToFp ->
-                    name + " = sitofp " + v1.getType().toString() + " " + v1.asValue() + " to " + type.toString();
-            case ZExt -> name + " = zext " + v1.getType().toString() + " " + v1.asValue() + " to " + type.toString();
-            case SExt -> name + " = sext " + v1.getType().toString() + " " + v1.asValue() + " to " + type.toString();
-            default -> null;
+        String op = switch (unaryOP) {
+            case FpToSi -> "fptosi";
+            case SiToFp -> "sitofp";
+            case ZExt -> "zext";
+            case SExt -> "sext";
+            default -> throw new RuntimeException("Invalid unary op: " + unaryOP);
         };
-    }
-
-    @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        if (v1 == oldVal) {
-            v1 = newVal;
-            return true;
-        }
-        return false;
+        w.append(name).append(" = ").append(op).append(' ').typedValue(getOperand(0)).append(" to ").type(type);
     }
 
     @Override
@@ -75,9 +63,8 @@ public class IRInstUnary extends IRInst {
         return name;
     }
 
-    @Override
-    public Set<IRVal> getUses() {
-        return Set.of(v1);
+    public UnaryOP getUnaryOP() {
+        return unaryOP;
     }
 
     public enum UnaryOP {
@@ -0,0 +1,95 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.llvmir.inst;
+
+import icu.merky.jrabche.llvmir.values.IRVal;
+
+/**
+ * An operand slot of an instruction.
+ * <p>
+ * When the value in the slot is an instruction, the slot is also linked into that instruction's
+ * list of uses, so the users of an instruction are known without scanning the function. Other
+ * values (constants, globals, parameters) are shared between functions and do not track their
+ * uses.
+ */
+public final class Use {
+    private final IRInst user;
+    int index;
+    private IRVal val;
+    // neighbours in the use list of val, if val is an instruction.
+    Use prev, next;
+
+    Use(IRInst user, int index) {
+        this.user = user;
+        this.index = index;
+    }
+
+    public IRInst getUser() {
+        return user;
+    }
+
+    /**
+     * @return the index of this slot in the operands of its user.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public IRVal get() {
+        return val;
+    }
+
+    /**
+     * Put {@code newVal} into this slot and move the slot to the use list of {@code newVal}.
+     */
+    void set(IRVal newVal) {
+        if (val instanceof IRInst def) {
+            if (prev == null) def.firstUse = next;
+            else prev.next = next;
+            if (next != null) next.prev = prev;
+            prev = next = null;
+        }
+        val = newVal;
+        if (newVal instanceof IRInst def) {
+            next = def.firstUse;
+            if (next != null) next.prev = this;
+            def.firstUse = this;
+        }
+    }
+
+    /**
+     * @return the next use of the same value.
+     */
+    public Use getNext() {
+        return next;
+    }
+}
@@ -31,11 +31,9 @@
 
 package icu.merky.jrabche.llvmir.inst.fake;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.inst.IRInst;
 import icu.merky.jrabche.llvmir.types.IRType;
-import icu.merky.jrabche.llvmir.values.IRVal;
-
-import java.util.Set;
 
 public class IRInstCopy extends IRInst {
     public IRInstCopy(InstID instID, IRType valType) {
@@ -43,8 +41,7 @@ public class IRInstCopy extends IRInst {
     }
 
     @Override
-    public Set<IRVal> getUses() {
-        return null;
+    public void print(IRWriter w) {
     }
 
     @Override
@@ -52,11 +49,6 @@ public class IRInstCopy extends IRInst {
         return null;
     }
 
-    @Override
-    public boolean replace(IRVal oldVal, IRVal newVal) {
-        return false;
-    }
-
     @Override
     public String asValue() {
         return null;
@@ -0,0 +1,480 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.llvmir.structures;
+
+import icu.merky.jrabche.llvmir.IRWriter;
+import icu.merky.jrabche.llvmir.VariableCounter;
+import icu.merky.jrabche.llvmir.inst.*;
+import icu.merky.jrabche.llvmir.inst.IRInst.InstID;
+import icu.merky.jrabche.llvmir.structures.impl.IRFunctionImpl;
+import icu.merky.jrabche.llvmir.types.FPType;
+import icu.merky.jrabche.llvmir.types.FunctionType;
+import icu.merky.jrabche.llvmir.types.IRType;
+import icu.merky.jrabche.llvmir.types.PointerType;
+import icu.merky.jrabche.llvmir.values.IRVal;
+import icu.merky.jrabche.llvmir.values.IRValFP;
+
+import java.util.*;
+
+/**
+ * A function packed into a few int arrays, for keeping very large functions without their
+ * object graph. Instructions are numbered in block order; each one has an opcode, a type id
+ * and a run of operands. Names are not stored: {@link #decode()} numbers the parameters,
+ * blocks and instructions like the output rename of the optimizer does.
+ * <br/>
+ * An operand is a tagged int, the low {@link #TAG_BITS} bits say what the rest indexes:
+ * an instruction, a parameter, a block or a value of the constant table (constants,
+ * globals, undef). Phi operands are value/block pairs, br operands are the optional
+ * condition followed by the target blocks.
+ * <br/>
+ * Passes can read the arrays directly, or {@link #decode()}, run and {@link #encode} again.
+ */
+public final class CompactFunction {
+    public static final int TAG_BITS = 2;
+    public static final int TAG_INST = 0, TAG_FP = 1, TAG_BLOCK = 2, TAG_VALUE = 3;
+    private static final int TAG_MASK = (1 << TAG_BITS) - 1;
+    private static final int OPCODE_BITS = 8;
+    private static final int OPCODE_MASK = (1 << OPCODE_BITS) - 1;
+
+    private static final InstID[] INST_IDS = InstID.values();
+    private static final IRInstMath.MathOP[] MATH_OPS = IRInstMath.MathOP.values();
+    private static final IRInstIcmp.IcmpOp[] ICMP_OPS = IRInstIcmp.IcmpOp.values();
+    private static final IRInstFcmp.FcmpOp[] FCMP_OPS = IRInstFcmp.FcmpOp.values();
+    private static final IRInstUnary.UnaryOP[] UNARY_OPS = IRInstUnary.UnaryOP.values();
+
+    private final String name;
+    private final FunctionType functionType;
+    /**
+     * {@link InstID} ordinal in the low bits; the math, compare or unary op,
+     * or the callee index for calls, above.
+     */
+    private final int[] opcodes;
+    private final int[] typeIds;
+    /**
+     * Operands of instruction i are {@code operands[operandStart[i] .. operandStart[i + 1])}.
+     */
+    private final int[] operandStart;
+    private final int[] operands;
+    /**
+     * Instructions of block b are {@code blockStart[b] .. blockStart[b + 1]}.
+     */
+    private final int[] blockStart;
+    private final IRType[] types;
+    private final IRVal[] values;
+    private final String[] callees;
+
+    private CompactFunction(String name, FunctionType functionType, int[] opcodes, int[] typeIds,
+                            int[] operandStart, int[] operands, int[] blockStart,
+                            IRType[] types, IRVal[] values, String[] callees) {
+        this.name = name;
+        this.functionType = functionType;
+        this.opcodes = opcodes;
+        this.typeIds = typeIds;
+        this.operandStart = operandStart;
+        this.operands = operands;
+        this.blockStart = blockStart;
+        this.types = types;
+        this.values = values;
+        this.callees = callees;
+    }
+
+    public static CompactFunction encode(IRFunction F) {
+        return new Encoder(F).encode();
+    }
+
+    /**
+     * @return a new function with the same code, the parameters, blocks and named
+     * instructions numbered from 0 in order.
+     */
+    public IRFunctionImpl decode() {
+        return new Decoder().decode();
+    }
+
+    public void print(IRWriter w) {
+        w.function(decode());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        print(new IRWriter(sb));
+        return sb.toString();
+    }
+
+    /**
+     * @return the bytes of the arrays of this function. The types and constants of the
+     * tables are interned and shared, only the references are counted.
+     */
+    public long sizeInBytes() {
+        final int header = 16, ref = 4;
+        long size = 0;
+        for (int[] a : new int[][]{opcodes, typeIds, operandStart, operands, blockStart}) {
+            size += header + 4L * a.length;
+        }
+        for (Object[] a : new Object[][]{types, values, callees}) {
+            size += header + (long) ref * a.length;
+        }
+        return size;
+    }
+
+    // ---- reading ----
+
+    public String getName() {
+        return name;
+    }
+
+    public FunctionType getFunctionType() {
+        return functionType;
+    }
+
+    public int getNumInsts() {
+        return opcodes.length;
+    }
+
+    public int getNumBlocks() {
+        return blockStart.length - 1;
+    }
+
+    public int getBlockStart(int b) {
+        return blockStart[b];
+    }
+
+    public int getBlockEnd(int b) {
+        return blockStart[b + 1];
+    }
+
+    public InstID getInstID(int i) {
+        return INST_IDS[opcodes[i] & OPCODE_MASK];
+    }
+
+    public IRType getType(int i) {
+        return types[typeIds[i]];
+    }
+
+    public int getNumOperands(int i) {
+        return operandStart[i + 1] - operandStart[i];
+    }
+
+    /**
+     * @return the k-th operand of instruction i, see {@link #tagOf} and {@link #indexOf}.
+     */
+    public int getOperand(int i, int k) {
+        return operands[operandStart[i] + k];
+    }
+
+    public IRVal getValue(int index) {
+        return values[index];
+    }
+
+    public static int tagOf(int operand) {
+        return operand & TAG_MASK;
+    }
+
+    public static int indexOf(int operand) {
+        return operand >>> TAG_BITS;
+    }
+
+    private static int operand(int tag, int index) {
+        return index << TAG_BITS | tag;
+    }
+
+    private int sub(int i) {
+        return opcodes[i] >>> OPCODE_BITS;
+    }
+
+    /**
+     * Same as {@link IRInst#needName()}.
+     */
+    private boolean needName(int i) {
+        return switch (getInstID(i)) {
+            case BrInst, ReturnInst, StoreInst -> false;
+            case CallInst -> !getType(i).isVoid();
+            default -> true;
+        };
+    }
+
+    // ---- encoding ----
+
+    private static class Table<T> {
+        final Map<T, Integer> ids = new IdentityHashMap<>();
+        final List<T> list = new ArrayList<>();
+
+        int id(T t) {
+            return ids.computeIfAbsent(t, k -> {
+                list.add(k);
+                return list.size() - 1;
+            });
+        }
+    }
+
+    private static class Encoder {
+        final IRFunction F;
+        final Map<IRVal, Integer> local = new IdentityHashMap<>();
+        final Map<IRBasicBlock, Integer> blockIds = new IdentityHashMap<>();
+        final Table<IRType> types = new Table<>();
+        final Table<IRVal> values = new Table<>();
+        // callee names are not interned, so look them up by equals.
+        final Map<String, Integer> calleeIds = new HashMap<>();
+        final List<String> callees = new ArrayList<>();
+        int[] operands;
+        int numOperands;
+
+        Encoder(IRFunction F) {
+            this.F = F;
+        }
+
+        CompactFunction encode() {
+            int fpIndex = 0;
+            for (IRValFP fp : F.getFp().values()) {
+                local.put(fp, operand(TAG_FP, fpIndex++));
+            }
+            int n = 0, b = 0, sizeHint = 0;
+            for (IRBasicBlock bb : F.getBlocks()) {
+                blockIds.put(bb, operand(TAG_BLOCK, b++));
+                for (IRInst inst : bb.getInsts()) {
+                    local.put(inst, operand(TAG_INST, n++));
+                    sizeHint += inst.getNumOperands() + 2;
+                }
+            }
+            int[] opcodes = new int[n], typeIds = new int[n], operandStart = new int[n + 1];
+            int[] blockStart = new int[b + 1];
+            operands = new int[sizeHint];
+            int i = 0;
+            b = 0;
+            for (IRBasicBlock bb : F.getBlocks()) {
+                blockStart[b++] = i;
+                for (IRInst inst : bb.getInsts()) {
+                    operandStart[i] = numOperands;
+                    opcodes[i] = inst.getInstID().ordinal() | sub(inst) << OPCODE_BITS;
+                    typeIds[i] = types.id(inst.getType());
+                    addOperands(inst);
+                    i++;
+                }
+            }
+            operandStart[n] = numOperands;
+            blockStart[b] = n;
+            return new CompactFunction(F.getName(), F.getFunctionType(), opcodes, typeIds, operandStart,
+                    Arrays.copyOf(operands, numOperands), blockStart,
+                    types.list.toArray(IRType[]::new), values.list.toArray(IRVal[]::new),
+                    callees.toArray(String[]::new));
+        }
+
+        int sub(IRInst inst) {
+            if (inst instanceof IRInstMath math) return math.getMathOP().ordinal();
+            if (inst instanceof IRInstIcmp icmp) return icmp.getOp().ordinal();
+            if (inst instanceof IRInstFcmp fcmp) return fcmp.getOp().ordinal();
+            if (inst instanceof IRInstUnary unary) return unary.getUnaryOP().ordinal();
+            if (inst instanceof IRInstCall call) {
+                return calleeIds.computeIfAbsent(call.getFuncName(), k -> {
+                    callees.add(k);
+                    return callees.size() - 1;
+                });
+            }
+            return 0;
+        }
+
+        void addOperands(IRInst inst) {
+            switch (inst.getInstID()) {
+                case BrInst -> {
+                    var br = (IRInstBr) inst;
+                    if (br.getCond() != null) add(value(br.getCond()));
+                    add(block(br.getTrueBB()));
+                    if (br.getFalseBB() != null) add(block(br.getFalseBB()));
+                }
+                case PhiInst -> {
+                    var phi = (IRInstPhi) inst;
+                    for (int k = 0; k < phi.getNumIncoming(); k++) {
+                        add(value(phi.getIncomingValue(k)));
+                        add(block(phi.getIncomingBlock(k)));
+                    }
+                }
+                case AllocaInst, ReturnInst, MathInst, ICmpInst, FCmpInst, LoadInst, StoreInst, BitCastInst,
+                        GetElementPtrInst, UnaryInst, CallInst -> {
+                    for (int k = 0; k < inst.getNumOperands(); k++) {
+                        add(value(inst.getOperand(k)));
+                    }
+                }
+                default -> throw new RuntimeException("Cannot encode " + IRWriter.toString(inst));
+            }
+        }
+
+        void add(int operand) {
+            if (numOperands == operands.length) operands = Arrays.copyOf(operands, numOperands * 2 + 4);
+            operands[numOperands++] = operand;
+        }
+
+        int value(IRVal v) {
+            if (v instanceof IRInst || v instanceof IRValFP) {
+                Integer operand = local.get(v);
+                if (operand == null) throw new RuntimeException("Operand " + v.getName() + " not in " + F.getName());
+                return operand;
+            }
+            return operand(TAG_VALUE, values.id(v));
+        }
+
+        int block(IRBasicBlock bb) {
+            Integer operand = blockIds.get(bb);
+            if (operand == null) throw new RuntimeException("Block " + bb.getName() + " not in " + F.getName());
+            return operand;
+        }
+    }
+
+    // ---- decoding ----
+
+    private class Decoder {
+        final IRInst[] insts = new IRInst[getNumInsts()];
+        final IRValFP[] fps = new IRValFP[functionType.getParamsType().size()];
+        final IRBasicBlock[] blocks = new IRBasicBlock[getNumBlocks()];
+        final int[] number = new int[getNumInsts()];
+
+        IRFunctionImpl decode() {
+            // numbered like the output rename: parameters, then each block and its named instructions.
+            int count = fps.length;
+            int[] blockNumber = new int[blocks.length];
+            for (int b = 0; b < blocks.length; b++) {
+                blockNumber[b] = count++;
+                for (int i = getBlockStart(b); i < getBlockEnd(b); i++) {
+                    number[i] = needName(i) ? count++ : -1;
+                }
+            }
+            var F = new IRFunctionImpl(name, functionType, new VariableCounter(count));
+            for (int k = 0; k < fps.length; k++) {
+                fps[k] = F.addFP(new FPType(functionType.getParamsType().get(k), String.valueOf(k)));
+                fps[k].setName(String.valueOf(k));
+            }
+            for (int b = 0; b < blocks.length; b++) {
+                blocks[b] = b == 0 ? F.entryBB() : F.addBlock();
+                blocks[b].setName(String.valueOf(blockNumber[b]));
+            }
+            buildInsts();
+            for (int b = 0; b < blocks.length; b++) {
+                for (int i = getBlockStart(b); i < getBlockEnd(b); i++) {
+                    if (number[i] >= 0) insts[i].setName(String.valueOf(number[i]));
+                    blocks[b].addInst(insts[i]);
+                }
+            }
+            IRFunctionImpl.BuildBBGraph(F);
+            return F;
+        }
+
+        /**
+         * Instructions are created after their operands. Phis are created first and filled in
+         * at the end, so only they may refer to a later instruction.
+         */
+        void buildInsts() {
+            int n = insts.length;
+            for (int i = 0; i < n; i++) {
+                if (getInstID(i) == InstID.PhiInst) insts[i] = new IRInstPhi(getType(i));
+            }
+            int[] stack = new int[n];
+            for (int root = 0; root < n; root++) {
+                if (insts[root] != null) continue;
+                int sp = 0;
+                stack[sp++] = root;
+                while (sp > 0) {
+                    int i = stack[sp - 1];
+                    int missing = missingOperand(i);
+                    if (missing < 0) {
+                        insts[i] = create(i);
+                        sp--;
+                    } else {
+                        if (sp == n) throw new RuntimeException("Instructions of " + name + " use each other");
+                        stack[sp++] = missing;
+                    }
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                if (getInstID(i) != InstID.PhiInst) continue;
+                var phi = (IRInstPhi) insts[i];
+                for (int k = operandStart[i]; k < operandStart[i + 1]; k += 2) {
+                    phi.addIncoming(value(operands[k]), block(operands[k + 1]));
+                }
+            }
+        }
+
+        int missingOperand(int i) {
+            for (int k = operandStart[i]; k < operandStart[i + 1]; k++) {
+                int op = operands[k];
+                if (tagOf(op) == TAG_INST && insts[indexOf(op)] == null) return indexOf(op);
+            }
+            return -1;
+        }
+
+        IRInst create(int i) {
+            int s = operandStart[i], e = operandStart[i + 1];
+            IRType ty = getType(i);
+            return switch (getInstID(i)) {
+                case AllocaInst -> new IRInstAlloca(String.valueOf(number[i]), ((PointerType) ty).getElementType());
+                case ReturnInst -> new IRInstReturn(ty.toBasicType(), s == e ? null : value(operands[s]));
+                case BrInst -> tagOf(operands[s]) == TAG_BLOCK
+                        ? new IRInstBr(block(operands[s]))
+                        : new IRInstBr(value(operands[s]), block(operands[s + 1]), block(operands[s + 2]));
+                case MathInst -> new IRInstMath(MATH_OPS[sub(i)], value(operands[s]), value(operands[s + 1]));
+                case ICmpInst -> new IRInstIcmp(ICMP_OPS[sub(i)], value(operands[s]), value(operands[s + 1]));
+                case FCmpInst -> new IRInstFcmp(FCMP_OPS[sub(i)], value(operands[s]), value(operands[s + 1]));
+                case LoadInst -> new IRInstLoad(value(operands[s]));
+                case StoreInst -> new IRInstStore(value(operands[s]), value(operands[s + 1]));
+                case BitCastInst -> new IRInstBitCast(value(operands[s]), ty);
+                case GetElementPtrInst -> new IRInstGEP(value(operands[s]), values(s + 1, e));
+                case UnaryInst -> new IRInstUnary(UNARY_OPS[sub(i)], value(operands[s]));
+                case CallInst -> {
+                    List<IRVal> args = values(s, e);
+                    List<IRType> params = args.stream().map(IRVal::getType).toList();
+                    yield new IRInstCall(callees[sub(i)], FunctionType.get(ty, params), args);
+                }
+                default -> throw new RuntimeException("Cannot decode " + getInstID(i));
+            };
+        }
+
+        List<IRVal> values(int s, int e) {
+            List<IRVal> list = new ArrayList<>(e - s);
+            for (int k = s; k < e; k++) {
+                list.add(value(operands[k]));
+            }
+            return list;
+        }
+
+        IRVal value(int op) {
+            return switch (tagOf(op)) {
+                case TAG_INST -> insts[indexOf(op)];
+                case TAG_FP -> fps[indexOf(op)];
+                case TAG_VALUE -> values[indexOf(op)];
+                default -> throw new RuntimeException("Block used as a value in " + name);
+            };
+        }
+
+        IRBasicBlock block(int op) {
+            if (tagOf(op) != TAG_BLOCK) throw new RuntimeException("Value used as a block in " + name);
+            return blocks[indexOf(op)];
+        }
+    }
+}
@@ -32,10 +32,11 @@
 package icu.merky.jrabche.llvmir.structures;
 
 import icu.merky.jrabche.llvmir.inst.IRInst;
+import icu.merky.jrabche.support.IntrusiveList;
 
 import java.util.List;
 
-public interface IRBasicBlock {
+public interface IRBasicBlock extends IntrusiveList.Node<IRBasicBlock> {
     /**
      * @param inst the inst to be added
      */
@@ -63,9 +64,16 @@ public interface IRBasicBlock {
     void setName(String name);
 
     /**
-     * @return the insts in the basic block
+     * @return the insts in the basic block. Adding to it sets the parent of the inst.
      */
-    List<IRInst> getInsts();
+    IntrusiveList<IRInst> getInsts();
+
+    /**
+     * @return the function holding this basic block, or null if it is not in one.
+     */
+    IRFunction getParent();
+
+    void setParent(IRFunction parent);
 
     /**
      * @return the terminator of the basic block
@@ -1,10 +1,12 @@
 package icu.merky.jrabche.llvmir.structures;
 
+import icu.merky.jrabche.llvmir.VariableCounter;
 import icu.merky.jrabche.llvmir.inst.IRInstAlloca;
 import icu.merky.jrabche.llvmir.types.FPType;
 import icu.merky.jrabche.llvmir.types.FunctionType;
 import icu.merky.jrabche.llvmir.types.IRType;
 import icu.merky.jrabche.llvmir.values.IRValFP;
+import icu.merky.jrabche.support.IntrusiveList;
 
 import java.util.List;
 import java.util.Map;
@@ -48,7 +50,7 @@ public abstract class IRFunction {
 
     public abstract IRBasicBlock getBlock(String name);
 
-    public abstract List<IRBasicBlock> getBlocks();
+    public abstract IntrusiveList<IRBasicBlock> getBlocks();
 
     public abstract void removeBlock(IRBasicBlock block);
 
@@ -59,4 +61,10 @@ public abstract class IRFunction {
     public abstract void finishFunction();
 
     public abstract Map<String, IRValFP> getFp();
+
+    /**
+     * @return the counter for new value names in this function. Only this function uses it
+     * once it is finished, so passes may name values without synchronizing.
+     */
+    public abstract VariableCounter getCounter();
 }
@@ -48,4 +48,12 @@ public abstract class IRModule {
     public abstract Map<String, IRFunction> getFunctions();
 
     public abstract void setFunctions(Map<String, IRFunction> functions);
+
+    /**
+     * The functions in order, for printing. Unlike {@link #getFunctions()}, this includes the
+     * functions an implementation keeps in another form, rebuilt one at a time.
+     */
+    public Iterable<IRFunction> allFunctions() {
+        return getFunctions().values();
+    }
 }
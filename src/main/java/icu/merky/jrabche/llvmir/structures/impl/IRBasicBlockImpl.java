@@ -31,22 +31,36 @@
 
 package icu.merky.jrabche.llvmir.structures.impl;
 
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.inst.IRInst;
 import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
+import icu.merky.jrabche.llvmir.structures.IRFunction;
+import icu.merky.jrabche.support.IntrusiveList;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 public class IRBasicBlockImpl implements IRBasicBlock {
-    private final LinkedList<IRInst> instList;
+    private final IntrusiveList<IRInst> instList;
+    private final IntrusiveList.Link<IRBasicBlock> link = new IntrusiveList.Link<>();
     private final List<IRBasicBlock> prevs;
     private final List<IRBasicBlock> nexts;
     private String name;
     private boolean relationsWasBuilt;
+    private IRFunction parent;
 
     public IRBasicBlockImpl() {
-        instList = new LinkedList<>();
+        instList = new IntrusiveList<>() {
+            @Override
+            protected void onAdded(IRInst inst) {
+                inst.setParent(IRBasicBlockImpl.this);
+            }
+
+            @Override
+            protected void onRemoved(IRInst inst) {
+                inst.setParent(null);
+            }
+        };
         this.prevs = new ArrayList<>();
         this.nexts = new ArrayList<>();
     }
@@ -54,7 +68,6 @@ public class IRBasicBlockImpl implements IRBasicBlock {
     @Override
     public void addInst(IRInst inst) {
         instList.add(inst);
-        inst.setParent(this);
     }
 
     @Override
@@ -84,10 +97,25 @@ public class IRBasicBlockImpl implements IRBasicBlock {
     }
 
     @Override
-    public List<IRInst> getInsts() {
+    public IntrusiveList<IRInst> getInsts() {
         return this.instList;
     }
 
+    @Override
+    public IntrusiveList.Link<IRBasicBlock> link() {
+        return link;
+    }
+
+    @Override
+    public IRFunction getParent() {
+        return parent;
+    }
+
+    @Override
+    public void setParent(IRFunction parent) {
+        this.parent = parent;
+    }
+
     @Override
     public IRInst getTerminator() {
         if (!this.checkTerminator()) return null;
@@ -132,16 +160,11 @@ public class IRBasicBlockImpl implements IRBasicBlock {
 
     @Override
     public void chunkAfterTerminator() {
-        // for (int i = 0; i < instList.size(); i++) {
-        //     if (instList.get(i).isTerminatorInst()) {
-        //         instList.subList(i + 1, instList.size()).clear();
-        //         return;
-        //     }
-        // }
-        // performance optimization:(instList is linklist), O(n^2) -> O(n)
         for (IRInst inst : instList) {
             if (inst.isTerminatorInst()) {
-                instList.subList(instList.indexOf(inst) + 1, instList.size()).clear();
+                while (instList.getLast() != inst) {
+                    instList.getLast().eraseFromParent();
+                }
                 return;
             }
         }
@@ -150,10 +173,7 @@ public class IRBasicBlockImpl implements IRBasicBlock {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        sb.append(name).append(":\n");
-        for (IRInst inst : instList) {
-            sb.append("\t").append(inst.toString()).append("\n");
-        }
+        new IRWriter(sb).block(this);
         return sb.toString();
     }
 }
@@ -32,7 +32,8 @@
 package icu.merky.jrabche.llvmir.structures.impl;
 
 import icu.merky.jrabche.exceptions.NotImplementedException;
-import icu.merky.jrabche.llvmir.StaticVariableCounter;
+import icu.merky.jrabche.llvmir.IRWriter;
+import icu.merky.jrabche.llvmir.VariableCounter;
 import icu.merky.jrabche.llvmir.inst.IRInst;
 import icu.merky.jrabche.llvmir.inst.IRInstAlloca;
 import icu.merky.jrabche.llvmir.inst.IRInstBr;
@@ -45,13 +46,19 @@ import icu.merky.jrabche.llvmir.types.IRBasicType;
 import icu.merky.jrabche.llvmir.types.IRType;
 import icu.merky.jrabche.llvmir.values.IRValConst;
 import icu.merky.jrabche.llvmir.values.IRValFP;
+import icu.merky.jrabche.support.IntrusiveList;
 
 import java.util.*;
 
 public class IRFunctionImpl extends IRFunction {
     FunctionType functionType;
     String name;
-    List<IRBasicBlock> bbs;
+    IntrusiveList<IRBasicBlock> bbs;
+    /**
+     * Name to block index for {@link #getBlock(String)}. Blocks may be renamed behind our back,
+     * so entries are checked on lookup and the index is rebuilt when one is stale.
+     */
+    Map<String, IRBasicBlock> blockByName = new HashMap<>();
     IRBasicBlock curBB;
     IRBasicBlock entryBB;
     List<IRInstAlloca> alloca;
@@ -61,13 +68,33 @@ public class IRFunctionImpl extends IRFunction {
      * To match the LLVM IR `store` instruction, we use IRVal here.
      */
     Map<String, IRValFP> fp = new LinkedHashMap<>();
+    /**
+     * Shared with the module while the function is being built,
+     * then replaced by a private copy in {@link #finishFunction()}.
+     */
+    VariableCounter counter;
 
 
     public IRFunctionImpl(String name, FunctionType functionType) {
+        this(name, functionType, new VariableCounter());
+    }
+
+    public IRFunctionImpl(String name, FunctionType functionType, VariableCounter counter) {
+        this.counter = counter;
         this.functionType = functionType;
         entryBB = new IRBasicBlockImpl();
         entryBB.setName("entry");
-        this.bbs = new LinkedList<>();
+        this.bbs = new IntrusiveList<>() {
+            @Override
+            protected void onAdded(IRBasicBlock bb) {
+                bb.setParent(IRFunctionImpl.this);
+            }
+
+            @Override
+            protected void onRemoved(IRBasicBlock bb) {
+                bb.setParent(null);
+            }
+        };
         this.alloca = new ArrayList<>();
         bbs.add(entryBB);
         curBB = entryBB;
@@ -116,24 +143,13 @@ public class IRFunctionImpl extends IRFunction {
 
     @Override
     public void setCurrentBlock(String name) {
-        for (IRBasicBlock bb : bbs) {
-            if (bb.getName().equals(name)) {
-                curBB = bb;
-                return;
-            }
-        }
-        throw new RuntimeException("No such block");
+        curBB = getBlock(name);
     }
 
     @Override
     public void setCurrentBlock(IRBasicBlock block) {
-        for (IRBasicBlock bb : bbs) {
-            if (bb == block) {
-                curBB = bb;
-                return;
-            }
-        }
-        throw new RuntimeException("No such block");
+        if (!bbs.contains(block)) throw new RuntimeException("No such block");
+        curBB = block;
     }
 
     @Override
@@ -148,22 +164,36 @@ public class IRFunctionImpl extends IRFunction {
 
     @Override
     public IRBasicBlock getBlock(String name) {
-        for (IRBasicBlock bb : bbs) {
-            if (bb.getName().equals(name)) {
-                return bb;
+        IRBasicBlock bb = lookupBlock(name);
+        if (bb == null) {
+            // stale or missing, the first block with the name wins like a linear search.
+            blockByName.clear();
+            for (IRBasicBlock b : bbs) {
+                if (b.getName() != null) blockByName.putIfAbsent(b.getName(), b);
             }
+            bb = lookupBlock(name);
         }
-        throw new RuntimeException("No such block");
+        if (bb == null) throw new RuntimeException("No such block");
+        return bb;
+    }
+
+    private IRBasicBlock lookupBlock(String name) {
+        IRBasicBlock bb = blockByName.get(name);
+        if (bb != null && bb.getParent() == this && name.equals(bb.getName())) return bb;
+        return null;
     }
 
     @Override
-    public List<IRBasicBlock> getBlocks() {
+    public IntrusiveList<IRBasicBlock> getBlocks() {
         return bbs;
     }
 
     @Override
     public void removeBlock(IRBasicBlock block) {
-        bbs.remove(block);
+        if (bbs.remove(block)) {
+            block.getInsts().forEach(IRInst::dropAllReferences);
+            blockByName.remove(block.getName(), block);
+        }
     }
 
     @Override
@@ -188,14 +218,14 @@ public class IRFunctionImpl extends IRFunction {
 
         // 1. fp
         for (Map.Entry<String, IRValFP> entry : fp.entrySet()) {
-            int count = StaticVariableCounter.getAndIncrement();
+            int count = counter.getAndIncrement();
             entry.getValue().setName("a." + count);
         }
         // 2. unnamed
         for (IRBasicBlock bb : bbs) {
             for (IRInst irInst : bb.getInsts()) {
                 if (irInst.getName() == null && irInst.needName()) {
-                    int count = StaticVariableCounter.getAndIncrement();
+                    int count = counter.getAndIncrement();
                     irInst.setName("v." + count);
                 }
             }
@@ -216,6 +246,8 @@ public class IRFunctionImpl extends IRFunction {
         }
         // 5. interlinked bb
         BuildBBGraph(this);
+        // 6. names created from now on (e.g. by passes) are local to this function.
+        counter = new VariableCounter(counter.get());
     }
 
     @Override
@@ -223,22 +255,37 @@ public class IRFunctionImpl extends IRFunction {
         return fp;
     }
 
+    @Override
+    public VariableCounter getCounter() {
+        return counter;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        sb.append("define ").append(functionType.getRetType().toString()).append(" @").append(name).append("(");
-        boolean first = true;
-        for (Map.Entry<String, IRValFP> entry : fp.entrySet()) {
-            if (!first) sb.append(", ");
-            first = false;
-            sb.append(entry.getValue().getType().toString()).append(" ").append(entry.getValue().getName());
-        }
-        sb.append(") {\n");
-        bbs.stream().map(Object::toString).forEach(sb::append);
-        sb.append("}\n");
+        new IRWriter(sb).function(this);
         return sb.toString();
     }
 
+    /**
+     * Recompute the successors of {@code bb} from its terminator after it was changed, fixing
+     * the predecessors of the old and new successors. Cheaper than {@link #BuildBBGraph}.
+     */
+    public static void UpdateBBEdges(IRBasicBlock bb) {
+        for (var s : bb.getSuc()) {
+            s.getPre().remove(bb);
+        }
+        bb.getSuc().clear();
+        if (bb.getTerminator() instanceof IRInstBr br) {
+            bb.addNext(br.getTrueBB());
+            br.getTrueBB().getPre().add(bb);
+            if (br.getFalseBB() != null) {
+                bb.getSuc().add(br.getFalseBB());
+                br.getFalseBB().getPre().add(bb);
+            }
+        }
+    }
+
     public static void BuildBBGraph(IRFunction F) {
         for (var bb : F.getBlocks()) {
             bb.getPre().clear();
@@ -31,18 +31,25 @@
 
 package icu.merky.jrabche.llvmir.structures.impl;
 
+import icu.merky.jrabche.llvmir.IRWriter;
+import icu.merky.jrabche.llvmir.structures.CompactFunction;
 import icu.merky.jrabche.llvmir.structures.IRFunction;
 import icu.merky.jrabche.llvmir.structures.IRModule;
 import icu.merky.jrabche.llvmir.types.FunctionType;
 import icu.merky.jrabche.llvmir.values.IRVal;
-import icu.merky.jrabche.llvmir.values.IRValGlobal;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class IRModuleImpl extends IRModule {
     Map<String, IRVal> globals;
     Map<String, IRFunction> functions;
     Map<String, FunctionType> functionDeclarations;
+    // set by compact(): the names of all functions in order, and the packed ones.
+    private List<String> order;
+    private final Map<String, CompactFunction> packed = new HashMap<>();
 
     @Override
     public Map<String, FunctionType> getFunctionDeclarations() {
@@ -74,55 +81,46 @@ public class IRModuleImpl extends IRModule {
         this.functions = functions;
     }
 
+    /**
+     * Pack the functions of at least {@code minInsts} instructions into {@link CompactFunction}s
+     * and drop their objects, for a module that is only printed from now on. They leave
+     * {@link #getFunctions()}; {@link #allFunctions()} decodes them when it gets to them, with
+     * their values renumbered.
+     */
+    public void compact(int minInsts) {
+        List<IRFunction> large = new ArrayList<>();
+        for (IRFunction F : functions.values()) {
+            int n = 0;
+            for (var bb : F.getBlocks()) n += bb.getInsts().size();
+            if (n >= minInsts) large.add(F);
+        }
+        if (large.isEmpty()) return;
+        if (order == null) order = new ArrayList<>(functions.keySet());
+        for (IRFunction F : large) {
+            packed.put(F.getName(), CompactFunction.encode(F));
+            functions.remove(F.getName());
+        }
+    }
+
+    @Override
+    public Iterable<IRFunction> allFunctions() {
+        if (order == null) return functions.values();
+        return () -> order.stream().map(name -> {
+            IRFunction F = functions.get(name);
+            return F != null ? F : packed.get(name).decode();
+        }).iterator();
+    }
+
     public String toStringNoDecl() {
         StringBuilder sb = new StringBuilder();
-        // @dd = [constant] global [2 x [3 x i32]] zeroinitializer
-        globals.forEach((name, val) -> {
-            if (val instanceof IRValGlobal vg) {
-                sb.append(vg.getName()).append(" = ");
-                if (vg.isConst()) {
-                    sb.append("constant ");
-                } else {
-                    sb.append("global ");
-                }
-                // if(vg.getElement().getType().isScalar()) {
-                //     sb.append(vg.getElement().getType()).append(" ");
-                // }
-                sb.append(vg.getElement().getType()).append(" ");
-                sb.append(vg.getElement().asValue()).append("\n");
-            } else {
-                sb.append("@").append(name).append(" = global ")
-                        .append(val.getType())
-                        .append(" ")
-                        .append(val.asValue()).append("\n");
-            }
-        });
-
-        // functions.
-        functions.forEach((name, function) -> sb.append(function.toString()));
+        new IRWriter(sb).moduleBody(this);
         return sb.toString();
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        // globals.
-        // declare i32 @getarray(i32*)
-        for (Map.Entry<String, FunctionType> entry : functionDeclarations.entrySet()) {
-            String key = entry.getKey();
-            FunctionType fType = entry.getValue();
-            sb.append("declare ").append(fType.getRetType()).append(" @").append(key);
-            sb.append("(");
-            for (int i = 0; i < fType.getParamsType().size(); i++) {
-                sb.append(fType.getParamsType().get(i));
-                if (i != fType.getParamsType().size() - 1)
-                    sb.append(", ");
-            }
-            sb.append(")\n");
-        }
-        sb.append("\n");
-
-        sb.append(toStringNoDecl());
+        new IRWriter(sb).module(this);
         return sb.toString();
     }
 }
@@ -96,12 +96,12 @@ public class IRCompileTimeCalc {
 
     public static IRValConstBool DoCompileTimeComparison(IRValConst lhs, IRValConst rhs, IRInstIcmp.IcmpOp op) {
         return switch (op) {
-            case EQ -> new IRValConstBool(compare2ValConst(lhs, rhs) == 0 ? 1 : 0);
-            case NE -> new IRValConstBool(compare2ValConst(lhs, rhs) != 0 ? 1 : 0);
-            case SGT -> new IRValConstBool(compare2ValConst(lhs, rhs) > 0 ? 1 : 0);
-            case SGE -> new IRValConstBool(compare2ValConst(lhs, rhs) >= 0 ? 1 : 0);
-            case SLT -> new IRValConstBool(compare2ValConst(lhs, rhs) < 0 ? 1 : 0);
-            case SLE -> new IRValConstBool(compare2ValConst(lhs, rhs) <= 0 ? 1 : 0);
+            case EQ -> IRValConstBool.fromBool(compare2ValConst(lhs, rhs) == 0 ? 1 : 0);
+            case NE -> IRValConstBool.fromBool(compare2ValConst(lhs, rhs) != 0 ? 1 : 0);
+            case SGT -> IRValConstBool.fromBool(compare2ValConst(lhs, rhs) > 0 ? 1 : 0);
+            case SGE -> IRValConstBool.fromBool(compare2ValConst(lhs, rhs) >= 0 ? 1 : 0);
+            case SLT -> IRValConstBool.fromBool(compare2ValConst(lhs, rhs) < 0 ? 1 : 0);
+            case SLE -> IRValConstBool.fromBool(compare2ValConst(lhs, rhs) <= 0 ? 1 : 0);
             default -> throw new RuntimeException("IcmpOP error");
         };
     }
@@ -110,30 +110,30 @@ public class IRCompileTimeCalc {
         var resolvedType = ResolveType(lhs.getType(), rhs.getType());
         lhs = DoCompileTimeConversion(resolvedType, lhs);
         rhs = DoCompileTimeConversion(resolvedType, rhs);
-        if (resolvedType.equals(IRBasicType.INT)) {
+        if (resolvedType == IRBasicType.INT) {
             var l = ((IRValConstInt) lhs).getValue();
             var r = ((IRValConstInt) rhs).getValue();
             return switch (op) {
-                case Add -> new IRValConstInt(l + r);
-                case Sub -> new IRValConstInt(l - r);
-                case Mul -> new IRValConstInt(l * r);
-                case Div -> new IRValConstInt(l / r);
-                case Rem -> new IRValConstInt(l % r);
-                case Shl -> new IRValConstInt(l << r);
-                case Shr -> new IRValConstInt(l >> r);
-                case And -> new IRValConstInt(l & r);
-                case Or -> new IRValConstInt(l | r);
-                case Xor -> new IRValConstInt(l ^ r);
+                case Add -> IRValConstInt.fromInt(l + r);
+                case Sub -> IRValConstInt.fromInt(l - r);
+                case Mul -> IRValConstInt.fromInt(l * r);
+                case Div -> IRValConstInt.fromInt(l / r);
+                case Rem -> IRValConstInt.fromInt(l % r);
+                case Shl -> IRValConstInt.fromInt(l << r);
+                case Shr -> IRValConstInt.fromInt(l >> r);
+                case And -> IRValConstInt.fromInt(l & r);
+                case Or -> IRValConstInt.fromInt(l | r);
+                case Xor -> IRValConstInt.fromInt(l ^ r);
                 default -> throw new RuntimeException("MathOP error");
             };
-        } else if (resolvedType.equals(IRBasicType.FLOAT)) {
+        } else if (resolvedType == IRBasicType.FLOAT) {
             var l = GetFloatNumFromCVal(lhs);
             var r = GetFloatNumFromCVal(rhs);
             return switch (op) {
-                case Add -> new IRValConstFloat(l + r);
-                case Sub -> new IRValConstFloat(l - r);
-                case Mul -> new IRValConstFloat(l * r);
-                case Div -> new IRValConstFloat(l / r);
+                case Add -> IRValConstFloat.fromFloat(l + r);
+                case Sub -> IRValConstFloat.fromFloat(l - r);
+                case Mul -> IRValConstFloat.fromFloat(l * r);
+                case Div -> IRValConstFloat.fromFloat(l / r);
                 default -> throw new RuntimeException("MathOP error");
             };
         } else {
@@ -148,20 +148,20 @@ public class IRCompileTimeCalc {
                     if (val instanceof IRValConstInt) {
                         return (IRValConstInt) val;
                     } else if (val instanceof IRValConstFloat) {
-                        return new IRValConstInt((int) ((IRValConstFloat) val).getValue());
+                        return IRValConstInt.fromInt((int) ((IRValConstFloat) val).getValue());
                     } else if (val instanceof IRValConstBool) {
-                        return new IRValConstInt(((IRValConstBool) val).getValue());
+                        return IRValConstInt.fromInt(((IRValConstBool) val).getValue());
                     } else {
                         throw new RuntimeException("Not a number");
                     }
                 }
                 case FLOAT -> {
                     if (val instanceof IRValConstInt) {
-                        return new IRValConstFloat((float) ((IRValConstInt) val).getValue());
+                        return IRValConstFloat.fromFloat((float) ((IRValConstInt) val).getValue());
                     } else if (val instanceof IRValConstFloat) {
                         return (IRValConstFloat) val;
                     } else if (val instanceof IRValConstBool) {
-                        return new IRValConstFloat(((IRValConstBool) val).getValue());
+                        return IRValConstFloat.fromFloat(((IRValConstBool) val).getValue());
                     } else {
                         throw new RuntimeException("Not a number");
                     }
@@ -177,9 +177,9 @@ public class IRCompileTimeCalc {
         if (val instanceof IRValConstBool) {
             return (IRValConstBool) val;
         } else if (val instanceof IRValConstInt) {
-            return new IRValConstBool(((IRValConstInt) val).getValue());
+            return IRValConstBool.fromBool(((IRValConstInt) val).getValue());
         } else if (val instanceof IRValConstFloat) {
-            return new IRValConstBool(((IRValConstFloat) val).getValue() == 0 ? 0 : 1);
+            return IRValConstBool.fromBool(((IRValConstFloat) val).getValue() == 0 ? 0 : 1);
         } else {
             throw new RuntimeException("Not a bool");
         }
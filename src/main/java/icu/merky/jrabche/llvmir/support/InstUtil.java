@@ -32,15 +32,12 @@
 package icu.merky.jrabche.llvmir.support;
 
 import icu.merky.jrabche.llvmir.inst.IRInst;
-import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
+import icu.merky.jrabche.llvmir.inst.Use;
 import icu.merky.jrabche.llvmir.values.IRVal;
 
-import java.util.Iterator;
-
 public class InstUtil {
     /**
-     * Replace all uses of an instruction with a new value
-     * <h3>MUST FIRST RUN <code>BuildUses</code> PASS</h3>
+     * Replace all uses of an instruction with a new value, in O(number of uses).
      * <br>
      * e.g.: <code>%v1 = load i32, ptr %v2<br>%v3 = add i32 ...,<b>%v1</b></code>
      * <br>
@@ -55,21 +52,12 @@ public class InstUtil {
      * @return whether the instruction is replaced
      */
     public static boolean ReplaceAllUsesWith(IRInst inst, IRVal newVal) {
+        if (inst == newVal) return false;
         boolean changed = false;
-        for (IRInst user : inst.getUsedBy()) {
-            changed |= user.replace(inst, newVal);
-        }
-        return changed;
-    }
-
-    public static boolean RemoveDeletedInstructions(IRBasicBlock bb) {
-        boolean changed = false;
-        for (Iterator<IRInst> it = bb.getInsts().iterator(); it.hasNext(); ) {
-            var inst = it.next();
-            if (inst.isDeleted()) {
-                it.remove();
-                changed = true;
-            }
+        for (Use use = inst.getFirstUse(); use != null; use = inst.getFirstUse()) {
+            // setOperand unlinks the use from inst.
+            use.getUser().setOperand(use.getIndex(), newVal);
+            changed = true;
         }
         return changed;
     }
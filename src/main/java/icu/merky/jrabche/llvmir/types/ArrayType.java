@@ -1,100 +1,87 @@
 package icu.merky.jrabche.llvmir.types;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 public class ArrayType extends IRType {
-    private IRType elementType;
-    private int size;
-    private IRBasicType atomType = IRBasicType.INVALID;
+    private final IRType elementType;
+    private final int size;
+    // layout, computed once since types are immutable
+    private final IRBasicType atomType;
+    private final List<Integer> shape;
+    private final int sizeBytes;
+    private final String name;
 
-    public ArrayType(int size, IRType elementType) {
+    ArrayType(int size, IRType elementType) {
         super(IRBasicType.ARRAY);
         this.size = size;
         this.elementType = elementType;
+        this.name = "[" + size + " x " + elementType.toString() + "]";
+        var shape = new ArrayList<Integer>();
+        shape.add(size);
+        if (elementType instanceof ArrayType arr) {
+            atomType = arr.atomType;
+            shape.addAll(arr.shape);
+            sizeBytes = size == -1 ? 8 : arr.sizeBytes == -1 ? -1 : size * arr.sizeBytes;
+        } else if (elementType instanceof IntType i) {
+            atomType = IRBasicType.INT;
+            sizeBytes = size == -1 ? 8 : size * i.getBitWidth() / 8;
+        } else if (elementType.isFloat()) {
+            atomType = IRBasicType.FLOAT;
+            sizeBytes = size == -1 ? 8 : size * 4;
+        } else {
+            atomType = IRBasicType.INVALID;
+            sizeBytes = size == -1 ? 8 : -1;
+        }
+        this.shape = List.copyOf(shape);
+    }
+
+    public static ArrayType get(int size, IRType elementType) {
+        return TypeContext.getArray(size, elementType);
     }
 
     public static ArrayType FromShape(IRBasicType atomType, List<Integer> shape) {
         if (shape.size() == 0) {
             throw new RuntimeException("Shape must be non-empty");
         }
-        if (shape.size() == 1) {
-            return new ArrayType(shape.get(0), atomType.toIRType());
+        IRType type = atomType.toIRType();
+        for (int i = shape.size() - 1; i >= 0; i--) {
+            type = get(shape.get(i), type);
         }
-        return new ArrayType(shape.get(0), FromShape(atomType, shape.subList(1, shape.size())));
+        return (ArrayType) type;
     }
 
     public IRType getElementType() {
         return elementType;
     }
 
-    public void setElementType(IRType elementType) {
-        this.elementType = elementType;
-    }
-
     public int getSize() {
         return size;
     }
 
-    public void setSize(int size) {
-        this.size = size;
-    }
-
     public IRBasicType getAtomType() {
         if (atomType == IRBasicType.INVALID) {
-            if (elementType.isInt()) {
-                atomType = IRBasicType.INT;
-            } else if (elementType.isFloat()) {
-                atomType = IRBasicType.FLOAT;
-            } else if (elementType.isArray()) {
-                atomType = ((ArrayType) elementType).getAtomType();
-            } else {
-                throw new RuntimeException("Unknown atom type");
-            }
+            throw new RuntimeException("Unknown atom type");
         }
         return atomType;
     }
 
+    /**
+     * @return dimensions, outermost first. Not modifiable.
+     */
     public List<Integer> getShape() {
-        if (elementType.isArray()) {
-            List<Integer> shape = ((ArrayType) elementType).getShape();
-            shape.add(0, size);
-            return shape;
-        } else {
-            return new LinkedList<>(List.of(size));
-        }
+        return shape;
     }
 
     public int getSizeBytes() {
-        if (size == -1) {
-            // pointer
-            return 8;
-        } else if (elementType.isInt()) {
-            return size * ((IntType) elementType).getBitWidth() / 8;
-        } else if (elementType.isFloat()) {
-            return size * 4;
-        } else if (elementType.isArray()) {
-            return size * ((ArrayType) elementType).getSizeBytes();
-        } else {
+        if (sizeBytes == -1) {
             throw new RuntimeException("Unknown atom type");
         }
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (o instanceof ArrayType arr) {
-            return arr.elementType.equals(elementType) && arr.size == size;
-        }
-        return false;
+        return sizeBytes;
     }
 
     @Override
     public String toString() {
-        return "[" + size + " x " + elementType.toString() + "]";
-    }
-
-    @Override
-    public IRType clone() {
-        return new ArrayType(size, elementType.clone());
+        return name;
     }
 }
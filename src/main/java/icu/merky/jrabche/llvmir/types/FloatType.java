@@ -1,22 +1,18 @@
 package icu.merky.jrabche.llvmir.types;
 
 public class FloatType extends IRType {
-    public FloatType() {
+    private static final FloatType INSTANCE = new FloatType();
+
+    private FloatType() {
         super(IRBasicType.FLOAT);
     }
 
-    @Override
-    public boolean equals(Object o) {
-        return o instanceof FloatType;
+    public static FloatType get() {
+        return INSTANCE;
     }
 
     @Override
     public String toString() {
         return "float";
     }
-
-    @Override
-    public IRType clone() {
-        return new FloatType();
-    }
 }
@@ -1,40 +1,30 @@
 package icu.merky.jrabche.llvmir.types;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class FunctionType extends IRType {
 
     private final List<IRType> paramsType;
-    private IRType retType;
+    private final IRType retType;
 
-    public FunctionType() {
-        super(IRBasicType.FUNCTION);
-        paramsType = new ArrayList<>();
-    }
-
-    public FunctionType(IRType retType, List<IRType> paramsType) {
+    FunctionType(IRType retType, List<IRType> paramsType) {
         super(IRBasicType.FUNCTION);
         this.retType = retType;
         this.paramsType = paramsType;
     }
 
-    public IRType getRetType() {
-        return retType;
+    public static FunctionType get(IRType retType, List<IRType> paramsType) {
+        return TypeContext.getFunction(retType, paramsType);
     }
 
-    public void setRetType(IRType retType) {
-        this.retType = retType;
+    public IRType getRetType() {
+        return retType;
     }
 
     public List<IRType> getParamsType() {
         return paramsType;
     }
 
-    public boolean addParamType(IRType type) {
-        return paramsType.add(type);
-    }
-
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -47,10 +37,4 @@ public class FunctionType extends IRType {
         sb.append(")");
         return sb.toString();
     }
-
-    @Override
-    public IRType clone() {
-        var newParamsType = List.copyOf(paramsType);
-        return new FunctionType(retType.clone(), newParamsType);
-    }
 }
@@ -5,9 +5,9 @@ public enum IRBasicType {
 
     public IRType toIRType() {
         return switch (this) {
-            case INT -> new IntType();
-            case FLOAT -> new FloatType();
-            case VOID -> new VoidType();
+            case INT -> IntType.get();
+            case FLOAT -> FloatType.get();
+            case VOID -> VoidType.get();
             default -> throw new RuntimeException("Invalid IRAtomType");
         };
     }
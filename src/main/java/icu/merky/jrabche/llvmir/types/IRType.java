@@ -1,27 +1,16 @@
 package icu.merky.jrabche.llvmir.types;
 
-import java.util.Objects;
-
-abstract public class IRType implements Cloneable {
-    public IRBasicType type;
-
-    public IRType(IRBasicType type_) {
+/**
+ * Types are immutable and uniqued by {@link TypeContext}, so two types are equal iff they are the
+ * same object. Get them through the static {@code get} methods of the subclasses.
+ */
+abstract public class IRType {
+    public final IRBasicType type;
+
+    IRType(IRBasicType type_) {
         type = type_;
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        IRType irType = (IRType) o;
-        return type == irType.type;
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(type);
-    }
-
     @Override
     public abstract String toString();
 
@@ -30,17 +19,11 @@ abstract public class IRType implements Cloneable {
     }
 
     public boolean isI32() {
-        if (type == IRBasicType.INT) {
-            return ((IntType) this).getBitWidth() == 32;
-        }
-        return false;
+        return this == IntType.get();
     }
 
     public boolean isI1() {
-        if (type == IRBasicType.INT) {
-            return ((IntType) this).getBitWidth() == 1;
-        }
-        return false;
+        return this == IntType.get(1);
     }
 
     public boolean isFloat() {
@@ -82,7 +65,4 @@ abstract public class IRType implements Cloneable {
     public IRBasicType getBasicType() {
         return type;
     }
-
-    @Override
-    public abstract IRType clone();
 }
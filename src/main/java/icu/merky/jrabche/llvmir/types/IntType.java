@@ -1,37 +1,32 @@
 package icu.merky.jrabche.llvmir.types;
 
 public class IntType extends IRType {
-    private int bitWidth = 32;
+    private final int bitWidth;
+    private final String name;
 
-    public IntType() {
+    IntType(int bitWidth) {
         super(IRBasicType.INT);
-    }
-
-    public IntType(int bitWidth) {
-        this();
         this.bitWidth = bitWidth;
+        this.name = "i" + bitWidth;
     }
 
-    public int getBitWidth() {
-        return bitWidth;
+    /**
+     * @return i32
+     */
+    public static IntType get() {
+        return get(32);
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (o instanceof IntType) {
-            return bitWidth == ((IntType) o).bitWidth;
-        }
-        return false;
+    public static IntType get(int bitWidth) {
+        return TypeContext.getInt(bitWidth);
     }
 
-    @Override
-    public String toString() {
-        return "i" + bitWidth;
+    public int getBitWidth() {
+        return bitWidth;
     }
 
     @Override
-    public IRType clone() {
-        return new IntType(bitWidth);
+    public String toString() {
+        return name;
     }
-
 }
@@ -1,18 +1,18 @@
 package icu.merky.jrabche.llvmir.types;
 
 public class InvalidType extends IRType {
-    public InvalidType() {
+    private static final InvalidType INSTANCE = new InvalidType();
+
+    private InvalidType() {
         super(IRBasicType.INVALID);
     }
 
+    public static InvalidType get() {
+        return INSTANCE;
+    }
 
     @Override
     public String toString() {
         throw new RuntimeException("InvalidType.toString()");
     }
-
-    @Override
-    public IRType clone() {
-        return new InvalidType();
-    }
 }
@@ -1,22 +1,18 @@
 package icu.merky.jrabche.llvmir.types;
 
 public class LabelType extends IRType {
-    public LabelType() {
+    private static final LabelType INSTANCE = new LabelType();
+
+    private LabelType() {
         super(IRBasicType.LABEL);
     }
 
-    @Override
-    public boolean equals(Object o) {
-        return o instanceof LabelType;
+    public static LabelType get() {
+        return INSTANCE;
     }
 
     @Override
     public String toString() {
         return "label";
     }
-
-    @Override
-    public IRType clone() {
-        return new LabelType();
-    }
 }
@@ -1,21 +1,23 @@
 package icu.merky.jrabche.llvmir.types;
 
 public class PointerType extends IRType {
-    private IRType elementType;
+    private final IRType elementType;
+    private final String name;
 
-    public PointerType(IRType elementType) {
+    PointerType(IRType elementType) {
         super(IRBasicType.POINTER);
         this.elementType = elementType;
+        this.name = elementType.toString() + "*";
     }
 
     static public PointerType MakePointer(IRType elementType) {
-        return new PointerType(elementType);
+        return TypeContext.getPointer(elementType);
     }
 
     static public PointerType MakePointer(IRType elementType, int level) {
-        PointerType pointerType = new PointerType(elementType);
+        PointerType pointerType = MakePointer(elementType);
         for (int i = 1; i < level; i++) {
-            pointerType = new PointerType(pointerType);
+            pointerType = MakePointer(pointerType);
         }
         return pointerType;
     }
@@ -51,25 +53,8 @@ public class PointerType extends IRType {
         return elementType;
     }
 
-    public void setElementType(IRType elementType) {
-        this.elementType = elementType;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (o instanceof PointerType p) {
-            return this.getElementType().equals(p.getElementType());
-        }
-        return false;
-    }
-
     @Override
     public String toString() {
-        return elementType.toString() + "*";
-    }
-
-    @Override
-    public IRType clone() {
-        return new PointerType(elementType.clone());
+        return name;
     }
 }
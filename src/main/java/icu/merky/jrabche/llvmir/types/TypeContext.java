@@ -0,0 +1,72 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.llvmir.types;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uniques the derived types. Shared by every compilation in the process, so it must stay
+ * thread-safe; the element types in the keys are uniqued already and compare by identity.
+ */
+final class TypeContext {
+    private static final ConcurrentHashMap<Integer, IntType> ints = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<IRType, PointerType> pointers = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<ArrayKey, ArrayType> arrays = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<FunctionKey, FunctionType> functions = new ConcurrentHashMap<>();
+
+    private TypeContext() {
+    }
+
+    static IntType getInt(int bitWidth) {
+        return ints.computeIfAbsent(bitWidth, IntType::new);
+    }
+
+    static PointerType getPointer(IRType elementType) {
+        return pointers.computeIfAbsent(elementType, PointerType::new);
+    }
+
+    static ArrayType getArray(int size, IRType elementType) {
+        return arrays.computeIfAbsent(new ArrayKey(size, elementType), k -> new ArrayType(k.size, k.elementType));
+    }
+
+    static FunctionType getFunction(IRType retType, List<IRType> paramsType) {
+        return functions.computeIfAbsent(new FunctionKey(retType, List.copyOf(paramsType)),
+                k -> new FunctionType(k.retType, k.paramsType));
+    }
+
+    private record ArrayKey(int size, IRType elementType) {
+    }
+
+    private record FunctionKey(IRType retType, List<IRType> paramsType) {
+    }
+}
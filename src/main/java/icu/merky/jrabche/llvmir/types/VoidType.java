@@ -1,22 +1,18 @@
 package icu.merky.jrabche.llvmir.types;
 
 public class VoidType extends IRType {
-    public VoidType() {
+    private static final VoidType INSTANCE = new VoidType();
+
+    private VoidType() {
         super(IRBasicType.VOID);
     }
 
-    @Override
-    public boolean equals(Object o) {
-        return o instanceof VoidType;
+    public static VoidType get() {
+        return INSTANCE;
     }
 
     @Override
     public String toString() {
         return "void";
     }
-
-    @Override
-    public IRType clone() {
-        return new VoidType();
-    }
 }
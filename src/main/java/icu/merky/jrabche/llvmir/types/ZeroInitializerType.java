@@ -1,22 +1,18 @@
 package icu.merky.jrabche.llvmir.types;
 
 public class ZeroInitializerType extends IRType {
-    public ZeroInitializerType() {
+    private static final ZeroInitializerType INSTANCE = new ZeroInitializerType();
+
+    private ZeroInitializerType() {
         super(IRBasicType.ZEROINITIALIZER);
     }
 
-    @Override
-    public boolean equals(Object o) {
-        return o instanceof ZeroInitializerType;
+    public static ZeroInitializerType get() {
+        return INSTANCE;
     }
 
     @Override
     public String toString() {
         return "zeroinitializer";
     }
-
-    @Override
-    public IRType clone() {
-        return new ZeroInitializerType();
-    }
 }
@@ -0,0 +1,115 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.llvmir.values;
+
+import icu.merky.jrabche.llvmir.types.IntType;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Canonical int and float constants, one instance per (type, value). Shared by every
+ * compilation in the process like the types; entries are weak so the compile server doesn't
+ * keep the constants of finished compilations alive. Small i32s are preallocated.
+ */
+final class ConstantPool {
+    private static final int SMALL_MIN = -128;
+    private static final int SMALL_MAX = 1024;
+    private static final IRValConstInt[] smallInts = new IRValConstInt[SMALL_MAX - SMALL_MIN + 1];
+
+    static {
+        for (int i = SMALL_MIN; i <= SMALL_MAX; i++) {
+            smallInts[i - SMALL_MIN] = new IRValConstInt(IntType.get(), i);
+        }
+    }
+
+    // bit width << 32 | value
+    private static final WeakPool<Long, IRValConstInt> ints = new WeakPool<>();
+    // raw float bits
+    private static final WeakPool<Integer, IRValConstFloat> floats = new WeakPool<>();
+
+    private ConstantPool() {
+    }
+
+    static IRValConstInt getInt(IntType type, int value) {
+        if (value >= SMALL_MIN && value <= SMALL_MAX && type == IntType.get()) {
+            return smallInts[value - SMALL_MIN];
+        }
+        long key = (long) type.getBitWidth() << 32 | (value & 0xffffffffL);
+        return ints.get(key, () -> new IRValConstInt(type, value));
+    }
+
+    static IRValConstFloat getFloat(float value) {
+        return floats.get(Float.floatToRawIntBits(value), () -> new IRValConstFloat(value));
+    }
+
+    private static final class WeakPool<K, V> {
+        private final ConcurrentHashMap<K, Entry<K, V>> map = new ConcurrentHashMap<>();
+        private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+        V get(K key, Supplier<V> make) {
+            expunge();
+            while (true) {
+                var ref = map.get(key);
+                V val = ref == null ? null : ref.get();
+                if (val != null) {
+                    return val;
+                }
+                val = make.get();
+                var fresh = new Entry<>(key, val, queue);
+                // lost a race: retry with the winner
+                if (ref == null ? map.putIfAbsent(key, fresh) == null : map.replace(key, ref, fresh)) {
+                    return val;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void expunge() {
+            Entry<K, V> ref;
+            while ((ref = (Entry<K, V>) queue.poll()) != null) {
+                map.remove(ref.key, ref);
+            }
+        }
+    }
+
+    private static final class Entry<K, V> extends WeakReference<V> {
+        final K key;
+
+        Entry(K key, V val, ReferenceQueue<V> queue) {
+            super(val, queue);
+            this.key = key;
+        }
+    }
+}
@@ -52,7 +52,6 @@ abstract public class IRVal implements Cloneable, ValueRepresentable {
     public IRVal clone() {
         try {
             IRVal clone = (IRVal) super.clone();
-            clone.type = type.clone();
             clone.name = name;
             return clone;
         } catch (CloneNotSupportedException e) {
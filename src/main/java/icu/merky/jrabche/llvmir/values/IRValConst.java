@@ -10,15 +10,15 @@ public abstract class IRValConst extends IRVal {
     }
 
     public static IRValConstInt ZeroInt() {
-        return new IRValConstInt(0);
+        return IRValConstInt.fromInt(0);
     }
 
     public static IRValConstFloat ZeroFloat() {
-        return new IRValConstFloat(0.0f);
+        return IRValConstFloat.fromFloat(0.0f);
     }
 
     public static IRValConstBool ZeroBool() {
-        return new IRValConstBool(0);
+        return IRValConstBool.FALSE;
     }
 
     public static IRValConst Zero(IRBasicType type) {
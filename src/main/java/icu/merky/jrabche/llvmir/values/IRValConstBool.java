@@ -1,15 +1,25 @@
 package icu.merky.jrabche.llvmir.values;
 
+import icu.merky.jrabche.llvmir.types.IRType;
 import icu.merky.jrabche.llvmir.types.IntType;
 
-import java.util.Objects;
-
 public class IRValConstBool extends IRValConst implements Wordzation {
-    protected int value;
+    public static final IRValConstBool FALSE = new IRValConstBool(0);
+    public static final IRValConstBool TRUE = new IRValConstBool(1);
+
+    protected final int value;
+
+    private IRValConstBool(int value) {
+        super(IntType.get(1));
+        this.value = value;
+    }
 
-    public IRValConstBool(int value) {
-        super(new IntType(1));
-        this.value = value == 0 ? 0 : 1;
+    public static IRValConstBool fromBool(int value) {
+        return value == 0 ? FALSE : TRUE;
+    }
+
+    public static IRValConstBool fromBool(boolean value) {
+        return value ? TRUE : FALSE;
     }
 
     public int getValue() {
@@ -21,11 +31,14 @@ public class IRValConstBool extends IRValConst implements Wordzation {
         return value;
     }
 
+    @Override
+    public void setType(IRType type) {
+        throw new RuntimeException("Constants are immutable");
+    }
+
     @Override
     public IRValConstBool clone() {
-        var clone = (IRValConstBool) super.clone();
-        clone.value = value;
-        return clone;
+        return this;
     }
 
     @Override
@@ -33,17 +46,4 @@ public class IRValConstBool extends IRValConst implements Wordzation {
         if (value != 0) return "true";
         return "false";
     }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        IRValConstBool that = (IRValConstBool) o;
-        return value == that.value;
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(value);
-    }
 }
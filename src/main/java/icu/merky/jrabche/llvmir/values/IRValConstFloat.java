@@ -1,29 +1,29 @@
 package icu.merky.jrabche.llvmir.values;
 
 import icu.merky.jrabche.llvmir.types.FloatType;
+import icu.merky.jrabche.llvmir.types.IRType;
 
 import java.math.BigInteger;
 
+/**
+ * Uniqued by {@link ConstantPool} on the bit pattern, so 0.0 and -0.0 are different constants.
+ */
 public class IRValConstFloat extends IRValConst implements Wordzation {
-    protected float value;
+    protected final float value;
 
-    private IRValConstFloat() {
-        super(new FloatType());
-    }
-
-    public IRValConstFloat(float value) {
-        this();
+    IRValConstFloat(float value) {
+        super(FloatType.get());
         this.value = value;
     }
 
-    public IRValConstFloat(double value) {
-        this((float) value);
+    public static IRValConstFloat fromFloat(float value) {
+        return ConstantPool.getFloat(value);
     }
 
     static public IRValConstFloat FromHexBits(long value) {
         // ((float)*reinterpret_cast<double*>(&value_))
         double v = Double.longBitsToDouble(value);
-        return new IRValConstFloat((float) v);
+        return fromFloat((float) v);
     }
 
     public float getValue() {
@@ -35,11 +35,14 @@ public class IRValConstFloat extends IRValConst implements Wordzation {
         return Float.floatToIntBits(value);
     }
 
+    @Override
+    public void setType(IRType type) {
+        throw new RuntimeException("Constants are immutable");
+    }
+
     @Override
     public IRValConstFloat clone() {
-        var clone = (IRValConstFloat) super.clone();
-        clone.value = value;
-        return clone;
+        return this;
     }
 
     @Override
@@ -51,9 +54,4 @@ public class IRValConstFloat extends IRValConst implements Wordzation {
         }
         return "0x" + bigInteger.toString(16);
     }
-
-    @Override
-    public boolean equals(Object obj) {
-        return obj instanceof IRValConstFloat && ((IRValConstFloat) obj).value == value;
-    }
 }
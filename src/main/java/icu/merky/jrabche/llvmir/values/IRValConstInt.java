@@ -1,17 +1,25 @@
 package icu.merky.jrabche.llvmir.values;
 
+import icu.merky.jrabche.llvmir.types.IRType;
 import icu.merky.jrabche.llvmir.types.IntType;
 
+/**
+ * Uniqued by {@link ConstantPool}: compare with {@code ==}.
+ */
 public class IRValConstInt extends IRValConst implements Wordzation {
-    protected int value;
+    protected final int value;
 
-    public IRValConstInt(int value) {
-        super(new IntType());
+    IRValConstInt(IntType type, int value) {
+        super(type);
         this.value = value;
     }
 
     public static IRValConstInt fromInt(int i) {
-        return new IRValConstInt(i);
+        return ConstantPool.getInt(IntType.get(), i);
+    }
+
+    public static IRValConstInt fromInt(IntType type, int i) {
+        return ConstantPool.getInt(type, i);
     }
 
     public int getValue() {
@@ -23,11 +31,14 @@ public class IRValConstInt extends IRValConst implements Wordzation {
         return value;
     }
 
+    @Override
+    public void setType(IRType type) {
+        throw new RuntimeException("Constants are immutable, use fromInt(type, value)");
+    }
+
     @Override
     public IRValConstInt clone() {
-        var clone = (IRValConstInt) super.clone();
-        clone.value = value;
-        return clone;
+        return this;
     }
 
     @Override
@@ -39,9 +50,4 @@ public class IRValConstInt extends IRValConst implements Wordzation {
     public String toString() {
         return String.valueOf(value);
     }
-
-    @Override
-    public boolean equals(Object obj) {
-        return obj instanceof IRValConstInt && ((IRValConstInt) obj).value == value;
-    }
 }
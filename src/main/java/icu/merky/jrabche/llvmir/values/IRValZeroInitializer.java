@@ -4,7 +4,7 @@ import icu.merky.jrabche.llvmir.types.ZeroInitializerType;
 
 public class IRValZeroInitializer extends IRValConst {
     public IRValZeroInitializer() {
-        super(new ZeroInitializerType());
+        super(ZeroInitializerType.get());
     }
 
     @Override
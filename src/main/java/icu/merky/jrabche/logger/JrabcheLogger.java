@@ -31,58 +31,214 @@
 
 package icu.merky.jrabche.logger;
 
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Logging of the compiler. {@link #JL} forwards to the {@link Session} of the calling thread:
+ * the compiler opens one per compilation, so levels and output of concurrent compilations stay
+ * apart. Outside a session messages go straight to {@code System.out}. A session also has the
+ * stream for the diagnostics of its compilation, see {@link Session#err()}.
+ * <pre>
+ * JL.Debug(Category.DCE, () -> "deleted " + I);
+ * JL.DebugF(Category.OPT, "Optimizer %s Running.\n", opt.name());
+ * </pre>
+ * Build messages that print instructions with the {@link Supplier} overloads; they are not
+ * evaluated unless the level of the category is on. While no session has anything below
+ * {@code W} on, a disabled call costs one volatile read.
+ */
 public class JrabcheLogger {
     public enum LoggerLevel {D, I, W, E}
 
-    LoggerLevel loggerLevel = LoggerLevel.D;
-    public static JrabcheLogger JL;
+    /**
+     * What a message is about; each has its own level, see {@link Session#setLevel(Category, LoggerLevel)}.
+     */
+    public enum Category {
+        DRIVER, FE, OPT, MEM2REG, RLSE, CSE, CF, DCE, BLOCKS;
+
+        public static Category parse(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unknown log category `" + name + "`, expected one of "
+                        + Arrays.toString(values()).toLowerCase(Locale.ROOT));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public static final JrabcheLogger JL = new JrabcheLogger();
 
-    static {
-        JL = new JrabcheLogger();
+    private static final Session DEFAULT = new Session(System.out::print, System.err, 0);
+    private static final ThreadLocal<Session> current = new ThreadLocal<>();
+    // lowest level any session has ever enabled; only goes down
+    private static volatile int lowest = LoggerLevel.W.ordinal();
+
+    private JrabcheLogger() {
     }
 
-    public JrabcheLogger() {
+    /**
+     * @return the session of this thread, or the unbuffered default one.
+     */
+    public static Session session() {
+        Session s = current.get();
+        return s != null ? s : DEFAULT;
     }
 
-    private void output(Object s) {
-        System.out.println(s);
+    /**
+     * Start a session on this thread; closing it flushes it and restores the previous one.
+     *
+     * @param sink       receives the buffered text
+     * @param bufferSize flush when this many chars are buffered
+     */
+    public static Session open(Consumer<String> sink, int bufferSize) {
+        return open(sink, System.err, bufferSize);
     }
 
-    private void outputF(String format, Object... objects) {
-        System.out.printf(format, objects);
+    /**
+     * Like {@link #open(Consumer, int)}, with the diagnostics going to {@code err}.
+     */
+    public static Session open(Consumer<String> sink, PrintStream err, int bufferSize) {
+        Session s = new Session(sink, err, bufferSize);
+        s.previous = current.get();
+        current.set(s);
+        return s;
     }
 
-    public void setLevel(LoggerLevel loggerLevel) {
-        this.loggerLevel = loggerLevel;
+    /**
+     * Log to {@code s} on this thread, e.g. from a worker of the compilation that opened it,
+     * until the returned scope is closed. Does not flush.
+     */
+    public static Scope attach(Session s) {
+        Session previous = current.get();
+        current.set(s);
+        return () -> restore(previous);
     }
 
-    public void Info(Object s) {
-        if (loggerLevel.ordinal() <= LoggerLevel.I.ordinal()) {
-            outputF("[INFO]  ");
-            output(s);
+    private static void restore(Session previous) {
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
         }
     }
 
-    public void InfoF(String s, Object... objects) {
-        if (loggerLevel.ordinal() <= LoggerLevel.I.ordinal()) {
-            outputF("[INFO]  ");
-            outputF(s, objects);
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public boolean isEnabled(Category category, LoggerLevel level) {
+        return level.ordinal() >= lowest && session().isEnabled(category, level);
+    }
+
+    /**
+     * Set the level of every category of the current session.
+     */
+    public void setLevel(LoggerLevel loggerLevel) {
+        session().setLevel(loggerLevel);
+    }
+
+    public void Info(Category category, Supplier<?> s) {
+        if (isEnabled(category, LoggerLevel.I)) {
+            session().line(LoggerLevel.I, category, String.valueOf(s.get()) + '\n');
         }
     }
 
-    public void DebugF(String s, Object... os) {
-        if (loggerLevel.ordinal() <= LoggerLevel.D.ordinal()) {
-            outputF("[DEBUG] ");
-            outputF(s, os);
+    public void InfoF(Category category, String s, Object... objects) {
+        if (isEnabled(category, LoggerLevel.I)) {
+            session().line(LoggerLevel.I, category, String.format(s, objects));
         }
     }
 
-    public void Debug(Object s) {
-        if (loggerLevel.ordinal() <= LoggerLevel.D.ordinal()) {
-            outputF("[DEBUG] ");
-            output(s);
+    public void Debug(Category category, Supplier<?> s) {
+        if (isEnabled(category, LoggerLevel.D)) {
+            session().line(LoggerLevel.D, category, String.valueOf(s.get()) + '\n');
+        }
+    }
 
+    public void DebugF(Category category, String s, Object... os) {
+        if (isEnabled(category, LoggerLevel.D)) {
+            session().line(LoggerLevel.D, category, String.format(s, os));
         }
     }
 
+    /**
+     * Levels, buffer and output of one compilation. Thread-safe, the optimizer logs from its
+     * workers too.
+     */
+    public static final class Session implements AutoCloseable {
+        private final LoggerLevel[] levels = new LoggerLevel[Category.values().length];
+        private final Consumer<String> sink;
+        private final PrintStream err;
+        private final int bufferSize;
+        private final StringBuilder buffer = new StringBuilder();
+        private Session previous;
+
+        private Session(Consumer<String> sink, PrintStream err, int bufferSize) {
+            this.sink = sink;
+            this.err = err;
+            this.bufferSize = bufferSize;
+            Arrays.fill(levels, LoggerLevel.W);
+        }
+
+        /**
+         * @return where messages for the user that are not log lines go, e.g. syntax errors
+         * and the messages of clang. {@code System.err} unless the compile server captures them.
+         */
+        public PrintStream err() {
+            return err;
+        }
+
+        public boolean isEnabled(Category category, LoggerLevel level) {
+            return levels[category.ordinal()].ordinal() <= level.ordinal();
+        }
+
+        public void setLevel(LoggerLevel level) {
+            for (Category c : Category.values()) {
+                setLevel(c, level);
+            }
+        }
+
+        public void setLevel(Category category, LoggerLevel level) {
+            levels[category.ordinal()] = level;
+            synchronized (JrabcheLogger.class) {
+                if (level.ordinal() < lowest) lowest = level.ordinal();
+            }
+        }
+
+        private static final String[] TAGS = {"[DEBUG] ", "[INFO]  ", "[WARN]  ", "[ERROR] "};
+
+        private synchronized void line(LoggerLevel level, Category category, String text) {
+            buffer.append(TAGS[level.ordinal()]).append(category).append(": ").append(text);
+            if (buffer.length() >= bufferSize) {
+                flush();
+            }
+        }
+
+        public synchronized void flush() {
+            if (buffer.isEmpty()) return;
+            String out = buffer.toString();
+            buffer.setLength(0);
+            sink.accept(out);
+        }
+
+        /**
+         * Flush, and give this thread back its previous session.
+         */
+        @Override
+        public void close() {
+            flush();
+            if (current.get() == this) {
+                restore(previous);
+            }
+        }
+    }
 }
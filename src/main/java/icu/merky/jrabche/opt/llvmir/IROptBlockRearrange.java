@@ -34,20 +34,22 @@ package icu.merky.jrabche.opt.llvmir;
 import icu.merky.jrabche.llvmir.inst.IRInstBr;
 import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
 import icu.merky.jrabche.llvmir.structures.IRFunction;
+import icu.merky.jrabche.opt.llvmir.analysis.AnalysisManager;
+import icu.merky.jrabche.opt.llvmir.analysis.AnalysisUser;
 import icu.merky.jrabche.opt.llvmir.annotations.DisabledOpt;
 import icu.merky.jrabche.opt.llvmir.annotations.OptOn;
 
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
-import static icu.merky.jrabche.llvmir.structures.impl.IRFunctionImpl.BuildBBGraph;
+import static icu.merky.jrabche.logger.JrabcheLogger.Category.BLOCKS;
 import static icu.merky.jrabche.logger.JrabcheLogger.JL;
 
 @OptOn(value = OptOn.OptOnEnum.Function, name = "Block Rearrange", ssa = false)
 @DisabledOpt
-public class IROptBlockRearrange implements IROpt {
+public class IROptBlockRearrange implements IROpt, AnalysisUser {
     private final IRFunction F;
+    private AnalysisManager AM = new AnalysisManager();
     private int mergeCount = 0;
     private int removeCount = 0;
 
@@ -55,6 +57,11 @@ public class IROptBlockRearrange implements IROpt {
         this.F = function;
     }
 
+    @Override
+    public void setAnalysisManager(AnalysisManager AM) {
+        this.AM = AM;
+    }
+
     @Override
     public boolean go() {
         boolean changed = false;
@@ -68,7 +75,7 @@ public class IROptBlockRearrange implements IROpt {
             changed |= innerChanged;
         } while (innerChanged);
         if (mergeCount + removeCount > 0)
-            JL.Debug("BR  :func=" + F.getName() + "\tmerge " + mergeCount + " blocks, remove " + removeCount + " blocks");
+            JL.DebugF(BLOCKS, "func=%s\tmerge %d blocks, remove %d blocks\n", F.getName(), mergeCount, removeCount);
         return changed;
     }
 
@@ -79,16 +86,15 @@ public class IROptBlockRearrange implements IROpt {
         boolean needContinue;
         do {
             innerChanged = false;
-            BuildBBGraph(F);
-            Iterator<IRBasicBlock> iterator = F.getBlocks().iterator();
-            while (iterator.hasNext()) {
-                var bb = iterator.next();
+            AM.ensureCFG(F);
+            for (var bb : F.getBlocks()) {
                 if (bb.getPre().isEmpty() && bb != F.entryBB()) {
-                    iterator.remove();
+                    F.removeBlock(bb);
                     innerChanged = true;
                     removeCount++;
                 }
             }
+            if (innerChanged) AM.invalidateAll(F);
             changed |= innerChanged;
             needContinue = innerChanged;
         } while (needContinue);
@@ -111,7 +117,7 @@ public class IROptBlockRearrange implements IROpt {
         boolean needContinue = false;
         do {
             innerChanged = false;
-            BuildBBGraph(F);
+            AM.ensureCFG(F);
             for (IRBasicBlock X : F.getBlocks()) {
                 if (X.getSuc().size() == 1 && X.getSuc().get(0).getPre().size() == 1 && X != F.entryBB()) {
                     var Y = X.getSuc().get(0);
@@ -119,16 +125,19 @@ public class IROptBlockRearrange implements IROpt {
                         // merge X,Y
                         // System.out.println("merge " + X.getName() + " from " + Y.getName());
                         // 0. remove terminator of X
-                        X.getInsts().remove(X.getInsts().size() - 1);
-                        // 1. move insts from Y to X
+                        X.getInsts().getLast().eraseFromParent();
+                        // 1. move insts from Y to X, this empties Y
                         for (var inst : Y.getInsts()) {
                             X.addInst(inst);
                         }
                         mergeCount++;
                         innerChanged = true;
+                        // CFG 已过期，重新构建后再继续
+                        break;
                     }
                 }
             }
+            if (innerChanged) AM.invalidateAll(F);
             changed |= innerChanged;
             needContinue = innerChanged;
         } while (needContinue);
@@ -164,6 +173,7 @@ public class IROptBlockRearrange implements IROpt {
                     }
                 }
             }
+            if (innerChanged) AM.invalidateAll(F);
             changed |= innerChanged;
             needContinue = innerChanged;
         } while (needContinue);
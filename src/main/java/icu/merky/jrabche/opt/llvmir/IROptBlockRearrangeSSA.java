@@ -38,22 +38,34 @@ import icu.merky.jrabche.llvmir.inst.IRInstPhi;
 import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
 import icu.merky.jrabche.llvmir.structures.IRFunction;
 import icu.merky.jrabche.llvmir.values.IRVal;
+import icu.merky.jrabche.opt.llvmir.analysis.Analysis;
+import icu.merky.jrabche.opt.llvmir.analysis.AnalysisManager;
+import icu.merky.jrabche.opt.llvmir.analysis.AnalysisUser;
 import icu.merky.jrabche.opt.llvmir.annotations.DisabledOpt;
 import icu.merky.jrabche.opt.llvmir.annotations.OptOn;
 
 import java.util.*;
 
-import static icu.merky.jrabche.llvmir.structures.impl.IRFunctionImpl.BuildBBGraph;
+import static icu.merky.jrabche.llvmir.structures.impl.IRFunctionImpl.UpdateBBEdges;
+import static icu.merky.jrabche.llvmir.support.InstUtil.ReplaceAllUsesWith;
+import static icu.merky.jrabche.logger.JrabcheLogger.Category.BLOCKS;
+import static icu.merky.jrabche.logger.JrabcheLogger.JL;
 
 @OptOn(value = OptOn.OptOnEnum.Function, ssa = true, afterWhich = {IROptDCE.class}, name = "Block Rearrange (SSA)")
 @DisabledOpt
-public class IROptBlockRearrangeSSA implements IROpt {
+public class IROptBlockRearrangeSSA implements IROpt, AnalysisUser {
     private final IRFunction F;
+    private AnalysisManager AM = new AnalysisManager();
 
     public IROptBlockRearrangeSSA(IRFunction function) {
         this.F = function;
     }
 
+    @Override
+    public void setAnalysisManager(AnalysisManager AM) {
+        this.AM = AM;
+    }
+
     @Override
     public boolean go() {
         boolean changed = false;
@@ -66,27 +78,19 @@ public class IROptBlockRearrangeSSA implements IROpt {
 
     private boolean cleanUpSinglePhi() {
         boolean changed = false;
-        var replaceMap = new HashMap<IRVal, IRVal>();
+        var replaceMap = new LinkedHashMap<IRInst, IRVal>();
         for (IRBasicBlock B : F.getBlocks()) {
             for (IRInst I : B.getInsts()) {
                 if (I instanceof IRInstPhi phi) {
-                    var incoming = phi.getIncoming();
-                    if (incoming.size() == 1) {
-                        replaceMap.put(phi, incoming.values().iterator().next());
+                    if (phi.getNumIncoming() == 1) {
+                        replaceMap.put(phi, phi.getIncomingValue(0));
                     }
                 } else break;
             }
         }
 
-        for (IRBasicBlock B : F.getBlocks()) {
-            for (IRInst I : B.getInsts()) {
-                for (IRVal use : I.getUses()) {
-                    if (replaceMap.containsKey(use)) {
-                        I.replace(use, replaceMap.get(use));
-                        changed = true;
-                    }
-                }
-            }
+        for (var entry : replaceMap.entrySet()) {
+            changed |= ReplaceAllUsesWith(entry.getKey(), entry.getValue());
         }
         return changed;
     }
@@ -94,7 +98,7 @@ public class IROptBlockRearrangeSSA implements IROpt {
 
     private boolean removeUnreachableBB() {
         boolean changed = false;
-        BuildBBGraph(F);
+        AM.ensureCFG(F);
         Set<IRBasicBlock> reachable = new HashSet<>();
         Queue<IRBasicBlock> queue = new LinkedList<>();
         queue.add(F.entryBB());
@@ -117,15 +121,18 @@ public class IROptBlockRearrangeSSA implements IROpt {
         for (var bb : removeList) {
             F.removeBlock(bb);
         }
+        if (changed) AM.invalidateAll(F);
         // fix phi instructions
+        if (removeList.isEmpty()) return false;
+        BitSet keep = new BitSet();
         for (IRBasicBlock B : F.getBlocks()) {
             for (IRInst I : B.getInsts()) {
                 if (I instanceof IRInstPhi phi) {
-                    for (IRBasicBlock IN : new HashSet<>(phi.getIncoming().keySet())) {
-                        if (removeList.contains(IN)) {
-                            phi.removeIncoming(IN);
-                        }
+                    keep.clear();
+                    for (int i = 0; i < phi.getNumIncoming(); i++) {
+                        if (!removeList.contains(phi.getIncomingBlock(i))) keep.set(i);
                     }
+                    phi.retainIncoming(keep);
                 }
             }
         }
@@ -140,7 +147,7 @@ public class IROptBlockRearrangeSSA implements IROpt {
             Map<IRBasicBlock, IRBasicBlock> aBrB = new HashMap<>();
 
             innerChanged = false;
-            BuildBBGraph(F);
+            AM.ensureCFG(F);
 
 
             for (var bb : F.getBlocks()) {
@@ -155,45 +162,64 @@ public class IROptBlockRearrangeSSA implements IROpt {
 
             // 考虑连续的链状结构。
 
+            Set<IRBasicBlock> phiBlocks = new LinkedHashSet<>();
             for (Map.Entry<IRBasicBlock, IRBasicBlock> edge : aBrB.entrySet()) {
                 var here = edge.getKey();
                 var froms = here.getPre();
                 var phiBlock = edge.getValue();
                 for (var I : phiBlock.getInsts()) {
                     if (I instanceof IRInstPhi phi) {
-                        for (Map.Entry<IRBasicBlock, IRVal> phiIncoming : phi.getIncoming().entrySet()) {
-                            if (phiIncoming.getKey() == here) {
-                                // delete here incoming, add froms incomings.
-                                var val = phiIncoming.getValue();
-                                if (froms.isEmpty()) {
-                                    continue;
-                                }
-                                phi.removeIncoming(here);
-                                System.out.printf("Removed %s from phi instruction %s\n", here.getName(), phi.asValue());
-                                for (IRBasicBlock from : froms) {
-                                    while (aBrB.containsKey(from)) {
-                                        from = aBrB.get(from);
-                                    }
-                                    phi.addIncoming(val, from);
-                                    System.out.printf("Added %s to phi instruction %s\n", from.getName(), phi.asValue());
+                        int i = phi.getBlockIndex(here);
+                        if (i >= 0 && !froms.isEmpty()) {
+                            // delete here incoming, add froms incomings.
+                            var val = phi.getIncomingValue(i);
+                            phi.removeIncomingValue(i);
+                            phiBlocks.add(phiBlock);
+                            JL.DebugF(BLOCKS, "Removed %s from phi instruction %s\n", here.getName(), phi.asValue());
+                            for (IRBasicBlock from : froms) {
+                                while (aBrB.containsKey(from)) {
+                                    from = aBrB.get(from);
                                 }
-                                break; // java.util.ConcurrentModificationException
+                                phi.addIncoming(val, from);
+                                JL.DebugF(BLOCKS, "Added %s to phi instruction %s\n", from.getName(), phi.asValue());
                             }
                         }
                     } else break;
                 }
             }
 
+            // the CFG and the dominator tree are updated edge by edge.
+            var DT = AM.getDominatorTree(F);
             for (var bb : F.getBlocks()) {
                 if (bb.getTerminator() instanceof IRInstBr I) {
                     var targets = I.getReplaceableBlocks();
+                    boolean retargeted = false;
                     for (var target : targets) {
                         if (aBrB.containsKey(target)) {
-                            innerChanged |= I.replaceBlock(target, aBrB.get(target));
+                            retargeted |= I.replaceBlock(target, aBrB.get(target));
                         }
                     }
+                    if (retargeted) {
+                        var oldSucc = new ArrayList<>(bb.getSuc());
+                        UpdateBBEdges(bb);
+                        for (var s : bb.getSuc()) {
+                            if (!oldSucc.contains(s)) DT.insertEdge(bb, s);
+                        }
+                        for (var s : oldSucc) {
+                            if (!bb.getSuc().contains(s)) DT.deleteEdge(bb, s);
+                        }
+                        innerChanged = true;
+                    }
+                }
+            }
+            // the new entries went to the end, put them back in pred order.
+            for (var bb : phiBlocks) {
+                for (var I : bb.getInsts()) {
+                    if (I instanceof IRInstPhi phi) phi.orderBy(bb.getPre());
+                    else break;
                 }
             }
+            if (innerChanged) AM.invalidate(F, Set.of(Analysis.CFG, Analysis.DOMINATOR_TREE));
             changed |= innerChanged;
             needContinue = innerChanged;
         } while (needContinue);
@@ -32,46 +32,70 @@
 package icu.merky.jrabche.opt.llvmir;
 
 import icu.merky.jrabche.llvmir.inst.IRInst;
+import icu.merky.jrabche.llvmir.inst.IRInstBr;
 import icu.merky.jrabche.llvmir.inst.IRInstIcmp;
 import icu.merky.jrabche.llvmir.inst.IRInstMath;
 import icu.merky.jrabche.llvmir.inst.IRInstPhi;
+import icu.merky.jrabche.llvmir.inst.Use;
 import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
 import icu.merky.jrabche.llvmir.structures.IRFunction;
-import icu.merky.jrabche.llvmir.structures.impl.IRFunctionImpl;
 import icu.merky.jrabche.llvmir.values.IRVal;
 import icu.merky.jrabche.llvmir.values.IRValConstBool;
 import icu.merky.jrabche.llvmir.values.IRValConstInt;
-import icu.merky.jrabche.logger.JrabcheLogger;
+import icu.merky.jrabche.opt.llvmir.analysis.Analysis;
+import icu.merky.jrabche.opt.llvmir.analysis.AnalysisManager;
+import icu.merky.jrabche.opt.llvmir.analysis.AnalysisUser;
 import icu.merky.jrabche.opt.llvmir.annotations.OptOn;
-import icu.merky.jrabche.support.AutoNewCollectionHashMap;
+import icu.merky.jrabche.support.Statistic;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static icu.merky.jrabche.llvmir.support.IRCompileTimeCalc.DoCompileTimeCalculation;
 import static icu.merky.jrabche.llvmir.support.IRCompileTimeCalc.DoCompileTimeComparison;
+import static icu.merky.jrabche.llvmir.support.InstUtil.ReplaceAllUsesWith;
+import static icu.merky.jrabche.logger.JrabcheLogger.Category.CF;
+import static icu.merky.jrabche.logger.JrabcheLogger.JL;
 
-@OptOn(value = OptOn.OptOnEnum.Function, ssa = true, afterWhich = {IROptDCE.class}, name = "Const Folding")
+@OptOn(value = OptOn.OptOnEnum.Function, ssa = true, afterWhich = {IROptDCE.class}, name = "Const Folding",
+        preserves = {Analysis.CFG, Analysis.DOMINATORS, Analysis.DOMINATOR_TREE, Analysis.LIVENESS})
 // @DisabledOpt
-public class IROptCF implements IROpt {
+public class IROptCF implements IROpt, AnalysisUser, ReportsChangedCFG {
+    static final Statistic NumFolded = Statistic.of("cf", "folded", "Instructions folded to constants");
 
     private final IRFunction F;
+    private AnalysisManager AM = new AnalysisManager();
+    private boolean foldedBranch;
 
     public IROptCF(IRFunction F) {
         this.F = F;
     }
 
+    @Override
+    public void setAnalysisManager(AnalysisManager AM) {
+        this.AM = AM;
+    }
+
     @Override
     public boolean go() {
         return goOnce();
     }
 
+    /**
+     * A folded condition turns its branch into an unconditional one, the other analyses are
+     * kept otherwise.
+     */
+    @Override
+    public boolean changedCFG() {
+        return foldedBranch;
+    }
+
     private boolean goOnce() {
 
         boolean changed = false;
 
-        Map<IRVal, IRVal> replaceMap = new HashMap<>();
+        Map<IRInst, IRVal> replaceMap = new LinkedHashMap<>();
         for (IRBasicBlock B : F.getBlocks()) {
             for (IRInst I : B.getInsts()) {
                 if (I instanceof IRInstMath MI && MI.getType().isInt()) {
@@ -94,16 +118,21 @@ public class IROptCF implements IROpt {
         }
 
         // replace
-        for (IRBasicBlock B : F.getBlocks()) {
-            for (IRInst I : B.getInsts()) {
-                for (IRVal U : I.getUses()) {
-                    if (replaceMap.containsKey(U)) {
-                        changed |= I.replace(U, replaceMap.get(U));
-                        JrabcheLogger.JL.DebugF("%s == %s in %s\n", U.asValue(), replaceMap.get(U).asValue(), I);
-                    }
-                }
+        for (var entry : replaceMap.entrySet()) {
+            IRInst U = entry.getKey();
+            for (Use use = U.getFirstUse(); use != null; use = use.getNext()) {
+                JL.DebugF(CF, "%s == %s in %s\n", U.asValue(), entry.getValue().asValue(), use.getUser());
+                // a constant condition turns the branch into an unconditional one.
+                foldedBranch |= use.getUser() instanceof IRInstBr;
+            }
+            if (ReplaceAllUsesWith(U, entry.getValue())) {
+                NumFolded.inc();
+                changed = true;
             }
         }
+        if (foldedBranch) {
+            AM.invalidateAll(F);
+        }
 
         changed |= cleanUpUnreachablePhiPred();
         return changed;
@@ -112,28 +141,26 @@ public class IROptCF implements IROpt {
     private boolean cleanUpUnreachablePhiPred() {
         boolean changed = false;
 
-        IRFunctionImpl.BuildBBGraph(F);
-
-        AutoNewCollectionHashMap<IRInstPhi, IRBasicBlock> willBeRemoved = new AutoNewCollectionHashMap<>(HashSet::new);
+        AM.ensureCFG(F);
 
+        BitSet keep = new BitSet();
         for (IRBasicBlock B : F.getBlocks()) {
             for (IRInst I : B.getInsts()) {
                 if (I instanceof IRInstPhi phi) {
-                    for (IRBasicBlock P : phi.getIncoming().keySet()) {
-                        if (!B.getPre().contains(P)) {
-                            willBeRemoved.insert(phi, P);
-                        }
+                    // the entries of the preds, found by block index; the others are unreachable.
+                    keep.clear();
+                    for (IRBasicBlock pred : B.getPre()) {
+                        int i = phi.getBlockIndex(pred);
+                        if (i >= 0) keep.set(i);
+                    }
+                    if (keep.cardinality() < phi.getNumIncoming()) {
+                        phi.retainIncoming(keep);
+                        changed = true;
                     }
                 } else break;
             }
         }
 
-        for (IRInstPhi phi : willBeRemoved.keySet()) {
-            for (IRBasicBlock b : willBeRemoved.get(phi)) {
-                changed |= phi.removeIncoming(b);
-            }
-        }
-
         return changed;
     }
 }
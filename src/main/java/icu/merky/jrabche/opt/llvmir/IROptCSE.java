@@ -31,17 +31,25 @@
 
 package icu.merky.jrabche.opt.llvmir;
 
+import icu.merky.jrabche.llvmir.inst.IRInst;
 import icu.merky.jrabche.llvmir.inst.IRInstMath;
+import icu.merky.jrabche.llvmir.inst.Use;
 import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
 import icu.merky.jrabche.llvmir.values.IRVal;
-import icu.merky.jrabche.llvmir.values.IRValConstInt;
+import icu.merky.jrabche.opt.llvmir.analysis.Analysis;
 import icu.merky.jrabche.opt.llvmir.annotations.OptOn;
+import icu.merky.jrabche.support.Statistic;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
-@OptOn(ssa = false, value = OptOn.OptOnEnum.BasicBlock, name = "Common Subexpression Elimination")
+@OptOn(ssa = false, value = OptOn.OptOnEnum.BasicBlock, name = "Common Subexpression Elimination",
+        preserves = {Analysis.CFG, Analysis.DOMINATORS, Analysis.DOMINATOR_TREE, Analysis.LIVENESS})
 // @DisabledOpt
 public class IROptCSE implements IROpt {
+    static final Statistic NumReplaced = Statistic.of("cse", "replaced", "Uses of common subexpressions replaced");
+
     private final IRBasicBlock bb;
 
     static class IMathTriple {
@@ -56,44 +64,23 @@ public class IROptCSE implements IROpt {
 
         @Override
         public int hashCode() {
-            int hash1 = op.ordinal();
-            int hash2 = 0, hash3 = 0;
-            if (lhs instanceof IRValConstInt lInt) {
-                hash2 = lInt.getValue();
-            } else {
-                hash2 = lhs.hashCode();
-            }
-            if (rhs instanceof IRValConstInt rInt) {
-                hash3 = rInt.getValue();
-            } else {
-                hash3 = rhs.hashCode();
-            }
-
-            return hash1 << 30 ^ hash2 << 15 ^ hash3;
+            // constants are uniqued, so operands compare by identity;
+            // symmetric in lhs/rhs to match the commutative equals
+            return op.ordinal() * 31 + (lhs.hashCode() ^ rhs.hashCode());
         }
 
         @Override
         public boolean equals(Object obj) {
             if (obj instanceof IMathTriple triple) {
-                if (!triple.op.equals(this.op)) return false;
+                if (triple.op != this.op) return false;
                 if (op == IRInstMath.MathOP.Add || op == IRInstMath.MathOP.Mul) {
                     // 交换律比较
-                    return (baseEq(lhs, triple.lhs) && baseEq(rhs, triple.rhs))
-                            || (baseEq(lhs, triple.rhs) && baseEq(rhs, triple.lhs));
-                } else return baseEq(lhs, triple.lhs) && baseEq(rhs, triple.rhs);
+                    return (lhs == triple.lhs && rhs == triple.rhs)
+                            || (lhs == triple.rhs && rhs == triple.lhs);
+                } else return lhs == triple.lhs && rhs == triple.rhs;
             }
             return false;
         }
-
-        private static boolean baseEq(IRVal lhs, IRVal rhs) {
-            if (lhs instanceof IRValConstInt constInt) {
-                if (rhs instanceof IRValConstInt constInt1) {
-                    return constInt.getValue() == constInt1.getValue();
-                }
-                return false;
-            }
-            return lhs == rhs; // pointer equality
-        }
     }
 
     public IROptCSE(IRBasicBlock bb) {
@@ -104,7 +91,7 @@ public class IROptCSE implements IROpt {
     public boolean go() {
         boolean changed = false;
         HashMap<IMathTriple, IRVal> calculated = new HashMap<>();
-        HashMap<IRVal, IRVal> replaceMap = new HashMap<>();
+        Map<IRInst, IRVal> replaceMap = new LinkedHashMap<>();
 
         for (var inst : bb.getInsts()) {
             if (inst instanceof IRInstMath math) {
@@ -118,11 +105,17 @@ public class IROptCSE implements IROpt {
             }
         }
 
-        for (var inst : bb.getInsts()) {
-            for (var used : inst.getUses()) {
-                if (replaceMap.containsKey(used)) {
-                    changed |= inst.replace(used, replaceMap.get(used));
+        // the pass only looks at this block, so only the uses in this block are replaced.
+        for (var entry : replaceMap.entrySet()) {
+            Use use = entry.getKey().getFirstUse();
+            while (use != null) {
+                Use next = use.getNext();
+                if (use.getUser().getParent() == bb) {
+                    use.getUser().setOperand(use.getIndex(), entry.getValue());
+                    NumReplaced.inc();
+                    changed = true;
                 }
+                use = next;
             }
         }
         return changed;
@@ -32,20 +32,24 @@
 package icu.merky.jrabche.opt.llvmir;
 
 import icu.merky.jrabche.llvmir.inst.*;
-import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
 import icu.merky.jrabche.llvmir.structures.IRFunction;
+import icu.merky.jrabche.opt.llvmir.analysis.Analysis;
 import icu.merky.jrabche.opt.llvmir.annotations.OptOn;
+import icu.merky.jrabche.support.Statistic;
 
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Set;
 
+import static icu.merky.jrabche.logger.JrabcheLogger.Category.DCE;
 import static icu.merky.jrabche.logger.JrabcheLogger.JL;
 
-@OptOn(value = OptOn.OptOnEnum.Function, name = "Dead Code Elimination v1", ssa = true, afterWhich = {})
+@OptOn(value = OptOn.OptOnEnum.Function, name = "Dead Code Elimination v1", ssa = true, afterWhich = {},
+        preserves = {Analysis.CFG, Analysis.DOMINATORS, Analysis.DOMINATOR_TREE, Analysis.LIVENESS})
 // @DisabledOpt
 public class IROptDCE implements IROpt {
+    static final Statistic NumDeleted = Statistic.of("dce", "deleted", "Instructions deleted");
 
     private final IRFunction F;
 
@@ -79,9 +83,9 @@ public class IROptDCE implements IROpt {
         while (!sideEffBFS.isEmpty()) {
             var I = sideEffBFS.poll();
             sideEff.add(I);
-            JL.DebugF("SideEff Add %s\n", I.toString());
-            for (var U : I.getUses()) {
-                if (U instanceof IRInst UI) {
+            JL.DebugF(DCE, "SideEff Add %s\n", I);
+            for (int i = 0; i < I.getNumOperands(); i++) {
+                if (I.getOperand(i) instanceof IRInst UI) {
                     if (!sideEffBFSVis.contains(UI)) {
                         sideEffBFSVis.add(UI);
                         sideEffBFS.add(UI);
@@ -90,23 +94,18 @@ public class IROptDCE implements IROpt {
             }
         }
 
-        // mark clean
+        // delete the rest
         for (var B : F.getBlocks()) {
             for (IRInst I : B.getInsts()) {
                 if (!sideEff.contains(I)) {
-                    I.setDeleted();
+                    JL.Debug(DCE, () -> "deleted " + I);
+                    I.eraseFromParent();
+                    NumDeleted.inc();
                     changed = true;
-                    JL.Debug("deleted " + I.toString());
                 }
             }
         }
 
-        // actually delete
-        for (IRBasicBlock B : F.getBlocks()) {
-            B.getInsts().removeIf(IRInst::isDeleted);
-        }
-
-
         return changed;
     }
 }
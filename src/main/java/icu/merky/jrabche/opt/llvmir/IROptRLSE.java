@@ -35,23 +35,32 @@ import icu.merky.jrabche.llvmir.inst.IRInst;
 import icu.merky.jrabche.llvmir.inst.IRInstAlloca;
 import icu.merky.jrabche.llvmir.inst.IRInstLoad;
 import icu.merky.jrabche.llvmir.inst.IRInstStore;
+import icu.merky.jrabche.llvmir.inst.Use;
 import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
 import icu.merky.jrabche.llvmir.structures.IRFunction;
 import icu.merky.jrabche.llvmir.values.IRVal;
+import icu.merky.jrabche.opt.llvmir.analysis.Analysis;
 import icu.merky.jrabche.opt.llvmir.annotations.OptOn;
+import icu.merky.jrabche.support.Statistic;
 
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import static icu.merky.jrabche.logger.JrabcheLogger.Category.RLSE;
 import static icu.merky.jrabche.logger.JrabcheLogger.JL;
 
 /**
  * Redundant Load Store Elimination
  */
-@OptOn(value = OptOn.OptOnEnum.Function, name = "Redundant Load Store Elimination", ssa = false)
+@OptOn(value = OptOn.OptOnEnum.Function, name = "Redundant Load Store Elimination", ssa = false,
+        preserves = {Analysis.CFG, Analysis.DOMINATORS, Analysis.DOMINATOR_TREE})
 public class IROptRLSE implements IRPass {
+    static final Statistic NumLoads = Statistic.of("rlse", "loads", "Unused loads removed");
+    static final Statistic NumStores = Statistic.of("rlse", "stores", "Redundant stores removed");
+    static final Statistic NumAllocas = Statistic.of("rlse", "allocas", "Store-only allocas removed");
+
     private final IRFunction F;
 
     public IROptRLSE(IRFunction function) {
@@ -64,7 +73,6 @@ public class IROptRLSE implements IRPass {
         for (var B : F.getBlocks()) {
             changed |= goOnBB(B);
         }
-        new BuildUses(F).go();
         changed |= goOnRemoveStore();
         return changed;
     }
@@ -74,25 +82,28 @@ public class IROptRLSE implements IRPass {
         for (var B : F.getBlocks()) {
             for (var I : B.getInsts()) {
                 if (I instanceof IRInstAlloca) {
-                    // zero use, delete.
-                    if (I.getUsedBy().isEmpty()) {
-                        JL.Debug("RLSE: delete alloca " + I);
-                        I.setDeleted();
-                        changed = true;
+                    // zero use or only store, delete.
+                    boolean onlyStores = true;
+                    for (Use use = I.getFirstUse(); use != null; use = use.getNext()) {
+                        if (!(use.getUser() instanceof IRInstStore)) {
+                            onlyStores = false;
+                            break;
+                        }
                     }
-                    // only store, delete.
-                    if (I.getUsedBy().stream().allMatch(inst -> inst instanceof IRInstStore)) {
-                        I.getUsedBy().forEach(inst -> {
-                            JL.Debug("RLSE: delete  " + inst);
-                            inst.setDeleted();
-                        });
-                        JL.Debug("RLSE: delete alloca " + I);
-                        I.setDeleted();
+                    if (onlyStores) {
+                        while (I.hasUses()) {
+                            var store = I.getFirstUse().getUser();
+                            JL.Debug(RLSE, () -> "delete store  " + store);
+                            store.eraseFromParent();
+                            NumStores.inc();
+                        }
+                        JL.Debug(RLSE, () -> "delete alloca " + I);
+                        I.eraseFromParent();
+                        NumAllocas.inc();
                         changed = true;
                     }
                 }
             }
-            B.getInsts().removeIf(IRInst::isDeleted);
         }
         return changed;
     }
@@ -105,11 +116,7 @@ public class IROptRLSE implements IRPass {
         for (var I : B.getInsts()) {
             if (I instanceof IRInstStore store) {
                 // store self
-                for (var op : I.getUses()) {
-                    if (op instanceof IRInstLoad load) {
-                        I.replace(op, loadReplaceMap.getOrDefault(load, op));
-                    }
-                }
+                replaceLoads(I, loadReplaceMap);
                 // kill and gen
                 if (store.getTo() instanceof IRInstAlloca alloca) {
                     // kill all load
@@ -135,37 +142,24 @@ public class IROptRLSE implements IRPass {
                     continue;
                 }
                 // other inst
-                for (var op : I.getUses()) {
-                    if (op instanceof IRInstLoad load) {
-                        I.replace(op, loadReplaceMap.getOrDefault(load, op));
-                    }
-                }
+                replaceLoads(I, loadReplaceMap);
             }
         }
         boolean changedInner = true;
         boolean changedOuter = false;
         while (changedInner) {
             changedInner = false;
-            Set<IRInstLoad> usedLoads = new HashSet<>();
-            for (var I : B.getInsts()) {
-                for (var U : I.getUses()) {
-                    if (U instanceof IRInstLoad load) {
-                        usedLoads.add(load);
-                    }
-                }
-            }
             for (var I : B.getInsts()) {
                 if (I instanceof IRInstLoad load) {
-                    if (!usedLoads.contains(load)) {
-                        JL.Debug("RLSE: delete load   " + load);
-                        load.setDeleted();
+                    if (!load.hasUses()) {
+                        JL.Debug(RLSE, () -> "delete load   " + load);
+                        load.eraseFromParent();
+                        NumLoads.inc();
                         changedInner = true;
                         changedOuter = true;
                     }
                 }
             }
-            // true delete.
-            B.getInsts().removeIf(IRInst::isDeleted);
         }
 
         // stage2: remove redundant store.
@@ -176,15 +170,23 @@ public class IROptRLSE implements IRPass {
                 if (store.getTo() instanceof IRInstAlloca alloca) {
                     IRInstStore oldStore = storeMap.getOrDefault(alloca, null);
                     if (oldStore != null) {
-                        JL.Debug("RLSE: delete store  " + oldStore);
-                        oldStore.setDeleted();
+                        JL.Debug(RLSE, () -> "delete store  " + oldStore);
+                        oldStore.eraseFromParent();
+                        NumStores.inc();
                         changedOuter = true;
                     }
                     storeMap.put(alloca, store);
                 }
             }
         }
-        B.getInsts().removeIf(IRInst::isDeleted);
         return changedOuter;
     }
+
+    private static void replaceLoads(IRInst I, Map<IRInstLoad, IRVal> loadReplaceMap) {
+        for (int i = 0; i < I.getNumOperands(); i++) {
+            if (I.getOperand(i) instanceof IRInstLoad load && loadReplaceMap.containsKey(load)) {
+                I.setOperand(i, loadReplaceMap.get(load));
+            }
+        }
+    }
 }
@@ -32,13 +32,9 @@
 package icu.merky.jrabche.opt.llvmir;
 
 import icu.merky.jrabche.llvmir.structures.IRFunction;
-import icu.merky.jrabche.opt.llvmir.algorithms.BlockNode;
-import icu.merky.jrabche.opt.llvmir.algorithms.BlockNodeBuilder;
 import icu.merky.jrabche.opt.llvmir.annotations.DisabledOpt;
 import icu.merky.jrabche.opt.llvmir.annotations.OptOn;
 
-import java.util.*;
-
 /**
  * Redundant Store Elimination<br>
  * if a single store DOMINATES other loads, then the store is redundant.
@@ -55,40 +51,6 @@ public class IROptRLSE2 implements IRPass {
 
     @Override
     public boolean go() {
-        // get dom tree
-        BlockNodeBuilder bnb = new BlockNodeBuilder(F);
-        bnb.build();
-
-        BlockNode root = bnb.getRoot();
-        int sizeBBs = F.getBlocks().size();
-        List<BlockNode> dfo = bnb.getDfo();
-        Map<BlockNode, BlockNode> idomMap = bnb.getIdomMap();
-        Map<BlockNode, Set<BlockNode>> reversedIdomMap = new HashMap<>();
-        idomMap.forEach((k, v) -> {
-            reversedIdomMap.putIfAbsent(v, new HashSet<>());
-            reversedIdomMap.get(v).add(k);
-        });
-        Map<BlockNode, Set<BlockNode>> domSet = new HashMap<>();
-        // dfs idomMap to build domTree(domSet)
-        dfs(root, reversedIdomMap, domSet);
-
-
         return false;
     }
-
-    private void dfs(BlockNode root, Map<BlockNode, Set<BlockNode>> reversedIdomMap, Map<BlockNode, Set<BlockNode>> domSet) {
-        if (!reversedIdomMap.containsKey(root)) return;
-        // 后序遍历
-        for (BlockNode child : reversedIdomMap.get(root)) {
-            if (child != root) dfs(child, reversedIdomMap, domSet);
-        }
-        // 合并
-        Set<BlockNode> dom = new HashSet<>();
-        dom.add(root);
-        for (BlockNode child : reversedIdomMap.get(root)) {
-            if (child != null) dom.add(child);
-            if (child != root && domSet.containsKey(child)) dom.addAll(domSet.get(child));
-        }
-        domSet.put(root, dom);
-    }
 }
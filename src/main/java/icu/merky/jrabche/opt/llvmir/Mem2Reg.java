@@ -31,7 +31,6 @@
 
 package icu.merky.jrabche.opt.llvmir;
 
-import icu.merky.jrabche.llvmir.StaticVariableCounter;
 import icu.merky.jrabche.llvmir.inst.*;
 import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
 import icu.merky.jrabche.llvmir.structures.IRFunction;
@@ -39,22 +38,32 @@ import icu.merky.jrabche.llvmir.values.IRVal;
 import icu.merky.jrabche.llvmir.values.IRValUndef;
 import icu.merky.jrabche.opt.llvmir.algorithms.BlockNode;
 import icu.merky.jrabche.opt.llvmir.algorithms.BlockNodeBuilder;
+import icu.merky.jrabche.opt.llvmir.algorithms.Dominators;
+import icu.merky.jrabche.opt.llvmir.analysis.Analysis;
+import icu.merky.jrabche.opt.llvmir.analysis.AnalysisManager;
+import icu.merky.jrabche.opt.llvmir.analysis.AnalysisUser;
 import icu.merky.jrabche.opt.llvmir.annotations.DisabledOpt;
 import icu.merky.jrabche.opt.llvmir.annotations.OptOn;
 import icu.merky.jrabche.opt.llvmir.annotations.PassOn;
+import icu.merky.jrabche.support.Statistic;
 import org.antlr.v4.runtime.misc.Pair;
 
 import java.util.*;
 
-import static icu.merky.jrabche.llvmir.support.InstUtil.RemoveDeletedInstructions;
 import static icu.merky.jrabche.llvmir.support.InstUtil.ReplaceAllUsesWith;
+import static icu.merky.jrabche.logger.JrabcheLogger.Category.MEM2REG;
 import static icu.merky.jrabche.logger.JrabcheLogger.JL;
 
-@OptOn(value = OptOn.OptOnEnum.Function, changeSSA = true, ssa = false, name = "Memory to Register", afterWhich = {IROptRLSE.class})
+@OptOn(value = OptOn.OptOnEnum.Function, changeSSA = true, ssa = false, name = "Memory to Register", afterWhich = {IROptRLSE.class},
+        preserves = {Analysis.CFG, Analysis.DOMINATORS, Analysis.DOMINATOR_TREE})
 @PassOn(PassOn.on.FUNCTION)
 @DisabledOpt
-public class Mem2Reg implements IRPass {
+public class Mem2Reg implements IRPass, AnalysisUser {
+    static final Statistic NumPromoted = Statistic.of("mem2reg", "promoted", "Allocas promoted to registers");
+    static final Statistic NumPhis = Statistic.of("mem2reg", "phis", "Phi nodes inserted");
+
     IRFunction F;
+    AnalysisManager AM = new AnalysisManager();
     ArrayList<IRInstAlloca> allocas = new ArrayList<>();
     Map<IRInstAlloca, Integer> allocaLookup = new HashMap<>();
     Map<IRBasicBlock, BlockNode> reversedBlockMap = new HashMap<IRBasicBlock, BlockNode>();
@@ -67,6 +76,11 @@ public class Mem2Reg implements IRPass {
         F = function;
     }
 
+    @Override
+    public void setAnalysisManager(AnalysisManager AM) {
+        this.AM = AM;
+    }
+
     private static class AllocaInfo {
         public ArrayList<IRBasicBlock> DefBlocks = new ArrayList<>(4);
         public ArrayList<IRBasicBlock> UseBlocks = new ArrayList<>(4);
@@ -112,9 +126,7 @@ public class Mem2Reg implements IRPass {
     @Override
     public boolean go() {
         // 0. init dom frontiers
-        BlockNodeBuilder bnb = new BlockNodeBuilder(F);
-        bnb.build();
-        bnb.buildLiveInOut();
+        BlockNodeBuilder bnb = AM.getLiveness(F);
         reversedBlockMap = bnb.getReverseBlockMap();
         BlockNode root = bnb.getRoot();
 
@@ -140,6 +152,9 @@ public class Mem2Reg implements IRPass {
             }
         }
 
+        // dominance frontiers by dfo index
+        Dominators dom = bnb.getDominators();
+
         for (int allocaNum = 0; allocaNum < allocas.size(); allocaNum++) {
             IRInstAlloca ai = allocas.get(allocaNum);
             assert isAllocaPromotable(ai);
@@ -149,18 +164,20 @@ public class Mem2Reg implements IRPass {
 
             allocaLookup.put(ai, allocaNum);
 
-            Set<IRBasicBlock> defBlocks = new HashSet<>(info.DefBlocks);
-
-            Set<IRBasicBlock> liveInBlocks = new HashSet<>();
-            computeLiveInBlocks(ai, bnb, liveInBlocks);
+            BitSet defBlocks = new BitSet(dom.size());
+            for (IRBasicBlock b : info.DefBlocks) {
+                // stores in unreachable blocks have no number.
+                Integer id = bbNumbers.get(b);
+                if (id != null) defBlocks.set(id);
+            }
 
-            Set<IRBasicBlock> phiBlocks = calculatePhiBlocks(defBlocks, liveInBlocks, bnb);
+            BitSet liveInBlocks = bnb.getLiveInBlocks(ai);
 
-            List<IRBasicBlock> phiBlocksList = new ArrayList<>(phiBlocks);
-            phiBlocksList.sort(Comparator.comparingInt(bbNumbers::get));
+            BitSet phiBlocks = calculatePhiBlocks(defBlocks, liveInBlocks, dom);
 
-            for (IRBasicBlock phiBlock : phiBlocksList) {
-                queuePhiNode(phiBlock, allocaNum);
+            // in dfo order
+            for (int id = phiBlocks.nextSetBit(0); id >= 0; id = phiBlocks.nextSetBit(id + 1)) {
+                queuePhiNode(bnb.getDfo().get(id).getVal(), allocaNum);
             }
         }
 
@@ -179,17 +196,27 @@ public class Mem2Reg implements IRPass {
 
         visited.clear();
 
-        allocas.forEach(IRInstAlloca::setDeleted);
-        for (IRInstAlloca alloca : allocas) {
-            alloca.getUsedBy().forEach(IRInst::setDeleted);
+        // entries were added in renaming order
+        for (IRInstPhi phi : phiToAllocaMap.keySet()) {
+            phi.orderBy(phi.getParent().getPre());
         }
-        for (IRBasicBlock b : F.getBlocks()) {
-            RemoveDeletedInstructions(b);
+
+        // loads and stores in unreachable blocks were not renamed, drop them with the allocas.
+        // other unreachable instructions may still use such a load, replace it with undef first.
+        for (IRInstAlloca alloca : allocas) {
+            for (IRInst U : alloca.getUsedBy()) {
+                if (U instanceof IRInstLoad LI) {
+                    ReplaceAllUsesWith(LI, IRValUndef.create(alloca.getAllocatedType()));
+                }
+                U.eraseFromParent();
+            }
+            alloca.eraseFromParent();
+            NumPromoted.inc();
         }
 
         F.enterSSA();
 
-        return false;
+        return !allocas.isEmpty();
     }
 
 
@@ -205,20 +232,16 @@ public class Mem2Reg implements IRPass {
 
         Set<IRBasicBlock> visitedSuccs = new HashSet<IRBasicBlock>();
         while (true) {
-            JL.Debug(" rename " + bb.getName());
+            JL.DebugF(MEM2REG, "rename %s\n", bb.getName());
             if (bb.getInsts().get(0) instanceof IRInstPhi) {
-                int numEdges = pred.getSuc().size();
-
-                // add entries to the phi node
+                // add entries to the phi node, one per pred even for repeated edges
                 for (IRInst inst : bb.getInsts()) {
                     if (inst instanceof IRInstPhi phi) {
                         int allocaNo = phiToAllocaMap.get(phi);
-                        for (int i = 0; i < numEdges; i++) {
-                            JL.DebugF("assign val `%s` to phi `%s`\n", incomingVals.get(allocaNo).asValue(), phi.getName());
-                            phi.addIncoming(incomingVals.get(allocaNo), pred);
-                        }
+                        JL.Debug(MEM2REG, () -> "assign val `" + incomingVals.get(allocaNo).asValue() + "` to phi `" + phi.getName() + "`");
+                        phi.addIncoming(incomingVals.get(allocaNo), pred);
                         incomingVals.set(allocaNo, phi);
-                        JL.DebugF("Set Alloca Val `%s` = `%s`\n", allocas.get(allocaNo).getName(), phi.getName());
+                        JL.DebugF(MEM2REG, "Set Alloca Val `%s` = `%s`\n", allocas.get(allocaNo).getName(), phi.getName());
                     } else {
                         break;
                     }
@@ -226,12 +249,11 @@ public class Mem2Reg implements IRPass {
             }
 
             if (!visited.add(bb)) {
-                JL.DebugF("Skip `%s`\n", bb.getName());
+                JL.DebugF(MEM2REG, "Skip `%s`\n", bb.getName());
                 return;
             }
 
             for (var I : bb.getInsts()) {
-                if (I.isDeleted()) continue;
                 if (I instanceof IRInstLoad LI) {
                     IRVal src = LI.getFrom();
                     if (!(src instanceof IRInstAlloca)) {
@@ -242,7 +264,7 @@ public class Mem2Reg implements IRPass {
                     }
                     IRVal v = incomingVals.get(allocaLookup.get(src));
                     ReplaceAllUsesWith(LI, v);
-                    LI.setDeleted();
+                    LI.eraseFromParent();
                 } else if (I instanceof IRInstStore SI) {
                     IRVal dest = SI.getTo();
                     if (!(dest instanceof IRInstAlloca)) {
@@ -251,9 +273,9 @@ public class Mem2Reg implements IRPass {
                     if (!allocaLookup.containsKey(dest)) {
                         continue;
                     }
-                    JL.DebugF("Set Alloca Val `%s` = `%s`\n", dest.asValue(), SI.getFrom().asValue());
+                    JL.Debug(MEM2REG, () -> "Set Alloca Val `" + dest.asValue() + "` = `" + SI.getFrom().asValue() + "`");
                     incomingVals.set(allocaLookup.get(dest), SI.getFrom());
-                    SI.setDeleted();
+                    SI.eraseFromParent();
                 }
             }
 
@@ -280,47 +302,38 @@ public class Mem2Reg implements IRPass {
     private boolean queuePhiNode(IRBasicBlock b, int allocaNum) {
         if (newPhiNodes.containsKey(new Pair<>(bbNumbers.get(b), allocaNum))) return false;
         IRInstPhi phi = new IRInstPhi(allocas.get(allocaNum).getAllocatedType());
-        String phiName = allocas.get(allocaNum).getName() + "." + StaticVariableCounter.getAndIncrement();
+        String phiName = allocas.get(allocaNum).getName() + "." + F.getCounter().getAndIncrement();
         phi.setName(phiName);
 
         // insert into basicBlock
-        b.getInsts().add(0, phi);
+        b.addInst(0, phi);
+        NumPhis.inc();
         newPhiNodes.put(new Pair<>(bbNumbers.get(b), allocaNum), phi);
         phiToAllocaMap.put(phi, allocaNum);
         return true;
     }
 
-    private Set<IRBasicBlock> calculatePhiBlocks(Set<IRBasicBlock> defBlocks, Set<IRBasicBlock> liveInBlocks, BlockNodeBuilder bnb) {
+    private static BitSet calculatePhiBlocks(BitSet defBlocks, BitSet liveInBlocks, Dominators dom) {
         // 原始方式有问题，因为有可能会漏掉一些phi节点
         // 假如block2被插入了一个phi，那么block2也会成为defBlock，但是block2不会被加入到phiBlocks中.
         // 所以这里需要用到DF+集合
-        Set<IRBasicBlock> phiBlocks = new HashSet<>();
-        Queue<IRBasicBlock> queue = new LinkedList<>(defBlocks);
-        Set<IRBasicBlock> visited = new HashSet<>();
-        var DF = bnb.getDf();
-        while (!queue.isEmpty()) {
-            IRBasicBlock block = queue.poll();
-            if (!visited.add(block)) continue;
-            for (BlockNode dfBlock : DF.get(bnb.re(block))) {
-                if (liveInBlocks.contains(dfBlock.getVal())) {
-                    queue.add(dfBlock.getVal());
-                    phiBlocks.add(dfBlock.getVal());
+        BitSet phiBlocks = new BitSet(dom.size());
+        BitSet work = (BitSet) defBlocks.clone();
+        BitSet visited = new BitSet(dom.size());
+        while (!work.isEmpty()) {
+            int block = work.nextSetBit(0);
+            work.clear(block);
+            visited.set(block);
+            for (int dfBlock : dom.getDF(block)) {
+                if (liveInBlocks.get(dfBlock)) {
+                    if (!visited.get(dfBlock)) work.set(dfBlock);
+                    phiBlocks.set(dfBlock);
                 }
             }
         }
         return phiBlocks;
     }
 
-    private static void computeLiveInBlocks(IRInstAlloca AI, BlockNodeBuilder bnb, /*out*/ Set<IRBasicBlock> liveInBlocks) {
-        assert liveInBlocks != null;
-        assert bnb.getRoot().liveIn != null;
-        for (BlockNode blockNode : bnb.getDfo()) {
-            if (blockNode.liveIn.contains(AI)) {
-                liveInBlocks.add(blockNode.getVal());
-            }
-        }
-    }
-
     private boolean isAllocaPromotable(IRInstAlloca alloca) {
         return alloca.getAllocatedType().isScalar();
     }
@@ -31,65 +31,83 @@
 
 package icu.merky.jrabche.opt.llvmir;
 
-import icu.merky.jrabche.llvmir.StaticVariableCounter;
-import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
+import icu.merky.jrabche.llvmir.VariableCounter;
 import icu.merky.jrabche.llvmir.structures.IRFunction;
 import icu.merky.jrabche.llvmir.structures.IRModule;
 import icu.merky.jrabche.llvmir.structures.impl.IRFunctionImpl;
-import icu.merky.jrabche.opt.llvmir.annotations.DisabledOpt;
-import icu.merky.jrabche.opt.llvmir.annotations.OptOn;
-import icu.merky.jrabche.utils.ClassFinder;
-import icu.merky.jrabche.utils.ClassFinderImpl2;
+import icu.merky.jrabche.logger.JrabcheLogger;
+import icu.merky.jrabche.opt.llvmir.analysis.Analysis;
+import icu.merky.jrabche.opt.llvmir.analysis.AnalysisManager;
+import icu.merky.jrabche.opt.llvmir.analysis.AnalysisUser;
+import icu.merky.jrabche.support.Statistic;
+import icu.merky.jrabche.support.TimeReport;
 
-import java.io.IOException;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import static icu.merky.jrabche.RuntimeConfig.CFG_ENABLE_OUTPUT_RENAME;
+import static icu.merky.jrabche.logger.JrabcheLogger.Category.OPT;
 import static icu.merky.jrabche.logger.JrabcheLogger.JL;
 
+/**
+ * Runs the passes listed in {@link OptRegistry}. The registry is generated at build time
+ * from the {@code @OptOn} annotations, see
+ * {@link icu.merky.jrabche.opt.llvmir.annotations.processor.OptRegistryProcessor}.
+ * <p>
+ * Analyses are shared by all passes through one {@link AnalysisManager}. When a pass changes a
+ * function, the analyses it does not preserve are dropped for that function only, all of them
+ * if it reports a CFG change through {@link ReportsChangedCFG}.
+ */
 public class OptExecutor implements Runnable {
 
-    List<Class<?>> optClassesNoSSA = new ArrayList<>();
-    List<Class<?>> optClassesSSA = new ArrayList<>();
-    Map<Class<?>, OnWhich> optOnMap = new HashMap<>();
+    static final PassInfo MEM2REG = PassInfo.ofFunction(Mem2Reg.class, "Memory to Register", Mem2Reg::new,
+            Analysis.CFG, Analysis.DOMINATORS, Analysis.DOMINATOR_TREE);
+
+    static final Statistic NumRounds = Statistic.of("opt", "fixpoint-rounds", "Rounds over the pass list until a fixpoint");
+
     IRModule M;
+    final AnalysisManager AM = new AnalysisManager();
+    /**
+     * Number of threads running function and block passes. 1 runs everything on the caller thread.
+     */
+    int threads = 1;
+    ForkJoinPool pool;
 
     public OptExecutor(IRModule module) {
         this.M = module;
     }
 
+    public OptExecutor(IRModule module, int threads) {
+        this.M = module;
+        setThreads(threads);
+    }
+
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+
     @Override
     public void run() {
+        if (threads > 1 && M.getFunctions().size() > 1) {
+            pool = new ForkJoinPool(threads);
+        }
         try {
-            Map<Class<?>, List<Class<?>>> topoMapNoSSA = new HashMap<>();
-            Map<Class<?>, List<Class<?>>> topoMapSSA = new HashMap<>();
-            // do the optimization.
-            ClassFinder classFinder = new ClassFinderImpl2();
-            classFinder.getClassesInPackage("icu.merky.jrabche.opt.llvmir").stream().filter(clazz -> clazz.isAnnotationPresent(OptOn.class)).filter(clazz -> !clazz.isAnnotationPresent(DisabledOpt.class)).forEach(clazz -> {
-                OptOn optOn = clazz.getAnnotation(OptOn.class);
-                boolean ssa = optOn.ssa();
-                if (ssa) topoMapSSA.put(clazz, List.of(optOn.afterWhich()));
-                else topoMapNoSSA.put(clazz, List.of(optOn.afterWhich()));
-                switch (optOn.value()) {
-                    case Module -> checkAndAddModuleOpt(clazz, ssa);
-                    case Function -> checkAndAddFunctionOpt(clazz, ssa);
-                    case BasicBlock -> checkAndAddBasicBlockOpt(clazz, ssa);
-                }
-            });
-            List<Class<?>> noSSASorted;
-            List<Class<?>> ssaSorted;
-            noSSASorted = TopologicalSort.sort(topoMapNoSSA);
-            ssaSorted = TopologicalSort.sort(topoMapSSA);
-            // reverse
-            Collections.reverse(noSSASorted);
-            Collections.reverse(ssaSorted);
-            // It's MyGO!!!!!
-
-            runOpts(noSSASorted, ssaSorted);
-        } catch (ClassNotFoundException | IOException | NoSuchMethodException e) {
-            throw new RuntimeException(e);
+            runOpts(OptRegistry.NO_SSA, OptRegistry.SSA);
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+                pool = null;
+            }
+            AM.clear();
         }
     }
 
@@ -98,184 +116,175 @@ public class OptExecutor implements Runnable {
      *
      * @param optNoSSA the list of optimizations that do not require SSA form.
      * @param optSSA   the list of optimizations that require SSA form.
-     * @throws NoSuchMethodException if the optimizer class does not have a public constructor with a parameter of type IRModule.
      */
-    private void runOpts(List<Class<?>> optNoSSA, List<Class<?>> optSSA) throws NoSuchMethodException {
-        boolean changed = true;
-        while (changed) {
-            changed = false;
-            for (Class<?> optClass : optNoSSA) {
-                changed |= runOneOpt(optClass);
-
-            }
-        }
+    private void runOpts(List<PassInfo> optNoSSA, List<PassInfo> optSSA) {
+        runToFixpoint(new PassWorklist(M, optNoSSA));
 
         // enter SSA form.
-        runOnFunction(Mem2Reg.class);
+        runOneOpt(new PassWorklist(M, List.of(MEM2REG)), 0);
 
         // Do SSA form optimizations
-        changed = true;
-        while (changed) {
-            changed = false;
-            for (Class<?> optClass : optSSA) {
-                changed |= runOneOpt(optClass);
-            }
-        }
+        runToFixpoint(new PassWorklist(M, optSSA));
         if (CFG_ENABLE_OUTPUT_RENAME)
             postProcessRename();
     }
 
-    private boolean runOneOpt(Class<?> optClass) throws NoSuchMethodException {
-        if (optClass.equals(Mem2Reg.class)) return false;
-        if (!optOnMap.containsKey(optClass)) return false;
-        OnWhich onWhich = optOnMap.get(optClass);
-        JL.DebugF("Optimizer %s Running.\n", optClass.getAnnotation(OptOn.class).name());
-        return switch (onWhich) {
-            case Module -> runOnModule(optClass);
-            case Function -> runOnFunction(optClass);
-            case BasicBlock -> runOnBlock(optClass);
+    /**
+     * Run the passes in order, again and again, until none of them changes anything. A pass
+     * only runs on the functions and blocks that changed since it last ran there.
+     */
+    void runToFixpoint(PassWorklist worklist) {
+        while (!worklist.isEmpty()) {
+            NumRounds.inc();
+            for (int i = 0; i < worklist.size(); i++) {
+                runOneOpt(worklist, i);
+            }
+        }
+    }
+
+    private void runOneOpt(PassWorklist worklist, int index) {
+        var opt = worklist.pass(index);
+        boolean changed = switch (opt.on()) {
+            case Module -> runOnModule(worklist, index);
+            case Function -> runOnFunction(worklist, index);
+            case BasicBlock -> runOnBlock(worklist, index);
         };
+        if (changed) {
+            worklist.moduleChanged();
+        }
     }
 
-    private boolean runOnModule(Class<?> optClazz) throws NoSuchMethodException {
-        boolean changed = false;
-        Constructor<?> c = optClazz.getConstructor(IRModule.class);
-        try {
-            var instance = c.newInstance(M);
-            changed = (boolean) instance.getClass().getMethod("go").invoke(instance);
-        } catch (IllegalAccessException | NoSuchMethodException | InstantiationException e) {
-            throw new RuntimeException(e);
-        } catch (InvocationTargetException e) {
-            e.getTargetException().printStackTrace();
-            throw new RuntimeException(e);
+    private boolean runOnModule(PassWorklist worklist, int index) {
+        var opt = worklist.pass(index);
+        if (!worklist.takeModulePass(index)) return false;
+        JL.DebugF(OPT, "Optimizer %s Running.\n", opt.name());
+        IRPass pass;
+        try (var t = TimeReport.start("Optimization", opt.name())) {
+            pass = opt.onModule().apply(M);
+            if (!go(pass)) return false;
         }
-        return changed;
+        var changed = pass instanceof ReportsChangedFunctions reporter
+                ? reporter.getChangedFunctions() : M.getFunctions().values();
+        var preserved = changedCFG(pass) ? Set.<Analysis>of() : opt.preserves();
+        for (var F : changed) {
+            AM.invalidate(F, preserved);
+            worklist.functionChanged(F);
+        }
+        return true;
     }
 
-    private boolean runOnBlock(Class<?> clazz) throws NoSuchMethodException {
-        boolean changed = false;
-        Constructor<?> c = clazz.getConstructor(IRBasicBlock.class);
-        for (var F : M.getFunctions().values()) {
-            for (var B : F.getBlocks()) {
-                try {
-                    var instance = c.newInstance(B);
-                    changed |= (boolean) instance.getClass().getMethod("go").invoke(instance);
-                } catch (InvocationTargetException e) {
-                    e.getTargetException().printStackTrace();
-                    throw new RuntimeException(e);
-                } catch (NoSuchMethodException | InstantiationException | IllegalAccessException e) {
-                    throw new RuntimeException(e);
+    private boolean runOnBlock(PassWorklist worklist, int index) {
+        var opt = worklist.pass(index);
+        var functions = worklist.takeFunctions(index);
+        if (functions.isEmpty()) return false;
+        JL.DebugF(OPT, "Optimizer %s Running on %d function(s).\n", opt.name(), functions.size());
+        return forEachFunction(functions, F -> {
+            boolean changed = false, changedCFG = false;
+            for (var B : worklist.takeBlocks(index, F)) {
+                var pass = go(opt, () -> opt.onBasicBlock().apply(B));
+                if (pass != null) {
+                    worklist.blockChanged(F, B);
+                    changed = true;
+                    changedCFG |= changedCFG(pass);
                 }
             }
-        }
-        return changed;
+            if (changed) AM.invalidate(F, changedCFG ? Set.of() : opt.preserves());
+            return changed;
+        });
     }
 
-    private boolean runOnFunction(Class<?> clazz) throws NoSuchMethodException {
-        boolean changed = false;
-        Constructor<?> constructor = clazz.getConstructor(IRFunction.class);
-        for (var F : M.getFunctions().values()) {
-            try {
-                var instance = constructor.newInstance(F);
-                changed |= (boolean) instance.getClass().getMethod("go").invoke(instance);
-            } catch (NoSuchMethodException | InstantiationException | IllegalAccessException e) {
-                throw new RuntimeException(clazz.getName() + "Optimizer class must have a public constructor and the constructor must have a parameter of type IRFunction");
-            } catch (InvocationTargetException e) {
-                e.getTargetException().printStackTrace();
-                throw new RuntimeException(e);
-            }
-        }
-        return changed;
+    private boolean runOnFunction(PassWorklist worklist, int index) {
+        var opt = worklist.pass(index);
+        var functions = worklist.takeFunctions(index);
+        if (functions.isEmpty()) return false;
+        JL.DebugF(OPT, "Optimizer %s Running on %d function(s).\n", opt.name(), functions.size());
+        return forEachFunction(functions, F -> {
+            var pass = go(opt, () -> opt.onFunction().apply(F));
+            if (pass == null) return false;
+            AM.invalidate(F, changedCFG(pass) ? Set.of() : opt.preserves());
+            worklist.functionChanged(F);
+            return true;
+        });
     }
 
-    private void checkAndAddBasicBlockOpt(Class<?> clazz, boolean ssa) {
-        try {
-            Constructor<?> constructor = clazz.getConstructor(IRBasicBlock.class);
-            addOpt(clazz, ssa);
-            optOnMap.put(clazz, OnWhich.BasicBlock);
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException("Optimizer class must have a public constructor and the constructor must have a parameter of type IRBasicBlock");
+    /**
+     * @return the pass made by {@code make} if it changed something, null otherwise.
+     */
+    private IRPass go(PassInfo opt, Supplier<IRPass> make) {
+        try (var t = TimeReport.start("Optimization", opt.name())) {
+            var pass = make.get();
+            return go(pass) ? pass : null;
         }
     }
 
-    private void checkAndAddFunctionOpt(Class<?> clazz, boolean ssa) {
-        try {
-            Constructor<?> constructor = clazz.getConstructor(IRFunction.class);
-            addOpt(clazz, ssa);
-            optOnMap.put(clazz, OnWhich.Function);
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException("Optimizer class must have a public constructor and the constructor must have a parameter of type IRFunction");
+    private static boolean changedCFG(IRPass pass) {
+        return pass instanceof ReportsChangedCFG reporter && reporter.changedCFG();
+    }
+
+    private boolean go(IRPass pass) {
+        if (pass instanceof AnalysisUser user) {
+            user.setAnalysisManager(AM);
         }
+        return pass.go();
     }
 
-    private void checkAndAddModuleOpt(Class<?> clazz, boolean ssa) {
-        try {
-            Constructor<?> constructor = clazz.getConstructor(IRModule.class);
-            addOpt(clazz, ssa);
-            optOnMap.put(clazz, OnWhich.Module);
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException("Optimizer class must have a public constructor and the constructor must have a parameter of type IRModule");
+    /**
+     * Run {@code body} on every function of {@code functions}, in parallel if a pool is available.
+     * Function and block passes only look at the function they are given, and every
+     * function names its new values with its own counter, so the result does not depend
+     * on the schedule.
+     *
+     * @return true if {@code body} returned true for any function.
+     */
+    private boolean forEachFunction(List<IRFunction> functions, FunctionBody body) {
+        boolean changed = false;
+        if (pool == null || functions.size() == 1) {
+            for (var F : functions) {
+                changed |= body.run(F);
+            }
+            return changed;
+        }
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        var log = JrabcheLogger.session();
+        for (var F : functions) {
+            tasks.add(() -> {
+                try (var s = JrabcheLogger.attach(log)) {
+                    return body.run(F);
+                }
+            });
+        }
+        for (Future<Boolean> result : pool.invokeAll(tasks)) {
+            try {
+                changed |= result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException re) throw re;
+                throw new RuntimeException(e.getCause());
+            }
         }
+        return changed;
     }
 
-    private void addOpt(Class<?> clazz, boolean ssa) {
-        if (ssa) optClassesSSA.add(clazz);
-        else optClassesNoSSA.add(clazz);
+    @FunctionalInterface
+    private interface FunctionBody {
+        boolean run(IRFunction F);
     }
 
     private void postProcessRename() {
         for (var func : M.getFunctions().values()) {
-            StaticVariableCounter.set(0);
+            VariableCounter counter = new VariableCounter();
             for (var fp : ((IRFunctionImpl) func).getFp().values()) {
-                fp.setName(String.valueOf(StaticVariableCounter.getAndIncrement()));
+                fp.setName(String.valueOf(counter.getAndIncrement()));
             }
             for (var bb : func.getBlocks()) {
-                bb.setName(String.valueOf(StaticVariableCounter.getAndIncrement()));
+                bb.setName(String.valueOf(counter.getAndIncrement()));
                 for (var inst : bb.getInsts()) {
                     if (!inst.needName()) continue;
-                    inst.setName(String.valueOf(StaticVariableCounter.getAndIncrement()));
-                }
-            }
-        }
-    }
-
-    enum OnWhich {Module, Function, BasicBlock}
-
-    static class TopologicalSort {
-        public static <T> List<T> sort(Map<T, List<T>> graph) {
-            List<T> sorted = new ArrayList<>();
-            Map<T, Integer> inDegree = new HashMap<>();
-            for (T node : graph.keySet()) {
-                inDegree.put(node, 0);
-            }
-            for (T node : graph.keySet()) {
-                for (T neighbor : graph.getOrDefault(node, List.of())) {
-                    inDegree.put(neighbor, inDegree.get(neighbor) + 1);
+                    inst.setName(String.valueOf(counter.getAndIncrement()));
                 }
             }
-            while (true) {
-                T cur = null;
-                for (T node : graph.keySet()) {
-                    if (!inDegree.containsKey(node)) continue;
-                    if (inDegree.get(node) == 0) {
-                        cur = node;
-                        break;
-                    }
-                }
-                if (cur == null) {
-                    break;
-                }
-                sorted.add(cur);
-                for (T neighbor : graph.getOrDefault(cur, List.of())) {
-                    inDegree.put(neighbor, inDegree.get(neighbor) - 1);
-                }
-                inDegree.remove(cur);
-            }
-            // if there ARE cycles, then we have not removed all edges from the graph
-            if (!inDegree.isEmpty()) {
-                throw new RuntimeException("Cycle in graph, topological sort not possible");
-            }
-            return sorted;
         }
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir;
+
+import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
+import icu.merky.jrabche.llvmir.structures.IRFunction;
+import icu.merky.jrabche.llvmir.structures.IRModule;
+import icu.merky.jrabche.opt.llvmir.analysis.Analysis;
+import icu.merky.jrabche.opt.llvmir.annotations.OptOn;
+
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * One entry of the generated {@code OptRegistry}: what an {@link OptOn} pass runs on,
+ * and how to create it. Exactly one of the factories is set, matching {@link #on()}.
+ * {@link #preserves()} are the analyses that stay valid when the pass reports a change.
+ */
+public record PassInfo(Class<? extends IRPass> passClass, String name, OptOn.OptOnEnum on,
+                       Function<IRModule, ? extends IRPass> onModule,
+                       Function<IRFunction, ? extends IRPass> onFunction,
+                       Function<IRBasicBlock, ? extends IRPass> onBasicBlock,
+                       Set<Analysis> preserves) {
+
+    public static PassInfo ofModule(Class<? extends IRPass> passClass, String name,
+                                    Function<IRModule, ? extends IRPass> factory,
+                                    Analysis... preserves) {
+        return new PassInfo(passClass, name, OptOn.OptOnEnum.Module, factory, null, null, Set.of(preserves));
+    }
+
+    public static PassInfo ofFunction(Class<? extends IRPass> passClass, String name,
+                                      Function<IRFunction, ? extends IRPass> factory,
+                                      Analysis... preserves) {
+        return new PassInfo(passClass, name, OptOn.OptOnEnum.Function, null, factory, null, Set.of(preserves));
+    }
+
+    public static PassInfo ofBasicBlock(Class<? extends IRPass> passClass, String name,
+                                        Function<IRBasicBlock, ? extends IRPass> factory,
+                                        Analysis... preserves) {
+        return new PassInfo(passClass, name, OptOn.OptOnEnum.BasicBlock, null, null, factory, Set.of(preserves));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir;
+
+import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
+import icu.merky.jrabche.llvmir.structures.IRFunction;
+import icu.merky.jrabche.llvmir.structures.IRModule;
+import icu.merky.jrabche.opt.llvmir.annotations.OptOn;
+
+import java.util.*;
+
+/**
+ * Dirty state of one group of passes that runs to a fixpoint.
+ * <p>
+ * A function or block pass only looks at the function (block) it runs on, so running it again on
+ * a function that did not change since its last run cannot change anything. This keeps, for
+ * every function, the passes that still have to run on it, and for block passes the blocks.
+ * Whenever a pass changes a function, every pass of the group is due on that function again,
+ * and every module pass of the group is due again.
+ * <p>
+ * The state of a function is only touched by the task running on it, the rest is only touched
+ * by the thread of {@code OptExecutor}.
+ */
+final class PassWorklist {
+    private final IRModule M;
+    private final List<PassInfo> passes;
+    // indices of the function and block passes.
+    private final BitSet functionPasses = new BitSet();
+    private final BitSet dirtyModulePasses = new BitSet();
+    private final Map<IRFunction, FunctionState> states = new HashMap<>();
+
+    private class FunctionState {
+        final BitSet dirtyPasses = (BitSet) functionPasses.clone();
+        // per block pass, the blocks it has to run on. null means every block.
+        final List<Set<IRBasicBlock>> dirtyBlocks = new ArrayList<>(Collections.nCopies(passes.size(), null));
+
+        void changed() {
+            dirtyPasses.or(functionPasses);
+            Collections.fill(dirtyBlocks, null);
+        }
+    }
+
+    PassWorklist(IRModule M, List<PassInfo> passes) {
+        this.M = M;
+        this.passes = passes;
+        for (int i = 0; i < passes.size(); i++) {
+            if (passes.get(i).on() == OptOn.OptOnEnum.Module) {
+                dirtyModulePasses.set(i);
+            } else {
+                functionPasses.set(i);
+            }
+        }
+        for (var F : M.getFunctions().values()) {
+            states.put(F, new FunctionState());
+        }
+    }
+
+    PassInfo pass(int index) {
+        return passes.get(index);
+    }
+
+    int size() {
+        return passes.size();
+    }
+
+    boolean isEmpty() {
+        if (!dirtyModulePasses.isEmpty()) return false;
+        for (var F : M.getFunctions().values()) {
+            var state = states.get(F);
+            if (state == null || !state.dirtyPasses.isEmpty()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return whether module pass {@code index} is due, it is no longer due afterwards.
+     */
+    boolean takeModulePass(int index) {
+        boolean dirty = dirtyModulePasses.get(index);
+        dirtyModulePasses.clear(index);
+        return dirty;
+    }
+
+    /**
+     * @return the functions, in module order, on which pass {@code index} is due. It is no longer
+     * due on them afterwards.
+     */
+    List<IRFunction> takeFunctions(int index) {
+        List<IRFunction> result = new ArrayList<>();
+        for (var F : M.getFunctions().values()) {
+            // functions added by a module pass start dirty.
+            var state = states.computeIfAbsent(F, f -> new FunctionState());
+            if (state.dirtyPasses.get(index)) {
+                state.dirtyPasses.clear(index);
+                result.add(F);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the blocks of {@code F}, in function order, on which block pass {@code index} is due.
+     */
+    List<IRBasicBlock> takeBlocks(int index, IRFunction F) {
+        var state = states.get(F);
+        var dirty = state.dirtyBlocks.get(index);
+        state.dirtyBlocks.set(index, new HashSet<>());
+        if (dirty == null) {
+            return F.getBlocks();
+        }
+        List<IRBasicBlock> result = new ArrayList<>(dirty.size());
+        for (var B : F.getBlocks()) {
+            if (dirty.contains(B)) result.add(B);
+        }
+        return result;
+    }
+
+    /**
+     * Every pass is due again on {@code F}, on all of its blocks.
+     */
+    void functionChanged(IRFunction F) {
+        states.computeIfAbsent(F, f -> new FunctionState()).changed();
+    }
+
+    /**
+     * Every function pass is due again on {@code F}, every block pass on {@code B}.
+     */
+    void blockChanged(IRFunction F, IRBasicBlock B) {
+        var state = states.get(F);
+        state.dirtyPasses.or(functionPasses);
+        for (var blocks : state.dirtyBlocks) {
+            if (blocks != null) blocks.add(B);
+        }
+    }
+
+    /**
+     * Every module pass is due again.
+     */
+    void moduleChanged() {
+        for (int i = 0; i < passes.size(); i++) {
+            if (!functionPasses.get(i)) dirtyModulePasses.set(i);
+        }
+    }
+}
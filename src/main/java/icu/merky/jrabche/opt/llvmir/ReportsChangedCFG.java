@@ -29,25 +29,16 @@
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
-package icu.merky.jrabche.llvmir;
+package icu.merky.jrabche.opt.llvmir;
 
-public class StaticVariableCounter {
-    static int counter = 0;
-
-    public static int get() {
-        return counter;
-    }
-
-    public static int getAndIncrement() {
-        return counter++;
-    }
-
-    @Deprecated
-    public static int incrementAndGet() {
-        return ++counter;
-    }
-
-    public static void set(int value) {
-        counter = value;
-    }
+/**
+ * A pass that changes the CFG only now and then. The analyses in its {@code preserves} stay valid
+ * when {@link #changedCFG()} is false; otherwise {@code OptExecutor} drops every analysis of the
+ * changed function.
+ */
+public interface ReportsChangedCFG {
+    /**
+     * @return whether the last {@link IRPass#go()} added or removed an edge of the CFG.
+     */
+    boolean changedCFG();
 }
@@ -1,7 +1,7 @@
 /*
  * BSD 3-Clause License
  *
- * Copyright (c) 2023-2024, Gaomengkai
+ * Copyright (c) 2023, Gaomengkai
  *
  * Redistribution and use in source and binary forms, with or without
  * modification, are permitted provided that the following conditions are met:
@@ -29,17 +29,20 @@
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
-package icu.merky.jrabche.utils;
+package icu.merky.jrabche.opt.llvmir;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import icu.merky.jrabche.llvmir.structures.IRFunction;
 
-public class ClassFinderImpl2 implements ClassFinder {
-    @Override
-    public List<Class<?>> getClassesInPackage(String packageName) throws ClassNotFoundException, IOException {
-        Set<Class<?>> classes = ClassScanner.getClasses(packageName);
-        return new ArrayList<>(classes);
-    }
+import java.util.Collection;
+
+/**
+ * A module pass that knows which functions it changed. {@code OptExecutor} then reruns the
+ * function and block passes only on those; without it, a change of a module pass marks every
+ * function as changed.
+ */
+public interface ReportsChangedFunctions {
+    /**
+     * @return the functions changed by the last {@link IRPass#go()}.
+     */
+    Collection<IRFunction> getChangedFunctions();
 }
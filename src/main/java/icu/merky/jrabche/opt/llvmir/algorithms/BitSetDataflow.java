@@ -0,0 +1,111 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir.algorithms;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Gen/kill dataflow over blocks numbered in reverse post order, with union as the meet.
+ * <br>
+ * backward: out[b] = ∪ in[s] for s in succ(b), in[b] = gen[b] ∪ (out[b] - kill[b])
+ * <br>
+ * forward: in[b] = ∪ out[p] for p in pred(b), out[b] = gen[b] ∪ (in[b] - kill[b])
+ * <p>
+ * The worklist always takes the pending block that comes first in the direction of the problem
+ * (lowest id forward, highest id backward), so most blocks are visited once or twice.
+ */
+public class BitSetDataflow {
+    public enum Direction {FORWARD, BACKWARD}
+
+    private final Direction direction;
+    private final int[][] succs, preds;
+    public final BitSet[] gen, kill, in, out;
+
+    /**
+     * @param succs successor ids of each block
+     * @param preds predecessor ids of each block
+     */
+    public BitSetDataflow(Direction direction, int[][] succs, int[][] preds) {
+        int n = succs.length;
+        this.direction = direction;
+        this.succs = succs;
+        this.preds = preds;
+        gen = newSets(n);
+        kill = newSets(n);
+        in = newSets(n);
+        out = newSets(n);
+    }
+
+    /**
+     * Number the nodes by their index in {@code rpo}, which must hold every node reachable from its first one.
+     */
+    public static BitSetDataflow ofBlockNodes(Direction direction, List<BlockNode> rpo) {
+        BlockNode.Number(rpo);
+        return new BitSetDataflow(direction, BlockNode.SuccessorIds(rpo), BlockNode.PredecessorIds(rpo));
+    }
+
+    private static BitSet[] newSets(int n) {
+        BitSet[] sets = new BitSet[n];
+        for (int i = 0; i < n; i++) sets[i] = new BitSet();
+        return sets;
+    }
+
+    public void solve() {
+        int n = succs.length;
+        boolean forward = direction == Direction.FORWARD;
+        BitSet[] result = forward ? out : in, joined = forward ? in : out;
+        int[][] from = forward ? preds : succs, to = forward ? succs : preds;
+        BitSet work = new BitSet(n);
+        work.set(0, n);
+        BitSet tmp = new BitSet();
+        while (!work.isEmpty()) {
+            int b = forward ? work.nextSetBit(0) : work.previousSetBit(n - 1);
+            work.clear(b);
+            // meet
+            BitSet m = joined[b];
+            m.clear();
+            for (int f : from[b]) m.or(result[f]);
+            // transfer
+            tmp.clear();
+            tmp.or(m);
+            tmp.andNot(kill[b]);
+            tmp.or(gen[b]);
+            if (!tmp.equals(result[b])) {
+                BitSet old = result[b];
+                result[b] = tmp;
+                tmp = old;
+                for (int t : to[b]) work.set(t);
+            }
+        }
+    }
+}
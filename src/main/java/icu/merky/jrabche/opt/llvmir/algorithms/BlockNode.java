@@ -35,54 +35,86 @@ import icu.merky.jrabche.llvmir.inst.IRInstAlloca;
 import icu.merky.jrabche.llvmir.inst.IRInstLoad;
 import icu.merky.jrabche.llvmir.inst.IRInstStore;
 import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
+import icu.merky.jrabche.opt.llvmir.support.Numbering;
 
 import java.util.*;
 
 public class BlockNode extends GraphNode<IRBasicBlock> {
-    public Set<IRInstAlloca> liveIn = new HashSet<>(), liveOut = new HashSet<>(),
-            def = new HashSet<>(), use = new HashSet<>();
+    /**
+     * Allocas live in/out, defined and used here, as bits indexed by {@link #allocaIds}.
+     */
+    public BitSet liveIn = new BitSet(), liveOut = new BitSet(),
+            def = new BitSet(), use = new BitSet();
+    Numbering<IRInstAlloca> allocaIds;
     boolean BlockNodesBuilt = false;
-    boolean DefUseBuilt = false;
     int size = 0;
+    /**
+     * Index in the deep first order, set by {@link #Number(List)}.
+     */
+    int id = -1;
 
     public BlockNode(IRBasicBlock val) {
         super(val);
     }
 
     public static void BuildLiveInOut(BlockNode root) {
+        if (!root.BlockNodesBuilt) {
+            BuildBlockNodes(root, null);
+        }
+        BuildLiveInOut(new DeepFirstOrder<>(root, root.size).getOrder());
+    }
+
+    /**
+     * @param dfo all block nodes, in deep first order.
+     */
+    public static void BuildLiveInOut(List<BlockNode> dfo) {
         // livein[s] = gen[s] ∪ (liveout[s] - kill[s])
         // liveout[final] = φ
         // liveout[s] = ∪ livein[p] for p in s.succ
-        for (Iterator<BlockNode> it = root.DFOIter(); it.hasNext(); ) {
-            var bn = it.next();
-            if (!bn.DefUseBuilt) {
-                bn.BuildDefUse();
-            }
+        var allocaIds = new Numbering<IRInstAlloca>();
+        var flow = BitSetDataflow.ofBlockNodes(BitSetDataflow.Direction.BACKWARD, dfo);
+        for (var bn : dfo) {
+            bn.allocaIds = allocaIds;
+            bn.BuildDefUse();
+            flow.gen[bn.id] = bn.use;
+            flow.kill[bn.id] = bn.def;
         }
-        boolean changed = true;
-        while (changed) {
-            changed = false;
-            for (Iterator<BlockNode> it = root.DFOIter(); it.hasNext(); ) {
-                var bn = it.next();
-
-                if (!bn.isExitNode()) {
-                    Set<IRInstAlloca> newLiveOut = new HashSet<>();
-                    for (var s : bn.getSuccessors()) {
-                        newLiveOut.addAll(((BlockNode) s).liveIn);
-                    }
-                    bn.liveOut = newLiveOut;
-                }
+        flow.solve();
+        for (var bn : dfo) {
+            bn.liveIn = flow.in[bn.id];
+            bn.liveOut = flow.out[bn.id];
+        }
+    }
 
-                Set<IRInstAlloca> newIn = new HashSet<>();
-                newIn.addAll(bn.use);
-                newIn.addAll(bn.liveOut);
-                newIn.removeAll(bn.def);
-                if (!newIn.equals(bn.liveIn)) {
-                    changed = true;
-                    bn.liveIn = newIn;
-                }
-            }
+    /**
+     * Give each node its index in {@code dfo} as id.
+     */
+    public static void Number(List<BlockNode> dfo) {
+        for (int i = 0; i < dfo.size(); i++) {
+            dfo.get(i).id = i;
+        }
+    }
+
+    /**
+     * @return successor ids of each node, see {@link #Number(List)}.
+     */
+    public static int[][] SuccessorIds(List<BlockNode> dfo) {
+        int[][] ids = new int[dfo.size()][];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = dfo.get(i).getSuccessors().stream().mapToInt(s -> ((BlockNode) s).id).toArray();
         }
+        return ids;
+    }
+
+    /**
+     * @return predecessor ids of each node, see {@link #Number(List)}.
+     */
+    public static int[][] PredecessorIds(List<BlockNode> dfo) {
+        int[][] ids = new int[dfo.size()][];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = dfo.get(i).getPredecessors().stream().mapToInt(p -> ((BlockNode) p).id).toArray();
+        }
+        return ids;
     }
 
     public static void BuildBlockNodes(BlockNode root, Map<IRBasicBlock, BlockNode> reversedBlockMap) {
@@ -157,6 +189,13 @@ public class BlockNode extends GraphNode<IRBasicBlock> {
         return new InternalBNIter(dfo);
     }
 
+    /**
+     * @return the index in the deep first order, -1 before numbering.
+     */
+    public int getId() {
+        return id;
+    }
+
     public IRBasicBlock getBlock() {
         return val;
     }
@@ -166,16 +205,41 @@ public class BlockNode extends GraphNode<IRBasicBlock> {
         return new InternalBNIter(dfo);
     }
 
+    public Set<IRInstAlloca> getLiveIn() {
+        return decode(liveIn);
+    }
+
+    public Set<IRInstAlloca> getLiveOut() {
+        return decode(liveOut);
+    }
+
+    public boolean isLiveIn(IRInstAlloca alloca) {
+        if (allocaIds == null) return false;
+        int id = allocaIds.getId(alloca);
+        return id >= 0 && liveIn.get(id);
+    }
+
+    private Set<IRInstAlloca> decode(BitSet bits) {
+        Set<IRInstAlloca> set = new LinkedHashSet<>();
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            set.add(allocaIds.get(i));
+        }
+        return set;
+    }
+
     void BuildDefUse() {
-        DefUseBuilt = true;
+        def = new BitSet();
+        use = new BitSet();
         for (var I : this.val.getInsts()) {
             if (I instanceof IRInstLoad load && load.getFrom() instanceof IRInstAlloca from) {
-                if (!def.contains(from)) {
-                    use.add(from);
+                int a = allocaIds.getOrAdd(from);
+                if (!def.get(a)) {
+                    use.set(a);
                 }
             } else if (I instanceof IRInstStore store && store.getTo() instanceof IRInstAlloca to) {
-                if (!use.contains(to)) {
-                    def.add(to);
+                int a = allocaIds.getOrAdd(to);
+                if (!use.get(a)) {
+                    def.set(a);
                 }
             }
         }
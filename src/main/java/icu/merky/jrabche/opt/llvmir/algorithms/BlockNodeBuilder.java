@@ -31,6 +31,7 @@
 
 package icu.merky.jrabche.opt.llvmir.algorithms;
 
+import icu.merky.jrabche.llvmir.inst.IRInstAlloca;
 import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
 import icu.merky.jrabche.llvmir.structures.IRFunction;
 import icu.merky.jrabche.opt.llvmir.support.EmptyMapSet;
@@ -42,9 +43,12 @@ public class BlockNodeBuilder {
     private final int sizeBBs;
 
     List<BlockNode> dfo;
+    Dominators dominators;
     Map<BlockNode, BlockNode> idomMap;
     Map<BlockNode, Set<BlockNode>> df;
     Map<IRBasicBlock, BlockNode> reversedBlockMap = new HashMap<>();
+    // per alloca id, the dfo indices of the blocks it is live in.
+    BitSet[] liveInBlocks;
 
     public BlockNodeBuilder(BlockNode root, int sizeBBs) {
         this.root = root;
@@ -75,8 +79,32 @@ public class BlockNodeBuilder {
         return getReverseBlockMap().get(bb);
     }
 
+    /**
+     * (Re)compute live in / live out of the block nodes, using the cached deep first order.
+     */
     public void buildLiveInOut() {
-        BlockNode.BuildLiveInOut(root);
+        liveInBlocks = null;
+        BlockNode.BuildLiveInOut(getDfo());
+    }
+
+    /**
+     * @return the dfo indices of the blocks {@code alloca} is live in. Needs {@link #buildLiveInOut()}.
+     */
+    public BitSet getLiveInBlocks(IRInstAlloca alloca) {
+        var dfo = getDfo();
+        var allocaIds = root.allocaIds;
+        if (allocaIds == null) throw new RuntimeException("liveness not built");
+        if (liveInBlocks == null) {
+            liveInBlocks = new BitSet[allocaIds.size()];
+            for (int a = 0; a < liveInBlocks.length; a++) liveInBlocks[a] = new BitSet(dfo.size());
+            for (var bn : dfo) {
+                for (int a = bn.liveIn.nextSetBit(0); a >= 0; a = bn.liveIn.nextSetBit(a + 1)) {
+                    liveInBlocks[a].set(bn.id);
+                }
+            }
+        }
+        int a = allocaIds.getId(alloca);
+        return a < 0 ? new BitSet() : liveInBlocks[a];
     }
 
     public List<BlockNode> getDfo() {
@@ -85,15 +113,43 @@ public class BlockNodeBuilder {
         return dfo;
     }
 
+    /**
+     * @return dominators over the dfo indices of the blocks.
+     */
+    public Dominators getDominators() {
+        if (dominators == null)
+            dominators = Dominators.ofBlockNodes(getDfo());
+        return dominators;
+    }
+
+    /**
+     * @return the immediate dominator of each block node, null for the root.
+     */
     public Map<BlockNode, BlockNode> getIdomMap() {
-        if (idomMap == null)
-            idomMap = new SFDA<>(getDfo()).getIDom();
+        if (idomMap == null) {
+            var dfo = getDfo();
+            var dom = getDominators();
+            idomMap = new HashMap<>(dfo.size() * 2);
+            for (int b = 0; b < dfo.size(); b++) {
+                int d = dom.getIdom(b);
+                idomMap.put(dfo.get(b), d < 0 ? null : dfo.get(d));
+            }
+        }
         return idomMap;
     }
 
     public Map<BlockNode, Set<BlockNode>> getDf() {
-        if (df == null)
-            df = new EmptyMapSet<>(new DF<>(getDfo(), getIdomMap()).getDF());
+        if (df == null) {
+            var dfo = getDfo();
+            var dom = getDominators();
+            Map<BlockNode, Set<BlockNode>> map = new HashMap<>(dfo.size() * 2);
+            for (int b = 0; b < dfo.size(); b++) {
+                Set<BlockNode> set = new HashSet<>();
+                for (int f : dom.getDF(b)) set.add(dfo.get(f));
+                map.put(dfo.get(b), set);
+            }
+            df = new EmptyMapSet<>(map);
+        }
         return df;
     }
 
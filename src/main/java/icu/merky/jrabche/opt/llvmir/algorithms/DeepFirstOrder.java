@@ -45,7 +45,7 @@ import java.util.*;
 public class DeepFirstOrder<T, V extends GraphNode<T>> {
     Set<V> visited;
     Map<V, Set<V>> edges;
-    Map<V, Integer> order = new HashMap<>();
+    List<V> order;
     int c = 0;
     int size;
 
@@ -54,30 +54,38 @@ public class DeepFirstOrder<T, V extends GraphNode<T>> {
         c = size - 1;
         this.size = size;
         edges = new HashMap<>(size);
+        order = new ArrayList<>(Collections.nCopies(size, null));
         search(root);
     }
 
-    void search(V n) {
-        visited.add(n);
-        for (var s : n.getSuccessors()) {
-            if (!visited.contains(s)) {
+    /**
+     * Iterative, deep CFGs (e.g. long if-chains) would overflow the call stack.
+     */
+    @SuppressWarnings("unchecked")
+    void search(V root) {
+        Deque<Iterator<GraphNode<T>>> stack = new ArrayDeque<>();
+        Deque<V> path = new ArrayDeque<>();
+        visited.add(root);
+        path.push(root);
+        stack.push(root.getSuccessors().iterator());
+        while (!stack.isEmpty()) {
+            var it = stack.peek();
+            if (!it.hasNext()) {
+                stack.pop();
+                order.set(c--, path.pop());
+                continue;
+            }
+            var s = (V) it.next();
+            if (visited.add(s)) {
                 // n->s is a tree edge
-                edges.putIfAbsent(n, new HashSet<>());
-                edges.get(n).add((V) s);
-                search((V) s);
+                edges.computeIfAbsent(path.peek(), k -> new HashSet<>()).add(s);
+                path.push(s);
+                stack.push(s.getSuccessors().iterator());
             }
         }
-        order.put(n, c--);
     }
 
     public List<V> getOrder() {
-        List<V> res = new ArrayList<>(this.size);
-        for (int i = 0; i < this.size; i++) {
-            res.add(null);
-        }
-        for (var entry : order.entrySet()) {
-            res.set(entry.getValue(), entry.getKey());
-        }
-        return res;
+        return order;
     }
 }
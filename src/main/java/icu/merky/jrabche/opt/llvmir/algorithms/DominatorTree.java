@@ -0,0 +1,307 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir.algorithms;
+
+import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
+
+import java.util.*;
+
+/**
+ * Dominator tree of the blocks reachable from an entry block, built from the CFG edge lists
+ * ({@link IRBasicBlock#getSuc()}, {@link IRBasicBlock#getPre()}).
+ * <p>
+ * {@link #dominates} is O(1): it compares DFS in/out numbers of the tree, which are renumbered
+ * lazily after the tree changed. Unreachable blocks are not in the tree; like in LLVM they are
+ * dominated by every block and dominate nothing but themselves.
+ * <p>
+ * After a pass adds or removes an edge and updated the edge lists, it calls
+ * {@link #insertEdge} / {@link #deleteEdge} instead of rebuilding. Insertion uses the
+ * depth-based search of Georgiadis et al. (2016). <i>An Experimental Study of Dynamic
+ * Dominators</i>, so only the affected nodes are touched. Deleting an edge keeps the tree when it
+ * cannot change it, and recalculates otherwise.
+ */
+public class DominatorTree {
+    private final IRBasicBlock entry;
+    private final Map<IRBasicBlock, Node> nodes = new HashMap<>();
+    private Node root;
+    private boolean dfsValid;
+
+    private static final class Node {
+        final IRBasicBlock block;
+        Node idom;
+        final List<Node> children = new ArrayList<>(2);
+        int level;
+        int dfsIn, dfsOut;
+
+        Node(IRBasicBlock block) {
+            this.block = block;
+        }
+    }
+
+    public DominatorTree(IRBasicBlock entry) {
+        this.entry = entry;
+        recalculate();
+    }
+
+    /**
+     * Rebuild the whole tree from the current edge lists.
+     */
+    public void recalculate() {
+        nodes.clear();
+        // reverse post order, by an iterative deep first search.
+        List<IRBasicBlock> post = new ArrayList<>();
+        Set<IRBasicBlock> visited = new HashSet<>();
+        Deque<IRBasicBlock> path = new ArrayDeque<>();
+        Deque<Iterator<IRBasicBlock>> stack = new ArrayDeque<>();
+        visited.add(entry);
+        path.push(entry);
+        stack.push(entry.getSuc().iterator());
+        while (!stack.isEmpty()) {
+            var it = stack.peek();
+            if (!it.hasNext()) {
+                stack.pop();
+                post.add(path.pop());
+                continue;
+            }
+            var s = it.next();
+            if (visited.add(s)) {
+                path.push(s);
+                stack.push(s.getSuc().iterator());
+            }
+        }
+        int n = post.size();
+        List<IRBasicBlock> rpo = new ArrayList<>(n);
+        Map<IRBasicBlock, Integer> ids = new HashMap<>(n * 2);
+        for (int i = n - 1; i >= 0; i--) {
+            ids.put(post.get(i), rpo.size());
+            rpo.add(post.get(i));
+        }
+        int[][] succs = new int[n][], preds = new int[n][];
+        for (int i = 0; i < n; i++) {
+            succs[i] = rpo.get(i).getSuc().stream().mapToInt(ids::get).toArray();
+            preds[i] = rpo.get(i).getPre().stream().filter(ids::containsKey).mapToInt(ids::get).toArray();
+        }
+        var dom = new Dominators(succs, preds);
+        Node[] byId = new Node[n];
+        for (int i = 0; i < n; i++) {
+            byId[i] = new Node(rpo.get(i));
+            nodes.put(rpo.get(i), byId[i]);
+        }
+        // an idom always comes before its nodes in reverse post order.
+        for (int i = 1; i < n; i++) {
+            Node node = byId[i], idom = byId[dom.getIdom(i)];
+            node.idom = idom;
+            node.level = idom.level + 1;
+            idom.children.add(node);
+        }
+        root = byId[0];
+        dfsValid = false;
+    }
+
+    public IRBasicBlock getRoot() {
+        return root.block;
+    }
+
+    public boolean isReachable(IRBasicBlock bb) {
+        return nodes.containsKey(bb);
+    }
+
+    /**
+     * @return the immediate dominator of {@code bb}, null for the entry and unreachable blocks.
+     */
+    public IRBasicBlock getIdom(IRBasicBlock bb) {
+        Node node = nodes.get(bb);
+        return node == null || node.idom == null ? null : node.idom.block;
+    }
+
+    /**
+     * @return the blocks immediately dominated by {@code bb}.
+     */
+    public List<IRBasicBlock> getChildren(IRBasicBlock bb) {
+        Node node = nodes.get(bb);
+        if (node == null) return List.of();
+        List<IRBasicBlock> children = new ArrayList<>(node.children.size());
+        for (Node c : node.children) children.add(c.block);
+        return children;
+    }
+
+    /**
+     * @return the depth of {@code bb} in the tree, 0 for the entry, -1 if unreachable.
+     */
+    public int getLevel(IRBasicBlock bb) {
+        Node node = nodes.get(bb);
+        return node == null ? -1 : node.level;
+    }
+
+    /**
+     * @return the reachable blocks, every block before the blocks it dominates.
+     */
+    public List<IRBasicBlock> preOrder() {
+        List<IRBasicBlock> order = new ArrayList<>(nodes.size());
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            order.add(node.block);
+            for (int i = node.children.size() - 1; i >= 0; i--) stack.push(node.children.get(i));
+        }
+        return order;
+    }
+
+    public boolean dominates(IRBasicBlock a, IRBasicBlock b) {
+        if (a == b) return true;
+        Node nb = nodes.get(b);
+        if (nb == null) return true;
+        Node na = nodes.get(a);
+        if (na == null) return false;
+        if (!dfsValid) number();
+        return na.dfsIn < nb.dfsIn && nb.dfsOut < na.dfsOut;
+    }
+
+    public boolean properlyDominates(IRBasicBlock a, IRBasicBlock b) {
+        return a != b && dominates(a, b);
+    }
+
+    /**
+     * @return the deepest block dominating both {@code a} and {@code b}, null if one is unreachable.
+     */
+    public IRBasicBlock findNearestCommonDominator(IRBasicBlock a, IRBasicBlock b) {
+        Node na = nodes.get(a), nb = nodes.get(b);
+        if (na == null || nb == null) return null;
+        return nca(na, nb).block;
+    }
+
+    /**
+     * Update the tree after the edge {@code from -> to} was added to the edge lists.
+     */
+    public void insertEdge(IRBasicBlock from, IRBasicBlock to) {
+        Node fromN = nodes.get(from);
+        // edges out of unreachable blocks change nothing.
+        if (fromN == null) return;
+        Node toN = nodes.get(to);
+        if (toN == null) {
+            // new blocks become reachable.
+            recalculate();
+            return;
+        }
+        Node ncd = nca(fromN, toN);
+        if (ncd == toN || ncd == toN.idom) return;
+
+        // affected nodes get ncd as their new idom, they are found by decreasing level.
+        int ncdLevel = ncd.level;
+        PriorityQueue<Node> bucket = new PriorityQueue<>((x, y) -> Integer.compare(y.level, x.level));
+        Set<Node> visited = new HashSet<>();
+        List<Node> affected = new ArrayList<>();
+        Deque<Node> unaffectedOnLevel = new ArrayDeque<>();
+        bucket.add(toN);
+        visited.add(toN);
+        while (!bucket.isEmpty()) {
+            Node tn = bucket.poll();
+            affected.add(tn);
+            int currentLevel = tn.level;
+            while (true) {
+                for (IRBasicBlock s : tn.block.getSuc()) {
+                    Node sn = nodes.get(s);
+                    if (sn.level <= ncdLevel + 1 || !visited.add(sn)) continue;
+                    if (sn.level > currentLevel) unaffectedOnLevel.push(sn);
+                    else bucket.add(sn);
+                }
+                if (unaffectedOnLevel.isEmpty()) break;
+                tn = unaffectedOnLevel.pop();
+            }
+        }
+        for (Node node : affected) {
+            node.idom.children.remove(node);
+            node.idom = ncd;
+            ncd.children.add(node);
+        }
+        for (Node node : affected) updateLevels(node);
+        dfsValid = false;
+    }
+
+    /**
+     * Update the tree after the edge {@code from -> to} was removed from the edge lists.
+     */
+    public void deleteEdge(IRBasicBlock from, IRBasicBlock to) {
+        Node fromN = nodes.get(from), toN = nodes.get(to);
+        if (fromN == null || toN == null) return;
+        // a parallel edge is left, or it was a back edge to a dominator.
+        if (from.getSuc().contains(to) || dominates(to, from)) return;
+        recalculate();
+    }
+
+    private static Node nca(Node a, Node b) {
+        while (a != b) {
+            if (a.level < b.level) {
+                Node t = a;
+                a = b;
+                b = t;
+            }
+            a = a.idom;
+        }
+        return a;
+    }
+
+    private static void updateLevels(Node top) {
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(top);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            node.level = node.idom.level + 1;
+            for (Node c : node.children) stack.push(c);
+        }
+    }
+
+    private void number() {
+        int counter = 0;
+        Deque<Node> stack = new ArrayDeque<>();
+        Deque<Integer> next = new ArrayDeque<>();
+        root.dfsIn = counter++;
+        stack.push(root);
+        next.push(0);
+        while (!stack.isEmpty()) {
+            Node node = stack.peek();
+            int i = next.pop();
+            if (i < node.children.size()) {
+                next.push(i + 1);
+                Node c = node.children.get(i);
+                c.dfsIn = counter++;
+                stack.push(c);
+                next.push(0);
+            } else {
+                stack.pop();
+                node.dfsOut = counter++;
+            }
+        }
+        dfsValid = true;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir.algorithms;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immediate dominators and dominance frontiers of a CFG whose nodes are numbered 0..n-1 in reverse
+ * post order, 0 being the entry. Everything is kept in int arrays.
+ * <p>
+ * Small graphs use the iterative algorithm of Cooper, K. D., Harvey, T. J., & Kennedy, K. (2006).
+ * <i>A simple, fast dominance algorithm.</i>
+ * <a href="https://hdl.handle.net/1911/96345">view the paper</a>.
+ * Its rounds can be quadratic, so graphs with at least {@link #SEMI_NCA_THRESHOLD} nodes use
+ * Semi-NCA from Georgiadis, L. (2005). <i>Linear-time algorithms for dominators and related
+ * problems.</i> Both give the same tree.
+ */
+public class Dominators {
+    public static final int SEMI_NCA_THRESHOLD = 512;
+
+    private final int[][] preds;
+    private final int[] idom;
+    private int[][] df;
+
+    public Dominators(int[][] succs, int[][] preds) {
+        this(succs, preds, succs.length >= SEMI_NCA_THRESHOLD);
+    }
+
+    /**
+     * @param succs   successor ids of each node
+     * @param preds   predecessor ids of each node
+     * @param semiNCA use Semi-NCA instead of Cooper-Harvey-Kennedy
+     */
+    public Dominators(int[][] succs, int[][] preds, boolean semiNCA) {
+        this.preds = preds;
+        this.idom = succs.length == 0 ? new int[0] : semiNCA ? semiNCA(succs, preds) : chk(preds);
+    }
+
+    public static Dominators ofBlockNodes(List<BlockNode> rpo) {
+        BlockNode.Number(rpo);
+        return new Dominators(BlockNode.SuccessorIds(rpo), BlockNode.PredecessorIds(rpo));
+    }
+
+    public int size() {
+        return idom.length;
+    }
+
+    /**
+     * @return the immediate dominator of {@code b}, -1 for the entry.
+     */
+    public int getIdom(int b) {
+        return idom[b];
+    }
+
+    /**
+     * @return the dominance frontier of {@code b}.
+     */
+    public int[] getDF(int b) {
+        if (df == null) df = frontiers();
+        return df[b];
+    }
+
+    private static int[] chk(int[][] preds) {
+        int n = preds.length;
+        int[] doms = new int[n];
+        Arrays.fill(doms, -1);
+        doms[0] = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            // for all nodes, b, in reverse postorder (except start node)
+            for (int b = 1; b < n; b++) {
+                int newIdom = -1;
+                for (int p : preds[b]) {
+                    // if doms[p] is defined /* i.e., if doms[p] already calculated */
+                    if (doms[p] == -1) continue;
+                    newIdom = newIdom == -1 ? p : intersect(doms, newIdom, p);
+                }
+                if (doms[b] != newIdom) {
+                    doms[b] = newIdom;
+                    changed = true;
+                }
+            }
+        }
+        doms[0] = -1;
+        return doms;
+    }
+
+    private static int intersect(int[] doms, int finger1, int finger2) {
+        while (finger1 != finger2) {
+            while (finger1 > finger2) finger1 = doms[finger1];
+            while (finger2 > finger1) finger2 = doms[finger2];
+        }
+        return finger1;
+    }
+
+    private static int[] semiNCA(int[][] succs, int[][] preds) {
+        int n = succs.length;
+        // iterative deep first search, numbering nodes in preorder.
+        int[] pre = new int[n], vertex = new int[n], parent = new int[n];
+        Arrays.fill(pre, -1);
+        int[] stack = new int[n], edge = new int[n];
+        int sp = 0, count = 0;
+        stack[sp++] = 0;
+        pre[0] = count;
+        vertex[count++] = 0;
+        while (sp > 0) {
+            int v = stack[sp - 1];
+            if (edge[v] == succs[v].length) {
+                sp--;
+                continue;
+            }
+            int s = succs[v][edge[v]++];
+            if (pre[s] != -1) continue;
+            pre[s] = count;
+            vertex[count] = s;
+            parent[count++] = pre[v];
+            stack[sp++] = s;
+        }
+
+        // semidominators, in preorder numbers, by decreasing preorder.
+        int[] semi = new int[count], label = new int[count], ancestor = new int[count];
+        for (int i = 0; i < count; i++) {
+            semi[i] = label[i] = i;
+            ancestor[i] = -1;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            for (int p : preds[vertex[i]]) {
+                int v = pre[p];
+                if (v == -1) continue;
+                int u = eval(v, ancestor, label, semi, stack);
+                if (semi[u] < semi[i]) semi[i] = semi[u];
+            }
+            ancestor[i] = parent[i];
+        }
+
+        // nearest common ancestors, by increasing preorder.
+        int[] dom = new int[count];
+        for (int i = 1; i < count; i++) {
+            int j = parent[i];
+            while (j > semi[i]) j = dom[j];
+            dom[i] = j;
+        }
+
+        int[] idom = new int[n];
+        Arrays.fill(idom, -1);
+        for (int i = 1; i < count; i++) idom[vertex[i]] = vertex[dom[i]];
+        return idom;
+    }
+
+    /**
+     * @return the node with the smallest semidominator on the forest path above {@code v},
+     * compressing the path on the way.
+     */
+    private static int eval(int v, int[] ancestor, int[] label, int[] semi, int[] stack) {
+        if (ancestor[v] == -1) return v;
+        int top = 0;
+        int x = v;
+        while (ancestor[ancestor[x]] != -1) {
+            stack[top++] = x;
+            x = ancestor[x];
+        }
+        while (top > 0) {
+            int y = stack[--top];
+            int a = ancestor[y];
+            if (semi[label[a]] < semi[label[y]]) label[y] = label[a];
+            ancestor[y] = ancestor[a];
+        }
+        return label[v];
+    }
+
+    private int[][] frontiers() {
+        int n = idom.length;
+        int[][] frontiers = new int[n][];
+        int[] sizes = new int[n];
+        // the last join node added to each frontier, to skip duplicates.
+        int[] last = new int[n];
+        Arrays.fill(last, -1);
+        for (int i = 0; i < n; i++) frontiers[i] = new int[2];
+        for (int b = 0; b < n; b++) {
+            if (preds[b].length < 2) continue;
+            for (int p : preds[b]) {
+                int runner = p;
+                while (runner != idom[b] && runner != -1) {
+                    if (last[runner] != b) {
+                        last[runner] = b;
+                        if (sizes[runner] == frontiers[runner].length)
+                            frontiers[runner] = Arrays.copyOf(frontiers[runner], sizes[runner] * 2);
+                        frontiers[runner][sizes[runner]++] = b;
+                    }
+                    runner = idom[runner];
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) frontiers[i] = Arrays.copyOf(frontiers[i], sizes[i]);
+        return frontiers;
+    }
+}
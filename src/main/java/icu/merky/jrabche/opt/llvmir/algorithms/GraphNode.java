@@ -32,6 +32,7 @@
 package icu.merky.jrabche.opt.llvmir.algorithms;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Set;
@@ -45,8 +46,8 @@ public class GraphNode<T> {
 
     public GraphNode(T val) {
         this.val = val;
-        successors = new HashSet<>();
-        predecessor = new HashSet<>();
+        successors = new LinkedHashSet<>();
+        predecessor = new LinkedHashSet<>();
     }
 
     public static <T> void BuildPredecessor(GraphNode<T> root) {
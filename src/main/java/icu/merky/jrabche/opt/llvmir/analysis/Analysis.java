@@ -0,0 +1,59 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir.analysis;
+
+/**
+ * Function analyses cached by {@link AnalysisManager}. A pass lists the ones it keeps valid in
+ * {@code @OptOn(preserves = ...)}.
+ */
+public enum Analysis {
+    /**
+     * Predecessors and successors of the basic blocks, see
+     * {@link icu.merky.jrabche.llvmir.structures.impl.IRFunctionImpl#BuildBBGraph}.
+     */
+    CFG,
+    /**
+     * Block node graph, deep first order, immediate dominators and dominance frontiers.
+     * Depends on {@link #CFG}.
+     */
+    DOMINATORS,
+    /**
+     * {@link icu.merky.jrabche.opt.llvmir.algorithms.DominatorTree} of the blocks. Depends on
+     * {@link #CFG}; a pass that edits edges may keep it valid with its incremental updates.
+     */
+    DOMINATOR_TREE,
+    /**
+     * Live in / live out allocas of every block node. Depends on {@link #DOMINATORS}
+     * and on the loads and stores of the function.
+     */
+    LIVENESS
+}
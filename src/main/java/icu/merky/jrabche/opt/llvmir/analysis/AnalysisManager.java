@@ -0,0 +1,163 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir.analysis;
+
+import icu.merky.jrabche.llvmir.structures.IRFunction;
+import icu.merky.jrabche.llvmir.structures.impl.IRFunctionImpl;
+import icu.merky.jrabche.opt.llvmir.algorithms.BlockNodeBuilder;
+import icu.merky.jrabche.opt.llvmir.algorithms.DominatorTree;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Caches the {@link Analysis analyses} of each function, so they are computed once and reused
+ * until a pass changes something they depend on.
+ * <p>
+ * Passes ask for an analysis with the {@code ensure}/{@code get} methods. After a pass changed a
+ * function, {@link #invalidate(IRFunction, Set)} drops everything the pass does not preserve, and
+ * everything that depends on what was dropped. A pass that changes the CFG while it runs calls
+ * {@link #invalidateAll(IRFunction)} itself before asking again.
+ * <p>
+ * Different functions may be used from different threads, one function is only used by one
+ * thread at a time.
+ */
+public class AnalysisManager {
+    private final Map<IRFunction, FunctionAnalyses> cache = new ConcurrentHashMap<>();
+    private final AtomicLongArray computed = new AtomicLongArray(Analysis.values().length);
+
+    private static class FunctionAnalyses {
+        boolean cfg;
+        BlockNodeBuilder dominators;
+        DominatorTree domTree;
+        boolean liveness;
+    }
+
+    private FunctionAnalyses of(IRFunction F) {
+        return cache.computeIfAbsent(F, f -> new FunctionAnalyses());
+    }
+
+    /**
+     * Make the predecessors and successors of the blocks of {@code F} up to date.
+     */
+    public void ensureCFG(IRFunction F) {
+        var A = of(F);
+        if (!A.cfg) {
+            IRFunctionImpl.BuildBBGraph(F);
+            computed.incrementAndGet(Analysis.CFG.ordinal());
+            A.cfg = true;
+        }
+    }
+
+    /**
+     * @return the block nodes of {@code F}, the deep first order, idoms and DF are computed
+     * on first use and kept with them.
+     */
+    public BlockNodeBuilder getDominators(IRFunction F) {
+        ensureCFG(F);
+        var A = of(F);
+        if (A.dominators == null) {
+            var bnb = new BlockNodeBuilder(F);
+            bnb.build();
+            computed.incrementAndGet(Analysis.DOMINATORS.ordinal());
+            A.dominators = bnb;
+        }
+        return A.dominators;
+    }
+
+    /**
+     * @return the dominator tree of {@code F}. A pass that keeps it up to date with
+     * {@link DominatorTree#insertEdge}/{@link DominatorTree#deleteEdge} may preserve it.
+     */
+    public DominatorTree getDominatorTree(IRFunction F) {
+        ensureCFG(F);
+        var A = of(F);
+        if (A.domTree == null) {
+            A.domTree = new DominatorTree(F.entryBB());
+            computed.incrementAndGet(Analysis.DOMINATOR_TREE.ordinal());
+        }
+        return A.domTree;
+    }
+
+    /**
+     * @return the same as {@link #getDominators(IRFunction)}, with live in / live out of the
+     * block nodes filled.
+     */
+    public BlockNodeBuilder getLiveness(IRFunction F) {
+        var bnb = getDominators(F);
+        var A = of(F);
+        if (!A.liveness) {
+            bnb.buildLiveInOut();
+            computed.incrementAndGet(Analysis.LIVENESS.ordinal());
+            A.liveness = true;
+        }
+        return bnb;
+    }
+
+    /**
+     * Drop the analyses of {@code F} that are not in {@code preserved}. An analysis is also
+     * dropped when one it depends on is dropped.
+     */
+    public void invalidate(IRFunction F, Set<Analysis> preserved) {
+        var A = cache.get(F);
+        if (A == null) return;
+        if (!preserved.contains(Analysis.CFG)) {
+            A.cfg = false;
+        }
+        if (!A.cfg || !preserved.contains(Analysis.DOMINATORS)) {
+            A.dominators = null;
+        }
+        if (!A.cfg || !preserved.contains(Analysis.DOMINATOR_TREE)) {
+            A.domTree = null;
+        }
+        if (A.dominators == null || !preserved.contains(Analysis.LIVENESS)) {
+            A.liveness = false;
+        }
+    }
+
+    public void invalidateAll(IRFunction F) {
+        cache.remove(F);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * @return how many times {@code analysis} was computed by this manager.
+     */
+    public long getComputeCount(Analysis analysis) {
+        return computed.get(analysis.ordinal());
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * BSD 3-Clause License
  *
- * Copyright (c) 2023-2024, Gaomengkai
+ * Copyright (c) 2023, Gaomengkai
  *
  * Redistribution and use in source and binary forms, with or without
  * modification, are permitted provided that the following conditions are met:
@@ -29,11 +29,12 @@
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
-package icu.merky.jrabche.utils;
+package icu.merky.jrabche.opt.llvmir.analysis;
 
-import java.io.IOException;
-import java.util.List;
-
-public interface ClassFinder {
-    List<Class<?>> getClassesInPackage(String packageName) throws ClassNotFoundException, IOException;
+/**
+ * A pass that reads cached analyses. {@code OptExecutor} hands it the shared manager before
+ * {@link icu.merky.jrabche.opt.llvmir.IRPass#go()}; without one the pass uses a private manager.
+ */
+public interface AnalysisUser {
+    void setAnalysisManager(AnalysisManager AM);
 }
@@ -31,9 +31,16 @@
 
 package icu.merky.jrabche.opt.llvmir.annotations;
 
+import icu.merky.jrabche.opt.llvmir.analysis.Analysis;
+
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 
+/**
+ * Registers an optimizer. Read at build time by
+ * {@link icu.merky.jrabche.opt.llvmir.annotations.processor.OptRegistryProcessor},
+ * which generates the pipeline used by {@code OptExecutor}.
+ */
 @Retention(RetentionPolicy.RUNTIME)
 public @interface OptOn {
     OptOnEnum value();
@@ -47,5 +54,9 @@ public @interface OptOn {
 
     String name();
 
+    // analyses still valid after the optimizer changed a function, the others are recomputed.
+    // a ReportsChangedCFG optimizer keeps none of them when it reports a CFG change.
+    Analysis[] preserves() default {};
+
     enum OptOnEnum {Module, Function, BasicBlock}
 }
@@ -0,0 +1,259 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir.annotations.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Turns every {@code @OptOn} class that is not {@code @DisabledOpt} into an entry of the
+ * generated {@code icu.merky.jrabche.opt.llvmir.OptRegistry}, which {@code OptExecutor} uses
+ * instead of scanning the classpath at runtime.
+ * <p>
+ * Passes are split by {@code ssa()} and ordered so that every pass comes after the passes
+ * named in its {@code afterWhich()}. Ties are broken by class name, so the pipeline
+ * is the same on every build. The pass constructors are checked here, so a pass with a
+ * wrong constructor fails the build instead of the first compilation. Each entry also
+ * carries the analyses named in {@code preserves()}.
+ * <p>
+ * Annotation values are read through mirrors only, the processor does not load the passes.
+ */
+@SupportedAnnotationTypes("*")
+public class OptRegistryProcessor extends AbstractProcessor {
+    static final String OPT_ON = "icu.merky.jrabche.opt.llvmir.annotations.OptOn";
+    static final String DISABLED_OPT = "icu.merky.jrabche.opt.llvmir.annotations.DisabledOpt";
+    static final String IR_PASS = "icu.merky.jrabche.opt.llvmir.IRPass";
+    static final String ANALYSIS = "icu.merky.jrabche.opt.llvmir.analysis.Analysis";
+    static final String REGISTRY_PACKAGE = "icu.merky.jrabche.opt.llvmir";
+    static final String REGISTRY_NAME = "OptRegistry";
+
+    private final Map<String, Pass> passes = new TreeMap<>();
+    private boolean generated = false;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // all passes are hand-written sources, so they are all seen in the first round.
+        if (generated || roundEnv.processingOver()) {
+            return false;
+        }
+        generated = true;
+        TypeElement optOn = processingEnv.getElementUtils().getTypeElement(OPT_ON);
+        if (optOn != null) {
+            for (TypeElement clazz : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(optOn))) {
+                Pass pass = readPass(clazz);
+                if (pass != null) {
+                    passes.put(pass.className, pass);
+                }
+            }
+        }
+        generate();
+        return false;
+    }
+
+    private Pass readPass(TypeElement clazz) {
+        if (hasAnnotation(clazz, DISABLED_OPT)) {
+            return null;
+        }
+        Pass pass = new Pass();
+        pass.element = clazz;
+        pass.className = clazz.getQualifiedName().toString();
+        for (AnnotationMirror mirror : clazz.getAnnotationMirrors()) {
+            if (!isType(mirror.getAnnotationType(), OPT_ON)) continue;
+            var values = processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+            for (var entry : values.entrySet()) {
+                Object value = entry.getValue().getValue();
+                switch (entry.getKey().getSimpleName().toString()) {
+                    case "value" -> pass.on = ((VariableElement) value).getSimpleName().toString();
+                    case "ssa" -> pass.ssa = (Boolean) value;
+                    case "name" -> pass.name = (String) value;
+                    case "afterWhich" -> {
+                        for (Object v : (List<?>) value) {
+                            TypeMirror after = (TypeMirror) ((AnnotationValue) v).getValue();
+                            pass.afterWhich.add(((TypeElement) ((DeclaredType) after).asElement()).getQualifiedName().toString());
+                        }
+                    }
+                    case "preserves" -> {
+                        for (Object v : (List<?>) value) {
+                            pass.preserves.add(((VariableElement) ((AnnotationValue) v).getValue()).getSimpleName().toString());
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+        return check(pass) ? pass : null;
+    }
+
+    private boolean check(Pass pass) {
+        TypeElement clazz = pass.element;
+        if (!clazz.getModifiers().contains(Modifier.PUBLIC) || clazz.getModifiers().contains(Modifier.ABSTRACT)
+                || clazz.getNestingKind() != NestingKind.TOP_LEVEL) {
+            error(clazz, "Optimizer class must be a public, non-abstract top level class");
+            return false;
+        }
+        TypeMirror irPass = processingEnv.getElementUtils().getTypeElement(IR_PASS).asType();
+        if (!processingEnv.getTypeUtils().isAssignable(clazz.asType(), irPass)) {
+            error(clazz, "Optimizer class must implement " + IR_PASS);
+            return false;
+        }
+        String param = switch (pass.on) {
+            case "Module" -> "icu.merky.jrabche.llvmir.structures.IRModule";
+            case "Function" -> "icu.merky.jrabche.llvmir.structures.IRFunction";
+            default -> "icu.merky.jrabche.llvmir.structures.IRBasicBlock";
+        };
+        for (ExecutableElement c : ElementFilter.constructorsIn(clazz.getEnclosedElements())) {
+            if (c.getModifiers().contains(Modifier.PUBLIC) && c.getParameters().size() == 1
+                    && isType(c.getParameters().get(0).asType(), param)) {
+                return true;
+            }
+        }
+        error(clazz, "Optimizer class must have a public constructor and the constructor must have a parameter of type " + param);
+        return false;
+    }
+
+    /**
+     * Kahn's algorithm, smallest class name first among the passes that are ready.
+     */
+    private List<Pass> sort(boolean ssa) {
+        Map<String, Pass> group = new TreeMap<>();
+        passes.values().stream().filter(p -> p.ssa == ssa).forEach(p -> group.put(p.className, p));
+        Map<String, Set<String>> waitingFor = new TreeMap<>();
+        for (Pass p : group.values()) {
+            Set<String> deps = new TreeSet<>(p.afterWhich);
+            // disabled passes and passes of the other form do not constrain the order.
+            deps.retainAll(group.keySet());
+            waitingFor.put(p.className, deps);
+        }
+        List<Pass> sorted = new ArrayList<>();
+        while (!waitingFor.isEmpty()) {
+            String ready = null;
+            for (var entry : waitingFor.entrySet()) {
+                if (entry.getValue().isEmpty()) {
+                    ready = entry.getKey();
+                    break;
+                }
+            }
+            if (ready == null) {
+                error(group.get(waitingFor.keySet().iterator().next()).element,
+                        "Cycle in afterWhich of " + waitingFor.keySet() + ", topological sort not possible");
+                return sorted;
+            }
+            waitingFor.remove(ready);
+            for (Set<String> deps : waitingFor.values()) {
+                deps.remove(ready);
+            }
+            sorted.add(group.get(ready));
+        }
+        return sorted;
+    }
+
+    private void generate() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(REGISTRY_PACKAGE).append(";\n\n");
+        sb.append("import java.util.List;\n\n");
+        sb.append("/**\n * Generated by {@code ").append(getClass().getName()).append("} from the {@code @OptOn} passes.\n");
+        sb.append(" * Do not edit.\n */\n");
+        sb.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        sb.append("public final class ").append(REGISTRY_NAME).append(" {\n");
+        sb.append("    private ").append(REGISTRY_NAME).append("() {\n    }\n\n");
+        appendList(sb, "Passes that run before Mem2Reg, in order.", "NO_SSA", sort(false));
+        sb.append('\n');
+        appendList(sb, "Passes that run on SSA form, in order.", "SSA", sort(true));
+        sb.append("}\n");
+        try (Writer w = processingEnv.getFiler().createSourceFile(REGISTRY_PACKAGE + "." + REGISTRY_NAME,
+                passes.values().stream().map(p -> p.element).toArray(Element[]::new)).openWriter()) {
+            w.write(sb.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + REGISTRY_NAME + ": " + e);
+        }
+    }
+
+    private static void appendList(StringBuilder sb, String doc, String field, List<Pass> list) {
+        sb.append("    /**\n     * ").append(doc).append("\n     */\n");
+        sb.append("    public static final List<PassInfo> ").append(field).append(" = List.of(");
+        for (int i = 0; i < list.size(); i++) {
+            Pass p = list.get(i);
+            sb.append(i == 0 ? "\n" : ",\n");
+            sb.append("            PassInfo.of").append(p.on).append('(')
+                    .append(p.className).append(".class, \"")
+                    .append(p.name.replace("\\", "\\\\").replace("\"", "\\\"")).append("\", ")
+                    .append(p.className).append("::new");
+            for (String analysis : p.preserves) {
+                sb.append(", ").append(ANALYSIS).append('.').append(analysis);
+            }
+            sb.append(')');
+        }
+        sb.append(");\n");
+    }
+
+    private boolean hasAnnotation(Element e, String annotation) {
+        for (AnnotationMirror mirror : e.getAnnotationMirrors()) {
+            if (isType(mirror.getAnnotationType(), annotation)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isType(TypeMirror type, String qualifiedName) {
+        return type instanceof DeclaredType declared
+                && ((TypeElement) declared.asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private void error(Element e, String msg) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, msg, e);
+    }
+
+    private static class Pass {
+        TypeElement element;
+        String className;
+        String name;
+        String on;
+        boolean ssa;
+        List<String> afterWhich = new ArrayList<>();
+        Set<String> preserves = new LinkedHashSet<>();
+    }
+}
@@ -29,45 +29,51 @@
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
-package icu.merky.jrabche.opt.llvmir;
+package icu.merky.jrabche.opt.llvmir.support;
 
-import icu.merky.jrabche.llvmir.inst.IRInst;
-import icu.merky.jrabche.llvmir.structures.IRFunction;
-import icu.merky.jrabche.llvmir.values.IRVal;
-import icu.merky.jrabche.opt.llvmir.annotations.PassOn;
-
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
-@PassOn(PassOn.on.FUNCTION)
-public class BuildUses implements IRPass {
-    IRFunction F;
+/**
+ * Dense integer ids 0..size-1 for blocks, allocas or SSA values, handed out in first-seen order,
+ * so per-object facts can live in arrays and BitSets instead of hash maps.
+ */
+public class Numbering<T> {
+    private final Map<T, Integer> ids = new IdentityHashMap<>();
+    private final List<T> objects = new ArrayList<>();
+
+    public Numbering() {
+    }
+
+    public Numbering(Iterable<? extends T> objects) {
+        objects.forEach(this::getOrAdd);
+    }
+
+    /**
+     * @return the id of {@code o}, numbering it if it is new.
+     */
+    public int getOrAdd(T o) {
+        Integer id = ids.get(o);
+        if (id != null) return id;
+        ids.put(o, objects.size());
+        objects.add(o);
+        return objects.size() - 1;
+    }
+
+    /**
+     * @return the id of {@code o}, or -1 if it was never numbered.
+     */
+    public int getId(T o) {
+        return ids.getOrDefault(o, -1);
+    }
 
-    public BuildUses(IRFunction function) {
-        F = function;
+    public T get(int id) {
+        return objects.get(id);
     }
 
-    @Override
-    public boolean go() {
-        Map<IRVal, Set<IRInst>> uses = new HashMap<>();
-        for (var B : F.getBlocks()) {
-            for (var inst : B.getInsts()) {
-                for (var op : inst.getUses()) {
-                    if (!uses.containsKey(op)) {
-                        uses.put(op, new HashSet<>(Set.of(inst)));
-                    } else {
-                        uses.get(op).add(inst);
-                    }
-                }
-            }
-        }
-        for (var B : F.getBlocks()) {
-            for (var inst : B.getInsts()) {
-                inst.getUsedBy().addAll(uses.getOrDefault(inst, Set.of()));
-            }
-        }
-        return false;
+    public int size() {
+        return objects.size();
     }
 }
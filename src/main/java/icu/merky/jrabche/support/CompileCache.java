@@ -0,0 +1,348 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.support;
+
+import icu.merky.jrabche.fe.MappedCharStream;
+import icu.merky.jrabche.fe.Preprocessor;
+import icu.merky.jrabche.fe.parser.SylangLexer;
+import icu.merky.jrabche.logger.JrabcheLogger;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Compiler outputs (.ll or .s) keyed by a SHA-256 of the preprocessed source, the compiler
+ * build and the options affecting the output, see {@link #key}. A hit costs one lexing pass,
+ * no parsing, optimization or clang.
+ * <p>
+ * Two tiers: an LRU map in memory, for the compile server and batch builds, and optionally a
+ * directory on disk. Disk entries are written to a temp file and moved into place, so several
+ * processes may share one directory; the least recently used ones are deleted when the
+ * directory grows over its limit. Failing to store an entry is reported, not fatal.
+ * <p>
+ * {@link IncrementalModule} keeps single functions in the same cache, under keys of its own.
+ */
+public class CompileCache {
+    // bump when the key or the layout changes.
+    private static final String FORMAT = "jrabche-cache-1";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    static final Statistic NumMemoryHits = Statistic.of("cache", "memory-hits", "Entries taken from the memory cache");
+    static final Statistic NumDiskHits = Statistic.of("cache", "disk-hits", "Entries taken from the disk cache");
+    static final Statistic NumMisses = Statistic.of("cache", "misses", "Entries not found in the cache");
+    static final Statistic NumStores = Statistic.of("cache", "stores", "Entries stored into the cache");
+    static final Statistic NumEvicted = Statistic.of("cache", "evicted", "Cache entries evicted");
+
+    private final Path dir;
+    private final long maxDiskBytes;
+    private final long maxMemoryBytes;
+    // access order, the eldest entry is the least recently used.
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    // an estimate, other processes write to the same directory.
+    private long diskBytes = -1;
+
+    /**
+     * @param dir            the disk tier, null for memory only
+     * @param maxDiskBytes   size limit of the disk tier
+     * @param maxMemoryBytes size limit of the memory tier, 0 to disable it
+     */
+    public CompileCache(Path dir, long maxDiskBytes, long maxMemoryBytes) {
+        this.dir = dir;
+        this.maxDiskBytes = maxDiskBytes;
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    /**
+     * The key of compiling {@code source} with {@code options}. The source is hashed as the
+     * token stream the parser sees, after {@code starttime()}/{@code stoptime()} are rewritten,
+     * so whitespace and comments do not count, except for the line numbers of those calls.
+     *
+     * @param options everything else the output depends on, e.g. "-O1 -S"
+     */
+    public static String key(Path source, String options) throws IOException {
+        MessageDigest md = sha256();
+        md.update(salt(FORMAT, options).getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+        TokenSource tokens = Preprocessor.rewrite(new SylangLexer(MappedCharStream.map(source)));
+        for (Token t = tokens.nextToken(); t.getType() != Token.EOF; t = tokens.nextToken()) {
+            int type = t.getType();
+            md.update(new byte[]{(byte) (type >> 8), (byte) type});
+            md.update(t.getText().getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    /**
+     * The start of a key for entries of {@code format}: the format, the compiler build and
+     * {@code options}.
+     */
+    public static String salt(String format, String options) {
+        if (!isAvailable()) {
+            throw new IllegalStateException("The compiler build is unknown");
+        }
+        return format + "\0" + CompilerBuild.ID + "\0" + options;
+    }
+
+    /**
+     * @return whether the compiler build can be identified. Entries of an unknown build could be
+     * served to any other build, so there must be no cache then.
+     */
+    public static boolean isAvailable() {
+        return CompilerBuild.ID != null;
+    }
+
+    /**
+     * Copy the entry of {@code key} to {@code output}.
+     *
+     * @return false on a miss, {@code output} is untouched then.
+     */
+    public boolean get(String key, Path output) throws IOException {
+        byte[] data = get(key);
+        if (data == null) {
+            return false;
+        }
+        Files.write(output, data);
+        return true;
+    }
+
+    /**
+     * @return the entry of {@code key}, null on a miss.
+     */
+    public byte[] get(String key) throws IOException {
+        byte[] data = memoryGet(key);
+        if (data != null) {
+            NumMemoryHits.inc();
+        } else if ((data = diskGet(key)) != null) {
+            NumDiskHits.inc();
+            memoryPut(key, data);
+        } else {
+            NumMisses.inc();
+        }
+        return data;
+    }
+
+    /**
+     * Store the finished {@code output} as the entry of {@code key}, reporting failures to the
+     * diagnostics of the current compilation.
+     */
+    public void put(String key, Path output) {
+        put(key, output, JrabcheLogger.session().err());
+    }
+
+    /**
+     * @param err receives the reason when the entry cannot be stored
+     */
+    public void put(String key, Path output, PrintStream err) {
+        try {
+            put(key, Files.readAllBytes(output), err);
+        } catch (IOException e) {
+            err.println("Cannot store " + output + " into the compile cache: " + e);
+        }
+    }
+
+    public void put(String key, byte[] data) {
+        put(key, data, JrabcheLogger.session().err());
+    }
+
+    public void put(String key, byte[] data, PrintStream err) {
+        try {
+            memoryPut(key, data);
+            diskPut(key, data);
+            NumStores.inc();
+        } catch (IOException e) {
+            err.println("Cannot store " + key + " into the compile cache: " + e);
+        }
+    }
+
+    private synchronized byte[] memoryGet(String key) {
+        return memory.get(key);
+    }
+
+    private synchronized void memoryPut(String key, byte[] data) {
+        if (data.length > maxMemoryBytes) {
+            return;
+        }
+        byte[] old = memory.put(key, data);
+        memoryBytes += data.length - (old == null ? 0 : old.length);
+        var it = memory.values().iterator();
+        while (memoryBytes > maxMemoryBytes) {
+            memoryBytes -= it.next().length;
+            it.remove();
+            NumEvicted.inc();
+        }
+    }
+
+    private Path entry(String key) {
+        // 256 subdirectories keep directory listings short.
+        return dir.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private byte[] diskGet(String key) throws IOException {
+        if (dir == null) {
+            return null;
+        }
+        Path file = entry(key);
+        try {
+            byte[] data = Files.readAllBytes(file);
+            // the modification time is the LRU order of the disk tier.
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return data;
+        } catch (NoSuchFileException e) {
+            // never stored, or evicted by another process meanwhile.
+            return null;
+        }
+    }
+
+    private void diskPut(String key, byte[] data) throws IOException {
+        if (dir == null) {
+            return;
+        }
+        Path file = entry(key);
+        Files.createDirectories(file.getParent());
+        Path tmp = Files.createTempFile(file.getParent(), key, TMP_SUFFIX);
+        try {
+            Files.write(tmp, data);
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        boolean full;
+        synchronized (this) {
+            if (diskBytes < 0) {
+                diskBytes = scan().stream().mapToLong(Entry::size).sum();
+            } else {
+                diskBytes += data.length;
+            }
+            full = diskBytes > maxDiskBytes;
+        }
+        if (full) {
+            evict();
+        }
+    }
+
+    private record Entry(Path path, long size, FileTime time) {
+    }
+
+    private List<Entry> scan() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(dir, 2)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                if (path.getFileName().toString().endsWith(TMP_SUFFIX)) {
+                    continue;
+                }
+                try {
+                    var attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (attrs.isRegularFile()) {
+                        entries.add(new Entry(path, attrs.size(), attrs.lastModifiedTime()));
+                    }
+                } catch (NoSuchFileException e) {
+                    // evicted by another process.
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Delete the least recently used entries until the disk tier is at 90% of its limit, so that
+     * not every store rescans the directory.
+     */
+    private synchronized void evict() throws IOException {
+        List<Entry> entries = scan();
+        entries.sort(Comparator.comparing(Entry::time));
+        long total = entries.stream().mapToLong(Entry::size).sum();
+        long target = maxDiskBytes / 10 * 9;
+        for (int i = 0; i < entries.size() && total > target; i++) {
+            Files.deleteIfExists(entries.get(i).path());
+            total -= entries.get(i).size();
+            NumEvicted.inc();
+        }
+        diskBytes = total;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Identifies the classes of this compiler: a hash of the jar, or of the names, sizes and
+     * modification times of the class files when running from a directory. Null when they
+     * cannot be found.
+     */
+    private static final class CompilerBuild {
+        static final String ID = compute();
+
+        private static String compute() {
+            try {
+                Path location = Path.of(CompileCache.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+                MessageDigest md = sha256();
+                if (Files.isRegularFile(location)) {
+                    md.update(Files.readAllBytes(location));
+                } else {
+                    List<Path> classes;
+                    try (Stream<Path> files = Files.walk(location)) {
+                        classes = files.filter(p -> p.toString().endsWith(".class")).sorted().toList();
+                    }
+                    for (Path p : classes) {
+                        md.update(location.relativize(p).toString().getBytes(StandardCharsets.UTF_8));
+                        md.update(Long.toString(Files.size(p)).getBytes(StandardCharsets.UTF_8));
+                        md.update(Long.toString(Files.getLastModifiedTime(p).toMillis()).getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                return HexFormat.of().formatHex(md.digest());
+            } catch (Exception e) {
+                // no code source, e.g. a custom class loader.
+                return null;
+            }
+        }
+    }
+}
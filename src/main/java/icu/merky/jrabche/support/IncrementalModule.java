@@ -0,0 +1,184 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.support;
+
+import icu.merky.jrabche.fe.FunctionFingerprints;
+import icu.merky.jrabche.fe.parser.SylangParser;
+import icu.merky.jrabche.fe.visitor.SylangVisitorImpl;
+import icu.merky.jrabche.llvmir.IRBuilder;
+import icu.merky.jrabche.llvmir.IRWriter;
+import icu.merky.jrabche.llvmir.structures.IRFunction;
+import icu.merky.jrabche.llvmir.structures.IRModule;
+import icu.merky.jrabche.llvmir.values.IRVal;
+import org.antlr.v4.runtime.Token;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-function incremental compilation. Every function definition has a fingerprint (see
+ * {@link FunctionFingerprints}); a function found in the cache under its fingerprint is only
+ * declared, its body is neither generated nor optimized, and its stored text is printed in
+ * place. The other functions are compiled as usual and stored after optimization.
+ * <p>
+ * Use it as the {@link SylangVisitorImpl.BodyFilter} of the visitor, optimize the module,
+ * then {@link #store} and {@link #write}. The output is the same as without it.
+ */
+public class IncrementalModule implements SylangVisitorImpl.BodyFilter {
+    private static final String FORMAT = "jrabche-function-1";
+
+    static final Statistic NumReused = Statistic.of("incremental", "reused", "Function bodies taken from the cache");
+    static final Statistic NumCompiled = Statistic.of("incremental", "compiled", "Function bodies generated and optimized");
+
+    /**
+     * A function taken from the cache, with the globals made of its local consts. The indices are
+     * where they go among the globals and functions of the module.
+     */
+    private record Reused(int globalIndex, int functionIndex, List<String> globals, String text) {
+    }
+
+    private final CompileCache cache;
+    private final IRBuilder builder;
+    private final Map<String, String> keys;
+    private final List<Reused> reused = new ArrayList<>();
+
+    /**
+     * @param tokens  the tokens of {@code unit}
+     * @param options the options the IR depends on, e.g. "-O1"
+     */
+    public IncrementalModule(CompileCache cache, IRBuilder builder, SylangParser.CompUnitContext unit,
+                             List<Token> tokens, String options) {
+        this.cache = cache;
+        this.builder = builder;
+        try (var t = TimeReport.start("Front end", "Function fingerprints")) {
+            this.keys = FunctionFingerprints.of(unit, tokens, CompileCache.salt(FORMAT, options));
+        }
+    }
+
+    @Override
+    public boolean visitBody(SylangParser.FuncDefContext ctx) {
+        try {
+            byte[] entry = cache.get(keys.get(ctx.Ident().getText()));
+            if (entry != null) {
+                var in = new DataInputStream(new ByteArrayInputStream(entry));
+                List<String> globals = new ArrayList<>();
+                for (int n = in.readInt(); n > 0; n--) {
+                    globals.add(readString(in));
+                }
+                reused.add(new Reused(builder.getGlobals().size(), builder.getFunctions().size(), globals, readString(in)));
+                NumReused.inc();
+                return false;
+            }
+        } catch (IOException e) {
+            // unreadable entry, compile the function again.
+        }
+        NumCompiled.inc();
+        return true;
+    }
+
+    /**
+     * Store the (optimized) functions of {@code M}.
+     */
+    public void store(IRModule M) {
+        for (IRFunction F : M.allFunctions()) {
+            // local consts of F are the globals named @const.F.*
+            String prefix = "const." + F.getName() + ".";
+            List<String> globals = new ArrayList<>();
+            for (Map.Entry<String, IRVal> entry : M.getGlobals().entrySet()) {
+                if (entry.getKey().startsWith(prefix)) {
+                    StringBuilder sb = new StringBuilder();
+                    new IRWriter(sb).global(entry.getKey(), entry.getValue());
+                    globals.add(sb.toString());
+                }
+            }
+            StringBuilder sb = new StringBuilder();
+            new IRWriter(sb).function(F);
+            var bytes = new ByteArrayOutputStream();
+            try (var out = new DataOutputStream(bytes)) {
+                out.writeInt(globals.size());
+                for (String g : globals) {
+                    writeString(out, g);
+                }
+                writeString(out, sb.toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            cache.put(keys.get(F.getName()), bytes.toByteArray());
+        }
+    }
+
+    /**
+     * Print {@code M} with the reused functions and their globals where a full compilation
+     * would have put them.
+     */
+    public void write(IRWriter w, IRModule M) {
+        w.declarations(M);
+        int i = 0;
+        int r = 0;
+        for (Map.Entry<String, IRVal> entry : M.getGlobals().entrySet()) {
+            for (; r < reused.size() && reused.get(r).globalIndex() == i; r++) {
+                reused.get(r).globals().forEach(w::append);
+            }
+            w.global(entry.getKey(), entry.getValue());
+            i++;
+        }
+        for (; r < reused.size(); r++) {
+            reused.get(r).globals().forEach(w::append);
+        }
+        i = 0;
+        r = 0;
+        for (IRFunction F : M.allFunctions()) {
+            for (; r < reused.size() && reused.get(r).functionIndex() == i; r++) {
+                w.append(reused.get(r).text());
+            }
+            w.function(F);
+            i++;
+        }
+        for (; r < reused.size(); r++) {
+            w.append(reused.get(r).text());
+        }
+    }
+
+    // writeUTF is limited to 64K, function texts are not.
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.support;
+
+import java.util.AbstractSequentialList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A doubly-linked list whose links live in the elements themselves.
+ * <p>
+ * Every element belongs to at most one list, so insertion next to a known element, removal and
+ * {@link #contains(Object)} are O(1). Adding an element that is already in a list moves it.
+ * <p>
+ * Iterators find their place again from the element they returned last, so any other element
+ * may be removed, moved or inserted while iterating. The current element may be removed too:
+ * removed elements keep their forward link until they are added again, and the iterator goes on
+ * with the first element on that chain still in this list. If the current element is moved to
+ * another list, the iterator goes on with the element that followed it when it was returned, and
+ * throws {@link ConcurrentModificationException} should that one have been moved away as well.
+ * Elements that were removed around a removed current element and added back to this list at
+ * another place are not detected.
+ */
+public class IntrusiveList<T extends IntrusiveList.Node<T>> extends AbstractSequentialList<T> {
+    private T head, tail;
+    private int size;
+
+    public interface Node<T extends Node<T>> {
+        Link<T> link();
+    }
+
+    /**
+     * The links embedded in an element. An element owns exactly one of these.
+     */
+    public static final class Link<T extends Node<T>> {
+        private T prev, next;
+        private IntrusiveList<T> list;
+
+        public T getPrev() {
+            return prev;
+        }
+
+        public T getNext() {
+            return list == null ? null : next;
+        }
+
+        public IntrusiveList<T> getList() {
+            return list;
+        }
+    }
+
+    /**
+     * Called after {@code e} is linked into this list.
+     */
+    protected void onAdded(T e) {
+    }
+
+    /**
+     * Called after {@code e} is unlinked from this list.
+     */
+    protected void onRemoved(T e) {
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public T getFirst() {
+        if (head == null) throw new NoSuchElementException();
+        return head;
+    }
+
+    public T getLast() {
+        if (tail == null) throw new NoSuchElementException();
+        return tail;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Node<?> n && n.link().list == this;
+    }
+
+    @Override
+    public boolean add(T e) {
+        linkBefore(e, null);
+        return true;
+    }
+
+    public void addFirst(T e) {
+        linkBefore(e, head);
+    }
+
+    public void addLast(T e) {
+        linkBefore(e, null);
+    }
+
+    /**
+     * Insert {@code e} right before {@code pos}, which must be in this list.
+     */
+    public void insertBefore(T pos, T e) {
+        checkOwned(pos);
+        linkBefore(e, pos);
+    }
+
+    /**
+     * Insert {@code e} right after {@code pos}, which must be in this list.
+     */
+    public void insertAfter(T pos, T e) {
+        checkOwned(pos);
+        linkBefore(e, pos.link().next);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!contains(o)) return false;
+        @SuppressWarnings("unchecked") T e = (T) o;
+        unlink(e);
+        return true;
+    }
+
+    public T removeFirst() {
+        T e = getFirst();
+        unlink(e);
+        return e;
+    }
+
+    public T removeLast() {
+        T e = getLast();
+        unlink(e);
+        return e;
+    }
+
+    @Override
+    public void clear() {
+        while (head != null) unlink(head);
+    }
+
+    @Override
+    public void sort(Comparator<? super T> c) {
+        @SuppressWarnings("unchecked") T[] a = (T[]) toArray(new Node[0]);
+        Arrays.sort(a, c);
+        clear();
+        for (T e : a) add(e);
+    }
+
+    @Override
+    public T get(int index) {
+        if (index == size - 1 && index >= 0) return tail;
+        return super.get(index);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException(index);
+        return new Itr(index);
+    }
+
+    private void checkOwned(T pos) {
+        if (pos.link().list != this) throw new RuntimeException("Position is not in this list");
+    }
+
+    /**
+     * Link {@code e} before {@code succ}, or at the end when {@code succ} is null.
+     */
+    private void linkBefore(T e, T succ) {
+        if (e == succ) return;
+        var l = e.link();
+        if (l.list != null) l.list.unlink(e);
+        T pred = succ == null ? tail : succ.link().prev;
+        l.prev = pred;
+        l.next = succ;
+        l.list = this;
+        if (pred == null) head = e;
+        else pred.link().next = e;
+        if (succ == null) tail = e;
+        else succ.link().prev = e;
+        size++;
+        modCount++;
+        onAdded(e);
+    }
+
+    private void unlink(T e) {
+        var l = e.link();
+        if (l.prev == null) head = l.next;
+        else l.prev.link().next = l.next;
+        if (l.next == null) tail = l.prev;
+        else l.next.link().prev = l.prev;
+        // keep l.next, iterators standing on e still find the way back.
+        l.prev = null;
+        l.list = null;
+        size--;
+        modCount++;
+        onRemoved(e);
+    }
+
+    private class Itr implements ListIterator<T> {
+        // the iterator stands right after anchor, or right before it when !anchorBefore
+        private T anchor;
+        private boolean anchorBefore;
+        // the element after the iterator, as of the last move
+        private T next;
+        private T lastReturned;
+        private int nextIndex;
+
+        Itr(int index) {
+            nextIndex = index;
+            if (index == size) {
+                next = null;
+            } else {
+                next = head;
+                for (int i = 0; i < index; i++) next = next.link().next;
+            }
+            anchorAt(next);
+        }
+
+        private void anchorAt(T next) {
+            anchorBefore = next == null;
+            anchor = anchorBefore ? tail : next;
+        }
+
+        /**
+         * Bring {@code next} up to date with the changes made to the list since the last move.
+         */
+        private void resolve() {
+            if (anchor != null) {
+                var l = anchor.link();
+                if (l.list == IntrusiveList.this) {
+                    next = anchorBefore ? l.next : anchor;
+                    return;
+                }
+                // a removed anchor still knows its successor, a moved one only knows the other list
+                if (l.list == null) next = l.next;
+            }
+            while (next != null && next.link().list != IntrusiveList.this) {
+                if (next.link().list != null)
+                    throw new ConcurrentModificationException("The next element was moved to another list");
+                next = next.link().next;
+            }
+            anchorAt(next);
+        }
+
+        @Override
+        public boolean hasNext() {
+            resolve();
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            resolve();
+            if (next == null) throw new NoSuchElementException();
+            lastReturned = anchor = next;
+            anchorBefore = true;
+            next = next.link().next;
+            nextIndex++;
+            return lastReturned;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            resolve();
+            return (next == null ? tail : next.link().prev) != null;
+        }
+
+        @Override
+        public T previous() {
+            resolve();
+            T prev = next == null ? tail : next.link().prev;
+            if (prev == null) throw new NoSuchElementException();
+            next = lastReturned = anchor = prev;
+            anchorBefore = false;
+            nextIndex--;
+            return prev;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null || lastReturned.link().list != IntrusiveList.this)
+                throw new IllegalStateException();
+            resolve();
+            if (lastReturned == next) next = next.link().next;
+            else nextIndex--;
+            unlink(lastReturned);
+            anchorAt(next);
+            lastReturned = null;
+        }
+
+        /**
+         * Replace the last returned element with {@code e}, which must not be in a list.
+         */
+        @Override
+        public void set(T e) {
+            if (lastReturned == null || lastReturned.link().list != IntrusiveList.this)
+                throw new IllegalStateException();
+            if (e == lastReturned) return;
+            if (e.link().list != null) throw new UnsupportedOperationException("Element is already in a list");
+            T succ = lastReturned.link().next;
+            unlink(lastReturned);
+            linkBefore(e, succ);
+            if (next == lastReturned) next = e;
+            if (anchor == lastReturned) anchor = e;
+            lastReturned = e;
+        }
+
+        @Override
+        public void add(T e) {
+            resolve();
+            linkBefore(e, next);
+            anchor = e;
+            anchorBefore = true;
+            nextIndex++;
+            lastReturned = null;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.support;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A named counter, shown by {@code -stats}. Passes keep them in static fields:
+ * <pre>
+ * static final Statistic NumDeleted = Statistic.of("dce", "deleted", "Instructions deleted");
+ * ...
+ * NumDeleted.inc();
+ * </pre>
+ * Counting is a {@link LongAdder} increment, cheap enough to be always on, also from parallel
+ * passes.
+ */
+public final class Statistic {
+    private static final Map<String, Statistic> registry = new ConcurrentHashMap<>();
+
+    private final String group;
+    private final String name;
+    private final String description;
+    private final LongAdder value = new LongAdder();
+
+    private Statistic(String group, String name, String description) {
+        this.group = group;
+        this.name = name;
+        this.description = description;
+    }
+
+    /**
+     * @return the counter {@code group.name}, created on first use.
+     */
+    public static Statistic of(String group, String name, String description) {
+        return registry.computeIfAbsent(group + "." + name, k -> new Statistic(group, name, description));
+    }
+
+    public void inc() {
+        value.increment();
+    }
+
+    public void add(long n) {
+        value.add(n);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return all counters, sorted by group and name.
+     */
+    public static List<Statistic> all() {
+        List<Statistic> list = new ArrayList<>(registry.values());
+        list.sort(Comparator.comparing(Statistic::getGroup).thenComparing(Statistic::getName));
+        return list;
+    }
+
+    public static void resetAll() {
+        registry.values().forEach(s -> s.value.reset());
+    }
+
+    /**
+     * Print the non-zero counters, like {@code llc -stats}.
+     */
+    public static void print(PrintStream out) {
+        out.println("===-------------------------------------------------------------------------===");
+        out.println("                          ... Statistics Collected ...");
+        out.println("===-------------------------------------------------------------------------===");
+        out.println();
+        for (Statistic s : all()) {
+            if (s.get() == 0) continue;
+            out.printf("%10d %-10s - %s%n", s.get(), s.group, s.description);
+        }
+        out.println();
+    }
+}
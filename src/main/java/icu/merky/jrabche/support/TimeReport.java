@@ -0,0 +1,207 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.support;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wall time, CPU time and allocated bytes of the compiler phases, shown by {@code -ftime-report}.
+ * <pre>
+ * try (var t = TimeReport.start("Front end", "Parsing")) {
+ *     ...
+ * }
+ * </pre>
+ * CPU time and allocation are those of the calling thread. A phase that runs on several threads
+ * at once, e.g. a function pass with {@code --opt-threads}, adds up the time of all of them.
+ * Child processes are recorded with {@link #add}.
+ * When the report is off, {@link #start} returns a shared timer that does nothing.
+ */
+public final class TimeReport {
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean sunThreads =
+            threads instanceof com.sun.management.ThreadMXBean t ? t : null;
+    private static final Timer NONE = new Timer(null, null);
+
+    private static volatile boolean enabled = false;
+    // group -> name -> entry, in the order they first ran.
+    private static final Map<String, Map<String, Entry>> entries = new LinkedHashMap<>();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        TimeReport.enabled = enabled;
+    }
+
+    public static Timer start(String group, String name) {
+        return enabled ? new Timer(group, name) : NONE;
+    }
+
+    /**
+     * Record one run measured elsewhere, e.g. a child process, which allocates nothing on our heap.
+     */
+    public static void add(String group, String name, long wallNs, long cpuNs) {
+        if (enabled) record(group, name, wallNs, cpuNs, 0);
+    }
+
+    public static synchronized void reset() {
+        entries.clear();
+    }
+
+    private static synchronized void record(String group, String name, long wall, long cpu, long bytes) {
+        entries.computeIfAbsent(group, k -> new LinkedHashMap<>())
+                .computeIfAbsent(name, Entry::new)
+                .add(wall, cpu, bytes);
+    }
+
+    private static long cpuTime() {
+        return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long allocatedBytes() {
+        return sunThreads != null && sunThreads.isThreadAllocatedMemorySupported()
+                ? sunThreads.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    public static synchronized void print(PrintStream out) {
+        out.println("===-------------------------------------------------------------------------===");
+        out.println("                      ... Jrabche time report ...");
+        out.println("===-------------------------------------------------------------------------===");
+        for (var group : entries.entrySet()) {
+            long wall = 0, cpu = 0, bytes = 0;
+            out.println();
+            out.println("  " + group.getKey());
+            out.printf("  %10s %10s %12s %8s  %s%n", "Wall(ms)", "CPU(ms)", "Alloc(KiB)", "Count", "Name");
+            for (Entry e : group.getValue().values()) {
+                out.printf("  %10.3f %10.3f %12d %8d  %s%n", e.wall / 1e6, e.cpu / 1e6, e.bytes / 1024, e.count, e.name);
+                wall += e.wall;
+                cpu += e.cpu;
+                bytes += e.bytes;
+            }
+            out.printf("  %10.3f %10.3f %12d %8s  %s%n", wall / 1e6, cpu / 1e6, bytes / 1024, "", "Total");
+        }
+        out.println();
+    }
+
+    /**
+     * The report and the non-zero {@link Statistic}s as one JSON object:
+     * <pre>
+     * {"timers": [{"group": .., "name": .., "count": .., "wallNs": .., "cpuNs": .., "allocBytes": ..}],
+     *  "stats": [{"group": .., "name": .., "description": .., "value": ..}]}
+     * </pre>
+     */
+    public static synchronized String toJson() {
+        StringBuilder sb = new StringBuilder("{\"timers\": [");
+        List<String> items = new ArrayList<>();
+        for (var group : entries.entrySet()) {
+            for (Entry e : group.getValue().values()) {
+                items.add(String.format("{\"group\": %s, \"name\": %s, \"count\": %d, \"wallNs\": %d, \"cpuNs\": %d, \"allocBytes\": %d}",
+                        quote(group.getKey()), quote(e.name), e.count, e.wall, e.cpu, e.bytes));
+            }
+        }
+        sb.append(String.join(",\n  ", items)).append("],\n \"stats\": [");
+        items.clear();
+        for (Statistic s : Statistic.all()) {
+            if (s.get() == 0) continue;
+            items.add(String.format("{\"group\": %s, \"name\": %s, \"description\": %s, \"value\": %d}",
+                    quote(s.getGroup()), quote(s.getName()), quote(s.getDescription()), s.get()));
+        }
+        sb.append(String.join(",\n  ", items)).append("]");
+        return sb.append("}\n").toString();
+    }
+
+    private static String quote(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : s.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                default -> {
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static class Entry {
+        final String name;
+        long count, wall, cpu, bytes;
+
+        Entry(String name) {
+            this.name = name;
+        }
+
+        void add(long wall, long cpu, long bytes) {
+            this.count++;
+            this.wall += wall;
+            this.cpu += cpu;
+            this.bytes += bytes;
+        }
+    }
+
+    public static final class Timer implements AutoCloseable {
+        private final String group;
+        private final String name;
+        private final long wall0, cpu0, bytes0;
+
+        private Timer(String group, String name) {
+            this.group = group;
+            this.name = name;
+            if (group == null) {
+                wall0 = cpu0 = bytes0 = 0;
+                return;
+            }
+            bytes0 = allocatedBytes();
+            cpu0 = cpuTime();
+            wall0 = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (group == null) return;
+            long wall = System.nanoTime() - wall0;
+            long cpu = cpuTime() - cpu0;
+            long bytes = allocatedBytes() - bytes0;
+            record(group, name, wall, cpu, bytes);
+        }
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates valid SysY programs of any size, for compile-time benchmarks and for stress testing
+ * the optimizer. The same options and seed always give the same program.
+ * <p>
+ * The programs also terminate: loops count up to small constants, array indices stay in range,
+ * divisors are non-zero constants, and every function takes a depth {@code d} that its calls
+ * decrement and that stops the recursion-free call graph from blowing up.
+ * <pre>
+ * java -cp Compiler.jar icu.merky.jrabche.utils.SysYGenerator --functions 1000 --seed 7 -o big.sy
+ * </pre>
+ */
+public class SysYGenerator {
+    public static class Options {
+        public int functions = 10;
+        // basic blocks per function, roughly.
+        public int blocks = 20;
+        public int loopDepth = 2;
+        // int locals per function, a quarter more float ones.
+        public int locals = 8;
+        public int ifChain = 3;
+        public int arrayDims = 2;
+        // elements given in each array initializer.
+        public int initSize = 6;
+        // chance that a function calls each of the functions defined before it.
+        public double callDensity = 0.1;
+        public long seed = 1;
+
+        public void isValid() {
+            if (functions < 0 || blocks < 1 || loopDepth < 0 || locals < 1 || ifChain < 1
+                    || arrayDims < 1 || initSize < 0 || callDensity < 0 || callDensity > 1) {
+                throw new RuntimeException("Invalid generator options.");
+            }
+        }
+    }
+
+    private final Options o;
+    private final Random random;
+    private StringBuilder sb;
+    private int indent;
+    private int[] globalDims;
+    private int[] localDims;
+    // loops around the current statement.
+    private int loopLevel;
+    private int blockCount;
+
+    public SysYGenerator(Options options) {
+        options.isValid();
+        this.o = options;
+        this.random = new Random(options.seed);
+    }
+
+    public static String generate(Options options) {
+        return new SysYGenerator(options).generate();
+    }
+
+    public String generate() {
+        sb = new StringBuilder();
+        globalDims = dims();
+        line("const int K = %d;", 2 + random.nextInt(4));
+        line("int g0 = %d, g1;", random.nextInt(100));
+        line("int ga%s = %s;", dimsText(globalDims), initializer(globalDims, false));
+        line("float gf%s = %s;", dimsText(globalDims), initializer(globalDims, true));
+        for (int i = 0; i < o.functions; i++) {
+            function(i);
+        }
+        line("int main() {");
+        indent++;
+        line("int r = 0;");
+        // the last functions are the roots of the call graph.
+        for (int i = Math.max(0, o.functions - 4); i < o.functions; i++) {
+            line("r = r + f%d(3, getint(), %d);", i, random.nextInt(10));
+        }
+        line("putint(r);");
+        line("putch(10);");
+        line("putfloat(gf%s);", zeroIndex(globalDims));
+        line("putch(10);");
+        line("return 0;");
+        indent--;
+        line("}");
+        return sb.toString();
+    }
+
+    private void function(int n) {
+        localDims = dims();
+        line("int f%d(int d, int x, int y) {", n);
+        indent++;
+        for (int i = 0; i < o.locals; i++) {
+            line("int v%d = %d;", i, random.nextInt(20));
+        }
+        for (int i = 0; i < (o.locals + 3) / 4; i++) {
+            line("float fl%d = %d.%d;", i, random.nextInt(10), random.nextInt(10));
+        }
+        for (int i = 0; i < o.loopDepth; i++) {
+            line("int i%d = 0;", i);
+        }
+        line("int la%s = %s;", dimsText(localDims), initializer(localDims, false));
+        line("if (d <= 0) return x + y;");
+        blockCount = 3;
+        for (int j = 0; j < n; j++) {
+            if (random.nextDouble() < o.callDensity) {
+                line("v%d = v%d + f%d(d - 1, %s, %s);", local(), local(), j, expr(1), expr(1));
+            }
+        }
+        // the first loop nests as deep as allowed, the other statements are random.
+        if (o.loopDepth > 0) {
+            loop(o.loopDepth);
+        }
+        while (blockCount < o.blocks) {
+            switch (random.nextInt(4)) {
+                case 0 -> ifChain();
+                case 1 -> {
+                    if (o.loopDepth > 0) loop(1 + random.nextInt(o.loopDepth));
+                    else ifChain();
+                }
+                default -> simple();
+            }
+        }
+        line("return %s;", expr(2));
+        indent--;
+        line("}");
+    }
+
+    private void loop(int depth) {
+        int i = loopLevel;
+        line("i%d = 0;", i);
+        line("while (i%d < K + %d) {", i, random.nextInt(3));
+        indent++;
+        loopLevel++;
+        blockCount += 3;
+        simple();
+        if (depth > 1) {
+            loop(depth - 1);
+        } else if (random.nextBoolean()) {
+            ifChain();
+        }
+        simple();
+        line("i%d = i%d + 1;", i, i);
+        loopLevel--;
+        indent--;
+        line("}");
+    }
+
+    private void ifChain() {
+        for (int k = 0; k < o.ifChain; k++) {
+            if (k == 0) line("if (%s) {", cond());
+            else line("} else if (%s) {", cond());
+            indent++;
+            simple();
+            indent--;
+            blockCount += 2;
+        }
+        line("} else {");
+        indent++;
+        simple();
+        indent--;
+        line("}");
+        blockCount += 2;
+    }
+
+    private void simple() {
+        switch (random.nextInt(5)) {
+            case 0 -> line("la%s = %s;", index(localDims), expr(2));
+            case 1 -> line("fl%d = fl%d * 0.5 + %s;", floatLocal(), floatLocal(), expr(1));
+            case 2 -> line("g1 = g1 + %s;", expr(1));
+            default -> line("v%d = %s;", local(), expr(2));
+        }
+    }
+
+    private String cond() {
+        String c = expr(1) + (random.nextBoolean() ? " < " : " != ") + expr(1);
+        return switch (random.nextInt(4)) {
+            case 0 -> c + " && " + expr(1) + " > " + random.nextInt(10);
+            // relational operators are not allowed inside parentheses, only around them.
+            case 1 -> "!" + expr(0) + " || " + c + " == " + random.nextInt(2);
+            default -> c;
+        };
+    }
+
+    private String expr(int depth) {
+        if (depth == 0 || random.nextInt(3) == 0) {
+            return switch (random.nextInt(7)) {
+                case 0 -> String.valueOf(random.nextInt(100));
+                case 1 -> random.nextBoolean() ? "x" : "y";
+                case 2 -> "la" + index(localDims);
+                case 3 -> "ga" + index(globalDims);
+                case 4 -> loopLevel > 0 ? "i" + random.nextInt(loopLevel) : "g0";
+                default -> "v" + local();
+            };
+        }
+        return switch (random.nextInt(6)) {
+            case 0 -> expr(depth - 1) + " - " + expr(depth - 1);
+            case 1 -> expr(depth - 1) + " * " + expr(depth - 1);
+            case 2 -> "(" + expr(depth - 1) + ") / " + (1 + random.nextInt(9));
+            case 3 -> "(" + expr(depth - 1) + ") % " + (1 + random.nextInt(9));
+            default -> expr(depth - 1) + " + " + expr(depth - 1);
+        };
+    }
+
+    /**
+     * @return an index into an array of {@code dims}, in range: loop counters are below K + 2,
+     * which may be larger than a dimension, so they are taken modulo it.
+     */
+    private String index(int[] dims) {
+        StringBuilder s = new StringBuilder();
+        for (int dim : dims) {
+            s.append('[');
+            if (loopLevel > 0 && random.nextBoolean()) {
+                s.append('i').append(random.nextInt(loopLevel)).append(" % ").append(dim);
+            } else {
+                s.append(random.nextInt(dim));
+            }
+            s.append(']');
+        }
+        return s.toString();
+    }
+
+    private String zeroIndex(int[] dims) {
+        return "[0]".repeat(dims.length);
+    }
+
+    private int local() {
+        return random.nextInt(o.locals);
+    }
+
+    private int floatLocal() {
+        return random.nextInt((o.locals + 3) / 4);
+    }
+
+    private int[] dims() {
+        int[] dims = new int[o.arrayDims];
+        for (int i = 0; i < dims.length; i++) {
+            dims[i] = 2 + random.nextInt(4);
+        }
+        return dims;
+    }
+
+    private static String dimsText(int[] dims) {
+        StringBuilder s = new StringBuilder();
+        for (int dim : dims) {
+            s.append('[').append(dim).append(']');
+        }
+        return s.toString();
+    }
+
+    /**
+     * A flat initializer of {@code initSize} elements at most, SysY fills the array in order.
+     */
+    private String initializer(int[] dims, boolean isFloat) {
+        int total = Arrays.stream(dims).reduce(1, (a, b) -> a * b);
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < Math.min(o.initSize, total); i++) {
+            elements.add(isFloat ? random.nextInt(10) + "." + random.nextInt(10) : String.valueOf(random.nextInt(100)));
+        }
+        return "{" + String.join(", ", elements) + "}";
+    }
+
+    private void line(String format, Object... args) {
+        sb.append("    ".repeat(indent)).append(String.format(format, args)).append('\n');
+    }
+
+    static void usage() {
+        System.out.println("""
+                Usage: java -cp Compiler.jar icu.merky.jrabche.utils.SysYGenerator [options]
+                 while options are:
+                --functions [n]: Number of functions (default 10)
+                --blocks [n]: Basic blocks per function, roughly (default 20)
+                --loop-depth [n]: Deepest loop nesting (default 2)
+                --locals [n]: Int locals per function (default 8)
+                --if-chain [n]: Conditions in an if / else if chain (default 3)
+                --array-dims [n]: Dimensions of the arrays (default 2)
+                --init-size [n]: Elements in each array initializer (default 6)
+                --call-density [p]: Chance to call each earlier function (default 0.1)
+                --seed [n]: Random seed (default 1)
+                -o [output]: Output file (default: stdout)""");
+    }
+
+    public static void main(String[] args) {
+        Options o = new Options();
+        String output = null;
+        var iter = Arrays.asList(args).iterator();
+        try {
+            while (iter.hasNext()) {
+                String arg = iter.next();
+                switch (arg) {
+                    case "--functions" -> o.functions = Integer.parseInt(iter.next());
+                    case "--blocks" -> o.blocks = Integer.parseInt(iter.next());
+                    case "--loop-depth" -> o.loopDepth = Integer.parseInt(iter.next());
+                    case "--locals" -> o.locals = Integer.parseInt(iter.next());
+                    case "--if-chain" -> o.ifChain = Integer.parseInt(iter.next());
+                    case "--array-dims" -> o.arrayDims = Integer.parseInt(iter.next());
+                    case "--init-size" -> o.initSize = Integer.parseInt(iter.next());
+                    case "--call-density" -> o.callDensity = Double.parseDouble(iter.next());
+                    case "--seed" -> o.seed = Long.parseLong(iter.next());
+                    case "-o" -> output = iter.next();
+                    case "-h", "--help" -> {
+                        usage();
+                        return;
+                    }
+                    default -> throw new RuntimeException("Unknown option: " + arg);
+                }
+            }
+        } catch (NumberFormatException | java.util.NoSuchElementException e) {
+            throw new RuntimeException("Invalid generator options.", e);
+        }
+        String program = generate(o);
+        if (output == null) {
+            System.out.print(program);
+            return;
+        }
+        try {
+            Files.writeString(Path.of(output), program);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
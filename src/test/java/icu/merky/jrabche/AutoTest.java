@@ -31,16 +31,14 @@
 
 package icu.merky.jrabche;
 
-import icu.merky.jrabche.fe.Preprocessor;
-import icu.merky.jrabche.fe.parser.SylangLexer;
-import icu.merky.jrabche.fe.parser.SylangParser;
+import icu.merky.jrabche.fe.TwoStageParser;
 import icu.merky.jrabche.fe.visitor.SylangVisitorImpl;
 import icu.merky.jrabche.llvmir.IRBuilder;
 import icu.merky.jrabche.llvmir.IRBuilderImpl;
+import icu.merky.jrabche.llvmir.IRWriter;
 import icu.merky.jrabche.llvmir.structures.impl.IRModuleImpl;
 import icu.merky.jrabche.logger.JrabcheLogger;
 import icu.merky.jrabche.opt.llvmir.OptExecutor;
-import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.misc.Utils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -54,6 +52,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static icu.merky.jrabche.fe.visitor.FETestConfig.*;
+import static icu.merky.jrabche.logger.JrabcheLogger.Category.DRIVER;
 import static icu.merky.jrabche.logger.JrabcheLogger.JL;
 
 public class AutoTest {
@@ -85,27 +84,19 @@ public class AutoTest {
         // 编译耗时计时
         var compileStart = System.currentTimeMillis();
         // to ir.
-        char[] inputChars = Utils.readFile(syFile.getAbsolutePath());
-        String inputStr = new String(inputChars);
-        inputStr = Preprocessor.preprocess(inputStr);
-        CharStream input = CharStreams.fromString(inputStr);
-        Lexer lexer = new SylangLexer(input);
-        TokenStream tokens = new CommonTokenStream(lexer);
-        SylangParser parser = new SylangParser(tokens);
         IRBuilder builder = new IRBuilderImpl();
         var visitor = new SylangVisitorImpl(builder);
-        visitor.visit(parser.compUnit());
+        visitor.visit(TwoStageParser.parseCompUnit(syFile.toPath()));
         IRModuleImpl module = (IRModuleImpl) builder.getModule();
         if (enableOpt) {
             new OptExecutor(module).run();
         }
-        String ir = module.toString();
         if (ENABLE_IR_OUTPUT)
             System.out.println(module.toStringNoDecl());
 
         // write to $temp$/test.ll
-        Utils.writeFile(tempFile.getAbsolutePath(), ir);
-        JL.InfoF("%s,%dms\n", syFile.getName(), System.currentTimeMillis() - compileStart);
+        IRWriter.write(module, tempFile.toPath());
+        JL.InfoF(DRIVER, "%s,%dms\n", syFile.getName(), System.currentTimeMillis() - compileStart);
     }
 
     List<File> getAllSyFile() {
@@ -195,7 +186,7 @@ public class AutoTest {
         } else {
             noPattern = "%d";
         }
-        JL.InfoF("Testing %s\n", String.format(noPattern, no));
+        JL.InfoF(DRIVER, "Testing %s\n", String.format(noPattern, no));
         // search %2d*.sy
         var syFiles = getAllSyFile();
         var syFile = syFiles.stream().filter(f -> f.getName().startsWith(String.format(noPattern, no))).findFirst().orElse(null);
@@ -214,7 +205,7 @@ public class AutoTest {
             e.printStackTrace();
             throw new RuntimeException(e);
         } finally {
-            JL.InfoF("Cost %dms\n", System.currentTimeMillis() - start);
+            JL.InfoF(DRIVER, "Cost %dms\n", System.currentTimeMillis() - start);
         }
     }
 
@@ -0,0 +1,109 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.fe;
+
+import icu.merky.jrabche.fe.parser.SylangLexer;
+import icu.merky.jrabche.fe.parser.SylangParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoStageParserTest {
+    static final String PROGRAM = """
+            const int N = 10;
+            int g[N][2] = {{1, 2}, {3}};
+            float f(float x[], int n) {
+                int i = 0; float s = 0.5;
+                while (i < n) { if (!(i % 2) && x[i] > s || i == 3) s = s + x[i]; else s = s - 1; i = i + 1; }
+                return s;
+            }
+            int main() {
+                float a[N];
+                a[0] = getfloat();
+                putfloat(f(a, N));
+                return g[1][0];
+            }
+            """;
+
+    static ParseTree parseLL(String source) {
+        return new SylangParser(new CommonTokenStream(new SylangLexer(CharStreams.fromString(source)))).compUnit();
+    }
+
+    static String tree(ParseTree tree) {
+        return tree.toStringTree(new SylangParser(null));
+    }
+
+    @Test
+    void SameTreeAsLL() {
+        long fallbacks = TwoStageParser.getFallbackCount();
+        assertEquals(tree(parseLL(PROGRAM)), tree(TwoStageParser.parseCompUnit(PROGRAM)));
+        assertEquals(fallbacks, TwoStageParser.getFallbackCount());
+    }
+
+    @Test
+    void SyntaxErrorFallsBackToLL() {
+        String bad = "int main() { int a = ; return a }";
+        long fallbacks = TwoStageParser.getFallbackCount();
+        var ctx = TwoStageParser.parseCompUnit(bad);
+        assertEquals(fallbacks + 1, TwoStageParser.getFallbackCount());
+        // the LL stage recovers exactly like a plain parser.
+        assertEquals(tree(parseLL(bad)), tree(ctx));
+    }
+
+    @Test
+    void TimeCallsRewrittenLikePreprocess() {
+        String program = """
+                int main() {starttime();
+                    int a = 1; /* starttime() */
+                    stoptime(); starttime ();
+                    return a;
+                }
+                """;
+        assertEquals(tree(parseLL(Preprocessor.preprocess(program))), tree(TwoStageParser.parseCompUnit(program)));
+        assertTrue(tree(TwoStageParser.parseCompUnit(program)).contains("_sysy_stoptime"));
+    }
+
+    @Test
+    void MappedFileSameAsString(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("a.sy");
+        Files.writeString(file, PROGRAM + "// 注释\n");
+        assertEquals(tree(TwoStageParser.parseCompUnit(PROGRAM)), tree(TwoStageParser.parseCompUnit(file)));
+    }
+}
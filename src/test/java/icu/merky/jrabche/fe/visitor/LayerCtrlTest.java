@@ -0,0 +1,79 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.fe.visitor;
+
+import icu.merky.jrabche.llvmir.values.IRValConstInt;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayerCtrlTest {
+    @Test
+    void ShadowAndRestore() {
+        var lc = new VisitorContext.LayerCtrl();
+        var g = IRValConstInt.fromInt(0);
+        var a = IRValConstInt.fromInt(1);
+        var b = IRValConstInt.fromInt(2);
+        lc.push("x", g);
+        assertTrue(lc.inGlobal());
+        lc.dive();
+        assertSame(g, lc.query("x"));
+        assertNull(lc.queryCurrent("x"));
+        lc.push("x", a);
+        lc.dive();
+        lc.push("x", b);
+        lc.push("y", b);
+        assertSame(b, lc.query("x"));
+        assertSame(b, lc.queryCurrent("x"));
+        assertSame(g, lc.queryGlobal("x"));
+        assertEquals(2, lc.getLayerIndex());
+        lc.ascend();
+        assertSame(a, lc.query("x"));
+        assertNull(lc.query("y"));
+        lc.ascend();
+        assertSame(g, lc.query("x"));
+        assertNull(lc.queryLocal("x"));
+        assertTrue(lc.inGlobal());
+    }
+
+    @Test
+    void RedefineInSameLayer() {
+        var lc = new VisitorContext.LayerCtrl();
+        lc.dive();
+        lc.push("x", IRValConstInt.fromInt(1));
+        var b = IRValConstInt.fromInt(2);
+        lc.push("x", b);
+        assertSame(b, lc.query("x"));
+        lc.ascend();
+        assertNull(lc.query("x"));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.llvmir;
+
+import icu.merky.jrabche.llvmir.values.IRValConstFloat;
+import icu.merky.jrabche.llvmir.values.IRValConstInt;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static icu.merky.jrabche.fe.visitor.SylangVisitorImplTest.getVisitorContext;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IRWriterTest {
+    @Test
+    void ChannelSameAsString() throws NoSuchFieldException, IllegalAccessException {
+        // big enough to drain the char buffer several times.
+        StringBuilder program = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            program.append("int f").append(i).append("(int a) { int s = 0; while (a > 0) { s = s + a % 7; a = a - 1; } return s; }\n");
+        }
+        program.append("int main() { putint(f0(getint())); return 0; }\n");
+        var builder = new IRBuilderImpl();
+        getVisitorContext(program.toString(), builder);
+        var module = builder.getModule();
+
+        var bytes = new ByteArrayOutputStream();
+        try (var w = new IRWriter(Channels.newChannel(bytes))) {
+            w.module(module);
+        }
+        String expected = module.toString();
+        assertTrue(expected.length() > 1 << 17);
+        assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void MultibyteLargerThanBuffer() {
+        // 3 bytes each, more than the byte buffer when encoded at close.
+        String text = "\u4e2d".repeat(65000);
+        var bytes = new ByteArrayOutputStream();
+        try (var w = new IRWriter(Channels.newChannel(bytes))) {
+            w.append(text);
+        }
+        assertEquals(text.length() * 3, bytes.size());
+        assertEquals(text, bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void ConstantsSameAsValue() {
+        StringBuilder sb = new StringBuilder();
+        var w = new IRWriter(sb);
+        for (float f : new float[]{0f, -0f, 1.5f, -3.25f, 1e-30f, Float.MAX_VALUE}) {
+            var c = IRValConstFloat.fromFloat(f);
+            sb.setLength(0);
+            w.value(c);
+            assertEquals(c.asValue(), sb.toString());
+        }
+        for (int i : new int[]{0, 7, -1, 2147483647, -2147483648}) {
+            var c = IRValConstInt.fromInt(i);
+            sb.setLength(0);
+            w.value(c);
+            assertEquals(c.asValue(), sb.toString());
+        }
+    }
+}
@@ -45,7 +45,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 class IRInstGEPTest {
     @Test
     void TestGEPType1() {
-        IRType ty = new IntType();
+        IRType ty = IntType.get();
         IRInstAlloca alloca = new IRInstAlloca("alloca", ty);
         IRInstGEP gep = new IRInstGEP(alloca, List.of(IRValConstInt.ZeroInt()));
         assertEquals(MakePointer(ty), gep.getType());
@@ -54,7 +54,7 @@ class IRInstGEPTest {
     @Test
     void TestGEPType2() {
         // %2 = alloca [3 x i32]*, align 8
-        IRType ty = new ArrayType(3, new IntType());
+        IRType ty = ArrayType.get(3, IntType.get());
         IRInstAlloca alloca = new IRInstAlloca("alloca", ty);
         IRInstGEP gep = new IRInstGEP(alloca, List.of(IRValConstInt.ZeroInt()));
         assertEquals(MakePointer(ty), gep.getType());
@@ -64,10 +64,10 @@ class IRInstGEPTest {
     void TestGEPType3() {
         // %2 = alloca [3 x i32]*, align 8
         // %3 = getelementptr [3 x i32], [3 x i32]* %2, i64 0, i64 1    ;yields i32*
-        IRType ty = new ArrayType(3, new IntType());
+        IRType ty = ArrayType.get(3, IntType.get());
         IRInstAlloca alloca = new IRInstAlloca("alloca", ty);
         IRInstGEP gep = new IRInstGEP(alloca, List.of(IRValConstInt.ZeroInt(), IRValConstInt.fromInt(1)));
-        assertEquals(MakePointer(new IntType()), gep.getType());
+        assertEquals(MakePointer(IntType.get()), gep.getType());
     }
 
     @Test
@@ -76,13 +76,13 @@ class IRInstGEPTest {
         // %3 = load [3 x i32]*, [3 x i32]** %2, align 8
         // %4 = getelementptr inbounds [3 x i32], [3 x i32]* %3, i64 2
         // %5 = getelementptr inbounds [3 x i32], [3 x i32]* %4, i64 0, i64 1
-        IRType ty = MakePointer(new ArrayType(3, new IntType())); //[3 x i32]*
+        IRType ty = MakePointer(ArrayType.get(3, IntType.get())); //[3 x i32]*
         IRInstAlloca alloca = new IRInstAlloca("%2", ty);
         assertEquals(MakePointer(ty), alloca.getType()); // %2 is [3 x i32]**
         IRInstLoad load = new IRInstLoad(alloca);
         IRInstGEP gep = new IRInstGEP(load, List.of(IRValConstInt.fromInt(2)));
         assertEquals(ty, gep.getType()); // %4 is [3 x i32]*
         gep = new IRInstGEP(gep, List.of(IRValConstInt.ZeroInt(), IRValConstInt.fromInt(1)));
-        assertEquals(MakePointer(new IntType()), gep.getType()); // %5 is i32*
+        assertEquals(MakePointer(IntType.get()), gep.getType()); // %5 is i32*
     }
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.llvmir.inst;
+
+import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
+import icu.merky.jrabche.llvmir.structures.impl.IRBasicBlockImpl;
+import icu.merky.jrabche.llvmir.support.InstUtil;
+import icu.merky.jrabche.llvmir.types.IntType;
+import icu.merky.jrabche.llvmir.values.IRValConstBool;
+import icu.merky.jrabche.llvmir.values.IRValConstInt;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static icu.merky.jrabche.llvmir.inst.IRInstMath.MathOP.Add;
+import static org.junit.jupiter.api.Assertions.*;
+
+class UseTest {
+    @Test
+    void RAUWUpdatesAllUsers() {
+        var alloca = new IRInstAlloca("a", IntType.get());
+        var load = new IRInstLoad(alloca);
+        var add = new IRInstMath(Add, load, load);
+        var store = new IRInstStore(add, alloca);
+        assertEquals(Set.of(add), load.getUsedBy());
+        assertEquals(Set.of(store), add.getUsedBy());
+
+        var load2 = new IRInstLoad(alloca);
+        InstUtil.ReplaceAllUsesWith(load, load2);
+        assertFalse(load.hasUses());
+        assertSame(load2, add.getLhs());
+        assertSame(load2, add.getRhs());
+        assertEquals(Set.of(add), load2.getUsedBy());
+        assertEquals(Set.of(load, load2, store), alloca.getUsedBy());
+    }
+
+    @Test
+    void DropAllReferencesUnlinks() {
+        var alloca = new IRInstAlloca("a", IntType.get());
+        var load = new IRInstLoad(alloca);
+        load.dropAllReferences();
+        assertFalse(alloca.hasUses());
+        assertNull(load.getFrom());
+    }
+
+    @Test
+    void PhiRemoveIncoming() {
+        IRBasicBlock b1 = new IRBasicBlockImpl(), b2 = new IRBasicBlockImpl();
+        var alloca = new IRInstAlloca("a", IntType.get());
+        var l1 = new IRInstLoad(alloca);
+        var l2 = new IRInstLoad(alloca);
+        var phi = new IRInstPhi(IntType.get());
+        phi.addIncoming(l1, b1);
+        phi.addIncoming(l2, b2);
+        assertTrue(phi.removeIncoming(b1));
+        assertFalse(l1.hasUses());
+        assertEquals(1, phi.getNumOperands());
+        assertSame(b2, phi.getIncomingBlock(0));
+        assertEquals(Set.of(phi), l2.getUsedBy());
+    }
+
+    @Test
+    void PhiOrderAndReplaceBlock() {
+        IRBasicBlock b1 = new IRBasicBlockImpl(), b2 = new IRBasicBlockImpl(), b3 = new IRBasicBlockImpl();
+        var c1 = IRValConstInt.fromInt(1);
+        var c2 = IRValConstInt.fromInt(2);
+        var c3 = IRValConstInt.fromInt(3);
+        var phi = new IRInstPhi(IntType.get());
+        phi.addIncoming(c3, b3);
+        phi.addIncoming(c1, b1);
+        phi.addIncoming(c2, b2);
+        phi.orderBy(List.of(b1, b2, b1, b3));
+        assertSame(c1, phi.getIncomingValue(0));
+        assertSame(c2, phi.getIncomingValue(1));
+        assertSame(c3, phi.getIncomingValue(2));
+        assertSame(b3, phi.getIncomingBlock(2));
+
+        var b4 = new IRBasicBlockImpl();
+        assertTrue(phi.replaceBlock(b2, b4));
+        assertEquals(1, phi.getBlockIndex(b4));
+        assertEquals(-1, phi.getBlockIndex(b2));
+        // merging into an existing entry keeps the moved value
+        assertTrue(phi.replaceBlock(b1, b3));
+        assertEquals(2, phi.getNumIncoming());
+        assertSame(c1, phi.getIncomingValue(phi.getBlockIndex(b3)));
+    }
+
+    @Test
+    void PhiIndexWithManyPreds() {
+        List<IRBasicBlock> preds = new ArrayList<>();
+        var phi = new IRInstPhi(IntType.get());
+        for (int i = 0; i < 20; i++) {
+            preds.add(new IRBasicBlockImpl());
+            // added in reverse pred order
+            phi.addIncoming(IRValConstInt.fromInt(i), preds.get(i));
+        }
+        Collections.reverse(preds);
+        phi.orderBy(preds);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, phi.getBlockIndex(preds.get(i)));
+        }
+
+        var b = new IRBasicBlockImpl();
+        assertTrue(phi.replaceBlock(preds.get(3), b));
+        assertEquals(3, phi.getBlockIndex(b));
+        assertEquals(-1, phi.getBlockIndex(preds.get(3)));
+
+        // drop the even entries
+        BitSet keep = new BitSet();
+        for (int i = 1; i < 20; i += 2) keep.set(i);
+        phi.retainIncoming(keep);
+        assertEquals(10, phi.getNumIncoming());
+        assertEquals(1, phi.getBlockIndex(b));
+        assertEquals(-1, phi.getBlockIndex(preds.get(2)));
+        assertEquals(9, phi.getBlockIndex(preds.get(19)));
+        phi.addIncoming(IRValConstInt.fromInt(7), preds.get(2));
+        assertEquals(10, phi.getBlockIndex(preds.get(2)));
+    }
+
+    @Test
+    void BrFoldsConstantCond() {
+        IRBasicBlock t = new IRBasicBlockImpl(), f = new IRBasicBlockImpl();
+        var cmp = new IRInstIcmp(IRInstIcmp.IcmpOp.EQ, IRValConstInt.ZeroInt(), IRValConstInt.fromInt(1));
+        var br = new IRInstBr(cmp, t, f);
+        InstUtil.ReplaceAllUsesWith(cmp, IRValConstBool.fromBool(0));
+        assertFalse(cmp.hasUses());
+        assertNull(br.getCond());
+        assertSame(f, br.getTrueBB());
+        assertEquals(0, br.getNumOperands());
+    }
+}
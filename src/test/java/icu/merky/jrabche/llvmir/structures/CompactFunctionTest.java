@@ -0,0 +1,191 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.llvmir.structures;
+
+import icu.merky.jrabche.llvmir.IRBuilderImpl;
+import icu.merky.jrabche.llvmir.inst.IRInst.InstID;
+import icu.merky.jrabche.llvmir.structures.impl.IRModuleImpl;
+import icu.merky.jrabche.opt.llvmir.OptExecutor;
+import icu.merky.jrabche.utils.SysYGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static icu.merky.jrabche.fe.visitor.SylangVisitorImplTest.getVisitorContext;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactFunctionTest {
+    static final String PROGRAM = """
+            float h[3] = {1.5, 2.5};
+            float mix(float x, int n) {
+                int a[2][3] = {{1}, {2, 3}};
+                float s = 0;
+                int i = 0;
+                while (i < n) {
+                    if (x > h[i % 3] || !i) s = s + x * a[i % 2][i % 3]; else s = s - 1;
+                    i = i + 1;
+                }
+                return s;
+            }
+            int main() {
+                int n = getint();
+                float t = mix(n, 4);
+                putfloat(t);
+                return t;
+            }
+            """;
+
+    static IRModule optimize(String program) throws NoSuchFieldException, IllegalAccessException {
+        var builder = new IRBuilderImpl();
+        getVisitorContext(program, builder);
+        var module = builder.getModule();
+        new OptExecutor(module).run();
+        return module;
+    }
+
+    /**
+     * Number the names like {@link CompactFunction#decode()} does.
+     */
+    static void rename(IRFunction F) {
+        int count = 0;
+        for (var fp : F.getFp().values()) {
+            fp.setName(String.valueOf(count++));
+        }
+        for (var bb : F.getBlocks()) {
+            bb.setName(String.valueOf(count++));
+            for (var inst : bb.getInsts()) {
+                if (inst.needName()) inst.setName(String.valueOf(count++));
+            }
+        }
+    }
+
+    static void assertRoundTrip(IRModule module) {
+        for (IRFunction F : module.getFunctions().values()) {
+            rename(F);
+            var compact = CompactFunction.encode(F);
+            assertEquals(F.toString(), compact.toString(), F.getName());
+            // decoding gives the same names again, so encoding it again is the same.
+            assertEquals(F.toString(), CompactFunction.encode(compact.decode()).toString(), F.getName());
+        }
+    }
+
+    @Test
+    void RoundTrip() throws NoSuchFieldException, IllegalAccessException {
+        assertRoundTrip(optimize(PROGRAM));
+    }
+
+    @Test
+    void RoundTripGenerated() throws NoSuchFieldException, IllegalAccessException {
+        for (long seed = 1; seed <= 3; seed++) {
+            var options = new SysYGenerator.Options();
+            options.seed = seed;
+            options.functions = 10;
+            assertRoundTrip(optimize(SysYGenerator.generate(options)));
+        }
+    }
+
+    @Test
+    void ReadArrays() throws NoSuchFieldException, IllegalAccessException {
+        var F = optimize(PROGRAM).getFunctions().get("mix");
+        var compact = CompactFunction.encode(F);
+        int i = 0, phis = 0;
+        for (var bb : F.getBlocks()) {
+            for (var inst : bb.getInsts()) {
+                assertEquals(inst.getInstID(), compact.getInstID(i));
+                assertSame(inst.getType(), compact.getType(i));
+                if (inst.getInstID() == InstID.PhiInst) {
+                    phis++;
+                    assertEquals(CompactFunction.TAG_BLOCK, CompactFunction.tagOf(compact.getOperand(i, 1)));
+                }
+                i++;
+            }
+        }
+        assertEquals(i, compact.getNumInsts());
+        assertEquals(F.getBlocks().size(), compact.getNumBlocks());
+        assertTrue(phis > 0);
+        assertTrue(compact.sizeInBytes() < 40L * compact.getNumInsts());
+    }
+
+    @Test
+    void ModuleCompact() throws NoSuchFieldException, IllegalAccessException {
+        var options = new SysYGenerator.Options();
+        options.functions = 6;
+        var module = (IRModuleImpl) optimize(SysYGenerator.generate(options));
+        module.getFunctions().values().forEach(CompactFunctionTest::rename);
+        String expected = module.toString();
+        var main = module.getFunctions().get("main");
+        int mainInsts = main.getBlocks().stream().mapToInt(bb -> bb.getInsts().size()).sum();
+        // everything but main is packed.
+        module.compact(mainInsts + 1);
+        assertEquals(List.of("main"), List.copyOf(module.getFunctions().keySet()));
+        assertEquals(expected, module.toString());
+        module.compact(0);
+        assertTrue(module.getFunctions().isEmpty());
+        assertEquals(expected, module.toString());
+    }
+
+    static long usedHeap() {
+        var rt = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    /**
+     * The heap a function takes as objects, measured over decoded copies, against its packed size.
+     */
+    @Test
+    void Footprint() throws NoSuchFieldException, IllegalAccessException {
+        var options = new SysYGenerator.Options();
+        options.functions = 1;
+        options.blocks = 400;
+        options.locals = 24;
+        var module = optimize(SysYGenerator.generate(options));
+        CompactFunction compact = null;
+        for (IRFunction F : module.getFunctions().values()) {
+            var c = CompactFunction.encode(F);
+            if (compact == null || c.getNumInsts() > compact.getNumInsts()) compact = c;
+        }
+        int copies = 20;
+        List<IRFunction> held = new ArrayList<>(copies);
+        held.add(compact.decode());
+        long before = usedHeap();
+        for (int i = 1; i < copies; i++) held.add(compact.decode());
+        long graph = (usedHeap() - before) / (copies - 1);
+        assertEquals(copies, held.size());
+        double graphPerInst = (double) graph / compact.getNumInsts();
+        double compactPerInst = (double) compact.sizeInBytes() / compact.getNumInsts();
+        System.out.printf("%d insts: %.1f B/inst as objects, %.1f B/inst packed%n",
+                compact.getNumInsts(), graphPerInst, compactPerInst);
+        assertTrue(graphPerInst > 4 * compactPerInst, graphPerInst + " vs " + compactPerInst);
+    }
+}
@@ -2,37 +2,46 @@ package icu.merky.jrabche.llvmir.types;
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class ArrayTypeTest {
 
     @Test
     void getAtomType() {
-        var t = new ArrayType(50, new ArrayType(20, new IntType()));
+        var t = ArrayType.get(50, ArrayType.get(20, IntType.get()));
         assertEquals(IRBasicType.INT, t.getAtomType());
-        var t2 = new ArrayType(30, new FloatType());
+        var t2 = ArrayType.get(30, FloatType.get());
         assertEquals(IRBasicType.FLOAT, t2.getAtomType());
-        var t3 = new ArrayType(30, new ArrayType(40, new ArrayType(50, new ArrayType(60, new IntType()))));
+        var t3 = ArrayType.get(30, ArrayType.get(40, ArrayType.get(50, ArrayType.get(60, IntType.get()))));
         assertEquals(IRBasicType.INT, t3.getAtomType());
     }
 
     @Test
     void getSizeBytes() {
-        var t = new ArrayType(30, new ArrayType(20, new IntType()));
+        var t = ArrayType.get(30, ArrayType.get(20, IntType.get()));
         assertEquals(30 * 20 * 4, t.getSizeBytes());
-        var t2 = new ArrayType(30, new FloatType());
+        var t2 = ArrayType.get(30, FloatType.get());
         assertEquals(30 * 4, t2.getSizeBytes());
     }
 
     @Test
     void testEquals() {
-        var t1 = new ArrayType(30, new ArrayType(20, new IntType()));
-        var t2 = new ArrayType(30, new ArrayType(20, new IntType()));
-        var t3 = new ArrayType(30, new ArrayType(20, new FloatType()));
-        var t4 = new ArrayType(30, new ArrayType(10, new IntType()));
-        assertEquals(t1, t2);
+        var t1 = ArrayType.get(30, ArrayType.get(20, IntType.get()));
+        var t2 = ArrayType.get(30, ArrayType.get(20, IntType.get()));
+        var t3 = ArrayType.get(30, ArrayType.get(20, FloatType.get()));
+        var t4 = ArrayType.get(30, ArrayType.get(10, IntType.get()));
+        assertSame(t1, t2);
         assertNotEquals(t1, t3);
         assertNotEquals(t1, t4);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getShape() {
+        var t = ArrayType.FromShape(IRBasicType.INT, List.of(4, 3, 2));
+        assertEquals(List.of(4, 3, 2), t.getShape());
+        assertSame(ArrayType.get(4, ArrayType.get(3, ArrayType.get(2, IntType.get()))), t);
+        assertEquals(List.of(3, 2), ((ArrayType) t.getElementType()).getShape());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.llvmir.types;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static icu.merky.jrabche.llvmir.types.PointerType.MakePointer;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeContextTest {
+    @Test
+    void Uniqued() {
+        assertSame(IntType.get(), IntType.get(32));
+        assertNotSame(IntType.get(), IntType.get(1));
+        assertSame(MakePointer(IntType.get(), 2), MakePointer(MakePointer(IntType.get())));
+        var params = new ArrayList<IRType>(List.of(IntType.get(), MakePointer(FloatType.get())));
+        var f = FunctionType.get(VoidType.get(), params);
+        params.add(IntType.get());
+        assertSame(f, FunctionType.get(VoidType.get(), List.of(IntType.get(), MakePointer(FloatType.get()))));
+        assertEquals(2, f.getParamsType().size());
+        assertNotSame(f, FunctionType.get(IntType.get(), f.getParamsType()));
+        assertTrue(IntType.get().isI32());
+        assertTrue(IntType.get(1).isI1());
+    }
+
+    @Test
+    void Concurrent() {
+        var seen = ConcurrentHashMap.<IRType>newKeySet();
+        IntStream.range(0, 1000).parallel().forEach(i -> seen.add(ArrayType.get(10007 + i % 7, MakePointer(IntType.get(64)))));
+        assertEquals(7, seen.size());
+    }
+}
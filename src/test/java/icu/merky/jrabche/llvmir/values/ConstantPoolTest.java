@@ -0,0 +1,64 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.llvmir.values;
+
+import icu.merky.jrabche.llvmir.inst.IRInstMath;
+import icu.merky.jrabche.llvmir.support.IRCompileTimeCalc;
+import icu.merky.jrabche.llvmir.types.IntType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstantPoolTest {
+    @Test
+    void Uniqued() {
+        assertSame(IRValConstInt.fromInt(7), IRValConstInt.fromInt(7));
+        assertSame(IRValConstInt.fromInt(1 << 20), IRValConstInt.fromInt(1 << 20));
+        assertSame(IRValConstInt.fromInt(-5000), IRValConstInt.fromInt(IntType.get(), -5000));
+        assertNotSame(IRValConstInt.fromInt(0), IRValConstInt.fromInt(IntType.get(8), 0));
+        assertSame(IntType.get(8), IRValConstInt.fromInt(IntType.get(8), 0).getType());
+        assertSame(IRValConstFloat.fromFloat(1.5f), IRValConstFloat.FromHexBits(Double.doubleToLongBits(1.5)));
+        assertNotSame(IRValConstFloat.fromFloat(0.0f), IRValConstFloat.fromFloat(-0.0f));
+        assertSame(IRValConstBool.TRUE, IRValConstBool.fromBool(5));
+        assertSame(IRValConstInt.fromInt(12),
+                IRCompileTimeCalc.DoCompileTimeCalculation(IRValConstInt.fromInt(100000), IRValConstInt.fromInt(-99988), IRInstMath.MathOP.Add));
+    }
+
+    @Test
+    void HashKeys() {
+        var map = new HashMap<IRVal, IRVal>();
+        map.put(IRValConstInt.fromInt(123456), IRValConstBool.TRUE);
+        assertSame(IRValConstBool.TRUE, map.get(IRValConstInt.fromInt(123456)));
+    }
+}
@@ -8,7 +8,7 @@ import org.junit.jupiter.api.Test;
 class IRValConstArrayTest {
     @Test
     public void ArrayShapeShouldBeStored() {
-        var arrType1 = new ArrayType(3, new ArrayType(2, new IntType()));
+        var arrType1 = ArrayType.get(3, ArrayType.get(2, IntType.get()));
         var arrayVal = new IRValConstArray(arrType1);
         Assertions.assertEquals(3, arrayVal.getShapes().get(0));
         Assertions.assertEquals(2, arrayVal.getShapes().get(1));
@@ -17,7 +17,7 @@ class IRValConstArrayTest {
 
     @Test
     public void ArrayValTypeShouldBeInitializedAsZERO() {
-        var arrType1 = new ArrayType(3, new ArrayType(2, new IntType()));
+        var arrType1 = ArrayType.get(3, ArrayType.get(2, IntType.get()));
         var array = new IRValConstArray(arrType1);
         Assertions.assertEquals(3, array.getValTypes().size());
         Assertions.assertEquals(IRValConstArray.ValType.ZERO, array.getValTypes().get(0));
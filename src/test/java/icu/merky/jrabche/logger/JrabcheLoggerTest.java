@@ -0,0 +1,80 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.logger;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static icu.merky.jrabche.logger.JrabcheLogger.Category.*;
+import static icu.merky.jrabche.logger.JrabcheLogger.JL;
+import static icu.merky.jrabche.logger.JrabcheLogger.LoggerLevel.D;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JrabcheLoggerTest {
+    @Test
+    void LazyAndPerCategory() {
+        var out = new StringBuilder();
+        try (var log = JrabcheLogger.open(out::append, 1 << 16)) {
+            log.setLevel(MEM2REG, D);
+            JL.Debug(DCE, () -> fail("disabled category evaluated"));
+            JL.Debug(MEM2REG, () -> "rename entry");
+            JL.DebugF(MEM2REG, "phi %s\n", "a.1");
+            assertTrue(JL.isEnabled(MEM2REG, D));
+            assertFalse(JL.isEnabled(CF, D));
+            assertEquals("", out.toString(), "buffered until the session is closed");
+        }
+        assertEquals("[DEBUG] mem2reg: rename entry\n[DEBUG] mem2reg: phi a.1\n", out.toString());
+        assertFalse(JL.isEnabled(MEM2REG, D));
+    }
+
+    @Test
+    void AttachToWorker() {
+        var out = new StringBuilder();
+        try (var log = JrabcheLogger.open(out::append, 1 << 16)) {
+            log.setLevel(D);
+            CompletableFuture.runAsync(() -> {
+                JL.Debug(OPT, () -> "not attached");
+                try (var s = JrabcheLogger.attach(log)) {
+                    JL.Debug(OPT, () -> "attached");
+                }
+            }).join();
+        }
+        assertEquals("[DEBUG] opt: attached\n", out.toString());
+    }
+
+    @Test
+    void ParseCategory() {
+        assertEquals(MEM2REG, JrabcheLogger.Category.parse(" Mem2Reg"));
+        assertThrows(RuntimeException.class, () -> JrabcheLogger.Category.parse("gvn"));
+    }
+}
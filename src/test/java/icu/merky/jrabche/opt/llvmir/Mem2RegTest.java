@@ -0,0 +1,77 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir;
+
+import icu.merky.jrabche.llvmir.IRBuilderImpl;
+import icu.merky.jrabche.llvmir.inst.IRInst;
+import org.junit.jupiter.api.Test;
+
+import static icu.merky.jrabche.fe.visitor.SylangVisitorImplTest.getVisitorContext;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Mem2RegTest {
+    /**
+     * The loop never exits, so the block after it is unreachable. Its load of {@code a} used to be
+     * erased while the mul still used it, and -O1 printed a reference to an undefined value.
+     */
+    @Test
+    void UnreachableLoadStillUsed() throws NoSuchFieldException, IllegalAccessException {
+        String program = """
+                int main() {
+                    int a = getint();
+                    while (1) {
+                        a = a + 1;
+                        if (a > 10) return a;
+                    }
+                    a = a * 2;
+                    putint(a);
+                    return a;
+                }
+                """;
+        var builder = new IRBuilderImpl();
+        getVisitorContext(program, builder);
+        var module = builder.getModule();
+        new OptExecutor(module).run();
+        for (var F : module.getFunctions().values()) {
+            for (var bb : F.getBlocks()) {
+                for (var I : bb.getInsts()) {
+                    for (int i = 0; i < I.getNumOperands(); i++) {
+                        if (I.getOperand(i) instanceof IRInst op) {
+                            var parent = op.getParent();
+                            assertTrue(parent != null && parent.getParent() == F, I + " uses a deleted instruction");
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
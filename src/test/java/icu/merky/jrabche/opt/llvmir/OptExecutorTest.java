@@ -0,0 +1,129 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir;
+
+import icu.merky.jrabche.llvmir.IRBuilderImpl;
+import icu.merky.jrabche.llvmir.structures.IRFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static icu.merky.jrabche.fe.visitor.SylangVisitorImplTest.getVisitorContext;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OptExecutorTest {
+    static final String PROGRAM = """
+            int g[10];
+            int f0(int a, int b) {
+                int s = a; int i = 0;
+                while (i < b) {
+                    if (i % 3 == 0 && s > 4 || i == 7) { s = s + i; } else { s = s - g[i % 10]; }
+                    i = i + 1;
+                }
+                return s;
+            }
+            int f1(int a, int b) {
+                int x = 0;
+                if (a > b) { x = a; } else { x = b; }
+                while (x > 0) { x = x - f0(x, 2); }
+                return x;
+            }
+            int f2(int a) {
+                int t[4] = {1, 2, 3};
+                int i = 0; int s = 0;
+                while (i < 4) { s = s + t[i] * a; i = i + 1; }
+                return s + f1(a, s);
+            }
+            int main() {
+                int n = getint();
+                putint(f2(n) + f1(n, 3) + f0(n, n));
+                return 0;
+            }
+            """;
+
+    static String optimize(int threads) throws NoSuchFieldException, IllegalAccessException {
+        var builder = new IRBuilderImpl();
+        getVisitorContext(PROGRAM, builder);
+        var module = builder.getModule();
+        new OptExecutor(module, threads).run();
+        return module.toString();
+    }
+
+    @Test
+    void parallelIsSameAsSerial() throws NoSuchFieldException, IllegalAccessException {
+        String serial = optimize(1);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(serial, optimize(4));
+        }
+    }
+
+    @Test
+    void compilationsDoNotShareNames() throws NoSuchFieldException, IllegalAccessException {
+        // names used to come from a process-wide counter.
+        assertEquals(optimize(1), optimize(1));
+    }
+
+    @Test
+    void registryRespectsAfterWhich() {
+        var ssa = OptRegistry.SSA.stream().map(PassInfo::passClass).toList();
+        assertTrue(ssa.indexOf(IROptDCE.class) < ssa.indexOf(IROptCF.class));
+        // disabled passes are not registered.
+        assertTrue(OptRegistry.NO_SSA.stream().noneMatch(p -> p.passClass() == Mem2Reg.class));
+        assertTrue(ssa.stream().noneMatch(c -> c == IROptBlockRearrangeSSA.class));
+    }
+
+    @Test
+    void onlyChangedFunctionsRunAgain() throws NoSuchFieldException, IllegalAccessException {
+        var builder = new IRBuilderImpl();
+        getVisitorContext(PROGRAM, builder);
+        var module = builder.getModule();
+        var f0 = module.getFunctions().get("f0");
+        boolean[] pending = {true};
+        var changeF0Once = PassInfo.ofFunction(IRPass.class, "change f0 once", F -> () -> {
+            if (F != f0 || !pending[0]) return false;
+            pending[0] = false;
+            return true;
+        });
+        Map<IRFunction, Integer> runs = new HashMap<>();
+        var count = PassInfo.ofFunction(IRPass.class, "count", F -> () -> {
+            runs.merge(F, 1, Integer::sum);
+            return false;
+        });
+        new OptExecutor(module).runToFixpoint(new PassWorklist(module, List.of(count, changeF0Once)));
+        for (var F : module.getFunctions().values()) {
+            assertEquals(F == f0 ? 2 : 1, runs.get(F), F.getName());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BitSetDataflowTest {
+    // 0 -> 1, 1 -> 2, 2 -> 1, 1 -> 3 (a loop 1,2 and an exit 3)
+    static final int[][] SUCCS = {{1}, {2, 3}, {1}, {}};
+    static final int[][] PREDS = {{}, {0, 2}, {1}, {1}};
+
+    static BitSet bits(int... is) {
+        BitSet b = new BitSet();
+        for (int i : is) b.set(i);
+        return b;
+    }
+
+    @Test
+    void LivenessAroundLoop() {
+        var flow = new BitSetDataflow(BitSetDataflow.Direction.BACKWARD, SUCCS, PREDS);
+        // var 0 is defined in 0 and used in 2, var 1 is defined in 2 and used in 3.
+        flow.kill[0] = bits(0);
+        flow.gen[2] = bits(0);
+        flow.kill[2] = bits(1);
+        flow.gen[3] = bits(1);
+        flow.solve();
+        // 0 -> 1 -> 3 reaches the use of var 1 without a def
+        assertEquals(bits(1), flow.in[0]);
+        assertEquals(bits(0, 1), flow.in[1]);
+        assertEquals(bits(0), flow.in[2]);
+        assertEquals(bits(0, 1), flow.out[2]);
+        assertEquals(bits(1), flow.in[3]);
+    }
+
+    @Test
+    void ReachingDefinitions() {
+        var flow = new BitSetDataflow(BitSetDataflow.Direction.FORWARD, SUCCS, PREDS);
+        // def 0 in block 0, def 1 in block 2 kills def 0.
+        flow.gen[0] = bits(0);
+        flow.gen[2] = bits(1);
+        flow.kill[2] = bits(0);
+        flow.solve();
+        assertEquals(bits(0, 1), flow.in[1]);
+        assertEquals(bits(1), flow.out[2]);
+        assertEquals(bits(0, 1), flow.in[3]);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir.algorithms;
+
+import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
+import icu.merky.jrabche.llvmir.structures.impl.IRBasicBlockImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DominatorTreeTest {
+    static List<IRBasicBlock> blocks(int n) {
+        List<IRBasicBlock> bbs = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            var bb = new IRBasicBlockImpl();
+            bb.setName("b" + i);
+            bbs.add(bb);
+        }
+        return bbs;
+    }
+
+    static void edge(IRBasicBlock from, IRBasicBlock to) {
+        from.addNext(to);
+        to.addPrev(from);
+    }
+
+    static void assertSameTree(DominatorTree expected, DominatorTree actual, List<IRBasicBlock> bbs) {
+        for (var a : bbs) {
+            assertEquals(expected.isReachable(a), actual.isReachable(a), a.getName());
+            assertSame(expected.getIdom(a), actual.getIdom(a), a.getName());
+            assertEquals(expected.getLevel(a), actual.getLevel(a), a.getName());
+            for (var b : bbs) {
+                assertEquals(expected.dominates(a, b), actual.dominates(a, b));
+            }
+        }
+    }
+
+    @Test
+    void Queries() {
+        // b0 -> b1 -> b2 -> b4, b0 -> b3 -> b4, b3 is also reached from b2
+        var bbs = blocks(6);
+        edge(bbs.get(0), bbs.get(1));
+        edge(bbs.get(1), bbs.get(2));
+        edge(bbs.get(2), bbs.get(4));
+        edge(bbs.get(0), bbs.get(3));
+        edge(bbs.get(3), bbs.get(4));
+        edge(bbs.get(2), bbs.get(3));
+        var DT = new DominatorTree(bbs.get(0));
+        assertTrue(DT.dominates(bbs.get(1), bbs.get(2)));
+        assertFalse(DT.dominates(bbs.get(1), bbs.get(3)));
+        assertTrue(DT.properlyDominates(bbs.get(0), bbs.get(4)));
+        assertSame(bbs.get(0), DT.getIdom(bbs.get(4)));
+        assertSame(bbs.get(0), DT.findNearestCommonDominator(bbs.get(2), bbs.get(3)));
+        assertSame(bbs.get(1), DT.findNearestCommonDominator(bbs.get(1), bbs.get(2)));
+        assertEquals(List.of(bbs.get(1), bbs.get(3), bbs.get(4)), DT.getChildren(bbs.get(0)));
+        assertEquals(5, DT.preOrder().size());
+        // b5 is unreachable
+        assertFalse(DT.isReachable(bbs.get(5)));
+        assertTrue(DT.dominates(bbs.get(2), bbs.get(5)));
+        assertFalse(DT.dominates(bbs.get(5), bbs.get(2)));
+    }
+
+    @Test
+    void IncrementalUpdatesMatchRecalculation() {
+        var random = new Random(7);
+        for (int round = 0; round < 30; round++) {
+            int n = 2 + random.nextInt(60);
+            var bbs = blocks(n);
+            for (int i = 1; i < n; i++) {
+                if (random.nextInt(5) != 0) edge(bbs.get(random.nextInt(i)), bbs.get(i));
+            }
+            var DT = new DominatorTree(bbs.get(0));
+            for (int k = 0; k < 20; k++) {
+                var from = bbs.get(random.nextInt(n));
+                if (random.nextBoolean() && !from.getSuc().isEmpty()) {
+                    var to = from.getSuc().remove(random.nextInt(from.getSuc().size()));
+                    to.getPre().remove(from);
+                    DT.deleteEdge(from, to);
+                } else {
+                    var to = bbs.get(random.nextInt(n));
+                    edge(from, to);
+                    DT.insertEdge(from, to);
+                }
+                assertSameTree(new DominatorTree(bbs.get(0)), DT, bbs);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DominatorsTest {
+    /**
+     * Random reachable graph, renumbered in reverse post order.
+     *
+     * @return {succs, preds}
+     */
+    static int[][][] randomGraph(Random random, int n) {
+        List<GraphNode<Integer>> nodes = new ArrayList<>();
+        for (int i = 0; i < n; i++) nodes.add(new GraphNode<>(i));
+        for (int i = 1; i < n; i++) {
+            // keep everything reachable, then add some forward and back edges.
+            nodes.get(random.nextInt(i)).addSuccessor(nodes.get(i));
+            for (int k = random.nextInt(3); k > 0; k--) nodes.get(i).addSuccessor(nodes.get(random.nextInt(n)));
+        }
+        var rpo = new DeepFirstOrder<>(nodes.get(0), n).getOrder();
+        Map<GraphNode<Integer>, Integer> id = new HashMap<>();
+        for (int i = 0; i < n; i++) id.put(rpo.get(i), i);
+        int[][] succs = new int[n][];
+        List<List<Integer>> preds = new ArrayList<>();
+        for (int i = 0; i < n; i++) preds.add(new ArrayList<>());
+        for (int i = 0; i < n; i++) {
+            succs[i] = rpo.get(i).getSuccessors().stream().mapToInt(id::get).toArray();
+            for (int s : succs[i]) preds.get(s).add(i);
+        }
+        int[][] predArr = preds.stream().map(l -> l.stream().mapToInt(x -> x).toArray()).toArray(int[][]::new);
+        return new int[][][]{succs, predArr};
+    }
+
+    @Test
+    void Diamond() {
+        // 0 -> 1, 0 -> 2, 1 -> 3, 2 -> 3
+        int[][] succs = {{1, 2}, {3}, {3}, {}};
+        int[][] preds = {{}, {0}, {0}, {1, 2}};
+        for (boolean semiNCA : new boolean[]{false, true}) {
+            var dom = new Dominators(succs, preds, semiNCA);
+            assertArrayEquals(new int[]{-1, 0, 0, 0}, new int[]{dom.getIdom(0), dom.getIdom(1), dom.getIdom(2), dom.getIdom(3)});
+            assertArrayEquals(new int[]{3}, dom.getDF(1));
+            assertArrayEquals(new int[]{}, dom.getDF(0));
+        }
+    }
+
+    @Test
+    void SemiNCAMatchesCHK() {
+        var random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            var g = randomGraph(random, 2 + random.nextInt(200));
+            var chk = new Dominators(g[0], g[1], false);
+            var snca = new Dominators(g[0], g[1], true);
+            for (int b = 0; b < chk.size(); b++) {
+                assertEquals(chk.getIdom(b), snca.getIdom(b));
+                assertArrayEquals(chk.getDF(b), snca.getDF(b));
+            }
+        }
+    }
+
+    @Test
+    void DeepChain() {
+        int n = 100_000;
+        List<GraphNode<Integer>> nodes = new ArrayList<>();
+        for (int i = 0; i < n; i++) nodes.add(new GraphNode<>(i));
+        for (int i = 0; i + 1 < n; i++) nodes.get(i).addSuccessor(nodes.get(i + 1));
+        var rpo = new DeepFirstOrder<>(nodes.get(0), n).getOrder();
+        assertSame(nodes.get(n - 1), rpo.get(n - 1));
+
+        int[][] succs = new int[n][], preds = new int[n][];
+        for (int i = 0; i < n; i++) {
+            succs[i] = i + 1 < n ? new int[]{i + 1} : new int[0];
+            preds[i] = i > 0 ? new int[]{i - 1} : new int[0];
+        }
+        var dom = new Dominators(succs, preds);
+        assertEquals(n - 2, dom.getIdom(n - 1));
+    }
+}
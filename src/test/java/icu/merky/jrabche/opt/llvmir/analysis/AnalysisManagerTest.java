@@ -0,0 +1,111 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.opt.llvmir.analysis;
+
+import icu.merky.jrabche.llvmir.IRBuilderImpl;
+import icu.merky.jrabche.llvmir.structures.IRFunction;
+import icu.merky.jrabche.opt.llvmir.algorithms.BlockNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static icu.merky.jrabche.fe.visitor.SylangVisitorImplTest.getVisitorContext;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnalysisManagerTest {
+    static final String PROGRAM = """
+            int main() {
+                int s = 0; int i = 0;
+                while (i < 10) {
+                    if (i % 2 == 0) { s = s + i; } else { s = s - 1; }
+                    i = i + 1;
+                }
+                return s;
+            }
+            """;
+
+    static IRFunction mainFunction() throws NoSuchFieldException, IllegalAccessException {
+        var builder = new IRBuilderImpl();
+        getVisitorContext(PROGRAM, builder);
+        return builder.getModule().getFunctions().get("main");
+    }
+
+    static Map<String, Set<String>> liveIn(List<BlockNode> dfo) {
+        Map<String, Set<String>> result = new TreeMap<>();
+        for (var bn : dfo) {
+            Set<String> names = new TreeSet<>();
+            bn.getLiveIn().forEach(a -> names.add(a.getName()));
+            result.put(bn.getVal().getName(), names);
+        }
+        return result;
+    }
+
+    @Test
+    void cachedUntilInvalidated() throws NoSuchFieldException, IllegalAccessException {
+        var F = mainFunction();
+        var AM = new AnalysisManager();
+        var dom = AM.getDominators(F);
+        assertSame(dom, AM.getDominators(F));
+        AM.ensureCFG(F);
+        assertEquals(1, AM.getComputeCount(Analysis.CFG));
+        assertEquals(1, AM.getComputeCount(Analysis.DOMINATORS));
+
+        AM.invalidate(F, EnumSet.allOf(Analysis.class));
+        assertSame(dom, AM.getDominators(F));
+
+        // the CFG is kept, the dominators depend on nothing else that was dropped.
+        AM.invalidate(F, EnumSet.of(Analysis.CFG));
+        assertNotSame(dom, AM.getDominators(F));
+        assertEquals(1, AM.getComputeCount(Analysis.CFG));
+        assertEquals(2, AM.getComputeCount(Analysis.DOMINATORS));
+
+        // dropping the CFG drops what depends on it.
+        AM.invalidate(F, EnumSet.of(Analysis.DOMINATORS, Analysis.LIVENESS));
+        AM.getDominators(F);
+        assertEquals(2, AM.getComputeCount(Analysis.CFG));
+        assertEquals(3, AM.getComputeCount(Analysis.DOMINATORS));
+    }
+
+    @Test
+    void livenessRecomputedInPlace() throws NoSuchFieldException, IllegalAccessException {
+        var F = mainFunction();
+        var AM = new AnalysisManager();
+        var bnb = AM.getLiveness(F);
+        var expected = liveIn(bnb.getDfo());
+        assertFalse(expected.values().stream().allMatch(Set::isEmpty));
+
+        AM.invalidate(F, EnumSet.of(Analysis.CFG, Analysis.DOMINATORS));
+        assertSame(bnb, AM.getLiveness(F));
+        assertEquals(2, AM.getComputeCount(Analysis.LIVENESS));
+        assertEquals(expected, liveIn(bnb.getDfo()));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.support;
+
+import icu.merky.jrabche.logger.JrabcheLogger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompileCacheTest {
+    static Path write(Path dir, String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content);
+    }
+
+    @Test
+    void KeyIgnoresLayout(@TempDir Path dir) throws IOException {
+        Path a = write(dir, "a.sy", "int main() { return 0; }");
+        Path b = write(dir, "b.sy", "int main()\n{\n    // zero\n    return 0;\n}\n");
+        Path c = write(dir, "c.sy", "int main() { return 1; }");
+        assertEquals(CompileCache.key(a, "-O1"), CompileCache.key(b, "-O1"));
+        assertNotEquals(CompileCache.key(a, "-O1"), CompileCache.key(c, "-O1"));
+        assertNotEquals(CompileCache.key(a, "-O1"), CompileCache.key(a, "-O0"));
+        // starttime() takes its line number, moving it changes the program.
+        Path t1 = write(dir, "t1.sy", "int main() { starttime(); return 0; }");
+        Path t2 = write(dir, "t2.sy", "int main() {\n starttime(); return 0; }");
+        assertNotEquals(CompileCache.key(t1, "-O1"), CompileCache.key(t2, "-O1"));
+    }
+
+    @Test
+    void MemoryTierIsLRU(@TempDir Path dir) throws IOException {
+        var cache = new CompileCache(null, 0, 10);
+        Path out = dir.resolve("out");
+        cache.put("k1", write(dir, "1", "1234"));
+        cache.put("k2", write(dir, "2", "5678"));
+        assertTrue(cache.get("k1", out));
+        // over 10 bytes, k2 is the least recently used.
+        cache.put("k3", write(dir, "3", "abcd"));
+        assertFalse(cache.get("k2", out));
+        assertTrue(cache.get("k3", out));
+        assertTrue(cache.get("k1", out));
+        assertEquals("1234", Files.readString(out));
+    }
+
+    @Test
+    void DiskTierIsShared(@TempDir Path dir) throws IOException {
+        Path cacheDir = dir.resolve("cache");
+        Path out = dir.resolve("out");
+        long misses = CompileCache.NumMisses.get();
+        assertFalse(new CompileCache(cacheDir, 1 << 20, 0).get("00aa", out));
+        assertFalse(Files.exists(out));
+        assertEquals(misses + 1, CompileCache.NumMisses.get());
+
+        new CompileCache(cacheDir, 1 << 20, 0).put("00aa", write(dir, "in", "define i32 @main()"));
+        long hits = CompileCache.NumDiskHits.get();
+        assertTrue(new CompileCache(cacheDir, 1 << 20, 0).get("00aa", out));
+        assertEquals("define i32 @main()", Files.readString(out));
+        assertEquals(hits + 1, CompileCache.NumDiskHits.get());
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            assertTrue(files.noneMatch(p -> p.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void DiskTierIsBounded(@TempDir Path dir) throws IOException {
+        Path cacheDir = dir.resolve("cache");
+        var cache = new CompileCache(cacheDir, 1000, 0);
+        Path in = write(dir, "in", "x".repeat(300));
+        for (int i = 0; i < 10; i++) {
+            cache.put(String.format("%04x", i), in);
+        }
+        long total;
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            total = files.filter(Files::isRegularFile).mapToLong(p -> p.toFile().length()).sum();
+        }
+        assertTrue(total <= 1000 && total > 0, "cache holds " + total + " bytes");
+    }
+
+    @Test
+    void FailedStoreGoesToTheSession(@TempDir Path dir) throws IOException {
+        // a file where the cache directory should be.
+        var cache = new CompileCache(write(dir, "cache", ""), 1 << 20, 0);
+        var err = new ByteArrayOutputStream();
+        try (var log = JrabcheLogger.open(text -> {
+        }, new PrintStream(err, true, StandardCharsets.UTF_8), 0)) {
+            cache.put("00aa", write(dir, "in", "define i32 @main()"));
+        }
+        assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("Cannot store"), err.toString(StandardCharsets.UTF_8));
+    }
+}
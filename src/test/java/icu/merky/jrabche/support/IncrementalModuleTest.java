@@ -0,0 +1,154 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.support;
+
+import icu.merky.jrabche.fe.TwoStageParser;
+import icu.merky.jrabche.fe.visitor.SylangVisitorImpl;
+import icu.merky.jrabche.llvmir.IRBuilderImpl;
+import icu.merky.jrabche.llvmir.IRWriter;
+import icu.merky.jrabche.opt.llvmir.OptExecutor;
+import org.antlr.v4.runtime.Token;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IncrementalModuleTest {
+    static final String PROGRAM = """
+            const int N = 4;
+            const int M = N * 2;
+            int g[N];
+            int f0(int a) {
+                const int t[3] = {1, 2, 3};
+                int i = 0;
+                while (i < N) { a = a + t[i % 3]; i = i + 1; }
+                return a;
+            }
+            int f1(int a, int b) {
+                if (a > b) return f0(a) + M;
+                return g[b % N];
+            }
+            float f2(float x) {
+                const float k[2] = {1.5, 2.5};
+                return x * k[1];
+            }
+            int main() {
+                const int z[2] = {7};
+                putint(f1(getint(), z[0]));
+                putfloat(f2(1.0));
+                return 0;
+            }
+            """;
+
+    @TempDir
+    Path dir;
+
+    String compile(String program, CompileCache cache) throws IOException {
+        Path source = Files.writeString(dir.resolve("a.sy"), program);
+        List<Token> tokens = new ArrayList<>();
+        var tree = TwoStageParser.parseCompUnit(source, tokens);
+        var builder = new IRBuilderImpl();
+        var visitor = new SylangVisitorImpl(builder);
+        IncrementalModule incremental = null;
+        if (cache != null) {
+            incremental = new IncrementalModule(cache, builder, tree, tokens, "-O1");
+            visitor.setBodyFilter(incremental);
+        }
+        visitor.visit(tree);
+        var module = builder.getModule();
+        new OptExecutor(module).run();
+        StringBuilder sb = new StringBuilder();
+        if (incremental == null) {
+            new IRWriter(sb).module(module);
+        } else {
+            incremental.store(module);
+            incremental.write(new IRWriter(sb), module);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return the function bodies compiled, and the output being the same as a full compilation.
+     */
+    long compileChecked(String program, CompileCache cache) throws IOException {
+        long compiled = IncrementalModule.NumCompiled.get();
+        assertEquals(compile(program, null), compile(program, cache));
+        return IncrementalModule.NumCompiled.get() - compiled;
+    }
+
+    @Test
+    void UnchangedFunctionsReused() throws IOException {
+        var cache = new CompileCache(null, 0, 1 << 20);
+        assertEquals(4, compileChecked(PROGRAM, cache));
+        assertEquals(0, compileChecked(PROGRAM, cache));
+        // whitespace and comments do not count.
+        assertEquals(0, compileChecked(PROGRAM.replace("int i = 0;", "int i = 0; // i\n"), cache));
+        assertEquals(1, compileChecked(PROGRAM.replace("return x * k[1];", "return x * k[0];"), cache));
+    }
+
+    @Test
+    void DependenciesRecompiled() throws IOException {
+        var cache = new CompileCache(null, 0, 1 << 20);
+        compileChecked(PROGRAM, cache);
+        // f0 reads N directly, f1 through M.
+        assertEquals(2, compileChecked(PROGRAM.replace("const int N = 4;", "const int N = 5;"), cache));
+        // callers of f2 see its signature.
+        assertEquals(2, compileChecked(PROGRAM.replace("float f2(float x)", "float f2(int x)"), cache));
+    }
+
+    @Test
+    void ParameterDimensionsRecompiled() throws IOException {
+        String program = """
+                const int K = 3;
+                int f(int a[][K]) { return a[1][2]; }
+                int g(int a[][K]) { return f(a); }
+                int main() { int b[2][K] = {}; putint(g(b)); return 0; }
+                """;
+        var cache = new CompileCache(null, 0, 1 << 20);
+        compileChecked(program, cache);
+        // K is only named in the parameters of f and g.
+        assertEquals(3, compileChecked(program.replace("K = 3", "K = 4"), cache));
+    }
+
+    @Test
+    void SharedThroughDisk() throws IOException {
+        Path cacheDir = dir.resolve("cache");
+        compileChecked(PROGRAM, new CompileCache(cacheDir, 1 << 20, 0));
+        assertEquals(0, compileChecked(PROGRAM, new CompileCache(cacheDir, 1 << 20, 0)));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2023, Gaomengkai
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ *    contributors may be used to endorse or promote products derived from
+ *    this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package icu.merky.jrabche.support;
+
+import icu.merky.jrabche.llvmir.inst.IRInst;
+import icu.merky.jrabche.llvmir.inst.IRInstAlloca;
+import icu.merky.jrabche.llvmir.structures.IRBasicBlock;
+import icu.merky.jrabche.llvmir.structures.impl.IRBasicBlockImpl;
+import icu.merky.jrabche.llvmir.structures.impl.IRFunctionImpl;
+import icu.merky.jrabche.llvmir.types.FunctionType;
+import icu.merky.jrabche.llvmir.types.IntType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntrusiveListTest {
+    private static IRInst inst(String name) {
+        return new IRInstAlloca(name, IntType.get());
+    }
+
+    // local names carry a '%' prefix
+    private static String name(IRInst I) {
+        return I.getName().substring(1);
+    }
+
+    private static List<String> names(IRBasicBlock bb) {
+        return bb.getInsts().stream().map(IntrusiveListTest::name).toList();
+    }
+
+    @Test
+    void InsertAndErase() {
+        IRBasicBlock bb = new IRBasicBlockImpl();
+        var a = inst("a");
+        var c = inst("c");
+        bb.addInst(a);
+        bb.addInst(c);
+        inst("b").insertAfter(a);
+        inst("_").insertBefore(a);
+        assertEquals(List.of("_", "a", "b", "c"), names(bb));
+        assertSame(bb, a.getParent());
+        assertSame(c, bb.getInsts().get(3));
+
+        a.eraseFromParent();
+        assertNull(a.getParent());
+        assertFalse(bb.getInsts().contains(a));
+        assertEquals(List.of("_", "b", "c"), names(bb));
+    }
+
+    @Test
+    void EraseWhileIterating() {
+        IRBasicBlock bb = new IRBasicBlockImpl();
+        for (String n : List.of("a", "b", "c", "d")) bb.addInst(inst(n));
+        List<String> seen = new ArrayList<>();
+        for (IRInst I : bb.getInsts()) {
+            seen.add(name(I));
+            // erase the current one and the one right after it
+            if (name(I).equals("a")) {
+                I.getNextInst().eraseFromParent();
+                I.eraseFromParent();
+            }
+        }
+        assertEquals(List.of("a", "c", "d"), seen);
+        assertEquals(List.of("c", "d"), names(bb));
+    }
+
+    @Test
+    void MoveAheadWhileIterating() {
+        IRBasicBlock bb = new IRBasicBlockImpl(), other = new IRBasicBlockImpl();
+        for (String n : List.of("a", "b", "c", "d", "e")) bb.addInst(inst(n));
+        List<String> seen = new ArrayList<>();
+        for (IRInst I : bb.getInsts()) {
+            seen.add(name(I));
+            // move the next one to another block, then the last one to the front
+            if (name(I).equals("a")) other.addInst(I.getNextInst());
+            if (name(I).equals("c")) bb.getInsts().addFirst(bb.getInsts().getLast());
+        }
+        assertEquals(List.of("a", "c", "d"), seen);
+        assertEquals(List.of("e", "a", "c", "d"), names(bb));
+        assertEquals(List.of("b"), names(other));
+
+        // the current one and the next one both gone elsewhere
+        var it = bb.getInsts().iterator();
+        it.next();
+        other.addInst(bb.getInsts().get(1));
+        other.addInst(bb.getInsts().get(0));
+        assertThrows(ConcurrentModificationException.class, it::hasNext);
+    }
+
+    @Test
+    void PreviousAfterRemoval() {
+        IRBasicBlock bb = new IRBasicBlockImpl();
+        for (String n : List.of("a", "b", "c")) bb.addInst(inst(n));
+        var it = bb.getInsts().listIterator();
+        var a = it.next();
+        bb.getInsts().get(1).eraseFromParent();
+        assertTrue(it.hasPrevious());
+        assertSame(a, it.previous());
+        assertSame(a, it.next());
+        assertEquals("c", name(it.next()));
+        assertFalse(it.hasNext());
+
+        // removing the current one leaves the iterator where it was
+        it.remove();
+        assertTrue(it.hasPrevious());
+        assertSame(a, it.previous());
+        assertFalse(it.hasPrevious());
+    }
+
+    @Test
+    void AddMovesBetweenBlocks() {
+        IRBasicBlock x = new IRBasicBlockImpl(), y = new IRBasicBlockImpl();
+        for (String n : List.of("a", "b")) y.addInst(inst(n));
+        for (IRInst I : y.getInsts()) x.addInst(I);
+        assertTrue(y.getInsts().isEmpty());
+        assertEquals(List.of("a", "b"), names(x));
+        assertSame(x, x.getInsts().getLast().getParent());
+    }
+
+    @Test
+    void BlockLookupFollowsRenames() {
+        var F = new IRFunctionImpl("f", FunctionType.get(IntType.get(), List.of()));
+        var bb = F.addBlock();
+        bb.setName("one");
+        assertSame(bb, F.getBlock("one"));
+        bb.setName("two");
+        assertSame(bb, F.getBlock("two"));
+        assertThrows(RuntimeException.class, () -> F.getBlock("one"));
+        F.removeBlock(bb);
+        assertNull(bb.getParent());
+        assertThrows(RuntimeException.class, () -> F.getBlock("two"));
+    }
+}
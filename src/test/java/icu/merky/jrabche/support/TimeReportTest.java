@@ -29,49 +29,36 @@
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
-package icu.merky.jrabche.opt.llvmir.algorithms;
+package icu.merky.jrabche.support;
 
-import java.util.*;
+import org.junit.jupiter.api.Test;
 
-// Dominator Frontiers
+import static org.junit.jupiter.api.Assertions.*;
 
-/**
- * Cooper, K. D., Harvey, T. J., & Kennedy, K. (2006). <i>A simple, fast dominance algorithm.</i>
- * <a href="https://hdl.handle.net/1911/96345">view the paper</a>
- *
- * @param <T>
- * @param <V>
- */
-public class DF<T, V extends GraphNode<T>> {
-    List<V> nodes;
-    Map<V, V> idom;
-    Map<V, Set<V>> DF;
-
-    public DF(List<V> nodes, Map<V, V> idom) {
-        this.nodes = nodes;
-        this.idom = idom;
-        DF = new HashMap<>();
-        for (var node : nodes) {
-            DF.put(node, new HashSet<>());
-        }
-        go();
-    }
-
-    public Map<V, Set<V>> getDF() {
-        return DF;
-    }
-
-    public void go() {
-        for (var node : nodes) {
-            if (node.getPredecessors().size() >= 2) {
-                for (var p : node.getPredecessors()) {
-                    V runner = (V) p;
-                    while (runner != idom.get(node)) {
-                        DF.get(runner).add(node);
-                        runner = idom.get(runner);
-                    }
+class TimeReportTest {
+    @Test
+    void RecordsOnlyWhenEnabled() {
+        var stat = Statistic.of("test", "ticks", "Ticks \"quoted\"");
+        try {
+            TimeReport.reset();
+            Statistic.resetAll();
+            try (var t = TimeReport.start("G", "off")) {
+                stat.inc();
+            }
+            TimeReport.setEnabled(true);
+            for (int i = 0; i < 3; i++) {
+                try (var t = TimeReport.start("G", "on")) {
+                    stat.add(2);
                 }
             }
+            assertEquals(7, stat.get());
+            String json = TimeReport.toJson();
+            assertFalse(json.contains("\"off\""));
+            assertTrue(json.contains("{\"group\": \"G\", \"name\": \"on\", \"count\": 3,"));
+            assertTrue(json.contains("\"description\": \"Ticks \\\"quoted\\\"\", \"value\": 7}"));
+        } finally {
+            TimeReport.setEnabled(false);
+            TimeReport.reset();
         }
     }
 }